@@ -1,5 +1,6 @@
 package com.fullcycle.admin.catalog.application.video.create;
 
+import com.fullcycle.admin.catalog.application.video.media.ParallelUploads;
 import com.fullcycle.admin.catalog.domain.Identifier;
 import com.fullcycle.admin.catalog.domain.castmember.CastMemberGateway;
 import com.fullcycle.admin.catalog.domain.castmember.CastMemberID;
@@ -20,6 +21,7 @@ import java.time.Year;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -32,6 +34,7 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
     private final CategoryGateway categoryGateway;
     private final CastMemberGateway castMemberGateway;
     private final MediaResourceGateway mediaResourceGateway;
+    private final Executor mediaExecutor;
 
     @Override
     public CreateVideoOutput execute(final CreateVideoCommand command) {
@@ -72,17 +75,20 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
         final var id = video.getId();
 
         try {
-            final var videoMedia = command.getVideo().map(it -> mediaResourceGateway.storeAudioVideo(id, VideoResource.with(it, VideoMediaType.VIDEO))).orElse(null);
-            final var trailerMedia = command.getTrailer().map(it -> mediaResourceGateway.storeAudioVideo(id, VideoResource.with(it, VideoMediaType.TRAILER))).orElse(null);
-            final var bannerMedia = command.getBanner().map(it -> mediaResourceGateway.storeImage(id, VideoResource.with(it, VideoMediaType.BANNER))).orElse(null);
-            final var thumbnailMedia = command.getThumbnail().map(it -> mediaResourceGateway.storeImage(id, VideoResource.with(it, VideoMediaType.THUMBNAIL))).orElse(null);
-            final var thumbnailHalfMedia = command.getThumbnailHalf().map(it -> mediaResourceGateway.storeImage(id, VideoResource.with(it, VideoMediaType.THUMBNAIL_HALF))).orElse(null);
-
-            video.setVideo(videoMedia);
-            video.setTrailer(trailerMedia);
-            video.setBanner(bannerMedia);
-            video.setThumbnail(thumbnailMedia);
-            video.setThumbnailHalf(thumbnailHalfMedia);
+            final var uploads = ParallelUploads.on(mediaExecutor);
+            final var videoMedia = uploads.submit(command.getVideo(), it -> mediaResourceGateway.storeAudioVideo(id, VideoResource.with(it, VideoMediaType.VIDEO)));
+            final var trailerMedia = uploads.submit(command.getTrailer(), it -> mediaResourceGateway.storeAudioVideo(id, VideoResource.with(it, VideoMediaType.TRAILER)));
+            final var bannerMedia = uploads.submit(command.getBanner(), it -> mediaResourceGateway.storeImage(id, VideoResource.with(it, VideoMediaType.BANNER)));
+            final var thumbnailMedia = uploads.submit(command.getThumbnail(), it -> mediaResourceGateway.storeImage(id, VideoResource.with(it, VideoMediaType.THUMBNAIL)));
+            final var thumbnailHalfMedia = uploads.submit(command.getThumbnailHalf(), it -> mediaResourceGateway.storeImage(id, VideoResource.with(it, VideoMediaType.THUMBNAIL_HALF)));
+
+            uploads.await();
+
+            video.setVideo(videoMedia.get());
+            video.setTrailer(trailerMedia.get());
+            video.setBanner(bannerMedia.get());
+            video.setThumbnail(thumbnailMedia.get());
+            video.setThumbnailHalf(thumbnailHalfMedia.get());
 
             return videoGateway.create(video);
         } catch (final Throwable t) {
@@ -0,0 +1,127 @@
+package com.fullcycle.admin.catalog.application.video.media;
+
+import com.fullcycle.admin.catalog.domain.errors.InternalException;
+import com.fullcycle.admin.catalog.domain.resource.Resource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// await() fails fast on the first error once the running uploads stopped, so the caller can roll back
+public class ParallelUploads {
+
+	private final Executor executor;
+	private final List<Upload<?>> uploads = new ArrayList<>();
+	private final BlockingQueue<Upload<?>> completed = new LinkedBlockingQueue<>();
+
+	private ParallelUploads(final Executor executor) {
+		this.executor = Objects.requireNonNull(executor);
+	}
+
+	public static ParallelUploads on(final Executor executor) {
+		return new ParallelUploads(executor);
+	}
+
+	public <T> Supplier<T> submit(final Optional<Resource> resource, final Function<Resource, T> store) {
+		if (resource.isEmpty()) {
+			return () -> null;
+		}
+
+		final var upload = new Upload<>(() -> store.apply(resource.get()));
+		uploads.add(upload);
+
+		try {
+			executor.execute(upload);
+		} catch (RejectedExecutionException e) {
+			cancel();
+			throw e;
+		}
+
+		return upload::result;
+	}
+
+	public void await() {
+		try {
+			for (var i = 0; i < uploads.size(); i++) {
+				final var upload = completed.take();
+				try {
+					upload.get();
+				} catch (ExecutionException e) {
+					cancel();
+					throw rethrow(e.getCause());
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			cancel();
+			throw InternalException.with("Interrupted while storing medias", e);
+		}
+	}
+
+	private void cancel() {
+		uploads.forEach(upload -> upload.cancel(true));
+		uploads.forEach(Upload::awaitStop);
+	}
+
+	private RuntimeException rethrow(final Throwable t) {
+		if (t instanceof RuntimeException e) {
+			return e;
+		}
+		if (t instanceof Error e) {
+			throw e;
+		}
+		return InternalException.with("Error on storing media", t);
+	}
+
+	private class Upload<T> extends FutureTask<T> {
+
+		private final CountDownLatch stopped = new CountDownLatch(1);
+		private volatile boolean started;
+
+		private Upload(final Callable<T> callable) {
+			super(callable);
+		}
+
+		@Override
+		public void run() {
+			started = true;
+			try {
+				super.run();
+			} finally {
+				stopped.countDown();
+			}
+		}
+
+		@Override
+		protected void done() {
+			completed.add(this);
+		}
+
+		private T result() {
+			try {
+				return get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw InternalException.with("Interrupted while storing medias", e);
+			} catch (ExecutionException e) {
+				throw rethrow(e.getCause());
+			}
+		}
+
+		private void awaitStop() {
+			if (!started) {
+				return;
+			}
+
+			try {
+				stopped.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
@@ -0,0 +1,46 @@
+package com.fullcycle.admin.catalog.application.video.media.get;
+
+import com.fullcycle.admin.catalog.domain.errors.NotFoundException;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.domain.video.*;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class DefaultGetMediaMetadataUseCase extends GetMediaMetadataUseCase {
+
+	private final VideoGateway videoGateway;
+
+	@Override
+	public MediaMetadataOutput execute(final GetMediaCommand command) {
+		final var id = VideoID.from(command.videoID());
+		final var type = VideoMediaType.of(command.mediaType())
+		  .orElseThrow(() -> typeNotFound(command.mediaType()));
+
+		final var video = videoGateway.findById(id)
+		  .orElseThrow(() -> NotFoundException.with(Video.class, id));
+
+		return metadataOf(video, type)
+		  .orElseThrow(() -> notFound(command.videoID(), command.mediaType()));
+	}
+
+	private Optional<MediaMetadataOutput> metadataOf(final Video video, final VideoMediaType type) {
+		final var id = video.getId().toString();
+		return switch (type) {
+			case VIDEO -> video.getVideo().map(it -> MediaMetadataOutput.with(id, type, it.getName(), it.getChecksum()));
+			case TRAILER -> video.getTrailer().map(it -> MediaMetadataOutput.with(id, type, it.getName(), it.getChecksum()));
+			case BANNER -> video.getBanner().map(it -> MediaMetadataOutput.with(id, type, it.getName(), it.getChecksum()));
+			case THUMBNAIL -> video.getThumbnail().map(it -> MediaMetadataOutput.with(id, type, it.getName(), it.getChecksum()));
+			case THUMBNAIL_HALF -> video.getThumbnailHalf().map(it -> MediaMetadataOutput.with(id, type, it.getName(), it.getChecksum()));
+		};
+	}
+
+	private NotFoundException notFound(final String id, final String type) {
+		return NotFoundException.with(new Error("Resource %s not found for video %s".formatted(type, id)));
+	}
+
+	private NotFoundException typeNotFound(final String type) {
+		return NotFoundException.with(new Error("Media type %s doesn't exists".formatted(type)));
+	}
+}
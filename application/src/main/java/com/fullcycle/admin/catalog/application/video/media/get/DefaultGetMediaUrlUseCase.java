@@ -0,0 +1,33 @@
+package com.fullcycle.admin.catalog.application.video.media.get;
+
+import com.fullcycle.admin.catalog.domain.errors.NotFoundException;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalog.domain.video.VideoID;
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class DefaultGetMediaUrlUseCase extends GetMediaUrlUseCase {
+
+	private final MediaResourceGateway mediaResourceGateway;
+
+	@Override
+	public MediaUrlOutput execute(final GetMediaCommand command) {
+		final var id = VideoID.from(command.videoID());
+		final var type = VideoMediaType.of(command.mediaType())
+		  .orElseThrow(() -> typeNotFound(command.mediaType()));
+
+		return mediaResourceGateway.getSignedUrl(id, type)
+		  .map(MediaUrlOutput::from)
+		  .orElseThrow(() -> notFound(command.videoID(), command.mediaType()));
+	}
+
+	private NotFoundException notFound(final String id, final String type) {
+		return NotFoundException.with(new Error("No download URL available for resource %s of video %s".formatted(type, id)));
+	}
+
+	private NotFoundException typeNotFound(final String type) {
+		return NotFoundException.with(new Error("Media type %s doesn't exists".formatted(type)));
+	}
+}
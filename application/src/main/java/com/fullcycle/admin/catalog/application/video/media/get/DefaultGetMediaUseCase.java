@@ -1,16 +1,18 @@
 package com.fullcycle.admin.catalog.application.video.media.get;
 
+import com.fullcycle.admin.catalog.domain.errors.DomainException;
 import com.fullcycle.admin.catalog.domain.errors.NotFoundException;
 import com.fullcycle.admin.catalog.domain.validation.Error;
-import com.fullcycle.admin.catalog.domain.video.MediaResourceGateway;
-import com.fullcycle.admin.catalog.domain.video.VideoID;
-import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalog.domain.video.*;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Optional;
+
 @RequiredArgsConstructor
 public class DefaultGetMediaUseCase extends GetMediaUseCase {
 
 	private final MediaResourceGateway mediaResourceGateway;
+	private final VideoGateway videoGateway;
 
 	@Override
 	public MediaOutput execute(final GetMediaCommand command) {
@@ -18,12 +20,37 @@ public class DefaultGetMediaUseCase extends GetMediaUseCase {
 		final var type = VideoMediaType.of(command.mediaType())
 		  .orElseThrow(() -> typeNotFound(command.mediaType()));
 
-		final var resource = mediaResourceGateway.getResource(id, type)
+		if (command.width() != null && command.width() <= 0) {
+			throw DomainException.with(new Error("'width' should be greater than 0"));
+		}
+
+		final var resource = (command.width() != null && type.isImage()
+		  ? mediaResourceGateway.getResource(id, type, checksumOf(id, type, command), command.width())
+		  : mediaResourceGateway.getResource(id, type))
 		  .orElseThrow(() -> notFound(command.videoID(), command.mediaType()));
 
 		return MediaOutput.with(resource);
 	}
 
+	// variants are named after the image they were produced from, the video knows the current one
+	private String checksumOf(final VideoID id, final VideoMediaType type, final GetMediaCommand command) {
+		final var video = videoGateway.findById(id)
+		  .orElseThrow(() -> NotFoundException.with(Video.class, id));
+
+		return imageOf(video, type)
+		  .map(ImageMedia::getChecksum)
+		  .orElseThrow(() -> notFound(command.videoID(), command.mediaType()));
+	}
+
+	private Optional<ImageMedia> imageOf(final Video video, final VideoMediaType type) {
+		return switch (type) {
+			case BANNER -> video.getBanner();
+			case THUMBNAIL -> video.getThumbnail();
+			case THUMBNAIL_HALF -> video.getThumbnailHalf();
+			case VIDEO, TRAILER -> Optional.empty();
+		};
+	}
+
 	private NotFoundException notFound(final String id, final String type) {
 		return NotFoundException.with(new Error("Resource %s not found for video %s".formatted(id, type)));
 	}
@@ -1,8 +1,12 @@
 package com.fullcycle.admin.catalog.application.video.media.get;
 
-public record GetMediaCommand(String videoID, String mediaType) {
+public record GetMediaCommand(String videoID, String mediaType, Integer width) {
 
 	public static GetMediaCommand with(final String videoID, final String mediaType) {
-		return new GetMediaCommand(videoID, mediaType);
+		return new GetMediaCommand(videoID, mediaType, null);
+	}
+
+	public static GetMediaCommand with(final String videoID, final String mediaType, final Integer width) {
+		return new GetMediaCommand(videoID, mediaType, width);
 	}
 }
@@ -0,0 +1,5 @@
+package com.fullcycle.admin.catalog.application.video.media.get;
+
+import com.fullcycle.admin.catalog.application.UseCase;
+
+public abstract class GetMediaUrlUseCase extends UseCase<GetMediaCommand, MediaUrlOutput> {}
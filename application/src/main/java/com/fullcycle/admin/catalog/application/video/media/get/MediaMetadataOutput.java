@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalog.application.video.media.get;
+
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+
+public record MediaMetadataOutput(String videoID, VideoMediaType mediaType, String name, String checksum) {
+
+	public static MediaMetadataOutput with(final String videoID, final VideoMediaType mediaType, final String name, final String checksum) {
+		return new MediaMetadataOutput(videoID, mediaType, name, checksum);
+	}
+}
@@ -1,10 +1,11 @@
 package com.fullcycle.admin.catalog.application.video.media.get;
 
+import com.fullcycle.admin.catalog.domain.resource.ContentSource;
 import com.fullcycle.admin.catalog.domain.resource.Resource;
 
-public record MediaOutput(String name, String checksum, String contentType, byte[] content) {
+public record MediaOutput(String name, String checksum, String contentType, long size, ContentSource content) {
 
 	public static MediaOutput with(Resource resource) {
-		return new MediaOutput(resource.name(), resource.checksum(), resource.contentType(), resource.content());
+		return new MediaOutput(resource.name(), resource.checksum(), resource.contentType(), resource.size(), resource.source());
 	}
 }
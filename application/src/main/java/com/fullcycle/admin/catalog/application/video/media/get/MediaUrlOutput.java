@@ -0,0 +1,12 @@
+package com.fullcycle.admin.catalog.application.video.media.get;
+
+import com.fullcycle.admin.catalog.domain.resource.SignedUrl;
+
+import java.time.Instant;
+
+public record MediaUrlOutput(String url, Instant expiresAt) {
+
+	public static MediaUrlOutput from(final SignedUrl signedUrl) {
+		return new MediaUrlOutput(signedUrl.url().toString(), signedUrl.expiresAt());
+	}
+}
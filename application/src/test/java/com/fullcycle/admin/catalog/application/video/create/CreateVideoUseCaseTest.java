@@ -9,11 +9,16 @@ import com.fullcycle.admin.catalog.domain.errors.NotificationException;
 import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalog.domain.resource.Resource;
 import com.fullcycle.admin.catalog.domain.video.*;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
@@ -41,6 +46,9 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
     @Mock
     private MediaResourceGateway mediaResourceGateway;
 
+    @Mock
+    private Executor mediaExecutor;
+
     @Override
     protected List<Object> getMocks() {
         return List.of(
@@ -48,10 +56,19 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
           categoryGateway,
           genreGateway,
           castMemberGateway,
-          mediaResourceGateway
+          mediaResourceGateway,
+          mediaExecutor
         );
     }
 
+    @BeforeEach
+    public void setUp() {
+        lenient().doAnswer(t -> {
+            t.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(mediaExecutor).execute(any());
+    }
+
     @Test
     public void givenValidCommand_whenCallsCreateVideo_shouldReturnVideoId() {
         final var expectedTitle = Fixture.title();
@@ -701,6 +718,64 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         verify(mediaResourceGateway).clearResources(any());
     }
 
+    @Test
+    public void givenValidCommand_whenOneMediaUploadFails_shouldCancelOthersAndClearResources() throws Exception {
+        final var expectedErrorMessage = "Error on create video was observed";
+        final var executor = Executors.newFixedThreadPool(5);
+        final var trailerStarted = new CountDownLatch(1);
+        final var trailerInterrupted = new AtomicBoolean(false);
+
+        final var command = new CreateVideoCommand(
+          Fixture.title(),
+          Fixture.description(),
+          Fixture.year(),
+          Fixture.duration(),
+          Fixture.bool(),
+          Fixture.bool(),
+          Fixture.Videos.rating().getName(),
+          Set.of(),
+          Set.of(),
+          Set.of(),
+          Fixture.Videos.resource(VideoMediaType.VIDEO),
+          Fixture.Videos.resource(VideoMediaType.TRAILER),
+          null,
+          null,
+          null
+        );
+
+        when(mediaResourceGateway.storeAudioVideo(any(), any()))
+          .thenAnswer(t -> {
+              if (t.getArgument(1, VideoResource.class).type() == VideoMediaType.VIDEO) {
+                  trailerStarted.await();
+                  throw new IllegalStateException("Storage unavailable");
+              }
+
+              trailerStarted.countDown();
+              try {
+                  Thread.sleep(10_000);
+              } catch (InterruptedException e) {
+                  trailerInterrupted.set(true);
+                  throw e;
+              }
+              return null;
+          });
+
+        try {
+            final var useCase = new DefaultCreateVideoUseCase(videoGateway, genreGateway, categoryGateway, castMemberGateway, mediaResourceGateway, executor);
+
+            final var error = assertThrows(InternalException.class, () -> useCase.execute(command));
+
+            assertTrue(error.getMessage().startsWith(expectedErrorMessage));
+            assertEquals("Storage unavailable", error.getCause().getMessage());
+            assertTrue(trailerInterrupted.get());
+
+            verify(mediaResourceGateway).clearResources(any());
+            verify(videoGateway, times(0)).create(any());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     private void mockImageMedia() {
         when(mediaResourceGateway.storeImage(any(), any()))
             .thenAnswer(t -> {
@@ -0,0 +1,73 @@
+package com.fullcycle.admin.catalog.application.video.media.get;
+
+import com.fullcycle.admin.catalog.application.Fixture;
+import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.domain.errors.NotFoundException;
+import com.fullcycle.admin.catalog.domain.video.*;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+public class GetMediaMetadataUseCaseTest extends UseCaseTest {
+
+	@Mock
+	private VideoGateway videoGateway;
+
+	@InjectMocks
+	private DefaultGetMediaMetadataUseCase useCase;
+
+	@Override
+	protected List<Object> getMocks() {
+		return List.of(videoGateway);
+	}
+
+	@Test
+	public void givenVideoWithMedia_whenCallsExecute_shouldReturnItsChecksum() {
+		final var expectedChecksum = UUID.randomUUID().toString();
+		final var expectedName = "banner.jpg";
+		final var video = Fixture.Videos.video().setBanner(ImageMedia.with(expectedChecksum, expectedName, "/banners"));
+
+		when(videoGateway.findById(video.getId())).thenReturn(Optional.of(video));
+
+		final var output = useCase.execute(GetMediaCommand.with(video.getId().toString(), "banner"));
+
+		assertEquals(video.getId().toString(), output.videoID());
+		assertEquals(VideoMediaType.BANNER, output.mediaType());
+		assertEquals(expectedName, output.name());
+		assertEquals(expectedChecksum, output.checksum());
+	}
+
+	@Test
+	public void givenVideoWithoutMedia_whenCallsExecute_shouldReturnNotFoundException() {
+		final var video = Fixture.Videos.video();
+		final var expectedErrorMessage = "Resource TRAILER not found for video %s".formatted(video.getId());
+
+		when(videoGateway.findById(video.getId())).thenReturn(Optional.of(video));
+
+		final var command = GetMediaCommand.with(video.getId().toString(), "TRAILER");
+		final var error = assertThrows(NotFoundException.class, () -> useCase.execute(command));
+
+		assertEquals(expectedErrorMessage, error.getMessage());
+	}
+
+	@Test
+	public void givenUnknownVideo_whenCallsExecute_shouldReturnNotFoundException() {
+		final var expectedId = VideoID.unique();
+		final var expectedErrorMessage = "Video with ID %s was not found".formatted(expectedId);
+
+		when(videoGateway.findById(expectedId)).thenReturn(Optional.empty());
+
+		final var command = GetMediaCommand.with(expectedId.toString(), "VIDEO");
+		final var error = assertThrows(NotFoundException.class, () -> useCase.execute(command));
+
+		assertEquals(expectedErrorMessage, error.getMessage());
+	}
+}
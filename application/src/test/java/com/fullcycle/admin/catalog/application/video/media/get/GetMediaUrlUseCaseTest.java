@@ -0,0 +1,69 @@
+package com.fullcycle.admin.catalog.application.video.media.get;
+
+import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.domain.errors.NotFoundException;
+import com.fullcycle.admin.catalog.domain.resource.SignedUrl;
+import com.fullcycle.admin.catalog.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalog.domain.video.VideoID;
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+public class GetMediaUrlUseCaseTest extends UseCaseTest {
+
+	@Mock
+	private MediaResourceGateway mediaResourceGateway;
+
+	@InjectMocks
+	private DefaultGetMediaUrlUseCase useCase;
+
+	@Override
+	protected List<Object> getMocks() {
+		return List.of(mediaResourceGateway);
+	}
+
+	@Test
+	public void givenVideoIdAndType_whenMediaCanBeSigned_shouldReturnUrl() {
+		final var expectedId = VideoID.unique();
+		final var expectedType = VideoMediaType.VIDEO;
+		final var expectedUrl = SignedUrl.with(URI.create("https://storage.test/video?signature=abc"), Instant.now().plusSeconds(300));
+
+		when(mediaResourceGateway.getSignedUrl(expectedId, expectedType)).thenReturn(Optional.of(expectedUrl));
+
+		final var output = useCase.execute(GetMediaCommand.with(expectedId.toString(), expectedType.name()));
+
+		assertEquals(expectedUrl.url().toString(), output.url());
+		assertEquals(expectedUrl.expiresAt(), output.expiresAt());
+	}
+
+	@Test
+	public void givenVideoIdAndType_whenMediaCannotBeSigned_shouldReturnNotFoundException() {
+		final var expectedId = VideoID.unique();
+		final var expectedType = VideoMediaType.TRAILER;
+
+		when(mediaResourceGateway.getSignedUrl(expectedId, expectedType)).thenReturn(Optional.empty());
+
+		final var command = GetMediaCommand.with(expectedId.toString(), expectedType.name());
+		assertThrows(NotFoundException.class, () -> useCase.execute(command));
+	}
+
+	@Test
+	public void givenVideoIdAndType_whenTypeDoesntExists_shouldReturnNotFoundException() {
+		final var expectedErrorMessage = "Media type any-type doesn't exists";
+
+		final var command = GetMediaCommand.with(VideoID.unique().toString(), "any-type");
+		final var error = assertThrows(NotFoundException.class, () -> useCase.execute(command));
+
+		assertEquals(expectedErrorMessage, error.getMessage());
+	}
+}
@@ -1,11 +1,11 @@
 package com.fullcycle.admin.catalog.application.video.media.get;
 
+import com.fullcycle.admin.catalog.application.Fixture;
 import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.domain.errors.DomainException;
 import com.fullcycle.admin.catalog.domain.errors.NotFoundException;
 import com.fullcycle.admin.catalog.domain.resource.Resource;
-import com.fullcycle.admin.catalog.domain.video.MediaResourceGateway;
-import com.fullcycle.admin.catalog.domain.video.VideoID;
-import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalog.domain.video.*;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -23,12 +23,15 @@ public class GetMediaUseCaseTest extends UseCaseTest  {
 	@Mock
 	private MediaResourceGateway mediaResourceGateway;
 
+	@Mock
+	private VideoGateway videoGateway;
+
 	@InjectMocks
 	private DefaultGetMediaUseCase useCase;
 
 	@Override
 	protected List<Object> getMocks() {
-		return List.of(mediaResourceGateway);
+		return List.of(mediaResourceGateway, videoGateway);
 	}
 
 	@Test
@@ -45,7 +48,50 @@ public class GetMediaUseCaseTest extends UseCaseTest  {
 		assertEquals(expectedResource.name(), output.name());
 		assertEquals(expectedResource.checksum(), output.checksum());
 		assertEquals(expectedResource.contentType(), output.contentType());
-		assertEquals(expectedResource.content(), output.content());
+		assertEquals(expectedResource.size(), output.size());
+		assertEquals(expectedResource.source(), output.content());
+	}
+
+	@Test
+	public void givenImageTypeAndWidth_whenCallsGetMedia_shouldReturnTheVariant() {
+		final var video = Fixture.Videos.video();
+		final var expectedId = video.getId();
+		final var expectedType = VideoMediaType.BANNER;
+		final var expectedWidth = 320;
+		final var expectedBanner = ImageMedia.with(UUID.randomUUID().toString(), "banner.jpg", "/banner");
+		final var expectedResource = Resource.with(UUID.randomUUID().toString(), "content".getBytes(), "image/jpeg", expectedType.name());
+		video.setBanner(expectedBanner);
+
+		when(videoGateway.findById(expectedId)).thenReturn(Optional.of(video));
+		when(mediaResourceGateway.getResource(expectedId, expectedType, expectedBanner.getChecksum(), expectedWidth)).thenReturn(Optional.of(expectedResource));
+
+		final var command = GetMediaCommand.with(expectedId.toString(), expectedType.name(), expectedWidth);
+		final var output = useCase.execute(command);
+
+		assertEquals(expectedResource.checksum(), output.checksum());
+		assertEquals(expectedResource.contentType(), output.contentType());
+	}
+
+	@Test
+	public void givenImageTypeAndWidthOfAVideoWithoutTheImage_whenCallsGetMedia_shouldReturnNotFoundException() {
+		final var video = Fixture.Videos.video();
+		final var expectedId = video.getId();
+
+		when(videoGateway.findById(expectedId)).thenReturn(Optional.of(video));
+
+		final var command = GetMediaCommand.with(expectedId.toString(), VideoMediaType.THUMBNAIL.name(), 320);
+		assertThrows(NotFoundException.class, () -> useCase.execute(command));
+	}
+
+	@Test
+	public void givenInvalidWidth_whenCallsGetMedia_shouldReturnDomainException() {
+		final var expectedId = VideoID.unique();
+		final var expectedErrorMessage = "'width' should be greater than 0";
+
+		final var command = GetMediaCommand.with(expectedId.toString(), VideoMediaType.BANNER.name(), 0);
+		final var error = assertThrows(DomainException.class, () -> useCase.execute(command));
+
+		assertEquals(expectedErrorMessage, error.getMessage());
 	}
 
 	@Test
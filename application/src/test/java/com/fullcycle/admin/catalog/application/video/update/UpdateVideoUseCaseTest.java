@@ -12,11 +12,13 @@ import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalog.domain.genre.GenreID;
 import com.fullcycle.admin.catalog.domain.resource.Resource;
 import com.fullcycle.admin.catalog.domain.video.*;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 import java.util.*;
+import java.util.concurrent.Executor;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
@@ -41,6 +43,9 @@ public class UpdateVideoUseCaseTest extends UseCaseTest  {
 	@Mock
 	private MediaResourceGateway mediaResourceGateway;
 
+	@Mock
+	private Executor mediaExecutor;
+
 	@InjectMocks
 	private DefaultUpdateVideoUseCase useCase;
 
@@ -51,10 +56,19 @@ public class UpdateVideoUseCaseTest extends UseCaseTest  {
 		  categoryGateway,
 		  genreGateway,
 		  castMemberGateway,
-		  mediaResourceGateway
+		  mediaResourceGateway,
+		  mediaExecutor
 		);
 	}
 
+	@BeforeEach
+	public void setUp() {
+		lenient().doAnswer(t -> {
+			t.getArgument(0, Runnable.class).run();
+			return null;
+		}).when(mediaExecutor).execute(any());
+	}
+
 	@Test
 	public void givenValidCommand_whenCallsUpdateVideo_shouldReturnVideoId() {
 		final var expectedTitle = Fixture.title();
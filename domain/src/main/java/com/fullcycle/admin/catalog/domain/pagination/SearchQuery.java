@@ -5,5 +5,12 @@ public record SearchQuery(
   int perPage,
   String terms,
   String sort,
-  String direction
-) {}
+  String direction,
+  String cursor,
+  TotalMode total
+) {
+
+    public SearchQuery(final int page, final int perPage, final String terms, final String sort, final String direction) {
+        this(page, perPage, terms, sort, direction, null, TotalMode.EXACT);
+    }
+}
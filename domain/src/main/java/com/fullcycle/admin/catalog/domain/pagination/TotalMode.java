@@ -0,0 +1,16 @@
+package com.fullcycle.admin.catalog.domain.pagination;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum TotalMode {
+	NONE,
+	ESTIMATE,
+	EXACT;
+
+	public static Optional<TotalMode> of(final String value) {
+		return Arrays.stream(values())
+		  .filter(it -> it.name().equalsIgnoreCase(value))
+		  .findFirst();
+	}
+}
@@ -0,0 +1,15 @@
+package com.fullcycle.admin.catalog.domain.pagination;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum VideoSearchMode {
+	FULL_TEXT,
+	LIKE;
+
+	public static Optional<VideoSearchMode> of(final String value) {
+		return Arrays.stream(values())
+		  .filter(it -> it.name().equalsIgnoreCase(value))
+		  .findFirst();
+	}
+}
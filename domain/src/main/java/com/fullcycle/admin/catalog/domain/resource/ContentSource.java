@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalog.domain.resource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+@FunctionalInterface
+public interface ContentSource {
+
+    InputStream openStream() throws IOException;
+
+    // sources able to seek should override it to avoid reading the skipped bytes
+    default InputStream openStream(final long position) throws IOException {
+        final var stream = openStream();
+        stream.skipNBytes(position);
+        return stream;
+    }
+
+    static ContentSource of(final byte[] content) {
+        return () -> new ByteArrayInputStream(content);
+    }
+}
@@ -2,24 +2,63 @@ package com.fullcycle.admin.catalog.domain.resource;
 
 import com.fullcycle.admin.catalog.domain.ValueObject;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 public class Resource extends ValueObject {
 
-    private final String checksum;
+    private final Supplier<String> checksum;
     private final byte[] content;
+    private final ContentSource source;
+    private final long size;
     private final String contentType;
     private final String name;
 
-    private Resource(final String checksum,final byte[] content, final String contentType, final String name) {
+    private Resource(
+      final Supplier<String> checksum,
+      final byte[] content,
+      final ContentSource source,
+      final long size,
+      final String contentType,
+      final String name
+    ) {
         this.checksum = Objects.requireNonNull(checksum);
-        this.content = Objects.requireNonNull(content);
+        this.content = content;
+        this.source = Objects.requireNonNull(source);
+        this.size = size;
         this.contentType = Objects.requireNonNull(contentType);
         this.name = Objects.requireNonNull(name);
     }
 
     public static Resource with(final String checksum, final byte[] content, final String contentType, final String name) {
-        return new Resource(checksum,content, contentType, name);
+        Objects.requireNonNull(content);
+        Objects.requireNonNull(checksum);
+        return new Resource(() -> checksum, content, ContentSource.of(content), content.length, contentType, name);
+    }
+
+    public static Resource with(
+      final String checksum,
+      final ContentSource source,
+      final long size,
+      final String contentType,
+      final String name
+    ) {
+        Objects.requireNonNull(checksum);
+        return new Resource(() -> checksum, null, source, size, contentType, name);
+    }
+
+    // the checksum is only asked for once the content is stored, so a source hashing its reads can hand it over
+    public static Resource with(
+      final Supplier<String> checksum,
+      final ContentSource source,
+      final long size,
+      final String contentType,
+      final String name
+    ) {
+        return new Resource(checksum, null, source, size, contentType, name);
     }
 
     public String name() {
@@ -30,11 +69,48 @@ public class Resource extends ValueObject {
         return contentType;
     }
 
+    // reads a streamed content whole into memory, audio and video medias should use openStream()
     public byte[] content() {
-        return content;
+        if (content != null) {
+            return content;
+        }
+
+        try (final var stream = openStream()) {
+            return stream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public InputStream openStream() {
+        try {
+            return source.openStream();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public ContentSource source() {
+        return source;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean isBuffered() {
+        return content != null;
+    }
+
+    public Resource buffered() {
+        if (isBuffered()) {
+            return this;
+        }
+        final var bytes = content();
+        return Resource.with(checksum(), bytes, contentType, name);
     }
 
     public String checksum() {
-        return checksum;
+        return Objects.requireNonNull(checksum.get());
     }
 }
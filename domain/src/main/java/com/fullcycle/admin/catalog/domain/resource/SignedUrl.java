@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalog.domain.resource;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.Objects;
+
+public record SignedUrl(URI url, Instant expiresAt) {
+
+    public SignedUrl {
+        Objects.requireNonNull(url);
+        Objects.requireNonNull(expiresAt);
+    }
+
+    public static SignedUrl with(final URI url, final Instant expiresAt) {
+        return new SignedUrl(url, expiresAt);
+    }
+}
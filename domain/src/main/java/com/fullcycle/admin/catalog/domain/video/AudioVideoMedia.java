@@ -4,10 +4,12 @@ import com.fullcycle.admin.catalog.domain.ValueObject;
 import lombok.Getter;
 
 import java.util.Objects;
+import java.util.UUID;
 
 @Getter
 public class AudioVideoMedia extends ValueObject {
 
+    private final String id;
     private final String checksum;
     private final String name;
     private final String rawLocation;
@@ -15,12 +17,14 @@ public class AudioVideoMedia extends ValueObject {
     private final MediaStatus status;
 
     private AudioVideoMedia(
+      final String id,
       final String checksum,
       final String name,
       final String rawLocation,
       final String encodedLocation,
       final MediaStatus status
     ) {
+        this.id = Objects.requireNonNull(id);
         this.checksum = Objects.requireNonNull(checksum);
         this.name = Objects.requireNonNull(name);
         this.rawLocation = Objects.requireNonNull(rawLocation);
@@ -35,7 +39,18 @@ public class AudioVideoMedia extends ValueObject {
       final String encodedLocation,
       final MediaStatus status
     ) {
-        return new AudioVideoMedia(checksum, name, rawLocation, encodedLocation, status);
+        return new AudioVideoMedia(UUID.randomUUID().toString(), checksum, name, rawLocation, encodedLocation, status);
+    }
+
+    public static AudioVideoMedia with(
+      final String id,
+      final String checksum,
+      final String name,
+      final String rawLocation,
+      final String encodedLocation,
+      final MediaStatus status
+    ) {
+        return new AudioVideoMedia(id, checksum, name, rawLocation, encodedLocation, status);
     }
 
     public static AudioVideoMedia with(
@@ -43,11 +58,12 @@ public class AudioVideoMedia extends ValueObject {
       final String name,
       final String rawLocation
     ) {
-        return new AudioVideoMedia(checksum, name, rawLocation, "", MediaStatus.PENDING);
+        return new AudioVideoMedia(UUID.randomUUID().toString(), checksum, name, rawLocation, "", MediaStatus.PENDING);
     }
 
     public AudioVideoMedia processing() {
         return AudioVideoMedia.with(
+          id,
           checksum,
           name,
           rawLocation,
@@ -58,6 +74,7 @@ public class AudioVideoMedia extends ValueObject {
 
     public AudioVideoMedia completed(final String encodedLocation) {
         return AudioVideoMedia.with(
+          id,
           checksum,
           name,
           rawLocation,
@@ -4,26 +4,34 @@ import com.fullcycle.admin.catalog.domain.ValueObject;
 import lombok.Getter;
 
 import java.util.Objects;
+import java.util.UUID;
 
 @Getter
 public class ImageMedia extends ValueObject {
 
+    private final String id;
     private final String checksum;
     private final String name;
     private final String location;
 
     private ImageMedia(
+      final String id,
       final String checksum,
       final String name,
       final String location
     ) {
+        this.id = Objects.requireNonNull(id);
         this.checksum = Objects.requireNonNull(checksum);
         this.name = Objects.requireNonNull(name);
         this.location = Objects.requireNonNull(location);
     }
 
     public static ImageMedia with(final String checksum, final String name,  final String location) {
-        return new ImageMedia(checksum, name, location);
+        return new ImageMedia(UUID.randomUUID().toString(), checksum, name, location);
+    }
+
+    public static ImageMedia with(final String id, final String checksum, final String name, final String location) {
+        return new ImageMedia(id, checksum, name, location);
     }
 
     @Override
@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalog.domain.video;
 
 import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.resource.SignedUrl;
 
 import java.util.Optional;
 
@@ -9,5 +10,12 @@ public interface MediaResourceGateway {
     AudioVideoMedia storeAudioVideo(VideoID id, VideoResource resource);
     ImageMedia storeImage(VideoID id, VideoResource resource);
     Optional<Resource> getResource(VideoID id, VideoMediaType type);
+
+    // a variant close to the width of the image with the checksum, or the original when the gateway has none
+    default Optional<Resource> getResource(VideoID id, VideoMediaType type, String checksum, int width) {
+        return getResource(id, type);
+    }
+
+    Optional<SignedUrl> getSignedUrl(VideoID id, VideoMediaType type);
     void clearResources(VideoID id);
 }
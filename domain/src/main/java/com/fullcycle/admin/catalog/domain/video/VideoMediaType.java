@@ -10,6 +10,10 @@ public enum VideoMediaType {
 	THUMBNAIL,
 	THUMBNAIL_HALF;
 
+	public boolean isImage() {
+		return this == BANNER || this == THUMBNAIL || this == THUMBNAIL_HALF;
+	}
+
 	public static Optional<VideoMediaType> of(final String value) {
 		return Arrays.stream(values())
 		  .filter(it -> it.name().equalsIgnoreCase(value))
@@ -40,6 +40,16 @@ public class AudioVideoMediaTest {
         assertNotSame(audioVideo1, audioVideo2);
     }
 
+    @Test
+    public void givenAudioVideo_whenCallsProcessingAndCompleted_shouldKeepItsId() {
+        final var audioVideo = AudioVideoMedia.with("checksum", "name", "/location");
+
+        final var completed = audioVideo.processing().completed("/location/encoded");
+
+        assertEquals(audioVideo.getId(), completed.getId());
+        assertEquals(MediaStatus.COMPLETED, completed.getStatus());
+    }
+
     @Test
     public void givenInvalidParams_whenCallsWith_shouldReturnError() {
         assertThrows(NullPointerException.class, () -> AudioVideoMedia.with(null, "any name", "/location", "/location/encoded", MediaStatus.PENDING));
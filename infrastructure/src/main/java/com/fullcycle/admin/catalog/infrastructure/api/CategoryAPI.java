@@ -48,7 +48,9 @@ public interface CategoryAPI {
       @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
       @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
       @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-      @RequestParam(name = "dir", required = false, defaultValue = "DESC") final String direction
+      @RequestParam(name = "dir", required = false, defaultValue = "DESC") final String direction,
+      @RequestParam(name = "cursor", required = false) final String cursor,
+      @RequestParam(name = "total", required = false, defaultValue = "exact") final String total
     );
 
     @GetMapping(
@@ -45,7 +45,9 @@ public interface GenreAPI {
       @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
       @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
       @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-      @RequestParam(name = "dir", required = false, defaultValue = "DESC") final String direction
+      @RequestParam(name = "dir", required = false, defaultValue = "DESC") final String direction,
+      @RequestParam(name = "cursor", required = false) final String cursor,
+      @RequestParam(name = "total", required = false, defaultValue = "exact") final String total
     );
 
     @GetMapping(value  = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
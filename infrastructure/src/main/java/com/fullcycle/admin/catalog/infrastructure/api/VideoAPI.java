@@ -1,14 +1,12 @@
 package com.fullcycle.admin.catalog.infrastructure.api;
 
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
-import com.fullcycle.admin.catalog.infrastructure.video.models.CreateVideoRequest;
-import com.fullcycle.admin.catalog.infrastructure.video.models.UpdateVideoRequest;
-import com.fullcycle.admin.catalog.infrastructure.video.models.VideoListResponse;
-import com.fullcycle.admin.catalog.infrastructure.video.models.VideoResponse;
+import com.fullcycle.admin.catalog.infrastructure.video.models.*;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -16,6 +14,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
 import java.util.Set;
 import java.util.UUID;
 
@@ -29,8 +28,10 @@ public interface VideoAPI {
 	@Operation(summary = "Create a new video with all medias")
 	@ApiResponses(value = {
 	  @ApiResponse(responseCode = "201", description = "Created successfully"),
+	  @ApiResponse(responseCode = "202", description = "Created, medias are being stored in the background"),
 	  @ApiResponse(responseCode = "422", description = "Unprocessable error"),
-	  @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+	  @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+	  @ApiResponse(responseCode = "503", description = "Too many videos being ingested in the background")
 	})
 	ResponseEntity<?> createFull(
 	  @RequestParam("title") final String title,
@@ -47,9 +48,19 @@ public interface VideoAPI {
 	  @RequestParam("trailer_file") final MultipartFile trailerFile,
 	  @RequestParam("banner_file") final MultipartFile bannerFile,
 	  @RequestParam("thumb_file") final MultipartFile thumbFile,
-	  @RequestParam("thumb_half_file") final MultipartFile thumbHalfFile
+	  @RequestParam("thumb_half_file") final MultipartFile thumbHalfFile,
+	  @RequestParam(name = "async", required = false, defaultValue = "false") final boolean async
 	);
 
+	@GetMapping(value = "/{id}/ingestion", produces = MediaType.APPLICATION_JSON_VALUE)
+	@Operation(summary = "Get the progress of the medias of a video created asynchronously")
+	@ApiResponses(value = {
+	  @ApiResponse(responseCode = "200", description = "Ingestion retrieved"),
+	  @ApiResponse(responseCode = "404", description = "No ingestion was found for the video"),
+	  @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+	})
+	VideoIngestionResponse getIngestion(@PathVariable("id") UUID id);
+
 	@PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
 	@Operation(summary = "Create a new video without medias")
 	@ApiResponses(value = {
@@ -81,15 +92,28 @@ public interface VideoAPI {
 	@Operation(summary = "Get a video media by it`s type")
 	@ApiResponses(value = {
 	  @ApiResponse(responseCode = "200", description = "Media retrieved successfully"),
+	  @ApiResponse(responseCode = "206", description = "Requested range of the media retrieved successfully"),
+	  @ApiResponse(responseCode = "302", description = "Redirected to a short-lived signed URL of the media"),
+	  @ApiResponse(responseCode = "304", description = "Media was not modified since the given ETag"),
 	  @ApiResponse(responseCode = "404", description = "Media was not found"),
+	  @ApiResponse(responseCode = "416", description = "Requested range is not satisfiable"),
+	  @ApiResponse(responseCode = "422", description = "Invalid download mode or width"),
 	  @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
 	})
-	ResponseEntity<byte[]> getMediaByType(@PathVariable("id") UUID id, @PathVariable("type") String type);
+	ResponseEntity<?> getMediaByType(
+	  @PathVariable("id") UUID id,
+	  @PathVariable("type") String type,
+	  @RequestParam(name = "mode", required = false, defaultValue = "stream") String mode,
+	  @RequestParam(name = "v", required = false) String version,
+	  @RequestParam(name = "w", required = false) Integer width,
+	  @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+	);
 
 	@GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
 	@Operation(summary = "Get all videos")
 	@ApiResponses(value = {
 	  @ApiResponse(responseCode = "200", description = "Videos retrieved successfully"),
+	  @ApiResponse(responseCode = "422", description = "Invalid search mode, total or cursor"),
 	  @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
 	})
 	Pagination<VideoListResponse> find(
@@ -98,6 +122,9 @@ public interface VideoAPI {
 	  @RequestParam(value = "search", defaultValue = "") String search,
 	  @RequestParam(value = "sort", defaultValue = "title") String sort,
 	  @RequestParam(value = "direction", defaultValue = "asc") String direction,
+	  @RequestParam(value = "search_mode", defaultValue = "full_text") String searchMode,
+	  @RequestParam(value = "cursor", required = false) String cursor,
+	  @RequestParam(value = "total", defaultValue = "exact") String total,
 	  @RequestParam(value = "cast_members_ids", defaultValue = "") Set<String> castMembers,
 	  @RequestParam(value = "categories_ids", defaultValue = "") Set<String> categories,
 	  @RequestParam(value = "genres_ids", defaultValue = "") Set<String> genres
@@ -116,6 +143,93 @@ public interface VideoAPI {
 	  @RequestParam("media_file") MultipartFile file
 	);
 
+	@PostMapping(value = "/{id}/medias/{type}/uploads", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+	@Operation(summary = "Start a resumable chunked upload of a video media")
+	@ApiResponses(value = {
+	  @ApiResponse(responseCode = "201", description = "Upload session created successfully"),
+	  @ApiResponse(responseCode = "404", description = "Media type was not found"),
+	  @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+	})
+	ResponseEntity<UploadSessionResponse> createUploadSession(
+	  @PathVariable("id") UUID id,
+	  @PathVariable("type") String type,
+	  @RequestBody CreateUploadSessionRequest payload
+	);
+
+	@GetMapping(value = "/{id}/medias/{type}/uploads/{sessionId}", produces = MediaType.APPLICATION_JSON_VALUE)
+	@Operation(summary = "Get the chunks already received by an upload session")
+	@ApiResponses(value = {
+	  @ApiResponse(responseCode = "200", description = "Upload session retrieved successfully"),
+	  @ApiResponse(responseCode = "404", description = "Upload session was not found"),
+	  @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+	})
+	UploadSessionResponse getUploadSession(
+	  @PathVariable("id") UUID id,
+	  @PathVariable("type") String type,
+	  @PathVariable("sessionId") String sessionId
+	);
+
+	@PutMapping(value = "/{id}/medias/{type}/uploads/{sessionId}/chunks/{number}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+	@ResponseStatus(HttpStatus.NO_CONTENT)
+	@Operation(summary = "Upload a numbered chunk of an upload session, chunks may be sent in any order")
+	@ApiResponses(value = {
+	  @ApiResponse(responseCode = "204", description = "Chunk stored successfully"),
+	  @ApiResponse(responseCode = "404", description = "Upload session was not found"),
+	  @ApiResponse(responseCode = "422", description = "Invalid chunk number"),
+	  @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+	})
+	void uploadChunk(
+	  @PathVariable("id") UUID id,
+	  @PathVariable("type") String type,
+	  @PathVariable("sessionId") String sessionId,
+	  @PathVariable("number") int number,
+	  InputStream body
+	);
+
+	@PostMapping(value = "/{id}/medias/{type}/uploads/{sessionId}/complete", produces = MediaType.APPLICATION_JSON_VALUE)
+	@Operation(summary = "Assemble the uploaded chunks and attach the media to the video")
+	@ApiResponses(value = {
+	  @ApiResponse(responseCode = "201", description = "Media updated successfully"),
+	  @ApiResponse(responseCode = "404", description = "Video or upload session was not found"),
+	  @ApiResponse(responseCode = "422", description = "Some chunks are missing"),
+	  @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+	})
+	ResponseEntity<?> completeUploadSession(
+	  @PathVariable("id") UUID id,
+	  @PathVariable("type") String type,
+	  @PathVariable("sessionId") String sessionId,
+	  @RequestParam("total_chunks") int totalChunks
+	);
+
+	@PostMapping(value = "/{id}/medias/{type}/direct-uploads", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+	@Operation(summary = "Start an upload of a video media straight to the storage through a signed URL")
+	@ApiResponses(value = {
+	  @ApiResponse(responseCode = "201", description = "Signed upload URL created successfully"),
+	  @ApiResponse(responseCode = "404", description = "Media type was not found"),
+	  @ApiResponse(responseCode = "422", description = "The media storage doesn't support direct uploads"),
+	  @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+	})
+	ResponseEntity<DirectUploadResponse> createDirectUpload(
+	  @PathVariable("id") UUID id,
+	  @PathVariable("type") String type,
+	  @RequestBody CreateUploadSessionRequest payload
+	);
+
+	@PostMapping(value = "/{id}/medias/{type}/direct-uploads/{sessionId}/finalize", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+	@Operation(summary = "Check the media uploaded to the signed URL and attach it to the video")
+	@ApiResponses(value = {
+	  @ApiResponse(responseCode = "201", description = "Media updated successfully"),
+	  @ApiResponse(responseCode = "404", description = "Video or upload session was not found"),
+	  @ApiResponse(responseCode = "422", description = "Nothing was uploaded or it doesn't match the expected size and checksum"),
+	  @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+	})
+	ResponseEntity<?> finalizeDirectUpload(
+	  @PathVariable("id") UUID id,
+	  @PathVariable("type") String type,
+	  @PathVariable("sessionId") String sessionId,
+	  @RequestBody FinalizeUploadRequest payload
+	);
+
 	@DeleteMapping(value = "/{id}")
 	@ResponseStatus(HttpStatus.NO_CONTENT)
 	@Operation(summary = "Delete a video by it's identifier")
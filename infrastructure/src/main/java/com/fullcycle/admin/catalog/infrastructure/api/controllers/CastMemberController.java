@@ -7,8 +7,11 @@ import com.fullcycle.admin.catalog.application.castmember.retrieve.get.GetCastMe
 import com.fullcycle.admin.catalog.application.castmember.retrieve.list.ListCastMemberUseCase;
 import com.fullcycle.admin.catalog.application.castmember.update.UpdateCastMemberCommand;
 import com.fullcycle.admin.catalog.application.castmember.update.UpdateCastMemberUseCase;
+import com.fullcycle.admin.catalog.domain.errors.DomainException;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalog.domain.pagination.TotalMode;
+import com.fullcycle.admin.catalog.domain.validation.Error;
 import com.fullcycle.admin.catalog.infrastructure.api.CastMemberAPI;
 import com.fullcycle.admin.catalog.infrastructure.castmember.models.CastMemberListResponse;
 import com.fullcycle.admin.catalog.infrastructure.castmember.models.CastMemberResponse;
@@ -40,8 +43,10 @@ public class CastMemberController implements CastMemberAPI {
     }
 
     @Override
-    public Pagination<CastMemberListResponse> listCastMembers(String search, int page, int perPage, String sort, String direction) {
-        final var query = new SearchQuery(page, perPage, search, sort, direction);
+    public Pagination<CastMemberListResponse> listCastMembers(String search, int page, int perPage, String sort, String direction, String cursor, String total) {
+        final var mode = TotalMode.of(total)
+          .orElseThrow(() -> DomainException.with(new Error("Invalid total: %s".formatted(total))));
+        final var query = new SearchQuery(page, perPage, search, sort, direction, cursor, mode);
         return listCastMemberUseCase.execute(query).map(CastMemberApiPresenter::present);
     }
 
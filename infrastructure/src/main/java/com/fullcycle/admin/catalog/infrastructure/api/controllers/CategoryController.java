@@ -10,8 +10,11 @@ import com.fullcycle.admin.catalog.application.category.update.UpdateCategoryCom
 import com.fullcycle.admin.catalog.application.category.update.UpdateCategoryOutput;
 import com.fullcycle.admin.catalog.application.category.update.UpdateCategoryUseCase;
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.errors.DomainException;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.pagination.TotalMode;
+import com.fullcycle.admin.catalog.domain.validation.Error;
 import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
 import com.fullcycle.admin.catalog.infrastructure.api.CategoryAPI;
 import com.fullcycle.admin.catalog.infrastructure.category.models.CategoryListResponse;
@@ -59,9 +62,13 @@ public class CategoryController implements CategoryAPI {
       final int page,
       final int perPage,
       final String sort,
-      final String direction
+      final String direction,
+      final String cursor,
+      final String total
     ) {
-        final var query = new SearchQuery(page, perPage, search, sort, direction);
+        final var mode = TotalMode.of(total)
+          .orElseThrow(() -> DomainException.with(new Error("Invalid total: %s".formatted(total))));
+        final var query = new SearchQuery(page, perPage, search, sort, direction, cursor, mode);
         return listCategoriesUseCase.execute(query).map(CategoryApiPresenter::present);
     }
 
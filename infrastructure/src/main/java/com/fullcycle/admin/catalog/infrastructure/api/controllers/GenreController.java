@@ -7,8 +7,11 @@ import com.fullcycle.admin.catalog.application.genre.retrieve.get.GetGenreByIdUs
 import com.fullcycle.admin.catalog.application.genre.retrieve.list.ListGenreUseCase;
 import com.fullcycle.admin.catalog.application.genre.update.UpdateGenreCommand;
 import com.fullcycle.admin.catalog.application.genre.update.UpdateGenreUseCase;
+import com.fullcycle.admin.catalog.domain.errors.DomainException;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalog.domain.pagination.TotalMode;
+import com.fullcycle.admin.catalog.domain.validation.Error;
 import com.fullcycle.admin.catalog.infrastructure.api.GenreAPI;
 import com.fullcycle.admin.catalog.infrastructure.genre.models.CreateGenreRequest;
 import com.fullcycle.admin.catalog.infrastructure.genre.models.GenreListResponse;
@@ -45,9 +48,13 @@ public class GenreController implements GenreAPI {
       final int page,
       final int perPage,
       final String sort,
-      final String direction
+      final String direction,
+      final String cursor,
+      final String total
     ) {
-        final var query = new SearchQuery(page, perPage, search, sort, direction);
+        final var mode = TotalMode.of(total)
+          .orElseThrow(() -> DomainException.with(new Error("Invalid total: %s".formatted(total))));
+        final var query = new SearchQuery(page, perPage, search, sort, direction, cursor, mode);
         return listGenreUseCase.execute(query).map(GenreApiPresenter::present);
     }
 
@@ -9,6 +9,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import com.fullcycle.admin.catalog.domain.validation.Error;
 
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -23,6 +24,11 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiError.from(ex));
     }
 
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<?> handleRejectedExecutionException(final RejectedExecutionException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(new ApiError(ex.getMessage(), List.of()));
+    }
+
     public record ApiError(String message, List<Error> errors) {
         public static ApiError from(DomainException ex) {
             return new ApiError(ex.getMessage(), ex.getErrors());
@@ -4,6 +4,8 @@ import com.fullcycle.admin.catalog.application.video.create.CreateVideoCommand;
 import com.fullcycle.admin.catalog.application.video.create.CreateVideoUseCase;
 import com.fullcycle.admin.catalog.application.video.delete.DeleteVideoUseCase;
 import com.fullcycle.admin.catalog.application.video.media.get.GetMediaCommand;
+import com.fullcycle.admin.catalog.application.video.media.get.GetMediaMetadataUseCase;
+import com.fullcycle.admin.catalog.application.video.media.get.GetMediaUrlUseCase;
 import com.fullcycle.admin.catalog.application.video.media.get.GetMediaUseCase;
 import com.fullcycle.admin.catalog.application.video.media.upload.UploadMediaCommand;
 import com.fullcycle.admin.catalog.application.video.media.upload.UploadMediaUseCase;
@@ -15,21 +17,37 @@ import com.fullcycle.admin.catalog.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
 import com.fullcycle.admin.catalog.domain.genre.GenreID;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.pagination.TotalMode;
+import com.fullcycle.admin.catalog.domain.pagination.VideoSearchMode;
 import com.fullcycle.admin.catalog.domain.pagination.VideoSearchQuery;
+import com.fullcycle.admin.catalog.domain.errors.DomainException;
+import com.fullcycle.admin.catalog.domain.errors.NotFoundException;
 import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.domain.video.VideoID;
 import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
 import com.fullcycle.admin.catalog.domain.video.VideoResource;
 import com.fullcycle.admin.catalog.infrastructure.api.VideoAPI;
 import com.fullcycle.admin.catalog.infrastructure.utils.ChecksumUtils;
+import com.fullcycle.admin.catalog.infrastructure.utils.DigestingContentSource;
+import com.fullcycle.admin.catalog.infrastructure.video.ingestion.VideoIngestionService;
 import com.fullcycle.admin.catalog.infrastructure.video.models.*;
 import com.fullcycle.admin.catalog.infrastructure.video.presenters.VideoApiPresenter;
+import com.fullcycle.admin.catalog.infrastructure.video.upload.UploadSessionService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
 import java.net.URI;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
@@ -39,13 +57,19 @@ import static com.fullcycle.admin.catalog.domain.utils.CollectionUtils.mapTo;
 @RestController
 public class VideoController implements VideoAPI {
 
+	private static final Duration IMMUTABLE_MAX_AGE = Duration.ofDays(365);
+
 	final CreateVideoUseCase createVideoUseCase;
 	final UpdateVideoUseCase updateVideoUseCase;
 	final ListVideosUseCase listVideosUseCase;
 	final GetVideoByIdUseCase getVideoByIdUseCase;
 	final GetMediaUseCase getMediaUseCase;
+	final GetMediaMetadataUseCase getMediaMetadataUseCase;
+	final GetMediaUrlUseCase getMediaUrlUseCase;
 	final UploadMediaUseCase uploadMediaUseCase;
 	final DeleteVideoUseCase deleteVideoUseCase;
+	final UploadSessionService uploadSessionService;
+	final VideoIngestionService videoIngestionService;
 
 	@Override
 	public ResponseEntity<?> createFull(
@@ -63,8 +87,40 @@ public class VideoController implements VideoAPI {
 	  final MultipartFile trailerFile,
 	  final MultipartFile bannerFile,
 	  final MultipartFile thumbFile,
-	  final MultipartFile thumbHalfFile
+	  final MultipartFile thumbHalfFile,
+	  final boolean async
 	) {
+		if (async) {
+			final var metadata = new CreateVideoCommand(
+			  title,
+			  description,
+			  yearLaunched,
+			  duration,
+			  opened,
+			  published,
+			  rating,
+			  categories,
+			  genres,
+			  castMembers,
+			  null,
+			  null,
+			  null,
+			  null,
+			  null
+			);
+			final var parts = new EnumMap<VideoMediaType, MultipartFile>(VideoMediaType.class);
+			parts.put(VideoMediaType.VIDEO, videoFile);
+			parts.put(VideoMediaType.TRAILER, trailerFile);
+			parts.put(VideoMediaType.BANNER, bannerFile);
+			parts.put(VideoMediaType.THUMBNAIL, thumbFile);
+			parts.put(VideoMediaType.THUMBNAIL_HALF, thumbHalfFile);
+
+			final var id = videoIngestionService.create(metadata, parts);
+			return ResponseEntity.accepted()
+			  .location(URI.create("/videos/" + id.getValue() + "/ingestion"))
+			  .body(VideoApiPresenter.present(id, videoIngestionService.status(id)));
+		}
+
 		final var command = new CreateVideoCommand(
 		  title,
 		  description,
@@ -136,19 +192,59 @@ public class VideoController implements VideoAPI {
 		return ResponseEntity.ok().body(VideoApiPresenter.present(output));
 	}
 
+	@Override
+	public VideoIngestionResponse getIngestion(final UUID id) {
+		final var videoId = VideoID.from(id);
+		return VideoApiPresenter.present(videoId, videoIngestionService.status(videoId));
+	}
+
 	@Override
 	public VideoResponse getById(final UUID id) {
 		return VideoApiPresenter.present(getVideoByIdUseCase.execute(id));
 	}
 
 	@Override
-	public ResponseEntity<byte[]> getMediaByType(UUID id, String type) {
-		final var media = getMediaUseCase.execute(GetMediaCommand.with(id.toString(), type));
+	public ResponseEntity<?> getMediaByType(final UUID id, final String type, final String mode, final String version, final Integer width, final String ifNoneMatch) {
+		final var command = GetMediaCommand.with(id.toString(), type, width);
+		final var downloadMode = MediaDownloadMode.of(mode)
+		  .orElseThrow(() -> DomainException.with(new Error("Invalid download mode: %s".formatted(mode))));
+
+		// signed URLs expire, neither the redirect nor the URL itself may be cached
+		if (downloadMode == MediaDownloadMode.REDIRECT) {
+			final var url = getMediaUrlUseCase.execute(command);
+			return ResponseEntity.status(HttpStatus.FOUND)
+			  .location(URI.create(url.url()))
+			  .cacheControl(CacheControl.noStore())
+			  .build();
+		}
+
+		if (downloadMode == MediaDownloadMode.URL) {
+			return ResponseEntity.ok()
+			  .cacheControl(CacheControl.noStore())
+			  .body(VideoApiPresenter.present(getMediaUrlUseCase.execute(command)));
+		}
+
+		if (width != null) {
+			return resized(command, ifNoneMatch);
+		}
+
+		if (ifNoneMatch != null) {
+			final var metadata = getMediaMetadataUseCase.execute(command);
+			if (matches(ifNoneMatch, metadata.checksum())) {
+				return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+				  .eTag(metadata.checksum())
+				  .cacheControl(cacheControlOf(version, metadata.checksum()))
+				  .build();
+			}
+		}
+
+		final var media = getMediaUseCase.execute(command);
 		return ResponseEntity.ok()
+		  .eTag(media.checksum())
+		  .cacheControl(cacheControlOf(version, media.checksum()))
 		  .contentType(MediaType.valueOf(media.contentType()))
-		  .contentLength(media.content().length)
 		  .header("Content-Disposition", "attachment; filename=\"%s\"".formatted(media.name()))
-		  .body(media.content());
+		  .body(VideoApiPresenter.present(media));
 	}
 
 	@Override
@@ -158,11 +254,18 @@ public class VideoController implements VideoAPI {
 	  final String search,
 	  final String sort,
 	  final String direction,
+	  final String searchMode,
+	  final String cursor,
+	  final String total,
 	  final Set<String> castMembers,
 	  final Set<String> categories,
 	  final Set<String> genres
 	) {
-		final var query = new VideoSearchQuery(page, perPage, search, sort, direction, mapTo(categories, CategoryID::from), mapTo(genres, GenreID::from),  mapTo(castMembers, CastMemberID::from));
+		final var mode = VideoSearchMode.of(searchMode)
+		  .orElseThrow(() -> DomainException.with(new Error("Invalid search mode: %s".formatted(searchMode))));
+		final var totalMode = TotalMode.of(total)
+		  .orElseThrow(() -> DomainException.with(new Error("Invalid total: %s".formatted(total))));
+		final var query = new VideoSearchQuery(page, perPage, search, sort, direction, mapTo(categories, CategoryID::from), mapTo(genres, GenreID::from),  mapTo(castMembers, CastMemberID::from), mode, cursor, totalMode);
 		return VideoApiPresenter.present(listVideosUseCase.execute(query));
 	}
 
@@ -174,20 +277,95 @@ public class VideoController implements VideoAPI {
 		  .body(VideoApiPresenter.present(uploadMediaUseCase.execute(command)));
 	}
 
+	@Override
+	public ResponseEntity<UploadSessionResponse> createUploadSession(final UUID id, final String type, final CreateUploadSessionRequest payload) {
+		final var session = uploadSessionService.create(VideoID.from(id), mediaTypeOf(type), payload.name(), payload.contentType());
+		return ResponseEntity.created(URI.create("/videos/" + id + "/medias/" + type + "/uploads/" + session.sessionId()))
+		  .body(VideoApiPresenter.present(session, List.of()));
+	}
+
+	@Override
+	public UploadSessionResponse getUploadSession(final UUID id, final String type, final String sessionId) {
+		final var session = uploadSessionService.get(sessionId, VideoID.from(id), mediaTypeOf(type));
+		return VideoApiPresenter.present(session, uploadSessionService.receivedChunks(session));
+	}
+
+	@Override
+	public void uploadChunk(final UUID id, final String type, final String sessionId, final int number, final InputStream body) {
+		final var session = uploadSessionService.get(sessionId, VideoID.from(id), mediaTypeOf(type));
+		uploadSessionService.storeChunk(session, number, body);
+	}
+
+	@Override
+	public ResponseEntity<?> completeUploadSession(final UUID id, final String type, final String sessionId, final int totalChunks) {
+		final var session = uploadSessionService.get(sessionId, VideoID.from(id), mediaTypeOf(type));
+		return ResponseEntity.created(URI.create("/videos/" + id + "/medias/" + type))
+		  .body(VideoApiPresenter.present(uploadSessionService.complete(session, totalChunks)));
+	}
+
+	@Override
+	public ResponseEntity<DirectUploadResponse> createDirectUpload(final UUID id, final String type, final CreateUploadSessionRequest payload) {
+		final var upload = uploadSessionService.createDirect(VideoID.from(id), mediaTypeOf(type), payload.name(), payload.contentType());
+		return ResponseEntity.created(URI.create("/videos/" + id + "/medias/" + type + "/direct-uploads/" + upload.session().sessionId()))
+		  .body(VideoApiPresenter.present(upload));
+	}
+
+	@Override
+	public ResponseEntity<?> finalizeDirectUpload(final UUID id, final String type, final String sessionId, final FinalizeUploadRequest payload) {
+		final var session = uploadSessionService.get(sessionId, VideoID.from(id), mediaTypeOf(type));
+		return ResponseEntity.created(URI.create("/videos/" + id + "/medias/" + type))
+		  .body(VideoApiPresenter.present(uploadSessionService.finalizeDirect(session, payload.size(), payload.checksum())));
+	}
+
 	@Override
 	public void delete(final UUID id) {
 		deleteVideoUseCase.execute(id);
 	}
 
+	// the original stands in for a variant not stored yet, both get the same weak tag of the image
+	private ResponseEntity<?> resized(final GetMediaCommand command, final String ifNoneMatch) {
+		final var tag = "%s-w%d".formatted(getMediaMetadataUseCase.execute(command).checksum(), command.width());
+		final var eTag = "W/\"%s\"".formatted(tag);
+
+		if (ifNoneMatch != null && ETag.parse(ifNoneMatch).stream().anyMatch(it -> it.isWildcard() || it.tag().equals(tag))) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+			  .eTag(eTag)
+			  .cacheControl(CacheControl.noCache())
+			  .build();
+		}
+
+		final var media = getMediaUseCase.execute(command);
+		return ResponseEntity.ok()
+		  .eTag(eTag)
+		  .cacheControl(CacheControl.noCache())
+		  .contentType(MediaType.valueOf(media.contentType()))
+		  .header("Content-Disposition", "attachment; filename=\"%s\"".formatted(media.name()))
+		  .body(VideoApiPresenter.present(media));
+	}
+
+	private boolean matches(final String ifNoneMatch, final String checksum) {
+		return ETag.parse(ifNoneMatch).stream().anyMatch(tag -> tag.isWildcard() || ChecksumUtils.matches(tag.tag(), checksum));
+	}
+
+	// only a URL pinned to the current checksum can be cached forever, anything else must revalidate
+	private CacheControl cacheControlOf(final String version, final String checksum) {
+		if (version != null && ChecksumUtils.matches(version, checksum)) {
+			return CacheControl.maxAge(IMMUTABLE_MAX_AGE).cachePublic().immutable();
+		}
+		return CacheControl.noCache();
+	}
+
+	private VideoMediaType mediaTypeOf(final String type) {
+		return VideoMediaType.of(type)
+		  .orElseThrow(() -> NotFoundException.with(new Error("Media type %s doesn't exists".formatted(type))));
+	}
+
 	private Resource resourceOf(final MultipartFile file) {
 		if (file == null) {
 			return null;
 		}
 
-		try {
-			return Resource.with(ChecksumUtils.generate(file.getBytes()), file.getBytes(), file.getContentType(), file.getOriginalFilename());
-		} catch (Exception e) {
-			throw new RuntimeException(e);
-		}
+		// hashed by the pass that stores it
+		return DigestingContentSource.resourceOf(file::getInputStream, file.getSize(), file.getContentType(), file.getOriginalFilename());
 	}
 }
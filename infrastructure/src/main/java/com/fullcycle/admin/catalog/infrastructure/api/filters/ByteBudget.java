@@ -0,0 +1,60 @@
+package com.fullcycle.admin.catalog.infrastructure.api.filters;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// a semaphore counted in bytes, whose permits don't fit an int
+class ByteBudget {
+
+	private final long capacity;
+	private long used;
+	private int waiting;
+
+	ByteBudget(final long capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Budget must be positive");
+		}
+		this.capacity = capacity;
+	}
+
+	// false when the bytes weren't released in time or exceed the whole budget
+	synchronized boolean tryAcquire(final long bytes, final Duration maxWait) throws InterruptedException {
+		if (bytes > capacity) {
+			return false;
+		}
+
+		final var deadline = System.nanoTime() + maxWait.toNanos();
+		waiting++;
+		try {
+			while (used + bytes > capacity) {
+				final var remaining = deadline - System.nanoTime();
+				if (remaining <= 0) {
+					return false;
+				}
+				TimeUnit.NANOSECONDS.timedWait(this, remaining);
+			}
+
+			used += bytes;
+			return true;
+		} finally {
+			waiting--;
+		}
+	}
+
+	synchronized void release(final long bytes) {
+		used -= bytes;
+		notifyAll();
+	}
+
+	long capacity() {
+		return capacity;
+	}
+
+	synchronized long used() {
+		return used;
+	}
+
+	synchronized int waiting() {
+		return waiting;
+	}
+}
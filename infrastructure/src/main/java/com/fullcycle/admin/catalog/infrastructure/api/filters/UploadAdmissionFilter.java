@@ -0,0 +1,90 @@
+package com.fullcycle.admin.catalog.infrastructure.api.filters;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+
+public class UploadAdmissionFilter extends OncePerRequestFilter {
+
+	private static final Logger log = LoggerFactory.getLogger(UploadAdmissionFilter.class);
+
+	private final ByteBudget budget;
+	private final Duration maxWait;
+	private final Duration retryAfter;
+
+	private final Counter admitted;
+	private final Counter rejected;
+
+	public UploadAdmissionFilter(final long budget, final Duration maxWait, final Duration retryAfter, final MeterRegistry registry) {
+		this.budget = new ByteBudget(budget);
+		this.maxWait = maxWait;
+		this.retryAfter = retryAfter;
+
+		this.admitted = Counter.builder("upload.admission.requests").tag("result", "admitted").register(registry);
+		this.rejected = Counter.builder("upload.admission.requests").tag("result", "rejected").register(registry);
+		Gauge.builder("upload.admission.budget", this.budget, ByteBudget::capacity).baseUnit("bytes").register(registry);
+		Gauge.builder("upload.admission.in.flight", this.budget, ByteBudget::used).baseUnit("bytes").register(registry);
+		Gauge.builder("upload.admission.waiting", this.budget, ByteBudget::waiting).register(registry);
+	}
+
+	@Override
+	protected boolean shouldNotFilter(final HttpServletRequest request) {
+		final var contentType = request.getContentType();
+		return contentType == null || !contentType.toLowerCase(Locale.ROOT).startsWith("multipart/");
+	}
+
+	@Override
+	protected void doFilterInternal(
+	  final HttpServletRequest request,
+	  final HttpServletResponse response,
+	  final FilterChain chain
+	) throws ServletException, IOException {
+		final var length = request.getContentLengthLong();
+
+		// a streamed body can't be reserved up front
+		if (length < 0) {
+			rejected.increment();
+			response.sendError(HttpServletResponse.SC_LENGTH_REQUIRED, "Uploads must declare their Content-Length");
+			return;
+		}
+
+		// an upload larger than the whole budget waits for every other one instead of being refused
+		final var reserved = Math.min(length, budget.capacity());
+
+		if (!acquire(reserved)) {
+			rejected.increment();
+			log.warn("[message:upload.admission] [status:rejected] [bytes:{}] [inFlight:{}]", length, budget.used());
+			response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfter.toSeconds())));
+			response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Upload budget exhausted");
+			return;
+		}
+
+		admitted.increment();
+		try {
+			chain.doFilter(request, response);
+		} finally {
+			budget.release(reserved);
+		}
+	}
+
+	private boolean acquire(final long length) {
+		try {
+			return budget.tryAcquire(length, maxWait);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
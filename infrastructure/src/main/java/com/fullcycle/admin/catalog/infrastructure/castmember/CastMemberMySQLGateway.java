@@ -7,10 +7,10 @@ import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalog.infrastructure.castmember.persistence.CastMemberJpaEntity;
 import com.fullcycle.admin.catalog.infrastructure.castmember.persistence.CastMemberRepository;
+import com.fullcycle.admin.catalog.infrastructure.pagination.PaginationTotals;
+import com.fullcycle.admin.catalog.infrastructure.utils.KeysetUtils;
 import com.fullcycle.admin.catalog.infrastructure.utils.SpecificationUtils;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
@@ -23,6 +23,7 @@ import java.util.stream.StreamSupport;
 public class CastMemberMySQLGateway implements CastMemberGateway {
 
     private final CastMemberRepository castMemberRepository;
+    private final PaginationTotals totals;
 
     @Override
     public CastMember create(CastMember castMember) {
@@ -48,24 +49,21 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
 
     @Override
     public Pagination<CastMember> findAll(SearchQuery query) {
-        final var page = PageRequest.of(
-          query.page(),
-          query.perPage(),
-          Sort.by(Sort.Direction.fromString(query.direction()), query.sort())
-        );
-
         final var where = Optional.ofNullable(query.terms())
           .filter(str -> !str.isBlank())
           .map(this::assembleSpecification)
           .orElse(null);
 
-        final var result = castMemberRepository.findAll(where, page);
-        return new Pagination<>(
-          result.getNumber(),
-          result.getSize(),
-          result.getTotalElements(),
-          result.map(CastMemberJpaEntity::toAggregate).toList()
-        );
+        return KeysetUtils.findAll(
+          castMemberRepository,
+          where,
+          query.page(),
+          query.perPage(),
+          query.sort(),
+          query.direction(),
+          query.cursor(),
+          () -> totals.count(query.total(), "cast_members", where != null ? query.terms() : null, () -> castMemberRepository.count(Specification.where(where)))
+        ).map(CastMemberJpaEntity::toAggregate);
     }
 
     @Override
@@ -21,7 +21,8 @@ import java.util.UUID;
 public class CastMemberJpaEntity {
 
     @Id
-    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "id_bin", nullable = false)
     private UUID id;
 
     @Column(nullable = false)
@@ -7,10 +7,10 @@ import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalog.infrastructure.pagination.PaginationTotals;
+import com.fullcycle.admin.catalog.infrastructure.utils.KeysetUtils;
 import com.fullcycle.admin.catalog.infrastructure.utils.SpecificationUtils;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import org.springframework.stereotype.Service;
@@ -27,6 +27,7 @@ import static com.fullcycle.admin.catalog.infrastructure.utils.SpecificationUtil
 public class CategoryMySQLGateway implements CategoryGateway {
 
     private final CategoryRepository repository;
+    private final PaginationTotals totals;
 
     @Override
     public Category create(final Category category) {
@@ -55,12 +56,6 @@ public class CategoryMySQLGateway implements CategoryGateway {
 
     @Override
     public Pagination<Category> findAll(final SearchQuery query) {
-        final var page = PageRequest.of(
-          query.page(),
-          query.perPage(),
-          Sort.by(Sort.Direction.fromString(query.direction()), query.sort())
-        );
-
        final var specification = Optional.ofNullable(query.terms())
           .filter(term -> !term.isBlank())
           .map(term -> SpecificationUtils.<CategoryJpaEntity>like("name", term)
@@ -68,14 +63,16 @@ public class CategoryMySQLGateway implements CategoryGateway {
           )
           .orElse(null);
 
-       final var pageResult = repository.findAll(Specification.where(specification), page);
-
-        return new Pagination<>(
-          pageResult.getNumber(),
-          pageResult.getSize(),
-          pageResult.getTotalElements(),
-          pageResult.map(CategoryJpaEntity::toAggregate).toList()
-        );
+        return KeysetUtils.findAll(
+          repository,
+          specification,
+          query.page(),
+          query.perPage(),
+          query.sort(),
+          query.direction(),
+          query.cursor(),
+          () -> totals.count(query.total(), "categories", specification != null ? query.terms() : null, () -> repository.count(Specification.where(specification)))
+        ).map(CategoryJpaEntity::toAggregate);
     }
 
     @Override
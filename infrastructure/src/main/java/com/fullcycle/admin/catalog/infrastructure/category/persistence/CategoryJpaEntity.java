@@ -24,7 +24,8 @@ import java.util.UUID;
 public class CategoryJpaEntity {
 
     @Id
-    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "id_bin", nullable = false)
     private UUID id;
 
     @Column(nullable = false)
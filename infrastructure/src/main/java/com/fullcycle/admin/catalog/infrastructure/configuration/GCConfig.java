@@ -19,7 +19,7 @@ import java.io.IOException;
 import java.util.Base64;
 
 @Configuration
-@Profile({"development", "production"})
+@Profile({"development & !edge", "production & !edge"})
 public class GCConfig {
 
 	@Bean
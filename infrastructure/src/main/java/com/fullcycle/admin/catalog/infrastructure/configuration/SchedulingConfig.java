@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {}
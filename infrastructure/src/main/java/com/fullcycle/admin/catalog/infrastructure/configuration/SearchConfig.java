@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration;
+
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.search.SearchTotalProperties;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.search.VideoSearchProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SearchConfig {
+
+	@Bean
+	@ConfigurationProperties(value = "search.videos")
+	public VideoSearchProperties videoSearchProperties() {
+		return new VideoSearchProperties();
+	}
+
+	@Bean
+	@ConfigurationProperties(value = "search.totals")
+	public SearchTotalProperties searchTotalProperties() {
+		return new SearchTotalProperties();
+	}
+}
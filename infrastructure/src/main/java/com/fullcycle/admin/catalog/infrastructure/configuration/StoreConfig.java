@@ -1,29 +1,125 @@
 package com.fullcycle.admin.catalog.infrastructure.configuration;
 
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.FileSystemStorageProperties;
 import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.GCStorageProperties;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.ImageCacheProperties;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.ImageVariantProperties;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.InMemoryStorageProperties;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.MediaCleanupProperties;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.MediaIngestionProperties;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.MediaReconciliationProperties;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.MediaRekeyProperties;
 import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.StorageProperties;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.StorageTierProperties;
 import com.fullcycle.admin.catalog.infrastructure.service.StorageService;
+import com.fullcycle.admin.catalog.infrastructure.service.impl.FileSystemStorageService;
 import com.fullcycle.admin.catalog.infrastructure.service.impl.GCStorageService;
+import com.fullcycle.admin.catalog.infrastructure.service.impl.TieredStorageService;
 import com.fullcycle.admin.catalog.infrastructure.service.local.InMemoryStorageService;
 import com.google.cloud.storage.Storage;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 
+import java.nio.file.Path;
+
 @Configuration
 public class StoreConfig {
 
 	@Bean(name = "storageService")
-	@Profile({"development", "production"})
-	public StorageService gcStorageService(final GCStorageProperties properties, final Storage storage) {
-		return new GCStorageService(properties.getBucket(), storage);
+	@Profile({"development & !edge", "production & !edge"})
+	public StorageService gcStorageService(
+	  final GCStorageProperties properties,
+	  final StorageTierProperties tier,
+	  final Storage storage,
+	  final MeterRegistry registry
+	) {
+		final var gcStorage = new GCStorageService(
+		  properties.getBucket(),
+		  storage,
+		  properties.getCompositeThreshold(),
+		  properties.getCompositePartSize(),
+		  properties.getCompositeParallelism()
+		);
+
+		if (!tier.isEnabled()) {
+			return gcStorage;
+		}
+
+		// a write-back copy is the only one until it is uploaded, so it must reach the disk first
+		final var localStorage = new FileSystemStorageService(Path.of(tier.getRoot()), tier.getMmapThreshold(), tier.isWriteBack());
+		return new TieredStorageService(gcStorage, localStorage, tier.getMaxSize(), tier.getMaxObjectSize(), tier.isWriteBack(), registry);
+	}
+
+	@Bean(name = "storageService")
+	@Profile("edge")
+	public StorageService fileSystemStorageService(final FileSystemStorageProperties properties) {
+		return new FileSystemStorageService(Path.of(properties.getRoot()), properties.getMmapThreshold());
 	}
 
 	@Bean(name = "storageService")
 	@Profile({"test", "test-integration", "test-e2e"})
-	public StorageService inMemoryStorageService() {
-		return new InMemoryStorageService();
+	public StorageService inMemoryStorageService(final InMemoryStorageProperties properties) {
+		return new InMemoryStorageService(properties.isOffHeap());
+	}
+
+	@Bean
+	@Profile("edge")
+	@ConfigurationProperties(value = "storage.catalog-video.file-system")
+	public FileSystemStorageProperties fileSystemStorageProperties() {
+		return new FileSystemStorageProperties();
+	}
+
+	@Bean
+	@Profile({"test", "test-integration", "test-e2e"})
+	@ConfigurationProperties(value = "storage.catalog-video.in-memory")
+	public InMemoryStorageProperties inMemoryStorageProperties() {
+		return new InMemoryStorageProperties();
+	}
+
+	@Bean
+	@Profile({"development & !edge", "production & !edge"})
+	@ConfigurationProperties(value = "storage.catalog-video.local-tier")
+	public StorageTierProperties storageTierProperties() {
+		return new StorageTierProperties();
+	}
+
+	@Bean
+	@ConfigurationProperties(value = "storage.catalog-video.image-cache")
+	public ImageCacheProperties imageCacheProperties() {
+		return new ImageCacheProperties();
+	}
+
+	@Bean
+	@ConfigurationProperties(value = "storage.catalog-video.image-variants")
+	public ImageVariantProperties imageVariantProperties() {
+		return new ImageVariantProperties();
+	}
+
+	@Bean
+	@ConfigurationProperties(value = "storage.catalog-video.cleanup")
+	public MediaCleanupProperties mediaCleanupProperties() {
+		return new MediaCleanupProperties();
+	}
+
+	@Bean
+	@ConfigurationProperties(value = "storage.catalog-video.ingestion")
+	public MediaIngestionProperties mediaIngestionProperties() {
+		return new MediaIngestionProperties();
+	}
+
+	@Bean
+	@ConfigurationProperties(value = "storage.catalog-video.reconciliation")
+	public MediaReconciliationProperties mediaReconciliationProperties() {
+		return new MediaReconciliationProperties();
+	}
+
+	@Bean
+	@ConfigurationProperties(value = "storage.catalog-video.rekey")
+	public MediaRekeyProperties mediaRekeyProperties() {
+		return new MediaRekeyProperties();
 	}
 
 	@Bean
@@ -0,0 +1,32 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration;
+
+import com.fullcycle.admin.catalog.infrastructure.api.filters.UploadAdmissionFilter;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.web.UploadAdmissionProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class UploadAdmissionConfig {
+
+	@Bean
+	@ConfigurationProperties(value = "upload.admission")
+	public UploadAdmissionProperties uploadAdmissionProperties() {
+		return new UploadAdmissionProperties();
+	}
+
+	// runs after the security filters, so an anonymous request never holds a reservation
+	@Bean
+	public FilterRegistrationBean<UploadAdmissionFilter> uploadAdmissionFilter(
+	  final UploadAdmissionProperties properties,
+	  final MeterRegistry registry
+	) {
+		final var filter = new UploadAdmissionFilter(properties.getBudget(), properties.getMaxWait(), properties.getRetryAfter(), registry);
+		final var registration = new FilterRegistrationBean<>(filter);
+		registration.addUrlPatterns("/videos", "/videos/*");
+		registration.setEnabled(properties.isEnabled());
+		return registration;
+	}
+}
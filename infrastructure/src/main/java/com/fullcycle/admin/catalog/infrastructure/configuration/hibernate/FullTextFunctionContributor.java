@@ -0,0 +1,18 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.hibernate;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+// match_against(column, column, expression) in boolean mode, over the columns of a FULLTEXT index in its order
+public class FullTextFunctionContributor implements FunctionContributor {
+
+	@Override
+	public void contributeFunctions(final FunctionContributions contributions) {
+		contributions.getFunctionRegistry().registerPattern(
+		  "match_against",
+		  "match (?1, ?2) against (?3 in boolean mode)",
+		  contributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE)
+		);
+	}
+}
@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.properties.search;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Duration;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class SearchTotalProperties {
+
+	private Duration ttl;
+	private long maximumSize;
+	private boolean tableStatistics;
+}
@@ -0,0 +1,13 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.properties.search;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class VideoSearchProperties {
+
+	private boolean fullText;
+}
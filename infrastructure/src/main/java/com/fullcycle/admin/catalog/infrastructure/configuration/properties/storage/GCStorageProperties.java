@@ -18,6 +18,9 @@ public class GCStorageProperties implements InitializingBean {
 	private int retryMaxDelay;
 	private int retryMaxAttempts;
 	private double retryMultiplier;
+	private long compositeThreshold;
+	private long compositePartSize;
+	private int compositeParallelism;
 
 	@Override
 	public void afterPropertiesSet() throws Exception {
@@ -34,6 +37,9 @@ public class GCStorageProperties implements InitializingBean {
 		  ", retryMaxDelay=" + retryMaxDelay +
 		  ", retryMaxAttempts=" + retryMaxAttempts +
 		  ", retryMultiplier=" + retryMultiplier +
+		  ", compositeThreshold=" + compositeThreshold +
+		  ", compositePartSize=" + compositePartSize +
+		  ", compositeParallelism=" + compositeParallelism +
 		  '}';
 	}
 }
@@ -0,0 +1,20 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class ImageVariantProperties {
+
+	private boolean enabled;
+	private List<Integer> widths;
+	private float quality;
+	private long maxPixels;
+	private int parallelism;
+	private int queueCapacity;
+}
@@ -0,0 +1,13 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class InMemoryStorageProperties {
+
+	private boolean offHeap;
+}
@@ -0,0 +1,20 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Duration;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class MediaCleanupProperties {
+
+	private boolean enabled;
+	private Duration interval;
+	private int batchSize;
+	private int deleteBatchSize;
+	private Duration retryDelay;
+	private Duration maxRetryDelay;
+}
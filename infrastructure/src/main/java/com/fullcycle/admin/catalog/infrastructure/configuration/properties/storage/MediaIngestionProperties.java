@@ -0,0 +1,19 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Duration;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class MediaIngestionProperties {
+
+	private String spoolDir;
+	private int parallelism;
+	private Duration staleAfter;
+	private Duration heartbeat;
+	private int maxPending;
+}
@@ -0,0 +1,21 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Duration;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class MediaReconciliationProperties {
+
+	private boolean enabled;
+	private Duration interval;
+	private Duration grace;
+	private Duration lease;
+	private int parallelism;
+	private int pageSize;
+	private double requestsPerSecond;
+}
@@ -0,0 +1,18 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Duration;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class MediaRekeyProperties {
+
+	private boolean enabled;
+	private int parallelism;
+	private int pageSize;
+	private Duration lease;
+}
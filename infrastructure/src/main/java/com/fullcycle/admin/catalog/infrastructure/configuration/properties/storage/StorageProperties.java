@@ -4,6 +4,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.Duration;
+
 @NoArgsConstructor
 @Getter
 @Setter
@@ -11,4 +13,14 @@ public class StorageProperties {
 
 	private String locationPattern;
 	private String filenamePattern;
+	private String namingStrategy;
+	private String previousNamingStrategy;
+	private int shardWidth;
+	private String uploadLocationPattern;
+	private Duration uploadSessionTtl;
+	private int uploadParallelism;
+	private boolean contentAddressed;
+	private String contentLocationPattern;
+	private Duration signedUrlTtl;
+	private Duration signedUploadTtl;
 }
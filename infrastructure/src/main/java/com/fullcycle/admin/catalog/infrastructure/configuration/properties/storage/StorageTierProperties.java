@@ -0,0 +1,18 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class StorageTierProperties {
+
+	private boolean enabled;
+	private String root;
+	private long maxSize;
+	private long maxObjectSize;
+	private long mmapThreshold;
+	private boolean writeBack;
+}
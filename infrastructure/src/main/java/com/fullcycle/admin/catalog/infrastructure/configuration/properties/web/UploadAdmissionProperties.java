@@ -0,0 +1,18 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.properties.web;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Duration;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class UploadAdmissionProperties {
+
+	private boolean enabled;
+	private long budget;
+	private Duration maxWait;
+	private Duration retryAfter;
+}
@@ -4,7 +4,11 @@ import com.fullcycle.admin.catalog.application.video.create.CreateVideoUseCase;
 import com.fullcycle.admin.catalog.application.video.create.DefaultCreateVideoUseCase;
 import com.fullcycle.admin.catalog.application.video.delete.DefaultDeleteVideoUseCase;
 import com.fullcycle.admin.catalog.application.video.delete.DeleteVideoUseCase;
+import com.fullcycle.admin.catalog.application.video.media.get.DefaultGetMediaMetadataUseCase;
+import com.fullcycle.admin.catalog.application.video.media.get.DefaultGetMediaUrlUseCase;
 import com.fullcycle.admin.catalog.application.video.media.get.DefaultGetMediaUseCase;
+import com.fullcycle.admin.catalog.application.video.media.get.GetMediaMetadataUseCase;
+import com.fullcycle.admin.catalog.application.video.media.get.GetMediaUrlUseCase;
 import com.fullcycle.admin.catalog.application.video.media.get.GetMediaUseCase;
 import com.fullcycle.admin.catalog.application.video.media.update.DefaultUpdateMediaStatusUseCase;
 import com.fullcycle.admin.catalog.application.video.media.update.UpdateMediaStatusUseCase;
@@ -21,10 +25,19 @@ import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalog.domain.video.MediaResourceGateway;
 import com.fullcycle.admin.catalog.domain.video.VideoGateway;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.StorageProperties;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 @RequiredArgsConstructor
 @Configuration
 public class VideoUseCaseConfig {
@@ -34,6 +47,31 @@ public class VideoUseCaseConfig {
 	private final CastMemberGateway castMemberGateway;
 	private final GenreGateway genreGateway;
 	private final MediaResourceGateway mediaResourceGateway;
+	private final StorageProperties storageProperties;
+
+	// not exposed as a bean, an Executor bean would replace Spring's applicationTaskExecutor
+	private ExecutorService mediaExecutor;
+
+	@PostConstruct
+	void startMediaExecutor() {
+		final var threads = storageProperties.getUploadParallelism();
+		final var executor = new ThreadPoolExecutor(
+		  threads,
+		  threads,
+		  60,
+		  TimeUnit.SECONDS,
+		  new ArrayBlockingQueue<>(threads * 4),
+		  new ThreadFactoryBuilder().setNameFormat("media-upload-%d").setDaemon(true).build(),
+		  new ThreadPoolExecutor.CallerRunsPolicy()
+		);
+		executor.allowCoreThreadTimeOut(true);
+		mediaExecutor = executor;
+	}
+
+	@PreDestroy
+	void stopMediaExecutor() {
+		mediaExecutor.shutdown();
+	}
 
 	@Bean
 	public UpdateMediaStatusUseCase updateMediaStatusUseCase() {
@@ -47,12 +85,12 @@ public class VideoUseCaseConfig {
 
 	@Bean
 	public CreateVideoUseCase createVideoUseCase() {
-		return new DefaultCreateVideoUseCase(videoGateway, genreGateway, categoryGateway, castMemberGateway, mediaResourceGateway);
+		return new DefaultCreateVideoUseCase(videoGateway, genreGateway, categoryGateway, castMemberGateway, mediaResourceGateway, mediaExecutor);
 	}
 
 	@Bean
 	public UpdateVideoUseCase updateVideoUseCase() {
-		return new DefaultUpdateVideoUseCase(videoGateway, categoryGateway, genreGateway, castMemberGateway, mediaResourceGateway);
+		return new DefaultUpdateVideoUseCase(videoGateway, categoryGateway, genreGateway, castMemberGateway, mediaResourceGateway, mediaExecutor);
 	}
 
 	@Bean
@@ -62,7 +100,17 @@ public class VideoUseCaseConfig {
 
 	@Bean
 	public GetMediaUseCase getMediaUseCase() {
-		return new DefaultGetMediaUseCase(mediaResourceGateway);
+		return new DefaultGetMediaUseCase(mediaResourceGateway, videoGateway);
+	}
+
+	@Bean
+	public GetMediaMetadataUseCase getMediaMetadataUseCase() {
+		return new DefaultGetMediaMetadataUseCase(videoGateway);
+	}
+
+	@Bean
+	public GetMediaUrlUseCase getMediaUrlUseCase() {
+		return new DefaultGetMediaUrlUseCase(mediaResourceGateway);
 	}
 
 	@Bean
@@ -8,10 +8,10 @@ import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalog.infrastructure.genre.persistence.GenreJpaEntity;
 import com.fullcycle.admin.catalog.infrastructure.genre.persistence.GenreRepository;
+import com.fullcycle.admin.catalog.infrastructure.pagination.PaginationTotals;
+import com.fullcycle.admin.catalog.infrastructure.utils.KeysetUtils;
 import com.fullcycle.admin.catalog.infrastructure.utils.SpecificationUtils;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
@@ -24,6 +24,7 @@ import java.util.stream.StreamSupport;
 public class GenreMySQLGateway implements GenreGateway {
 
     private final GenreRepository genreRepository;
+    private final PaginationTotals totals;
 
     @Override
     public Genre create(final Genre genre) {
@@ -42,25 +43,21 @@ public class GenreMySQLGateway implements GenreGateway {
 
     @Override
     public Pagination<Genre> finalAll(final SearchQuery query) {
-        final var page = PageRequest.of(
-          query.page(),
-          query.perPage(),
-          Sort.by(Sort.Direction.fromString(query.direction()), query.sort())
-        );
-
         final var where = Optional.ofNullable(query.terms())
           .filter(str -> !str.isBlank())
           .map(this::assembleSpecification)
           .orElse(null);
 
-        final var results = genreRepository.findAll(Specification.where(where), page);
-
-        return new Pagination<>(
-          results.getNumber(),
-          results.getSize(),
-          results.getTotalElements(),
-          results.map(GenreJpaEntity::toAggregate).toList()
-        );
+        return KeysetUtils.findAll(
+          genreRepository,
+          where,
+          query.page(),
+          query.perPage(),
+          query.sort(),
+          query.direction(),
+          query.cursor(),
+          () -> totals.count(query.total(), "genres", where != null ? query.terms() : null, () -> genreRepository.count(Specification.where(where)))
+        ).map(GenreJpaEntity::toAggregate);
     }
 
     @Override
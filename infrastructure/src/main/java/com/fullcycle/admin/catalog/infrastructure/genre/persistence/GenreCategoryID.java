@@ -23,12 +23,12 @@ public class GenreCategoryID implements Serializable {
     @Serial
     private static final long serialVersionUID = 1L;
 
-    @JdbcTypeCode(SqlTypes.VARCHAR)
-    @Column(name = "genre_id", nullable = false)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "genre_id_bin", nullable = false)
     private UUID genreId;
 
-    @JdbcTypeCode(SqlTypes.VARCHAR)
-    @Column(name = "category_id", nullable = false)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "category_id_bin", nullable = false)
     private UUID categoryId;
 
     public static GenreCategoryID from(final UUID genreId, final UUID categoryId) {
@@ -24,8 +24,8 @@ import static jakarta.persistence.FetchType.EAGER;
 public class GenreJpaEntity {
 
     @Id
-    @JdbcTypeCode(SqlTypes.VARCHAR)
-    @Column(nullable = false)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "id_bin", nullable = false)
     private UUID id;
 
     @Column(nullable = false)
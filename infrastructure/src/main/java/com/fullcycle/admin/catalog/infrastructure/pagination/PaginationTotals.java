@@ -0,0 +1,70 @@
+package com.fullcycle.admin.catalog.infrastructure.pagination;
+
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.pagination.TotalMode;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.search.SearchTotalProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.function.LongSupplier;
+
+@Component
+public class PaginationTotals {
+
+	private static final Logger log = LoggerFactory.getLogger(PaginationTotals.class);
+
+	private final Cache<String, Long> cache;
+	private final EntityManager entityManager;
+	private final boolean tableStatistics;
+
+	public PaginationTotals(final SearchTotalProperties props, final EntityManager entityManager) {
+		this.entityManager = entityManager;
+		this.tableStatistics = props.isTableStatistics();
+		this.cache = Caffeine.newBuilder()
+		  .expireAfterWrite(props.getTtl())
+		  .maximumSize(props.getMaximumSize())
+		  .build();
+	}
+
+	// filters are null for an unfiltered listing
+	public long count(final TotalMode mode, final String table, final Object filters, final LongSupplier exact) {
+		return switch (mode == null ? TotalMode.EXACT : mode) {
+			case NONE -> Pagination.UNKNOWN_TOTAL;
+			case EXACT -> exact.getAsLong();
+			case ESTIMATE -> cache.get(table + ":" + Objects.toString(filters, ""), key ->
+			  filters == null && tableStatistics ? statisticsOf(table, exact) : exact.getAsLong()
+			);
+		};
+	}
+
+	// empty unless the page is the last one, an empty page past the end tells nothing
+	public static OptionalLong ofLastPage(final int page, final int perPage, final int size, final boolean hasNext) {
+		return !hasNext && (page == 0 || size > 0)
+		  ? OptionalLong.of((long) page * perPage + size)
+		  : OptionalLong.empty();
+	}
+
+	private long statisticsOf(final String table, final LongSupplier exact) {
+		try {
+			final var rows = (Number) entityManager.createNativeQuery("""
+				SELECT TABLE_ROWS FROM information_schema.TABLES
+				WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?1
+			""")
+			  .setParameter(1, table)
+			  .getSingleResult();
+
+			if (rows != null) {
+				return rows.longValue();
+			}
+		} catch (RuntimeException e) {
+			log.warn("Could not read the statistics of table {}, counting it", table, e);
+		}
+		return exact.getAsLong();
+	}
+}
@@ -1,10 +1,14 @@
 package com.fullcycle.admin.catalog.infrastructure.service;
 
 import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.resource.SignedUrl;
+import com.google.common.collect.Lists;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface StorageService {
 
@@ -12,4 +16,15 @@ public interface StorageService {
 	void deleteAll(Collection<String> names);
 	List<String> list(String prefix);
 	Optional<Resource> get(String name);
+
+	// storages that list remotely fetch each page only once the previous one was consumed
+	default void listPages(String prefix, int pageSize, Consumer<List<String>> consumer) {
+		Lists.partition(list(prefix), pageSize).forEach(consumer);
+	}
+
+	// empty when the object doesn't exist or the storage can't sign URLs
+	Optional<SignedUrl> signedUrl(String name, Duration ttl);
+
+	// empty when the storage can't sign URLs
+	Optional<SignedUrl> signedUploadUrl(String name, String contentType, Duration ttl);
 }
@@ -0,0 +1,207 @@
+package com.fullcycle.admin.catalog.infrastructure.service.impl;
+
+import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.infrastructure.utils.ChecksumInputStream;
+import com.fullcycle.admin.catalog.infrastructure.utils.ChecksumUtils;
+import com.fullcycle.admin.catalog.infrastructure.utils.DigestingContentSource;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import com.google.common.io.ByteStreams;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+class CompositeUploader {
+
+	// GCS limit of source objects per compose request
+	static final int MAX_COMPOSE_SOURCES = 32;
+
+	// memory a part in flight takes, the upload client buffers one chunk at a time
+	private static final int PART_CHUNK_SIZE = 2 * 1024 * 1024;
+
+	private final String bucket;
+	private final Storage storage;
+	private final long partSize;
+	private final int parallelism;
+	private final ExecutorService executor;
+
+	CompositeUploader(final String bucket, final Storage storage, final long partSize, final int parallelism, final ExecutorService executor) {
+		this.bucket = bucket;
+		this.storage = storage;
+		this.partSize = partSize;
+		this.parallelism = parallelism;
+		this.executor = executor;
+	}
+
+	void upload(final BlobInfo target, final Resource resource) {
+		final var prefix = target.getName() + ".parts-" + UUID.randomUUID() + "/";
+		final var temporary = new ArrayList<BlobId>();
+
+		// content hashed while it is stored has no checksum yet, the parts tell what was read
+		final var digesting = resource.source() instanceof DigestingContentSource source && !source.isDigested() ? source : null;
+
+		try {
+			final var parts = uploadParts(prefix, resource, temporary);
+			final var expected = digesting != null ? parts.checksum() : resource.checksum();
+
+			if (!ChecksumUtils.matches(expected, parts.checksum())) {
+				throw new IllegalStateException("Checksum mismatch for %s: expected %s but read %s".formatted(resource.name(), expected, parts.checksum()));
+			}
+
+			final var composed = compose(prefix, parts.ids(), target, temporary);
+
+			if (!ChecksumUtils.matches(expected, composed.getCrc32cToHexString())) {
+				storage.delete(composed.getBlobId());
+				throw new IllegalStateException("Checksum mismatch for %s: expected %s but composed %s".formatted(target.getName(), expected, composed.getCrc32cToHexString()));
+			}
+
+			if (digesting != null) {
+				digesting.digested(parts.checksum());
+			}
+		} finally {
+			if (!temporary.isEmpty()) {
+				storage.delete(temporary);
+			}
+		}
+	}
+
+	private Parts uploadParts(final String prefix, final Resource resource, final List<BlobId> temporary) {
+		final var permits = new Semaphore(parallelism);
+		final var uploads = new ArrayList<Future<String>>();
+		final var parts = new ArrayList<BlobId>();
+		final var size = resource.size();
+
+		try {
+			for (var position = 0L; position < size; position += partSize) {
+				final var partId = BlobId.of(bucket, prefix + "%05d".formatted(parts.size()));
+				final var partInfo = BlobInfo.newBuilder(partId).build();
+				final var start = position;
+				final var length = Math.min(partSize, size - position);
+
+				parts.add(partId);
+				temporary.add(partId);
+
+				permits.acquire();
+				uploads.add(executor.submit(() -> {
+					try {
+						return uploadPart(partInfo, resource, start, length);
+					} finally {
+						permits.release();
+					}
+				}));
+
+				failFast(uploads);
+			}
+
+			String checksum = null;
+			for (var i = 0; i < uploads.size(); i++) {
+				final var partChecksum = uploads.get(i).get();
+				final var length = Math.min(partSize, size - i * partSize);
+				checksum = checksum == null ? partChecksum : ChecksumUtils.combine(checksum, partChecksum, length);
+			}
+
+			return new Parts(parts, checksum);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			awaitQuietly(uploads);
+			throw new IllegalStateException("Interrupted while uploading parts of " + prefix, e);
+		} catch (ExecutionException e) {
+			awaitQuietly(uploads);
+			throw rethrow(e.getCause());
+		} catch (RuntimeException e) {
+			awaitQuietly(uploads);
+			throw e;
+		}
+	}
+
+	private String uploadPart(final BlobInfo partInfo, final Resource resource, final long position, final long length) {
+		try (final var stream = new ChecksumInputStream(ByteStreams.limit(resource.source().openStream(position), length))) {
+			final var blob = storage.createFrom(partInfo, stream, PART_CHUNK_SIZE, Storage.BlobWriteOption.doesNotExist());
+
+			if (stream.count() != length) {
+				throw new IllegalStateException("Part %s of %s ended after %d of %d bytes".formatted(partInfo.getName(), resource.name(), stream.count(), length));
+			}
+			if (!ChecksumUtils.matches(stream.crc32c(), blob.getCrc32cToHexString())) {
+				throw new IllegalStateException("Checksum mismatch for %s: read %s but stored %s".formatted(partInfo.getName(), stream.crc32c(), blob.getCrc32cToHexString()));
+			}
+
+			return stream.crc32c();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private BlobInfo compose(final String prefix, final List<BlobId> parts, final BlobInfo target, final List<BlobId> temporary) {
+		var sources = parts;
+		var level = 0;
+
+		// more parts than a single compose accepts are composed in rounds of intermediates
+		while (sources.size() > MAX_COMPOSE_SOURCES) {
+			final var next = new ArrayList<BlobId>();
+			for (var i = 0; i < sources.size(); i += MAX_COMPOSE_SOURCES) {
+				final var intermediate = BlobId.of(bucket, prefix + "compose-%d-%05d".formatted(level, next.size()));
+				temporary.add(intermediate);
+				storage.compose(composeRequest(sources.subList(i, Math.min(i + MAX_COMPOSE_SOURCES, sources.size())), BlobInfo.newBuilder(intermediate).build()));
+				next.add(intermediate);
+			}
+			sources = next;
+			level++;
+		}
+
+		final var targetInfo = BlobInfo.newBuilder(target.getBlobId()).setContentType(target.getContentType()).build();
+		return storage.compose(composeRequest(sources, targetInfo));
+	}
+
+	private Storage.ComposeRequest composeRequest(final List<BlobId> sources, final BlobInfo target) {
+		return Storage.ComposeRequest.newBuilder()
+		  .addSource(sources.stream().map(BlobId::getName).toList())
+		  .setTarget(target)
+		  .build();
+	}
+
+	private void failFast(final List<? extends Future<?>> uploads) throws ExecutionException, InterruptedException {
+		for (final var upload : uploads) {
+			if (upload.isDone()) {
+				upload.get();
+			}
+		}
+	}
+
+	// lets the parts in flight settle, so none is created after the clean up deleted them
+	private void awaitQuietly(final List<? extends Future<?>> uploads) {
+		var interrupted = Thread.interrupted();
+		for (final var upload : uploads) {
+			while (true) {
+				try {
+					upload.get();
+					break;
+				} catch (InterruptedException e) {
+					interrupted = true;
+				} catch (ExecutionException | CancellationException e) {
+					break;
+				}
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private RuntimeException rethrow(final Throwable t) {
+		if (t instanceof RuntimeException e) {
+			return e;
+		}
+		if (t instanceof Error e) {
+			throw e;
+		}
+		return new IllegalStateException(t);
+	}
+
+	private record Parts(List<BlobId> ids, String checksum) {
+	}
+}
@@ -0,0 +1,299 @@
+package com.fullcycle.admin.catalog.infrastructure.service.impl;
+
+import com.fullcycle.admin.catalog.domain.resource.ContentSource;
+import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.resource.SignedUrl;
+import com.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalog.infrastructure.service.StorageService;
+import com.fullcycle.admin.catalog.infrastructure.utils.ByteBufferInputStream;
+import com.fullcycle.admin.catalog.infrastructure.utils.ChecksumInputStream;
+import com.fullcycle.admin.catalog.infrastructure.utils.ChecksumUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static java.nio.file.StandardOpenOption.*;
+
+public class FileSystemStorageService implements StorageService {
+
+	private static final long TRANSFER_CHUNK_SIZE = 8 * 1024 * 1024;
+
+	private final Path data;
+	private final Path meta;
+	private final Path tmp;
+	private final long mmapThreshold;
+	private final boolean sync;
+
+	public FileSystemStorageService(final Path root, final long mmapThreshold) {
+		this(root, mmapThreshold, false);
+	}
+
+	public FileSystemStorageService(final Path root, final long mmapThreshold, final boolean sync) {
+		final var normalized = root.toAbsolutePath().normalize();
+		this.data = normalized.resolve("data");
+		this.meta = normalized.resolve("meta");
+		this.tmp = normalized.resolve("tmp");
+		this.mmapThreshold = mmapThreshold;
+		this.sync = sync;
+	}
+
+	@Override
+	public void store(String name, Resource resource) {
+		final var target = resolve(data, name);
+
+		try {
+			Files.createDirectories(tmp);
+			final var content = tmp.resolve(UUID.randomUUID().toString());
+			final var sidecar = tmp.resolve(UUID.randomUUID().toString());
+
+			try {
+				final var metadata = write(content, resource);
+				Files.writeString(sidecar, Json.writeValueAsString(metadata), StandardCharsets.UTF_8);
+				if (sync) {
+					force(sidecar);
+				}
+
+				Files.createDirectories(target.getParent());
+				Files.move(content, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+				final var metaTarget = resolve(meta, name);
+				Files.createDirectories(metaTarget.getParent());
+				Files.move(sidecar, metaTarget, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			} finally {
+				Files.deleteIfExists(content);
+				Files.deleteIfExists(sidecar);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public void deleteAll(Collection<String> names) {
+		try {
+			for (final var name : names) {
+				delete(data, resolve(data, name));
+				delete(meta, resolve(meta, name));
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public List<String> list(String prefix) {
+		if (prefix == null) {
+			return Collections.emptyList();
+		}
+
+		final var separator = prefix.lastIndexOf('/');
+		final var directory = separator <= 0 ? data : resolve(data, prefix.substring(0, separator));
+
+		if (!Files.isDirectory(directory)) {
+			return Collections.emptyList();
+		}
+
+		try (final var files = Files.walk(directory)) {
+			return files
+			  .filter(Files::isRegularFile)
+			  .map(path -> data.relativize(path).toString().replace(path.getFileSystem().getSeparator(), "/"))
+			  .filter(name -> name.startsWith(prefix))
+			  .toList();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public Optional<Resource> get(String name) {
+		final var content = resolve(data, name);
+		final var sidecar = resolve(meta, name);
+
+		if (!Files.isRegularFile(content) || !Files.isRegularFile(sidecar)) {
+			return Optional.empty();
+		}
+
+		try {
+			final var metadata = Json.readValue(Files.readString(sidecar, StandardCharsets.UTF_8), Metadata.class);
+			final var size = Files.size(content);
+			return Optional.of(Resource.with(metadata.checksum(), contentOf(content, size, metadata.checksum()), size, metadata.contentType(), name));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	// served by this node only, there is nothing a client could be redirected to
+	@Override
+	public Optional<SignedUrl> signedUrl(String name, Duration ttl) {
+		return Optional.empty();
+	}
+
+	@Override
+	public Optional<SignedUrl> signedUploadUrl(String name, String contentType, Duration ttl) {
+		return Optional.empty();
+	}
+
+	private Metadata write(final Path path, final Resource resource) throws IOException {
+		try (final var channel = FileChannel.open(path, CREATE_NEW, WRITE);
+		     final var stream = ChecksumInputStream.withSha256(resource.openStream());
+		     final var source = Channels.newChannel(stream)) {
+			long position = 0;
+			long transferred;
+			while ((transferred = channel.transferFrom(source, position, TRANSFER_CHUNK_SIZE)) > 0) {
+				position += transferred;
+			}
+
+			if (!ChecksumUtils.matches(resource.checksum(), stream.crc32c())) {
+				throw new IOException("Checksum mismatch for %s: expected %s but received %s".formatted(resource.name(), resource.checksum(), stream.crc32c()));
+			}
+
+			if (sync) {
+				channel.force(true);
+			}
+
+			return new Metadata(stream.crc32c(), stream.sha256(), resource.contentType());
+		}
+	}
+
+	private void force(final Path path) throws IOException {
+		try (final var channel = FileChannel.open(path, WRITE)) {
+			channel.force(true);
+		}
+	}
+
+	private ContentSource contentOf(final Path path, final long size, final String checksum) {
+		final var mapped = size > 0 && size <= mmapThreshold;
+
+		return new ContentSource() {
+			// channel reads are left unverified, wrapping them would lose the transferTo copy
+			@Override
+			public InputStream openStream() throws IOException {
+				final var stream = openStream(0);
+				return mapped ? ChecksumInputStream.verifying(stream, checksum) : stream;
+			}
+
+			@Override
+			public InputStream openStream(final long position) throws IOException {
+				if (mapped) {
+					try (final var channel = FileChannel.open(path, READ)) {
+						final var start = Math.min(position, channel.size());
+						return new ByteBufferInputStream(channel.map(FileChannel.MapMode.READ_ONLY, start, channel.size() - start));
+					}
+				}
+
+				final var channel = FileChannel.open(path, READ);
+				channel.position(position);
+				return new FileChannelInputStream(channel);
+			}
+		};
+	}
+
+	private void delete(final Path root, final Path path) throws IOException {
+		Files.deleteIfExists(path);
+
+		var parent = path.getParent();
+		while (parent != null && !parent.equals(root) && isEmptyDirectory(parent)) {
+			Files.deleteIfExists(parent);
+			parent = parent.getParent();
+		}
+	}
+
+	private boolean isEmptyDirectory(final Path path) throws IOException {
+		if (!Files.isDirectory(path)) {
+			return false;
+		}
+
+		try (final var entries = Files.list(path)) {
+			return entries.findAny().isEmpty();
+		}
+	}
+
+	private Path resolve(final Path root, final String name) {
+		final var path = root.resolve(name).normalize();
+		if (!path.startsWith(root) || path.equals(root)) {
+			throw new IllegalArgumentException("Invalid storage name: " + name);
+		}
+		return path;
+	}
+
+	record Metadata(String checksum, String sha256, String contentType) {
+	}
+
+	// whole-stream copies go through transferTo, which the kernel can serve without the heap
+	private static class FileChannelInputStream extends InputStream {
+
+		private final FileChannel channel;
+
+		private FileChannelInputStream(final FileChannel channel) {
+			this.channel = channel;
+		}
+
+		@Override
+		public int read() throws IOException {
+			final var buffer = ByteBuffer.allocate(1);
+			return channel.read(buffer) <= 0 ? -1 : buffer.get(0) & 0xFF;
+		}
+
+		@Override
+		public int read(final byte[] b, final int off, final int len) throws IOException {
+			if (len == 0) {
+				return 0;
+			}
+			return channel.read(ByteBuffer.wrap(b, off, len));
+		}
+
+		@Override
+		public long skip(final long n) throws IOException {
+			final var position = channel.position();
+			final var skipped = Math.max(0, Math.min(n, channel.size() - position));
+			channel.position(position + skipped);
+			return skipped;
+		}
+
+		@Override
+		public int available() throws IOException {
+			return (int) Math.min(Integer.MAX_VALUE, channel.size() - channel.position());
+		}
+
+		@Override
+		public long transferTo(final OutputStream out) throws IOException {
+			final var target = Channels.newChannel(out);
+			final var start = channel.position();
+			final var end = channel.size();
+
+			var position = start;
+			while (position < end) {
+				final var transferred = channel.transferTo(position, end - position, target);
+				// the file shrank or the target took nothing, a plain copy ends at the real end
+				if (transferred <= 0) {
+					channel.position(position);
+					return position - start + super.transferTo(out);
+				}
+				position += transferred;
+			}
+
+			channel.position(position);
+			return position - start;
+		}
+
+		@Override
+		public void close() throws IOException {
+			channel.close();
+		}
+	}
+}
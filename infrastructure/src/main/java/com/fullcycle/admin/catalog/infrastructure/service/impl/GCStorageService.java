@@ -1,31 +1,108 @@
 package com.fullcycle.admin.catalog.infrastructure.service.impl;
 
+import com.fullcycle.admin.catalog.domain.resource.ContentSource;
 import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.resource.SignedUrl;
 import com.fullcycle.admin.catalog.infrastructure.service.StorageService;
+import com.fullcycle.admin.catalog.infrastructure.utils.ChecksumInputStream;
 import com.fullcycle.admin.catalog.infrastructure.utils.ChecksumUtils;
+import com.fullcycle.admin.catalog.infrastructure.utils.DigestingContentSource;
+import com.google.api.gax.paging.Page;
+import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.HttpMethod;
 import com.google.cloud.storage.Storage;
-import lombok.RequiredArgsConstructor;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.stream.StreamSupport;
 
-@RequiredArgsConstructor
-public class GCStorageService implements StorageService {
+public class GCStorageService implements StorageService, AutoCloseable {
+
+	private static final int UPLOAD_BUFFER_SIZE = 8 * 1024 * 1024;
 
 	private final String bucket;
 	private final Storage storage;
+	private final long compositeThreshold;
+	private final ExecutorService compositeExecutor;
+	private final CompositeUploader compositeUploader;
+
+	public GCStorageService(final String bucket, final Storage storage) {
+		this(bucket, storage, Long.MAX_VALUE, UPLOAD_BUFFER_SIZE, 1);
+	}
+
+	public GCStorageService(
+	  final String bucket,
+	  final Storage storage,
+	  final long compositeThreshold,
+	  final long compositePartSize,
+	  final int compositeParallelism
+	) {
+		if (compositePartSize <= 0 || compositePartSize > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Composite part size must be between 1 and %d bytes".formatted(Integer.MAX_VALUE));
+		}
+
+		this.bucket = bucket;
+		this.storage = storage;
+		this.compositeThreshold = compositeThreshold;
+		this.compositeExecutor = Executors.newFixedThreadPool(
+		  Math.max(1, compositeParallelism),
+		  new ThreadFactoryBuilder().setNameFormat("gcs-composite-%d").setDaemon(true).build()
+		);
+		this.compositeUploader = new CompositeUploader(bucket, storage, compositePartSize, Math.max(1, compositeParallelism), compositeExecutor);
+	}
 
 	@Override
 	public void store(String name, Resource resource) {
-		final var blobInfo = BlobInfo.newBuilder(bucket, name)
-		  .setContentType(resource.contentType())
-		  .setCrc32cFromHexString(resource.checksum())
-		  .build();
-		storage.create(blobInfo, resource.content());
+		// content hashed while it is uploaded has no checksum to send yet, it is checked against the one GCS computed
+		final var digesting = resource.source() instanceof DigestingContentSource source && !source.isDigested() ? source : null;
+
+		final var builder = BlobInfo.newBuilder(bucket, name).setContentType(resource.contentType());
+		if (digesting == null) {
+			builder.setCrc32cFromHexString(ChecksumUtils.normalize(resource.checksum()));
+		}
+		final var blobInfo = builder.build();
+
+		// an object read from this bucket is rewritten by GCS itself, its bytes never reach us
+		if (resource.source() instanceof BlobContentSource source && source.blobId.getBucket().equals(bucket)) {
+			storage.copy(Storage.CopyRequest.newBuilder().setSource(source.blobId).setTarget(blobInfo).build()).getResult();
+			return;
+		}
+
+		if (resource.size() > compositeThreshold) {
+			compositeUploader.upload(blobInfo, resource);
+			return;
+		}
+
+		// without crc32cMatch the client doesn't send the declared checksum for GCS to check
+		final var options = digesting == null
+		  ? new Storage.BlobWriteOption[] { Storage.BlobWriteOption.crc32cMatch() }
+		  : new Storage.BlobWriteOption[0];
+
+		try (final var stream = resource.openStream()) {
+			final var blob = storage.createFrom(blobInfo, stream, UPLOAD_BUFFER_SIZE, options);
+			final var expected = digesting != null ? digesting.crc32c() : resource.checksum();
+			if (!ChecksumUtils.matches(expected, blob.getCrc32cToHexString())) {
+				storage.delete(blob.getBlobId());
+				throw new IllegalStateException("Checksum mismatch for %s: expected %s but stored %s".formatted(name, expected, blob.getCrc32cToHexString()));
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
 	}
 
 	@Override
@@ -43,14 +120,87 @@ public class GCStorageService implements StorageService {
 		  .toList();
 	}
 
+	// deleting the names of a page doesn't move the next one, its token is the last name listed
+	@Override
+	public void listPages(String prefix, int pageSize, Consumer<List<String>> consumer) {
+		Page<Blob> page = storage.list(bucket, Storage.BlobListOption.prefix(prefix), Storage.BlobListOption.pageSize(pageSize));
+		while (page != null) {
+			final var names = StreamSupport.stream(page.getValues().spliterator(), false)
+			  .map(BlobInfo::getBlobId)
+			  .map(BlobId::getName)
+			  .toList();
+
+			if (!names.isEmpty()) {
+				consumer.accept(names);
+			}
+
+			page = page.hasNextPage() ? page.getNextPage() : null;
+		}
+	}
+
 	@Override
 	public Optional<Resource> get(String name) {
 		return Optional.ofNullable(storage.get(bucket, name))
 		  .map(blob -> Resource.with(
-		    ChecksumUtils.generate(blob.getContent()),
-			blob.getContent(),
+		    blob.getCrc32cToHexString(),
+		    contentOf(blob),
+		    blob.getSize(),
 		    blob.getContentType(),
 		    name
 		  ));
 	}
+
+	@Override
+	public Optional<SignedUrl> signedUrl(String name, Duration ttl) {
+		return Optional.ofNullable(storage.get(bucket, name))
+		  .map(blob -> sign(BlobInfo.newBuilder(blob.getBlobId()).build(), ttl, Storage.SignUrlOption.httpMethod(HttpMethod.GET)));
+	}
+
+	@Override
+	public Optional<SignedUrl> signedUploadUrl(String name, String contentType, Duration ttl) {
+		final var blobInfo = BlobInfo.newBuilder(bucket, name).setContentType(contentType).build();
+		return Optional.of(sign(blobInfo, ttl, Storage.SignUrlOption.httpMethod(HttpMethod.PUT), Storage.SignUrlOption.withContentType()));
+	}
+
+	@Override
+	public void close() {
+		compositeExecutor.shutdownNow();
+	}
+
+	private SignedUrl sign(final BlobInfo blobInfo, final Duration ttl, final Storage.SignUrlOption... options) {
+		final var expiresAt = Instant.now().plus(ttl);
+		final var allOptions = new Storage.SignUrlOption[options.length + 1];
+		allOptions[0] = Storage.SignUrlOption.withV4Signature();
+		System.arraycopy(options, 0, allOptions, 1, options.length);
+
+		final var url = storage.signUrl(blobInfo, ttl.toSeconds(), TimeUnit.SECONDS, allOptions);
+		return SignedUrl.with(URI.create(url.toExternalForm()), expiresAt);
+	}
+
+	private ContentSource contentOf(final Blob blob) {
+		return new BlobContentSource(blob);
+	}
+
+	private static class BlobContentSource implements ContentSource {
+
+		private final Blob blob;
+		private final BlobId blobId;
+
+		private BlobContentSource(final Blob blob) {
+			this.blob = blob;
+			this.blobId = blob.getBlobId();
+		}
+
+		@Override
+		public InputStream openStream() throws IOException {
+			return ChecksumInputStream.verifying(openStream(0), blob.getCrc32cToHexString());
+		}
+
+		@Override
+		public InputStream openStream(final long position) throws IOException {
+			final var reader = blob.reader();
+			reader.seek(position);
+			return Channels.newInputStream(reader);
+		}
+	}
 }
@@ -0,0 +1,370 @@
+package com.fullcycle.admin.catalog.infrastructure.service.impl;
+
+import com.fullcycle.admin.catalog.domain.resource.ContentSource;
+import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.resource.SignedUrl;
+import com.fullcycle.admin.catalog.infrastructure.service.StorageService;
+import com.fullcycle.admin.catalog.infrastructure.utils.ChecksumInputStream;
+import com.fullcycle.admin.catalog.infrastructure.utils.ChecksumUtils;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Striped;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
+
+public class TieredStorageService implements StorageService, AutoCloseable {
+
+	private static final Logger log = LoggerFactory.getLogger(TieredStorageService.class);
+
+	private static final String PENDING_PREFIX = ".write-back/";
+	private static final Duration WRITE_BACK_RETRY_DELAY = Duration.ofSeconds(30);
+	private static final byte[] MARKER = new byte[0];
+
+	private final StorageService remote;
+	private final StorageService local;
+	private final long maxSize;
+	private final long maxObjectSize;
+	private final boolean writeBack;
+
+	// access ordered, its first entries are the least recently used ones
+	private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private final Set<String> pending = ConcurrentHashMap.newKeySet();
+	private final Striped<Lock> locks = Striped.lazyWeakLock(64);
+	private final ScheduledExecutorService uploader;
+	private long size;
+
+	private final Counter hits;
+	private final Counter misses;
+	private final Timer localLatency;
+	private final Timer remoteLatency;
+
+	public TieredStorageService(
+	  final StorageService remote,
+	  final StorageService local,
+	  final long maxSize,
+	  final long maxObjectSize,
+	  final boolean writeBack,
+	  final MeterRegistry registry
+	) {
+		this.remote = remote;
+		this.local = local;
+		this.maxSize = maxSize;
+		this.maxObjectSize = Math.min(maxObjectSize, maxSize);
+		this.writeBack = writeBack;
+		this.uploader = Executors.newSingleThreadScheduledExecutor(
+		  new ThreadFactoryBuilder().setNameFormat("storage-write-back-%d").setDaemon(true).build()
+		);
+
+		this.hits = Counter.builder("storage.tier.requests").tag("result", "hit").register(registry);
+		this.misses = Counter.builder("storage.tier.requests").tag("result", "miss").register(registry);
+		this.localLatency = Timer.builder("storage.tier.latency").tag("tier", "local").register(registry);
+		this.remoteLatency = Timer.builder("storage.tier.latency").tag("tier", "remote").register(registry);
+		Gauge.builder("storage.tier.hit.ratio", this, TieredStorageService::hitRatio).register(registry);
+		Gauge.builder("storage.tier.size", this, TieredStorageService::size).baseUnit("bytes").register(registry);
+		Gauge.builder("storage.tier.write.back.pending", pending, Set::size).register(registry);
+
+		recover();
+	}
+
+	@Override
+	public void store(String name, Resource resource) {
+		if (!writeBack || resource.size() > maxObjectSize) {
+			remoteLatency.record(() -> remote.store(name, resource));
+			evict(List.of(name));
+			return;
+		}
+
+		final var lock = locks.get(name);
+		lock.lock();
+		try {
+			localLatency.record(() -> local.store(name, resource));
+			local.store(PENDING_PREFIX + name, Resource.with(ChecksumUtils.generate(MARKER), MARKER, resource.contentType(), name));
+			pending.add(name);
+			admit(name, resource.size());
+		} finally {
+			lock.unlock();
+		}
+
+		uploader.execute(() -> upload(name));
+	}
+
+	@Override
+	public void deleteAll(Collection<String> names) {
+		// waits for an upload in flight, so it can't bring the object back after the delete
+		for (final var name : names) {
+			final var lock = locks.get(name);
+			lock.lock();
+			try {
+				pending.remove(name);
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		remoteLatency.record(() -> remote.deleteAll(names));
+		local.deleteAll(names.stream().map(name -> PENDING_PREFIX + name).toList());
+		evict(names);
+	}
+
+	@Override
+	public List<String> list(String prefix) {
+		final var names = new LinkedHashSet<>(remoteLatency.record(() -> remote.list(prefix)));
+		names.addAll(pending(prefix));
+		return List.copyOf(names);
+	}
+
+	@Override
+	public void listPages(String prefix, int pageSize, Consumer<List<String>> consumer) {
+		final var notUploaded = new TreeSet<>(pending(prefix));
+
+		remote.listPages(prefix, pageSize, page -> {
+			page.forEach(notUploaded::remove);
+			consumer.accept(page);
+		});
+
+		Lists.partition(List.copyOf(notUploaded), pageSize).forEach(consumer);
+	}
+
+	@Override
+	public Optional<Resource> get(String name) {
+		final var cached = lookup(name);
+		if (cached.isPresent()) {
+			hits.increment();
+			return cached;
+		}
+
+		misses.increment();
+
+		final var lock = locks.get(name);
+		lock.lock();
+		try {
+			// filled by a concurrent miss while this one waited
+			final var filled = lookup(name);
+			if (filled.isPresent()) {
+				return filled;
+			}
+
+			final var resource = remoteLatency.record(() -> remote.get(name));
+			if (resource.isEmpty() || resource.get().size() > maxObjectSize) {
+				return resource;
+			}
+
+			return Optional.of(fill(name, resource.get()));
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public Optional<SignedUrl> signedUrl(String name, Duration ttl) {
+		return remote.signedUrl(name, ttl);
+	}
+
+	@Override
+	public Optional<SignedUrl> signedUploadUrl(String name, String contentType, Duration ttl) {
+		return remote.signedUploadUrl(name, contentType, ttl);
+	}
+
+	@Override
+	public void close() {
+		uploader.shutdownNow();
+
+		if (remote instanceof AutoCloseable closeable) {
+			try {
+				closeable.close();
+			} catch (RuntimeException e) {
+				throw e;
+			} catch (Exception e) {
+				throw new IllegalStateException("Could not close the remote storage", e);
+			}
+		}
+	}
+
+	private Resource fill(final String name, final Resource resource) {
+		try {
+			localLatency.record(() -> local.store(name, resource));
+		} catch (RuntimeException e) {
+			log.warn("[message:storage.tier.fill] [status:error] [name:{}]", name, e);
+			return resource;
+		}
+
+		admit(name, resource.size());
+		return lookup(name).orElse(resource);
+	}
+
+	private Optional<Resource> lookup(final String name) {
+		synchronized (this) {
+			if (entries.get(name) == null) {
+				return Optional.empty();
+			}
+		}
+
+		final var resource = localLatency.record(() -> local.get(name));
+		if (resource.isEmpty()) {
+			forget(List.of(name));
+		}
+
+		return resource.map(it -> verified(name, it));
+	}
+
+	private Resource verified(final String name, final Resource resource) {
+		final var source = resource.source();
+
+		return Resource.with(resource.checksum(), new ContentSource() {
+			@Override
+			public InputStream openStream() throws IOException {
+				return new EvictingInputStream(name, ChecksumInputStream.verifying(source.openStream(), resource.checksum()));
+			}
+
+			@Override
+			public InputStream openStream(final long position) throws IOException {
+				return source.openStream(position);
+			}
+		}, resource.size(), resource.contentType(), resource.name());
+	}
+
+	private void admit(final String name, final long objectSize) {
+		final var victims = new ArrayList<String>();
+
+		synchronized (this) {
+			final var previous = entries.put(name, objectSize);
+			size += objectSize - (previous == null ? 0 : previous);
+
+			final var iterator = entries.entrySet().iterator();
+			while (size > maxSize && iterator.hasNext()) {
+				final var entry = iterator.next();
+				if (entry.getKey().equals(name) || pending.contains(entry.getKey())) {
+					continue;
+				}
+
+				iterator.remove();
+				size -= entry.getValue();
+				victims.add(entry.getKey());
+			}
+		}
+
+		if (!victims.isEmpty()) {
+			local.deleteAll(victims);
+		}
+	}
+
+	private void evict(final Collection<String> names) {
+		forget(names);
+		local.deleteAll(names);
+	}
+
+	private synchronized void forget(final Collection<String> names) {
+		for (final var name : names) {
+			final var removed = entries.remove(name);
+			if (removed != null) {
+				size -= removed;
+			}
+		}
+	}
+
+	private void upload(final String name) {
+		final var lock = locks.get(name);
+		lock.lock();
+		try {
+			if (!pending.contains(name)) {
+				return;
+			}
+
+			final var resource = local.get(name);
+			if (resource.isPresent()) {
+				remoteLatency.record(() -> remote.store(name, resource.get()));
+			} else {
+				log.error("[message:storage.tier.write.back] [status:lost] [name:{}]", name);
+			}
+
+			pending.remove(name);
+			local.deleteAll(List.of(PENDING_PREFIX + name));
+		} catch (RuntimeException e) {
+			log.warn("[message:storage.tier.write.back] [status:retrying] [name:{}]", name, e);
+			uploader.schedule(() -> upload(name), WRITE_BACK_RETRY_DELAY.toMillis(), TimeUnit.MILLISECONDS);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// indexes the copies left by a previous run and resumes the uploads it didn't finish
+	private void recover() {
+		for (final var marker : local.list(PENDING_PREFIX)) {
+			pending.add(marker.substring(PENDING_PREFIX.length()));
+		}
+
+		for (final var name : local.list("")) {
+			if (!name.startsWith(PENDING_PREFIX)) {
+				local.get(name).ifPresent(resource -> admit(name, resource.size()));
+			}
+		}
+
+		pending.forEach(name -> uploader.execute(() -> upload(name)));
+	}
+
+	private List<String> pending(final String prefix) {
+		return pending.stream().filter(name -> name.startsWith(prefix)).sorted().toList();
+	}
+
+	private double hitRatio() {
+		final var total = hits.count() + misses.count();
+		return total == 0 ? 0 : hits.count() / total;
+	}
+
+	private synchronized long size() {
+		return size;
+	}
+
+	private class EvictingInputStream extends FilterInputStream {
+
+		private final String name;
+
+		private EvictingInputStream(final String name, final InputStream in) {
+			super(in);
+			this.name = name;
+		}
+
+		@Override
+		public int read() throws IOException {
+			try {
+				return super.read();
+			} catch (IOException e) {
+				throw corrupt(e);
+			}
+		}
+
+		@Override
+		public int read(final byte[] b, final int off, final int len) throws IOException {
+			try {
+				return super.read(b, off, len);
+			} catch (IOException e) {
+				throw corrupt(e);
+			}
+		}
+
+		// a pending copy is the only one there is, it is kept for its upload to report
+		private IOException corrupt(final IOException e) {
+			log.error("[message:storage.tier.read] [status:corrupt] [name:{}]", name, e);
+			if (!pending.contains(name)) {
+				evict(List.of(name));
+			}
+			return e;
+		}
+	}
+}
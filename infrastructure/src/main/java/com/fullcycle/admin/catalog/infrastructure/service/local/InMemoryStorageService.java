@@ -1,17 +1,49 @@
 package com.fullcycle.admin.catalog.infrastructure.service.local;
 
 import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.resource.SignedUrl;
 import com.fullcycle.admin.catalog.infrastructure.service.StorageService;
+import com.fullcycle.admin.catalog.infrastructure.utils.ByteBufferInputStream;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 public class InMemoryStorageService implements StorageService {
 
-	private final Map<String, Resource> storage;
+	private static final String SIGNATURE_ALGORITHM = "HmacSHA256";
+	private static final String GET = "GET";
+	private static final String PUT = "PUT";
+
+	private final ConcurrentNavigableMap<String, Resource> storage;
+	private final SecretKeySpec signingKey;
+	private final boolean offHeap;
 
 	public InMemoryStorageService() {
-		this.storage = new ConcurrentHashMap<>();
+		this(false);
+	}
+
+	public InMemoryStorageService(final boolean offHeap) {
+		final var key = new byte[32];
+		new SecureRandom().nextBytes(key);
+
+		this.storage = new ConcurrentSkipListMap<>();
+		this.signingKey = new SecretKeySpec(key, SIGNATURE_ALGORITHM);
+		this.offHeap = offHeap;
 	}
 
 	public void reset() {
@@ -24,7 +56,7 @@ public class InMemoryStorageService implements StorageService {
 
 	@Override
 	public void store(String name, Resource resource) {
-		storage.put(name, resource);
+		storage.put(name, offHeap ? toDirect(resource) : resource.buffered());
 	}
 
 	@Override
@@ -38,8 +70,8 @@ public class InMemoryStorageService implements StorageService {
 			return Collections.emptyList();
 		}
 
-		return storage.keySet().stream()
-		  .filter(key -> key.startsWith(prefix))
+		return storage.tailMap(prefix).keySet().stream()
+		  .takeWhile(key -> key.startsWith(prefix))
 		  .toList();
 	}
 
@@ -47,4 +79,92 @@ public class InMemoryStorageService implements StorageService {
 	public Optional<Resource> get(String name) {
 		return Optional.ofNullable(storage.get(name));
 	}
+
+	// stands in for a bucket signer, the URL carries its expiry and an HMAC of the method, name and expiry
+	@Override
+	public Optional<SignedUrl> signedUrl(String name, Duration ttl) {
+		if (!storage.containsKey(name)) {
+			return Optional.empty();
+		}
+		return Optional.of(sign(GET, name, ttl));
+	}
+
+	@Override
+	public Optional<SignedUrl> signedUploadUrl(String name, String contentType, Duration ttl) {
+		return Optional.of(sign(PUT, name, ttl));
+	}
+
+	public Optional<Resource> verify(final URI url) {
+		return isValid(GET, url) ? get(nameOf(url)) : Optional.empty();
+	}
+
+	public boolean upload(final URI url, final Resource resource) {
+		if (!isValid(PUT, url)) {
+			return false;
+		}
+
+		store(nameOf(url), resource);
+		return true;
+	}
+
+	private Resource toDirect(final Resource resource) {
+		if (resource.size() > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Resource %s is too large to be kept off-heap".formatted(resource.name()));
+		}
+
+		final var buffer = ByteBuffer.allocateDirect((int) resource.size());
+
+		try (final var channel = Channels.newChannel(resource.openStream())) {
+			while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+				// fills the buffer straight from the stream, without a heap copy of the content
+			}
+
+			if (buffer.hasRemaining() || channel.read(ByteBuffer.allocate(1)) >= 0) {
+				throw new IllegalArgumentException("Resource %s doesn't have the %d bytes it declares".formatted(resource.name(), resource.size()));
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		final var content = buffer.flip().asReadOnlyBuffer();
+		return Resource.with(resource.checksum(), () -> new ByteBufferInputStream(content.duplicate()), content.capacity(), resource.contentType(), resource.name());
+	}
+
+	private SignedUrl sign(final String method, final String name, final Duration ttl) {
+		final var expiresAt = Instant.now().plus(ttl);
+		final var query = "expires=%d&signature=%s".formatted(expiresAt.getEpochSecond(), sign(method, name, expiresAt.getEpochSecond()));
+
+		try {
+			return SignedUrl.with(new URI("memory", "storage", "/" + name, query, null), expiresAt);
+		} catch (URISyntaxException e) {
+			throw new IllegalArgumentException(e);
+		}
+	}
+
+	private boolean isValid(final String method, final URI url) {
+		final var query = new HashMap<String, String>();
+		for (final var param : url.getQuery().split("&")) {
+			final var separator = param.indexOf('=');
+			query.put(param.substring(0, separator), param.substring(separator + 1));
+		}
+
+		final var expires = Long.parseLong(query.getOrDefault("expires", "0"));
+		final var signature = query.getOrDefault("signature", "").getBytes(StandardCharsets.UTF_8);
+		return MessageDigest.isEqual(sign(method, nameOf(url), expires).getBytes(StandardCharsets.UTF_8), signature)
+		  && Instant.now().isBefore(Instant.ofEpochSecond(expires));
+	}
+
+	private String nameOf(final URI url) {
+		return url.getPath().substring(1);
+	}
+
+	private String sign(final String method, final String name, final long expires) {
+		try {
+			final var mac = Mac.getInstance(SIGNATURE_ALGORITHM);
+			mac.init(signingKey);
+			return HexFormat.of().formatHex(mac.doFinal((method + "\n" + name + "\n" + expires).getBytes(StandardCharsets.UTF_8)));
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
 }
@@ -0,0 +1,45 @@
+package com.fullcycle.admin.catalog.infrastructure.utils;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+// advances the buffer, hand in a duplicate() of a shared one
+public class ByteBufferInputStream extends InputStream {
+
+	private final ByteBuffer buffer;
+
+	public ByteBufferInputStream(final ByteBuffer buffer) {
+		this.buffer = buffer;
+	}
+
+	@Override
+	public int read() {
+		return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+	}
+
+	@Override
+	public int read(final byte[] b, final int off, final int len) {
+		if (len == 0) {
+			return 0;
+		}
+		if (!buffer.hasRemaining()) {
+			return -1;
+		}
+
+		final var count = Math.min(len, buffer.remaining());
+		buffer.get(b, off, count);
+		return count;
+	}
+
+	@Override
+	public long skip(final long n) {
+		final var skipped = (int) Math.max(0, Math.min(n, buffer.remaining()));
+		buffer.position(buffer.position() + skipped);
+		return skipped;
+	}
+
+	@Override
+	public int available() {
+		return buffer.remaining();
+	}
+}
@@ -0,0 +1,143 @@
+package com.fullcycle.admin.catalog.infrastructure.utils;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+public class ChecksumInputStream extends FilterInputStream {
+
+	private static final int SKIP_BUFFER_SIZE = 8192;
+
+	private final CRC32C crc32c = new CRC32C();
+	private final MessageDigest sha256;
+	private final String expectedCrc32c;
+	private final Consumer<ChecksumInputStream> onEnd;
+	private String sha256Hex;
+	private boolean ended;
+	private long count;
+
+	public ChecksumInputStream(final InputStream in) {
+		this(in, false, null, null);
+	}
+
+	private ChecksumInputStream(
+	  final InputStream in,
+	  final boolean sha256,
+	  final String expectedCrc32c,
+	  final Consumer<ChecksumInputStream> onEnd
+	) {
+		super(in);
+		this.sha256 = sha256 ? sha256Digest() : null;
+		this.expectedCrc32c = expectedCrc32c;
+		this.onEnd = onEnd;
+	}
+
+	public static ChecksumInputStream withSha256(final InputStream in) {
+		return new ChecksumInputStream(in, true, null, null);
+	}
+
+	// hands the stream to the consumer once a read reaches its end, to pick up its checksums
+	public static ChecksumInputStream onEnd(final InputStream in, final Consumer<ChecksumInputStream> onEnd) {
+		return new ChecksumInputStream(in, false, null, onEnd);
+	}
+
+	public static ChecksumInputStream withSha256(final InputStream in, final Consumer<ChecksumInputStream> onEnd) {
+		return new ChecksumInputStream(in, true, null, onEnd);
+	}
+
+	public static ChecksumInputStream verifying(final InputStream in, final String expectedCrc32c) {
+		return new ChecksumInputStream(in, false, expectedCrc32c, null);
+	}
+
+	@Override
+	public int read() throws IOException {
+		final var b = super.read();
+		if (b < 0) {
+			verify();
+		} else {
+			crc32c.update(b);
+			if (sha256 != null) {
+				sha256.update((byte) b);
+			}
+			count++;
+		}
+		return b;
+	}
+
+	@Override
+	public int read(final byte[] b, final int off, final int len) throws IOException {
+		final var read = super.read(b, off, len);
+		if (read < 0) {
+			verify();
+		} else if (read > 0) {
+			crc32c.update(b, off, read);
+			if (sha256 != null) {
+				sha256.update(b, off, read);
+			}
+			count += read;
+		}
+		return read;
+	}
+
+	// skipped bytes are read and hashed too, the checksums describe everything that went through
+	@Override
+	public long skip(final long n) throws IOException {
+		if (n <= 0) {
+			return 0;
+		}
+
+		final var buffer = new byte[(int) Math.min(n, SKIP_BUFFER_SIZE)];
+		var remaining = n;
+		while (remaining > 0) {
+			final var read = read(buffer, 0, (int) Math.min(buffer.length, remaining));
+			if (read < 0) {
+				break;
+			}
+			remaining -= read;
+		}
+		return n - remaining;
+	}
+
+	@Override
+	public boolean markSupported() {
+		return false;
+	}
+
+	public String crc32c() {
+		return ChecksumUtils.toHex((int) crc32c.getValue());
+	}
+
+	public String sha256() {
+		if (sha256 != null && sha256Hex == null) {
+			sha256Hex = HexFormat.of().formatHex(sha256.digest());
+		}
+		return sha256Hex;
+	}
+
+	public long count() {
+		return count;
+	}
+
+	private void verify() throws IOException {
+		if (expectedCrc32c != null && !ChecksumUtils.matches(expectedCrc32c, crc32c())) {
+			throw new IOException("Checksum mismatch: expected %s but read %s".formatted(expectedCrc32c, crc32c()));
+		}
+		if (onEnd != null && !ended) {
+			ended = true;
+			onEnd.accept(this);
+		}
+	}
+
+	private static MessageDigest sha256Digest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
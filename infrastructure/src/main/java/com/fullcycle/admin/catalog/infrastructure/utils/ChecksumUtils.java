@@ -1,13 +1,120 @@
 package com.fullcycle.admin.catalog.infrastructure.utils;
 
-import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.HexFormat;
+import java.util.zip.CRC32C;
 
 public final class ChecksumUtils {
 
+	private static final int CRC32C_POLYNOMIAL = 0x82F63B78;
+
 	private ChecksumUtils() {}
 
 	public static String generate(final byte[] bytes) {
-		final int hash = Hashing.crc32c().hashBytes(bytes).asInt();
-		return Integer.toHexString(hash);
+		final var crc = new CRC32C();
+		crc.update(bytes);
+		return toHex((int) crc.getValue());
+	}
+
+	public static String generate(final InputStream stream) throws IOException {
+		final var checksum = new ChecksumInputStream(stream);
+		checksum.transferTo(OutputStream.nullOutputStream());
+		return checksum.crc32c();
+	}
+
+	public static String sha256(final InputStream stream) throws IOException {
+		final var checksum = ChecksumInputStream.withSha256(stream);
+		checksum.transferTo(OutputStream.nullOutputStream());
+		return checksum.sha256();
+	}
+
+	// also matches the unpadded form checksums were stored in before, e.g. 1a2b3c and 001a2b3c
+	public static boolean matches(final String first, final String second) {
+		if (first == null || second == null) {
+			return first == second;
+		}
+		if (first.equalsIgnoreCase(second)) {
+			return true;
+		}
+		return isHex(first) && isHex(second) && fromHex(first) == fromHex(second);
+	}
+
+	public static String normalize(final String crc) {
+		return toHex(fromHex(crc));
+	}
+
+	// the checksum of both contents end to end, so assembled uploads aren't read again
+	public static String combine(final String first, final String second, final long secondLength) {
+		return toHex(combine(fromHex(first), fromHex(second), secondLength));
+	}
+
+	static String toHex(final int crc) {
+		return HexFormat.of().toHexDigits(crc);
+	}
+
+	private static boolean isHex(final String crc) {
+		return !crc.isEmpty() && crc.length() <= 8 && crc.chars().allMatch(c -> Character.digit(c, 16) >= 0);
+	}
+
+	private static int fromHex(final String crc) {
+		return Integer.parseUnsignedInt(crc, 16);
+	}
+
+	// zlib's crc32_combine, applied to the CRC32C polynomial
+	private static int combine(int crc1, final int crc2, long length2) {
+		if (length2 <= 0) {
+			return crc1;
+		}
+
+		final var even = new int[32];
+		final var odd = new int[32];
+
+		odd[0] = CRC32C_POLYNOMIAL;
+		var row = 1;
+		for (var n = 1; n < 32; n++) {
+			odd[n] = row;
+			row <<= 1;
+		}
+
+		square(even, odd);
+		square(odd, even);
+
+		do {
+			square(even, odd);
+			if ((length2 & 1) != 0) {
+				crc1 = times(even, crc1);
+			}
+			length2 >>= 1;
+
+			if (length2 == 0) {
+				break;
+			}
+
+			square(odd, even);
+			if ((length2 & 1) != 0) {
+				crc1 = times(odd, crc1);
+			}
+			length2 >>= 1;
+		} while (length2 != 0);
+
+		return crc1 ^ crc2;
+	}
+
+	private static int times(final int[] matrix, int vector) {
+		var sum = 0;
+		for (var i = 0; vector != 0; i++, vector >>>= 1) {
+			if ((vector & 1) != 0) {
+				sum ^= matrix[i];
+			}
+		}
+		return sum;
+	}
+
+	private static void square(final int[] square, final int[] matrix) {
+		for (var n = 0; n < 32; n++) {
+			square[n] = times(matrix, matrix[n]);
+		}
 	}
 }
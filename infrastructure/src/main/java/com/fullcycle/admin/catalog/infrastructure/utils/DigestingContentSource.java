@@ -0,0 +1,89 @@
+package com.fullcycle.admin.catalog.infrastructure.utils;
+
+import com.fullcycle.admin.catalog.domain.resource.ContentSource;
+import com.fullcycle.admin.catalog.domain.resource.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+public class DigestingContentSource implements ContentSource {
+
+	private final ContentSource delegate;
+	private final boolean hashesSha256;
+	private volatile String crc32c;
+	private volatile String sha256;
+
+	public DigestingContentSource(final ContentSource delegate) {
+		this(delegate, false);
+	}
+
+	private DigestingContentSource(final ContentSource delegate, final boolean hashesSha256) {
+		this.delegate = delegate;
+		this.hashesSha256 = hashesSha256;
+	}
+
+	public static DigestingContentSource withSha256(final ContentSource delegate) {
+		return new DigestingContentSource(delegate, true);
+	}
+
+	public static Resource resourceOf(final ContentSource source, final long size, final String contentType, final String name) {
+		final var digesting = new DigestingContentSource(source);
+		return Resource.with(digesting::crc32c, digesting, size, contentType, name);
+	}
+
+	@Override
+	public InputStream openStream() throws IOException {
+		if (!hashesSha256) {
+			return ChecksumInputStream.onEnd(delegate.openStream(), stream -> crc32c = stream.crc32c());
+		}
+
+		return ChecksumInputStream.withSha256(delegate.openStream(), stream -> {
+			sha256 = stream.sha256();
+			crc32c = stream.crc32c();
+		});
+	}
+
+	// a range doesn't describe the whole content, it is left unhashed
+	@Override
+	public InputStream openStream(final long position) throws IOException {
+		return position == 0 ? openStream() : delegate.openStream(position);
+	}
+
+	public boolean isDigested() {
+		return crc32c != null;
+	}
+
+	// the checksum of a pass that read the content in ranges, e.g. the parts of a composite upload
+	public void digested(final String crc32c) {
+		this.crc32c = crc32c;
+	}
+
+	public String crc32c() {
+		if (crc32c == null) {
+			readThrough();
+		}
+		return crc32c;
+	}
+
+	// a pass in ranges only leaves the CRC32C behind, the SHA-256 then costs a read of its own
+	public String sha256() {
+		if (!hashesSha256) {
+			throw new IllegalStateException("The content source does not hash SHA-256");
+		}
+
+		if (sha256 == null) {
+			readThrough();
+		}
+		return sha256;
+	}
+
+	private void readThrough() {
+		try (final var stream = openStream()) {
+			stream.transferTo(OutputStream.nullOutputStream());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
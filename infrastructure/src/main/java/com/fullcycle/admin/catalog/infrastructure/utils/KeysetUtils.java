@@ -0,0 +1,188 @@
+package com.fullcycle.admin.catalog.infrastructure.utils;
+
+import com.fullcycle.admin.catalog.domain.errors.DomainException;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalog.infrastructure.pagination.PaginationTotals;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+public final class KeysetUtils {
+
+	private static final String ID = "id";
+
+	private KeysetUtils() {}
+
+	public record Cursor(String sort, String direction, String value, String id, Long total) {
+	}
+
+	public static Sort sort(final String sort, final String direction) {
+		final var order = Sort.Direction.fromString(direction);
+		return ID.equals(sort) ? Sort.by(order, ID) : Sort.by(order, sort).and(Sort.by(order, ID));
+	}
+
+	public static String encode(final String sort, final String direction, final Object value, final Object id, final long total) {
+		final var cursor = new Cursor(sort, Sort.Direction.fromString(direction).name(), stringOf(value), stringOf(id), total);
+		return Base64.getUrlEncoder().withoutPadding()
+		  .encodeToString(Json.writeValueAsString(cursor).getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static Cursor decode(final String cursor, final String sort, final String direction) {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+
+		final Cursor decoded;
+		try {
+			decoded = Json.readValue(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8), Cursor.class);
+		} catch (RuntimeException e) {
+			throw invalid();
+		}
+
+		if (decoded == null
+		  || decoded.id() == null
+		  || !sort.equals(decoded.sort())
+		  || !Sort.Direction.fromString(direction).name().equals(decoded.direction())) {
+			throw invalid();
+		}
+		return decoded;
+	}
+
+	// the total of the page that issued the cursor, following pages don't count again
+	public static long totalOf(final Cursor cursor) {
+		return cursor.total() != null ? cursor.total() : Pagination.UNKNOWN_TOTAL;
+	}
+
+	public static <T> Specification<T> after(final Cursor cursor) {
+		return (root, query, cb) -> after(cb, root, cursor);
+	}
+
+	// nulls sort first ascending and last descending, as on MySQL and H2
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	public static Predicate after(final CriteriaBuilder cb, final Path<?> root, final Cursor cursor) {
+		final var ascending = Sort.Direction.fromString(cursor.direction()).isAscending();
+		final Expression id = root.get(ID);
+		final Comparable idValue = (Comparable) valueOf(id.getJavaType(), cursor.id());
+		final var afterId = ascending ? cb.greaterThan(id, idValue) : cb.lessThan(id, idValue);
+
+		if (ID.equals(cursor.sort())) {
+			return afterId;
+		}
+
+		final Expression key = root.get(cursor.sort());
+		if (cursor.value() == null) {
+			return ascending
+			  ? cb.or(cb.isNotNull(key), cb.and(cb.isNull(key), afterId))
+			  : cb.and(cb.isNull(key), afterId);
+		}
+
+		final Comparable value = (Comparable) valueOf(key.getJavaType(), cursor.value());
+		final var afterKey = cb.or(
+		  ascending ? cb.greaterThan(key, value) : cb.lessThan(key, value),
+		  cb.and(cb.equal(key, value), afterId)
+		);
+		return ascending ? afterKey : cb.or(afterKey, cb.isNull(key));
+	}
+
+	public static <T> Pagination<T> findAll(
+	  final JpaSpecificationExecutor<T> repository,
+	  final Specification<T> filters,
+	  final int page,
+	  final int perPage,
+	  final String sort,
+	  final String direction,
+	  final String cursor,
+	  final LongSupplier total
+	) {
+		final var order = sort(sort, direction);
+		final var after = decode(cursor, sort, direction);
+
+		final var specification = after == null
+		  ? Specification.where(filters)
+		  : Specification.where(filters).and(KeysetUtils.<T>after(after));
+		final var position = after == null ? offset((long) page * perPage) : ScrollPosition.offset();
+
+		final var window = repository.findBy(specification, query -> query.sortBy(order).limit(perPage).scroll(position));
+		final var content = window.getContent();
+
+		final var count = after == null
+		  ? PaginationTotals.ofLastPage(page, perPage, content.size(), window.hasNext()).orElseGet(total)
+		  : totalOf(after);
+
+		return new Pagination<>(
+		  page,
+		  perPage,
+		  count,
+		  content,
+		  window.hasNext() ? cursorOf(content.get(content.size() - 1), sort, direction, count) : null
+		);
+	}
+
+	// an offset position scrolls from the row after it, the initial one from the first row
+	private static ScrollPosition offset(final long offset) {
+		return offset == 0 ? ScrollPosition.offset() : ScrollPosition.offset(offset - 1);
+	}
+
+	private static String cursorOf(final Object entity, final String sort, final String direction, final long total) {
+		final var wrapper = new BeanWrapperImpl(entity);
+		return encode(sort, direction, wrapper.getPropertyValue(sort), wrapper.getPropertyValue(ID), total);
+	}
+
+	private static String stringOf(final Object value) {
+		if (value == null) {
+			return null;
+		}
+		return value instanceof Enum<?> constant ? constant.name() : value.toString();
+	}
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private static Object valueOf(final Class<?> type, final String value) {
+		try {
+			if (type == String.class) {
+				return value;
+			}
+			if (type == UUID.class) {
+				return UUID.fromString(value);
+			}
+			if (type == Instant.class) {
+				return Instant.parse(value);
+			}
+			if (type.isEnum()) {
+				return Enum.valueOf((Class<? extends Enum>) type, value);
+			}
+			if (type == Boolean.class || type == boolean.class) {
+				return Boolean.valueOf(value);
+			}
+			if (type == Integer.class || type == int.class) {
+				return Integer.valueOf(value);
+			}
+			if (type == Long.class || type == long.class) {
+				return Long.valueOf(value);
+			}
+			if (type == Double.class || type == double.class) {
+				return Double.valueOf(value);
+			}
+		} catch (RuntimeException e) {
+			throw invalid();
+		}
+		throw invalid();
+	}
+
+	private static DomainException invalid() {
+		return DomainException.with(new Error("Invalid cursor"));
+	}
+}
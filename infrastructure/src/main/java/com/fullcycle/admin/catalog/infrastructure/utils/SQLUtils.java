@@ -1,7 +1,13 @@
 package com.fullcycle.admin.catalog.infrastructure.utils;
 
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
 public final class SQLUtils {
 
+	// InnoDB doesn't index shorter words, see innodb_ft_min_token_size
+	private static final int FULL_TEXT_MIN_WORD_LENGTH = 3;
+
 	private SQLUtils() {}
 
 	public static String upper(final String term) {
@@ -17,4 +23,21 @@ public final class SQLUtils {
 		}
 		return "%" + term.toUpperCase() + "%";
 	}
+
+	// null when a word is too short to be indexed or there is no word at all
+	public static String fullText(final String terms) {
+		if (terms == null) {
+			return null;
+		}
+
+		final var words = Arrays.stream(terms.split("[^\\p{L}\\p{N}_]+"))
+		  .filter(word -> !word.isEmpty())
+		  .toList();
+
+		if (words.isEmpty() || words.stream().anyMatch(word -> word.length() < FULL_TEXT_MIN_WORD_LENGTH)) {
+			return null;
+		}
+
+		return words.stream().map(word -> "+" + word + "*").collect(Collectors.joining(" "));
+	}
 }
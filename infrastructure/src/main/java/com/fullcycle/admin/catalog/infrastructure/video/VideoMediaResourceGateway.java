@@ -1,66 +1,266 @@
 package com.fullcycle.admin.catalog.infrastructure.video;
 
 import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.resource.SignedUrl;
+import com.fullcycle.admin.catalog.domain.utils.InstantUtils;
 import com.fullcycle.admin.catalog.domain.video.*;
 import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.StorageProperties;
 import com.fullcycle.admin.catalog.infrastructure.service.StorageService;
+import com.fullcycle.admin.catalog.infrastructure.utils.DigestingContentSource;
+import com.fullcycle.admin.catalog.infrastructure.video.cache.ImageMediaCache;
+import com.fullcycle.admin.catalog.infrastructure.video.cleanup.MediaCleanupJpaEntity;
+import com.fullcycle.admin.catalog.infrastructure.video.cleanup.MediaCleanupRepository;
+import com.fullcycle.admin.catalog.infrastructure.video.naming.MediaNamingStrategy;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoMediaContentID;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoMediaContentJpaEntity;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoMediaContentLocks;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoMediaContentRepository;
+import com.fullcycle.admin.catalog.infrastructure.video.variants.ImageVariants;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
 
 @Component
 public class VideoMediaResourceGateway implements MediaResourceGateway {
 
 	private final String filenamePattern;
-	private final String locationPattern;
+	private final MediaNamingStrategy naming;
+	private final Optional<MediaNamingStrategy> previousNaming;
+	private final boolean contentAddressed;
+	private final String contentLocationPattern;
+	private final Duration signedUrlTtl;
 	private final StorageService storageService;
+	private final VideoMediaContentRepository contentRepository;
+	private final VideoMediaContentLocks contentLocks;
+	private final ImageMediaCache imageCache;
+	private final MediaCleanupRepository cleanupRepository;
+	private final ImageVariants imageVariants;
 
-	public VideoMediaResourceGateway(final StorageProperties props, final StorageService storageService) {
+	public VideoMediaResourceGateway(
+	  final StorageProperties props,
+	  final StorageService storageService,
+	  final VideoMediaContentRepository contentRepository,
+	  final VideoMediaContentLocks contentLocks,
+	  final ImageMediaCache imageCache,
+	  final MediaCleanupRepository cleanupRepository,
+	  final ImageVariants imageVariants
+	) {
 		this.filenamePattern = props.getFilenamePattern();
-		this.locationPattern = props.getLocationPattern();
+		this.naming = MediaNamingStrategy.current(props);
+		this.previousNaming = MediaNamingStrategy.previous(props);
+		this.contentAddressed = props.isContentAddressed();
+		this.contentLocationPattern = props.getContentLocationPattern();
+		this.signedUrlTtl = props.getSignedUrlTtl();
 		this.storageService = storageService;
+		this.contentRepository = contentRepository;
+		this.contentLocks = contentLocks;
+		this.imageCache = imageCache;
+		this.cleanupRepository = cleanupRepository;
+		this.imageVariants = imageVariants;
 	}
 
 	@Override
 	public AudioVideoMedia storeAudioVideo(final VideoID id, final VideoResource resource) {
-		final var filePath = filePath(id, resource.type());
 		final var content = resource.resource();
-		store(filePath, content);
+		final var filePath = store(id, resource.type(), content);
 		return AudioVideoMedia.with(content.checksum(), content.name(), filePath);
 	}
 
 	@Override
 	public ImageMedia storeImage(VideoID id, VideoResource resource) {
-		final var filePath = filePath(id, resource.type());
 		final var content = resource.resource();
-		store(filePath, content);
+		final var filePath = store(id, resource.type(), content);
+		replaceVariants(id, resource.type(), content.checksum());
 		return ImageMedia.with(content.checksum(), content.name(), filePath);
 	}
 
 	@Override
 	public Optional<Resource> getResource(VideoID id, VideoMediaType type) {
-		return storageService.get(filePath(id, type));
+		final var name = locate(id, type);
+		final Function<String, Optional<Resource>> loader = key -> storageService.get(key)
+		  .or(() -> previousFilePath(id, type).flatMap(storageService::get));
+
+		return type.isImage() ? imageCache.get(name, loader) : loader.apply(name);
+	}
+
+	@Override
+	public Optional<Resource> getResource(VideoID id, VideoMediaType type, String checksum, int width) {
+		if (!type.isImage()) {
+			return getResource(id, type);
+		}
+
+		// the original is never cached under the name of a variant, it is only the fallback
+		return imageVariants.widthFor(width)
+		  .flatMap(it -> imageCache.get(variantPath(id, type, checksum, it), storageService::get))
+		  .or(() -> getResource(id, type));
+	}
+
+	@Override
+	public Optional<SignedUrl> getSignedUrl(VideoID id, VideoMediaType type) {
+		return storageService.signedUrl(locate(id, type), signedUrlTtl)
+		  .or(() -> previousFilePath(id, type).flatMap(name -> storageService.signedUrl(name, signedUrlTtl)));
 	}
 
 	@Override
 	public void clearResources(VideoID id) {
-		final var ids = storageService.list(folder(id));
-		storageService.deleteAll(ids);
+		cleanupRepository.save(MediaCleanupJpaEntity.pending(id.getValue(), InstantUtils.now()));
+	}
+
+	public void purgeResources(final Collection<VideoID> ids, final int deleteBatchSize) {
+		final var pending = new ArrayList<String>();
+
+		for (final var id : ids) {
+			for (final var folder : folders(id)) {
+				storageService.listPages(folder, deleteBatchSize, page -> {
+					pending.addAll(page);
+					flush(pending, deleteBatchSize, deleteBatchSize);
+				});
+			}
+		}
+		flush(pending, 1, deleteBatchSize);
+
+		if (contentAddressed) {
+			final var references = contentRepository.findAllByIdVideoIDIn(ids.stream().map(VideoID::getValue).toList());
+			contentRepository.deleteAll(references);
+			references.stream()
+			  .map(VideoMediaContentJpaEntity::getContentHash)
+			  .distinct()
+			  .forEach(this::deleteIfUnreferenced);
+		}
 	}
 
-	private void store(final String filePath, final Resource content) {
-		storageService.store(filePath, content);
+	public int purgeUnreferencedContents(final int batchSize) {
+		if (!contentAddressed) {
+			return 0;
+		}
+
+		var purged = 0;
+		for (final var hash : contentLocks.findUnreferenced(batchSize)) {
+			if (deleteIfUnreferenced(hash)) {
+				purged++;
+			}
+		}
+		return purged;
+	}
+
+	private String store(final VideoID id, final VideoMediaType type, final Resource content) {
+		if (!contentAddressed) {
+			final var filePath = filePath(id, type);
+			storageService.store(filePath, content);
+			imageCache.invalidate(filePath);
+			return filePath;
+		}
+
+		final var pendingPath = contentPath(UUID.randomUUID().toString());
+		final var digesting = DigestingContentSource.withSha256(content.source());
+		try {
+			storageService.store(pendingPath, Resource.with(digesting::crc32c, digesting, content.size(), content.contentType(), content.name()));
+
+			final var hash = digesting.sha256();
+			final var contentPath = contentPath(hash);
+
+			publish(pendingPath, contentPath);
+			contentLocks.locked(hash, () -> contentRepository.save(new VideoMediaContentJpaEntity(VideoMediaContentID.from(id.getValue(), type), hash)));
+
+			// the cleanup may have deleted an unreferenced copy before the reference was recorded
+			publish(pendingPath, contentPath);
+			return contentPath;
+		} finally {
+			storageService.deleteAll(List.of(pendingPath));
+		}
+	}
+
+	private void publish(final String pendingPath, final String contentPath) {
+		if (storageService.get(contentPath).isEmpty()) {
+			final var pending = storageService.get(pendingPath)
+			  .orElseThrow(() -> new IllegalStateException("Missing the uploaded content %s".formatted(pendingPath)));
+			storageService.store(contentPath, pending);
+		}
+	}
+
+	// reads use the original until the new variants are stored, the previous ones go after them
+	private void replaceVariants(final VideoID id, final VideoMediaType type, final String checksum) {
+		imageVariants.generate(
+		  checksum,
+		  () -> storageService.get(locate(id, type)),
+		  (width, variant) -> storageService.store(variantPath(id, type, checksum, width), variant),
+		  () -> deletePreviousVariants(id, type, checksum)
+		);
+	}
+
+	private void deletePreviousVariants(final VideoID id, final VideoMediaType type, final String checksum) {
+		final var current = variantPrefix(id, type).concat(checksum);
+		final var previous = storageService.list(variantPrefix(id, type)).stream()
+		  .filter(name -> !name.startsWith(current))
+		  .toList();
+
+		if (!previous.isEmpty()) {
+			delete(previous);
+		}
+	}
+
+	private boolean deleteIfUnreferenced(final String hash) {
+		return contentLocks.deleteIfUnreferenced(hash, it -> delete(List.of(contentPath(it))));
+	}
+
+	private void flush(final List<String> pending, final int threshold, final int batchSize) {
+		while (!pending.isEmpty() && pending.size() >= threshold) {
+			final var batch = pending.subList(0, Math.min(batchSize, pending.size()));
+			delete(List.copyOf(batch));
+			batch.clear();
+		}
+	}
+
+	private void delete(final Collection<String> names) {
+		storageService.deleteAll(names);
+		imageCache.invalidateAll(names);
+	}
+
+	private String locate(final VideoID id, final VideoMediaType type) {
+		if (contentAddressed) {
+			final var reference = contentRepository.findById(VideoMediaContentID.from(id.getValue(), type));
+			if (reference.isPresent()) {
+				return contentPath(reference.get().getContentHash());
+			}
+		}
+
+		return filePath(id, type);
+	}
+
+	private String contentPath(final String hash) {
+		return contentLocationPattern.replace("{hash}", hash);
 	}
 
 	private String filePath(final VideoID id, final VideoMediaType type) {
-		return folder(id).concat("/").concat(filename(type));
+		return naming.folder(id).concat("/").concat(filename(type));
+	}
+
+	private String variantPath(final VideoID id, final VideoMediaType type, final String checksum, final int width) {
+		return variantPrefix(id, type) + checksum + "-w" + width;
+	}
+
+	private String variantPrefix(final VideoID id, final VideoMediaType type) {
+		return filePath(id, type).concat("-");
+	}
+
+	private Optional<String> previousFilePath(final VideoID id, final VideoMediaType type) {
+		return previousNaming.map(it -> it.folder(id).concat("/").concat(filename(type)));
 	}
 
 	private String filename(final VideoMediaType type) {
 		return filenamePattern.replace("{type}", type.name());
 	}
 
-	private String folder(final VideoID id) {
-		return locationPattern.replace("{videoId}", id.toString());
+	private List<String> folders(final VideoID id) {
+		final var folders = new ArrayList<String>();
+		folders.add(naming.folder(id).concat("/"));
+		previousNaming.ifPresent(it -> folders.add(it.folder(id).concat("/")));
+		return folders;
 	}
 }
@@ -2,12 +2,16 @@ package com.fullcycle.admin.catalog.infrastructure.video;
 
 import com.fullcycle.admin.catalog.domain.Identifier;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.pagination.VideoSearchMode;
 import com.fullcycle.admin.catalog.domain.pagination.VideoSearchQuery;
 import com.fullcycle.admin.catalog.domain.video.Video;
 import com.fullcycle.admin.catalog.domain.video.VideoGateway;
 import com.fullcycle.admin.catalog.domain.video.VideoID;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.search.VideoSearchProperties;
+import com.fullcycle.admin.catalog.infrastructure.pagination.PaginationTotals;
 import com.fullcycle.admin.catalog.infrastructure.service.EventService;
 import com.fullcycle.admin.catalog.infrastructure.utils.SQLUtils;
+import com.fullcycle.admin.catalog.infrastructure.video.ingestion.MediaIngestionRepository;
 import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoJpaEntity;
 import com.fullcycle.admin.catalog.domain.video.VideoPreview;
 import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoRepository;
@@ -27,7 +31,10 @@ import static com.fullcycle.admin.catalog.domain.utils.CollectionUtils.emptyIfNu
 public class VideoMySQLGateway implements VideoGateway {
 
 	private final VideoRepository videoRepository;
+	private final MediaIngestionRepository ingestionRepository;
 	private final EventService eventService;
+	private final VideoSearchProperties searchProperties;
+	private final PaginationTotals totals;
 
 	@Override
 	@Transactional
@@ -42,12 +49,14 @@ public class VideoMySQLGateway implements VideoGateway {
 	}
 
 	@Override
+	@Transactional
 	public void deleteById(final VideoID id) {
 		final var videoId = id.getValue();
 
 		if (videoRepository.existsById(videoId)) {
 			videoRepository.deleteById(videoId);
 		}
+		ingestionRepository.deleteAllByVideoID(videoId);
 	}
 
 	@Override
@@ -56,28 +65,61 @@ public class VideoMySQLGateway implements VideoGateway {
 		return videoRepository.findById(id.getValue()).map(VideoJpaEntity::toAggregate);
 	}
 
+	// full text searches page by offset only and give no cursor
 	@Override
 	public Pagination<VideoPreview> findAll(final VideoSearchQuery query) {
-		final var page = PageRequest.of(
-		  query.page(),
-		  query.perPage(),
-		  Sort.by(Sort.Direction.fromString(query.direction()), query.sort())
-		);
+		final var fullText = fullText(query);
+
+		if (fullText != null) {
+			final var page = PageRequest.of(
+			  query.page(),
+			  query.perPage(),
+			  Sort.by(Sort.Direction.fromString(query.direction()), query.sort())
+			);
+
+			final var categories = emptyIfNull(mapTo(query.categories(), Identifier::getValue));
+			final var genres = emptyIfNull(mapTo(query.genres(), Identifier::getValue));
+			final var castMembers = emptyIfNull(mapTo(query.castMembers(), Identifier::getValue));
+
+			final var videos = videoRepository.search(fullText, categories, genres, castMembers, page);
+			final var total = PaginationTotals.ofLastPage(videos.getNumber(), videos.getSize(), videos.getNumberOfElements(), videos.hasNext())
+			  .orElseGet(() -> totals.count(
+			    query.total(),
+			    "videos",
+			    "%s|%s|%s|%s".formatted(fullText, categories, genres, castMembers),
+			    () -> videoRepository.countSearch(fullText, categories, genres, castMembers)
+			  ));
 
-		final var videos = videoRepository.findAll(
+			return new Pagination<>(
+			  videos.getNumber(),
+			  videos.getSize(),
+			  total,
+			  videos.toList(),
+			  null,
+			  videos.hasNext()
+			);
+		}
+
+		return videoRepository.findPreviews(
 		  SQLUtils.like(SQLUtils.upper(query.terms())),
-		  emptyIfNull(mapTo(query.categories(), Identifier::toString)),
-		  emptyIfNull(mapTo(query.genres(), Identifier::toString)),
-		  emptyIfNull(mapTo(query.castMembers(), Identifier::toString)),
-		  page
+		  mapTo(query.categories(), Identifier::getValue),
+		  mapTo(query.genres(), Identifier::getValue),
+		  mapTo(query.castMembers(), Identifier::getValue),
+		  query.page(),
+		  query.perPage(),
+		  query.sort(),
+		  query.direction(),
+		  query.cursor(),
+		  query.total()
 		);
+	}
 
-		return new Pagination<>(
-		  videos.getNumber(),
-		  videos.getSize(),
-		  videos.getTotalElements(),
-		  videos.toList()
-		);
+	// terms the index can't answer, e.g. too short words, fall back to a title match
+	private String fullText(final VideoSearchQuery query) {
+		if (!searchProperties.isFullText() || query.mode() != VideoSearchMode.FULL_TEXT) {
+			return null;
+		}
+		return SQLUtils.fullText(query.terms());
 	}
 
 	private Video save(final Video video) {
@@ -0,0 +1,106 @@
+package com.fullcycle.admin.catalog.infrastructure.video.cache;
+
+import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.ImageCacheProperties;
+import com.fullcycle.admin.catalog.infrastructure.utils.ByteBufferInputStream;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Function;
+
+@Component
+public class ImageMediaCache {
+
+	private static final String CACHE_NAME = "media.images";
+
+	private final Cache<String, CachedImage> cache;
+	private final boolean offHeap;
+
+	@Autowired
+	public ImageMediaCache(final ImageCacheProperties props, final MeterRegistry registry) {
+		this(props, registry, Ticker.systemTicker());
+	}
+
+	ImageMediaCache(final ImageCacheProperties props, final MeterRegistry registry, final Ticker ticker) {
+		this.offHeap = props.isOffHeap();
+		this.cache = props.isEnabled() ? newCache(props.getMaximumSize(), props.getExpireAfterWrite(), registry, ticker) : null;
+	}
+
+	public Optional<Resource> get(final String name, final Function<String, Optional<Resource>> loader) {
+		if (cache == null) {
+			return loader.apply(name);
+		}
+
+		final var cached = cache.get(name, key -> loader.apply(key).map(this::toCached).orElse(null));
+		return Optional.ofNullable(cached).map(CachedImage::toResource);
+	}
+
+	public void invalidate(final String name) {
+		if (cache != null) {
+			cache.invalidate(name);
+		}
+	}
+
+	public void invalidateAll(final Collection<String> names) {
+		if (cache != null) {
+			cache.invalidateAll(names);
+		}
+	}
+
+	private CachedImage toCached(final Resource resource) {
+		final var content = resource.content();
+
+		if (!offHeap) {
+			return new CachedImage(resource.checksum(), resource.contentType(), resource.name(), content, null);
+		}
+
+		final var buffer = ByteBuffer.allocateDirect(content.length).put(content).flip();
+		return new CachedImage(resource.checksum(), resource.contentType(), resource.name(), null, buffer.asReadOnlyBuffer());
+	}
+
+	private static Cache<String, CachedImage> newCache(
+	  final long maximumSize,
+	  final Duration expireAfterWrite,
+	  final MeterRegistry registry,
+	  final Ticker ticker
+	) {
+		final var builder = Caffeine.newBuilder()
+		  .maximumWeight(maximumSize)
+		  .weigher((String name, CachedImage image) -> (int) Math.min(Integer.MAX_VALUE, image.size()))
+		  .ticker(ticker)
+		  .recordStats();
+
+		// invalidations only reach this node, other nodes drop a replaced image once it expires
+		if (expireAfterWrite != null) {
+			builder.expireAfterWrite(expireAfterWrite);
+		}
+
+		final Cache<String, CachedImage> cache = builder.build();
+
+		CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+		return cache;
+	}
+
+	private record CachedImage(String checksum, String contentType, String name, byte[] content, ByteBuffer buffer) {
+
+		long size() {
+			return content != null ? content.length : buffer.capacity();
+		}
+
+		Resource toResource() {
+			if (content != null) {
+				return Resource.with(checksum, content, contentType, name);
+			}
+			return Resource.with(checksum, () -> new ByteBufferInputStream(buffer.duplicate()), buffer.capacity(), contentType, name);
+		}
+	}
+}
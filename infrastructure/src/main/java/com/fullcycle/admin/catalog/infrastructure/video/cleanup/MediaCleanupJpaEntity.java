@@ -0,0 +1,50 @@
+package com.fullcycle.admin.catalog.infrastructure.video.cleanup;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "videos_media_cleanups")
+@Entity(name = "VideoMediaCleanup")
+public class MediaCleanupJpaEntity {
+
+	private static final int MAX_ERROR_LENGTH = 255;
+
+	@Id
+	@JdbcTypeCode(SqlTypes.BINARY)
+	@Column(name = "video_id_bin", nullable = false)
+	private UUID videoID;
+
+	@Column(name = "attempts", nullable = false)
+	private int attempts;
+
+	@Column(name = "next_attempt_at", nullable = false, columnDefinition = "DATETIME(6)")
+	private Instant nextAttemptAt;
+
+	@Column(name = "last_error")
+	private String lastError;
+
+	@Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+	private Instant createdAt;
+
+	public static MediaCleanupJpaEntity pending(final UUID videoID, final Instant now) {
+		return new MediaCleanupJpaEntity(videoID, 0, now, null, now);
+	}
+
+	public static String lastErrorOf(final Throwable error) {
+		final var message = String.valueOf(error.getMessage());
+		return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+	}
+}
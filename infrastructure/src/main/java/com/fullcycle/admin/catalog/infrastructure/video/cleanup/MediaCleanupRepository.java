@@ -0,0 +1,33 @@
+package com.fullcycle.admin.catalog.infrastructure.video.cleanup;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface MediaCleanupRepository extends JpaRepository<MediaCleanupJpaEntity, UUID> {
+
+	List<MediaCleanupJpaEntity> findAllByNextAttemptAtLessThanEqualOrderByNextAttemptAt(Instant now, Pageable page);
+
+	// rows purged or rescheduled by another node meanwhile are left as they are
+	@Transactional
+	@Modifying
+	@Query("""
+		UPDATE VideoMediaCleanup c
+		SET c.attempts = c.attempts + 1, c.nextAttemptAt = :nextAttemptAt, c.lastError = :lastError
+		WHERE c.videoID IN :videoIDs AND c.attempts = :attempts
+	""")
+	int reschedule(
+	  @Param("videoIDs") Collection<UUID> videoIDs,
+	  @Param("attempts") int attempts,
+	  @Param("nextAttemptAt") Instant nextAttemptAt,
+	  @Param("lastError") String lastError
+	);
+}
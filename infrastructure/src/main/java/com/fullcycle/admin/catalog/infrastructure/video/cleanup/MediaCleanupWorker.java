@@ -0,0 +1,122 @@
+package com.fullcycle.admin.catalog.infrastructure.video.cleanup;
+
+import com.fullcycle.admin.catalog.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalog.domain.video.VideoID;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.MediaCleanupProperties;
+import com.fullcycle.admin.catalog.infrastructure.video.VideoMediaResourceGateway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+public class MediaCleanupWorker {
+
+	private static final Logger log = LoggerFactory.getLogger(MediaCleanupWorker.class);
+
+	private final MediaCleanupProperties props;
+	private final MediaCleanupRepository cleanupRepository;
+	private final VideoMediaResourceGateway mediaResourceGateway;
+
+	public MediaCleanupWorker(
+	  final MediaCleanupProperties props,
+	  final MediaCleanupRepository cleanupRepository,
+	  final VideoMediaResourceGateway mediaResourceGateway
+	) {
+		this.props = props;
+		this.cleanupRepository = cleanupRepository;
+		this.mediaResourceGateway = mediaResourceGateway;
+	}
+
+	@Scheduled(
+	  initialDelayString = "${storage.catalog-video.cleanup.interval}",
+	  fixedDelayString = "${storage.catalog-video.cleanup.interval}"
+	)
+	public void scheduled() {
+		if (props.isEnabled()) {
+			drain();
+		}
+	}
+
+	public int drain() {
+		var purged = 0;
+		while (true) {
+			final var batch = runOnce();
+			purged += batch.purged();
+			if (batch.taken() < props.getBatchSize()) {
+				purgeUnreferencedContents();
+				return purged;
+			}
+		}
+	}
+
+	private void purgeUnreferencedContents() {
+		try {
+			var purged = props.getBatchSize();
+			while (purged >= props.getBatchSize()) {
+				purged = mediaResourceGateway.purgeUnreferencedContents(props.getBatchSize());
+			}
+		} catch (RuntimeException e) {
+			log.warn("[message:media.cleanup] [status:contents_failed] retrying on the next run", e);
+		}
+	}
+
+	private Batch runOnce() {
+		final var now = InstantUtils.now();
+		final var due = cleanupRepository.findAllByNextAttemptAtLessThanEqualOrderByNextAttemptAt(now, PageRequest.of(0, props.getBatchSize()));
+
+		if (due.isEmpty()) {
+			return new Batch(0, 0);
+		}
+
+		try {
+			purge(due);
+			cleanupRepository.deleteAllInBatch(due);
+			return new Batch(due.size(), due.size());
+		} catch (RuntimeException e) {
+			log.warn("[message:media.cleanup] [status:batch_failed] [videos:{}] retrying one by one", due.size(), e);
+		}
+
+		final var purged = new ArrayList<MediaCleanupJpaEntity>();
+		final var failed = new HashMap<Retry, List<UUID>>();
+
+		for (final var cleanup : due) {
+			try {
+				purge(List.of(cleanup));
+				purged.add(cleanup);
+			} catch (RuntimeException e) {
+				final var retry = new Retry(cleanup.getAttempts(), now.plus(backoff(cleanup.getAttempts())), MediaCleanupJpaEntity.lastErrorOf(e));
+				failed.computeIfAbsent(retry, it -> new ArrayList<>()).add(cleanup.getVideoID());
+				log.error("[message:media.cleanup] [status:failed] [videoId:{}] [attempts:{}] [nextAttemptAt:{}]", cleanup.getVideoID(), retry.attempts() + 1, retry.nextAttemptAt(), e);
+			}
+		}
+
+		cleanupRepository.deleteAllInBatch(purged);
+		failed.forEach((retry, ids) -> cleanupRepository.reschedule(ids, retry.attempts(), retry.nextAttemptAt(), retry.lastError()));
+		return new Batch(due.size(), purged.size());
+	}
+
+	private void purge(final List<MediaCleanupJpaEntity> cleanups) {
+		final var ids = cleanups.stream().map(MediaCleanupJpaEntity::getVideoID).map(VideoID::from).toList();
+		mediaResourceGateway.purgeResources(ids, props.getDeleteBatchSize());
+	}
+
+	private Duration backoff(final int attempts) {
+		final var delay = props.getRetryDelay().multipliedBy(1L << Math.min(attempts, 20));
+		return delay.compareTo(props.getMaxRetryDelay()) > 0 ? props.getMaxRetryDelay() : delay;
+	}
+
+	private record Batch(int taken, int purged) {
+	}
+
+	private record Retry(int attempts, Instant nextAttemptAt, String lastError) {
+	}
+}
@@ -0,0 +1,33 @@
+package com.fullcycle.admin.catalog.infrastructure.video.cleanup;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "videos_media_orphans")
+@Entity(name = "MediaOrphan")
+public class MediaOrphanJpaEntity {
+
+	@Id
+	@Column(name = "name", nullable = false, length = 512)
+	private String name;
+
+	@Column(name = "first_seen_at", nullable = false, columnDefinition = "DATETIME(6)")
+	private Instant firstSeenAt;
+
+	@Column(name = "last_seen_at", nullable = false, columnDefinition = "DATETIME(6)")
+	private Instant lastSeenAt;
+
+	public static MediaOrphanJpaEntity found(final String name, final Instant now) {
+		return new MediaOrphanJpaEntity(name, now, now);
+	}
+}
@@ -0,0 +1,29 @@
+package com.fullcycle.admin.catalog.infrastructure.video.cleanup;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+
+public interface MediaOrphanRepository extends JpaRepository<MediaOrphanJpaEntity, String> {
+
+	@Transactional
+	@Modifying
+	@Query("UPDATE MediaOrphan o SET o.lastSeenAt = :seenAt WHERE o.name IN :names")
+	int seen(@Param("names") Collection<String> names, @Param("seenAt") Instant seenAt);
+
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM MediaOrphan o WHERE o.name IN :names")
+	int forget(@Param("names") Collection<String> names);
+
+	// objects gone or referenced again since, left behind by a complete run
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM MediaOrphan o WHERE o.lastSeenAt < :seenAt")
+	int forgetNotSeenSince(@Param("seenAt") Instant seenAt);
+}
@@ -0,0 +1,32 @@
+package com.fullcycle.admin.catalog.infrastructure.video.cleanup;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "videos_media_reconciliations")
+@Entity(name = "MediaReconciliation")
+public class MediaReconciliationJpaEntity {
+
+	@Id
+	@Column(name = "name", nullable = false)
+	private String name;
+
+	@Column(name = "locked_by", length = 36)
+	private String lockedBy;
+
+	@Column(name = "locked_until", columnDefinition = "DATETIME(6)")
+	private Instant lockedUntil;
+
+	@Column(name = "finished_at", columnDefinition = "DATETIME(6)")
+	private Instant finishedAt;
+}
@@ -0,0 +1,48 @@
+package com.fullcycle.admin.catalog.infrastructure.video.cleanup;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+public interface MediaReconciliationRepository extends JpaRepository<MediaReconciliationJpaEntity, String> {
+
+	@Transactional
+	@Modifying
+	@Query(value = "INSERT INTO videos_media_reconciliations (name) VALUES (:name) ON DUPLICATE KEY UPDATE name = name", nativeQuery = true)
+	void createIfAbsent(@Param("name") String name);
+
+	@Transactional
+	@Modifying
+	@Query("""
+		UPDATE MediaReconciliation r
+		SET r.lockedBy = :owner, r.lockedUntil = :lockedUntil
+		WHERE r.name = :name
+		  AND (r.lockedUntil IS NULL OR r.lockedUntil < :now)
+		  AND (r.finishedAt IS NULL OR r.finishedAt <= :due)
+	""")
+	int lock(
+	  @Param("name") String name,
+	  @Param("owner") String owner,
+	  @Param("now") Instant now,
+	  @Param("due") Instant due,
+	  @Param("lockedUntil") Instant lockedUntil
+	);
+
+	@Transactional
+	@Modifying
+	@Query("UPDATE MediaReconciliation r SET r.lockedUntil = :lockedUntil WHERE r.name = :name AND r.lockedBy = :owner")
+	int extend(@Param("name") String name, @Param("owner") String owner, @Param("lockedUntil") Instant lockedUntil);
+
+	@Transactional
+	@Modifying
+	@Query("""
+		UPDATE MediaReconciliation r
+		SET r.lockedBy = NULL, r.lockedUntil = NULL, r.finishedAt = :finishedAt
+		WHERE r.name = :name AND r.lockedBy = :owner
+	""")
+	int release(@Param("name") String name, @Param("owner") String owner, @Param("finishedAt") Instant finishedAt);
+}
@@ -0,0 +1,341 @@
+package com.fullcycle.admin.catalog.infrastructure.video.cleanup;
+
+import com.fullcycle.admin.catalog.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalog.domain.video.VideoID;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.MediaReconciliationProperties;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.StorageProperties;
+import com.fullcycle.admin.catalog.infrastructure.service.StorageService;
+import com.fullcycle.admin.catalog.infrastructure.video.naming.MediaNamingStrategy;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoMediaContentLocks;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoMediaContentRepository;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoRepository;
+import com.fullcycle.admin.catalog.infrastructure.video.upload.UploadSessionService;
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+
+@Component
+public class OrphanMediaReconciler {
+
+	private static final Logger log = LoggerFactory.getLogger(OrphanMediaReconciler.class);
+
+	private static final String HASH = "{hash}";
+	private static final Pattern SHA_256 = Pattern.compile("[0-9a-f]{64}");
+	private static final Pattern PENDING = Pattern.compile("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}");
+	private static final String HEX_DIGITS = "0123456789abcdef";
+	private static final String LEASE = "orphans";
+
+	private final MediaReconciliationProperties props;
+	private final List<MediaNamingStrategy> namings;
+	private final String contentPrefix;
+	private final String contentSuffix;
+	private final StorageService storageService;
+	private final VideoRepository videoRepository;
+	private final VideoMediaContentRepository contentRepository;
+	private final VideoMediaContentLocks contentLocks;
+	private final UploadSessionService uploadSessionService;
+	private final MediaReconciliationRepository reconciliationRepository;
+	private final MediaOrphanRepository orphanRepository;
+
+	public OrphanMediaReconciler(
+	  final MediaReconciliationProperties props,
+	  final StorageProperties storageProperties,
+	  final StorageService storageService,
+	  final VideoRepository videoRepository,
+	  final VideoMediaContentRepository contentRepository,
+	  final VideoMediaContentLocks contentLocks,
+	  final UploadSessionService uploadSessionService,
+	  final MediaReconciliationRepository reconciliationRepository,
+	  final MediaOrphanRepository orphanRepository
+	) {
+		final var contentPattern = storageProperties.getContentLocationPattern();
+		final var namings = new ArrayList<MediaNamingStrategy>();
+		namings.add(MediaNamingStrategy.current(storageProperties));
+		MediaNamingStrategy.previous(storageProperties).ifPresent(namings::add);
+
+		this.props = props;
+		this.namings = List.copyOf(namings);
+		this.contentPrefix = contentPattern.substring(0, contentPattern.indexOf(HASH));
+		this.contentSuffix = contentPattern.substring(contentPattern.indexOf(HASH) + HASH.length());
+		this.storageService = storageService;
+		this.videoRepository = videoRepository;
+		this.contentRepository = contentRepository;
+		this.contentLocks = contentLocks;
+		this.uploadSessionService = uploadSessionService;
+		this.reconciliationRepository = reconciliationRepository;
+		this.orphanRepository = orphanRepository;
+	}
+
+	@Scheduled(
+	  initialDelayString = "${storage.catalog-video.reconciliation.interval}",
+	  fixedDelayString = "${storage.catalog-video.reconciliation.interval}"
+	)
+	public void scheduled() {
+		if (props.isEnabled()) {
+			run();
+		}
+	}
+
+	public Result run() {
+		final var owner = UUID.randomUUID().toString();
+		final var now = InstantUtils.now();
+		reconciliationRepository.createIfAbsent(LEASE);
+
+		if (reconciliationRepository.lock(LEASE, owner, now, now.minus(props.getInterval()), now.plus(props.getLease())) == 0) {
+			log.info("[message:media.reconciliation] [status:skipped] ran recently or running elsewhere");
+			return new Result(0, 0, 0, 0, 0);
+		}
+
+		final var limiter = RateLimiter.create(props.getRequestsPerSecond());
+		final var executor = Executors.newFixedThreadPool(
+		  Math.max(1, props.getParallelism()),
+		  new ThreadFactoryBuilder().setNameFormat("media-reconciliation-%d").setDaemon(true).build()
+		);
+		final var run = new Run(owner, limiter, now);
+		final var partitions = partitions();
+
+		log.info("[message:media.reconciliation] [status:started] [partitions:{}]", partitions.size());
+
+		try {
+			final var scans = new ArrayList<Future<?>>();
+			partitions.forEach(prefix -> scans.add(executor.submit(() -> scan(prefix, run))));
+
+			for (var i = 0; i < scans.size(); i++) {
+				try {
+					scans.get(i).get();
+				} catch (ExecutionException e) {
+					run.failures.incrementAndGet();
+					log.error("[message:media.reconciliation] [status:failed] [prefix:{}]", partitions.get(i), e.getCause());
+				}
+			}
+
+			// an object that is gone or referenced again isn't a suspect anymore
+			if (run.failures.get() == 0) {
+				orphanRepository.forgetNotSeenSince(run.startedAt);
+			}
+
+			try {
+				renew(run);
+				run.expiredUploads.set(uploadSessionService.deleteExpired(props.getPageSize(), run.limiter::acquire));
+			} catch (RuntimeException e) {
+				run.failures.incrementAndGet();
+				log.error("[message:media.reconciliation] [status:failed] [prefix:uploads]", e);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.warn("[message:media.reconciliation] [status:interrupted]");
+		} finally {
+			executor.shutdownNow();
+			reconciliationRepository.release(LEASE, owner, InstantUtils.now());
+		}
+
+		final var result = new Result(run.scanned.get(), run.orphans.get(), run.deleted.get(), run.expiredUploads.get(), run.failures.get());
+		log.info(
+		  "[message:media.reconciliation] [status:finished] [scanned:{}] [orphans:{}] [deleted:{}] [expiredUploads:{}] [failures:{}]",
+		  result.scanned(), result.orphans(), result.deleted(), result.expiredUploads(), result.failures()
+		);
+		return result;
+	}
+
+	private void scan(final String prefix, final Run run) {
+		run.limiter.acquire();
+		storageService.listPages(prefix, props.getPageSize(), page -> {
+			renew(run);
+			reconcile(page, run);
+			run.limiter.acquire();
+		});
+	}
+
+	private void reconcile(final List<String> names, final Run run) {
+		final var videos = new HashMap<String, UUID>();
+		final var contents = new HashMap<String, String>();
+		final var orphans = new ArrayList<String>();
+
+		for (final var name : names) {
+			final var video = videoOf(name);
+			if (video.isPresent()) {
+				videos.put(name, video.get().getValue());
+				continue;
+			}
+
+			contentKeyOf(name).ifPresent(key -> {
+				if (SHA_256.matcher(key).matches()) {
+					contents.put(name, key);
+				} else if (PENDING.matcher(key).matches()) {
+					orphans.add(name);
+				}
+			});
+		}
+
+		run.scanned.addAndGet(names.size());
+
+		if (!videos.isEmpty()) {
+			run.limiter.acquire();
+			final var existing = videoRepository.findExistingIds(Set.copyOf(videos.values()));
+			videos.forEach((name, id) -> {
+				if (!existing.contains(id)) {
+					orphans.add(name);
+				}
+			});
+		}
+
+		if (!contents.isEmpty()) {
+			run.limiter.acquire();
+			final var referenced = contentRepository.findReferencedHashes(Set.copyOf(contents.values()));
+			contents.forEach((name, hash) -> {
+				if (!referenced.contains(hash)) {
+					orphans.add(name);
+				}
+			});
+		}
+
+		run.orphans.addAndGet(orphans.size());
+
+		if (orphans.isEmpty()) {
+			return;
+		}
+
+		final var expired = expired(orphans, run);
+
+		final var expiredFolders = expired.stream().filter(name -> !contents.containsKey(name)).toList();
+		if (!expiredFolders.isEmpty()) {
+			run.limiter.acquire();
+			storageService.deleteAll(expiredFolders);
+			orphanRepository.forget(expiredFolders);
+			run.deleted.addAndGet(expiredFolders.size());
+		}
+
+		final var expiredContents = new ArrayList<String>();
+		for (final var name : expired) {
+			final var hash = contents.get(name);
+			if (hash != null) {
+				run.limiter.acquire();
+				if (contentLocks.deleteIfUnreferenced(hash, it -> storageService.deleteAll(List.of(name)))) {
+					run.deleted.incrementAndGet();
+				}
+				expiredContents.add(name);
+			}
+		}
+
+		if (!expiredContents.isEmpty()) {
+			orphanRepository.forget(expiredContents);
+		}
+	}
+
+	// an orphan is only deleted once a later run still finds it after the grace period
+	private List<String> expired(final List<String> orphans, final Run run) {
+		final var firstSeen = new HashMap<String, Instant>();
+		run.limiter.acquire();
+		orphanRepository.findAllById(orphans).forEach(orphan -> firstSeen.put(orphan.getName(), orphan.getFirstSeenAt()));
+
+		final var found = new ArrayList<MediaOrphanJpaEntity>();
+		final var expired = new ArrayList<String>();
+		for (final var name : orphans) {
+			final var seenAt = firstSeen.get(name);
+			if (seenAt == null) {
+				found.add(MediaOrphanJpaEntity.found(name, run.startedAt));
+			} else if (!seenAt.plus(props.getGrace()).isAfter(run.startedAt)) {
+				expired.add(name);
+			}
+		}
+
+		if (!found.isEmpty()) {
+			orphanRepository.saveAll(found);
+		}
+		if (!firstSeen.isEmpty()) {
+			orphanRepository.seen(firstSeen.keySet(), run.startedAt);
+		}
+		return expired;
+	}
+
+	// another node may take over an expired lease, the scans of this one stop there
+	private void renew(final Run run) {
+		if (run.leaseLost.get()) {
+			throw new IllegalStateException("Media reconciliation lease lost");
+		}
+
+		final var now = InstantUtils.now();
+		final var renewedAt = run.renewedAt.get();
+		if (renewedAt.plus(props.getLease().dividedBy(2)).isAfter(now) || !run.renewedAt.compareAndSet(renewedAt, now)) {
+			return;
+		}
+
+		if (reconciliationRepository.extend(LEASE, run.owner, now.plus(props.getLease())) == 0) {
+			run.leaseLost.set(true);
+			log.warn("[message:media.reconciliation] [status:lease_lost]");
+			throw new IllegalStateException("Media reconciliation lease lost");
+		}
+	}
+
+	private Optional<VideoID> videoOf(final String name) {
+		return namings.stream()
+		  .map(naming -> naming.videoOf(name))
+		  .flatMap(Optional::stream)
+		  .findFirst();
+	}
+
+	// the hash of a content, or the temporary name it was uploaded with
+	private Optional<String> contentKeyOf(final String name) {
+		if (!name.startsWith(contentPrefix) || !name.endsWith(contentSuffix)) {
+			return Optional.empty();
+		}
+
+		return Optional.of(name.substring(contentPrefix.length(), name.length() - contentSuffix.length()));
+	}
+
+	// the variable part following each prefix starts with a hex digit, a partition already
+	// covered by a shorter one isn't listed twice
+	private List<String> partitions() {
+		final var prefixes = new TreeSet<String>();
+		namings.forEach(naming -> prefixes.add(naming.scanPrefix()));
+		prefixes.add(contentPrefix);
+
+		final var partitions = new TreeSet<String>();
+		for (final var prefix : prefixes) {
+			for (final var digit : HEX_DIGITS.toCharArray()) {
+				partitions.add(prefix + digit);
+			}
+		}
+
+		return partitions.stream()
+		  .filter(partition -> partitions.stream().noneMatch(other -> !other.equals(partition) && partition.startsWith(other)))
+		  .toList();
+	}
+
+	public record Result(int scanned, int orphans, int deleted, int expiredUploads, int failures) {
+	}
+
+	private static class Run {
+
+		private final String owner;
+		private final RateLimiter limiter;
+		private final Instant startedAt;
+		private final AtomicReference<Instant> renewedAt;
+		private final AtomicBoolean leaseLost = new AtomicBoolean();
+		private final AtomicInteger scanned = new AtomicInteger();
+		private final AtomicInteger orphans = new AtomicInteger();
+		private final AtomicInteger deleted = new AtomicInteger();
+		private final AtomicInteger expiredUploads = new AtomicInteger();
+		private final AtomicInteger failures = new AtomicInteger();
+
+		private Run(final String owner, final RateLimiter limiter, final Instant startedAt) {
+			this.owner = owner;
+			this.limiter = limiter;
+			this.startedAt = startedAt;
+			this.renewedAt = new AtomicReference<>(startedAt);
+		}
+	}
+}
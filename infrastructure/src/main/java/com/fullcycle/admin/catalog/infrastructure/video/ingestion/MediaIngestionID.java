@@ -0,0 +1,34 @@
+package com.fullcycle.admin.catalog.infrastructure.video.ingestion;
+
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Embeddable
+public class MediaIngestionID implements Serializable {
+
+	@JdbcTypeCode(SqlTypes.BINARY)
+	@Column(name = "video_id_bin", nullable = false)
+	private UUID videoID;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "media_type", nullable = false)
+	private VideoMediaType mediaType;
+
+	public static MediaIngestionID from(final UUID videoID, final VideoMediaType mediaType) {
+		return new MediaIngestionID(videoID, mediaType);
+	}
+}
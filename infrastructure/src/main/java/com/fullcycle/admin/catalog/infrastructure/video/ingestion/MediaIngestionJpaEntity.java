@@ -0,0 +1,76 @@
+package com.fullcycle.admin.catalog.infrastructure.video.ingestion;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "videos_media_ingestions")
+@Entity(name = "VideoMediaIngestion")
+public class MediaIngestionJpaEntity {
+
+	private static final int MAX_ERROR_LENGTH = 255;
+
+	@EmbeddedId
+	private MediaIngestionID id;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", nullable = false)
+	private MediaIngestionStatus status;
+
+	@Column(name = "error")
+	private String error;
+
+	@Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
+	private Instant updatedAt;
+
+	@Column(name = "spool_path", length = 500)
+	private String spoolPath;
+
+	@Column(name = "spool_size")
+	private Long spoolSize;
+
+	@Column(name = "content_type")
+	private String contentType;
+
+	@Column(name = "file_name")
+	private String fileName;
+
+	@Column(name = "owner", length = 36)
+	private String owner;
+
+	public static MediaIngestionJpaEntity pending(
+	  final MediaIngestionID id,
+	  final String spoolPath,
+	  final long spoolSize,
+	  final String contentType,
+	  final String fileName,
+	  final String owner,
+	  final Instant now
+	) {
+		return new MediaIngestionJpaEntity(id, MediaIngestionStatus.PENDING, null, now, spoolPath, spoolSize, contentType, fileName, owner);
+	}
+
+	public MediaIngestionJpaEntity with(final MediaIngestionStatus status, final Instant now) {
+		this.status = status;
+		this.updatedAt = now;
+		return this;
+	}
+
+	public MediaIngestionJpaEntity failed(final Throwable error, final Instant now) {
+		final var message = String.valueOf(error.getMessage());
+
+		this.error = message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+		return with(MediaIngestionStatus.FAILED, now);
+	}
+}
@@ -0,0 +1,46 @@
+package com.fullcycle.admin.catalog.infrastructure.video.ingestion;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface MediaIngestionRepository extends JpaRepository<MediaIngestionJpaEntity, MediaIngestionID> {
+
+	List<MediaIngestionJpaEntity> findAllByIdVideoIDOrderByIdMediaType(UUID videoID);
+
+	List<MediaIngestionJpaEntity> findAllByStatusIn(Collection<MediaIngestionStatus> statuses);
+
+	@Transactional
+	@Modifying
+	@Query("UPDATE VideoMediaIngestion i SET i.updatedAt = :now WHERE i.owner = :owner AND i.status IN :statuses")
+	int heartbeat(@Param("owner") String owner, @Param("statuses") Collection<MediaIngestionStatus> statuses, @Param("now") Instant now);
+
+	@Transactional
+	@Modifying
+	@Query("""
+		UPDATE VideoMediaIngestion i
+		SET i.owner = :owner, i.updatedAt = :now
+		WHERE i.id = :id
+		  AND i.status IN :statuses
+		  AND i.updatedAt < :staleBefore
+	""")
+	int claim(
+	  @Param("id") MediaIngestionID id,
+	  @Param("owner") String owner,
+	  @Param("statuses") Collection<MediaIngestionStatus> statuses,
+	  @Param("now") Instant now,
+	  @Param("staleBefore") Instant staleBefore
+	);
+
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM VideoMediaIngestion i WHERE i.id.videoID = :videoID")
+	int deleteAllByVideoID(@Param("videoID") UUID videoID);
+}
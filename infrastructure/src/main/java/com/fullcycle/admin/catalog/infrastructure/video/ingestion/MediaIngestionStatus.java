@@ -0,0 +1,19 @@
+package com.fullcycle.admin.catalog.infrastructure.video.ingestion;
+
+import java.util.Collection;
+
+public enum MediaIngestionStatus {
+	PENDING, STORING, COMPLETED, FAILED;
+
+	public boolean isDone() {
+		return this == COMPLETED || this == FAILED;
+	}
+
+	// failed once every media is done and any of them failed
+	public static MediaIngestionStatus of(final Collection<MediaIngestionStatus> medias) {
+		if (!medias.stream().allMatch(MediaIngestionStatus::isDone)) {
+			return medias.stream().anyMatch(status -> status != PENDING) ? STORING : PENDING;
+		}
+		return medias.contains(FAILED) ? FAILED : COMPLETED;
+	}
+}
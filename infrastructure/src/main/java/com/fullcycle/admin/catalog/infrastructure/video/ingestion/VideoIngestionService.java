@@ -0,0 +1,375 @@
+package com.fullcycle.admin.catalog.infrastructure.video.ingestion;
+
+import com.fullcycle.admin.catalog.application.video.create.CreateVideoCommand;
+import com.fullcycle.admin.catalog.application.video.create.CreateVideoUseCase;
+import com.fullcycle.admin.catalog.domain.errors.NotFoundException;
+import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.domain.video.*;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.MediaIngestionProperties;
+import com.fullcycle.admin.catalog.infrastructure.utils.DigestingContentSource;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.UnaryOperator;
+
+@Component
+public class VideoIngestionService {
+
+	private static final Logger log = LoggerFactory.getLogger(VideoIngestionService.class);
+
+	private static final List<MediaIngestionStatus> UNFINISHED = List.of(MediaIngestionStatus.PENDING, MediaIngestionStatus.STORING);
+
+	private final String owner = UUID.randomUUID().toString();
+	private final Path spoolDir;
+	private final Duration staleAfter;
+	private final CreateVideoUseCase createVideoUseCase;
+	private final VideoGateway videoGateway;
+	private final MediaResourceGateway mediaResourceGateway;
+	private final MediaIngestionRepository ingestionRepository;
+	private final Semaphore admissions;
+	private final ExecutorService executor;
+
+	public VideoIngestionService(
+	  final MediaIngestionProperties props,
+	  final CreateVideoUseCase createVideoUseCase,
+	  final VideoGateway videoGateway,
+	  final MediaResourceGateway mediaResourceGateway,
+	  final MediaIngestionRepository ingestionRepository
+	) {
+		this.spoolDir = Path.of(props.getSpoolDir());
+		this.staleAfter = props.getStaleAfter();
+		this.createVideoUseCase = createVideoUseCase;
+		this.videoGateway = videoGateway;
+		this.mediaResourceGateway = mediaResourceGateway;
+		this.ingestionRepository = ingestionRepository;
+
+		final var maxPending = Math.max(1, props.getMaxPending());
+		final var threads = Math.max(1, props.getParallelism());
+		this.admissions = new Semaphore(maxPending);
+		this.executor = new ThreadPoolExecutor(
+		  threads,
+		  threads,
+		  0,
+		  TimeUnit.SECONDS,
+		  new ArrayBlockingQueue<>(maxPending * VideoMediaType.values().length),
+		  new ThreadFactoryBuilder().setNameFormat("media-ingestion-%d").setDaemon(true).build(),
+		  new ThreadPoolExecutor.AbortPolicy()
+		);
+	}
+
+	public VideoID create(final CreateVideoCommand command, final Map<VideoMediaType, MultipartFile> parts) {
+		if (!admissions.tryAcquire()) {
+			throw new RejectedExecutionException("Too many videos being ingested, try again later");
+		}
+
+		final Map<VideoMediaType, SpooledPart> spooled;
+		final VideoID id;
+		try {
+			spooled = spool(parts);
+			try {
+				id = VideoID.from(createVideoUseCase.execute(command).id());
+			} catch (RuntimeException e) {
+				delete(spooled.values());
+				throw e;
+			}
+		} catch (RuntimeException e) {
+			admissions.release();
+			throw e;
+		}
+
+		final var now = InstantUtils.now();
+		ingestionRepository.saveAllAndFlush(spooled.entrySet().stream()
+		  .map(entry -> entry.getValue().pending(MediaIngestionID.from(id.getValue(), entry.getKey()), owner, now))
+		  .toList());
+
+		start(id, spooled);
+		return id;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		recover();
+	}
+
+	@Scheduled(
+	  initialDelayString = "${storage.catalog-video.ingestion.heartbeat}",
+	  fixedDelayString = "${storage.catalog-video.ingestion.heartbeat}"
+	)
+	public void heartbeat() {
+		ingestionRepository.heartbeat(owner, UNFINISHED, InstantUtils.now());
+	}
+
+	@Scheduled(
+	  initialDelayString = "${storage.catalog-video.ingestion.stale-after}",
+	  fixedDelayString = "${storage.catalog-video.ingestion.stale-after}"
+	)
+	public void scheduled() {
+		recover();
+	}
+
+	public int recover() {
+		final var now = InstantUtils.now();
+		final var staleBefore = now.minus(staleAfter);
+		final var abandoned = new HashMap<UUID, List<MediaIngestionJpaEntity>>();
+		final var referenced = new HashSet<Path>();
+
+		for (final var ingestion : ingestionRepository.findAllByStatusIn(UNFINISHED)) {
+			SpooledPart.of(ingestion).ifPresent(it -> referenced.add(it.path()));
+
+			// refreshed by this process or by a node still storing it
+			if (!owner.equals(ingestion.getOwner()) && ingestion.getUpdatedAt().isBefore(staleBefore)) {
+				abandoned.computeIfAbsent(ingestion.getId().getVideoID(), it -> new ArrayList<>()).add(ingestion);
+			}
+		}
+
+		var resumed = 0;
+		for (final var entry : abandoned.entrySet()) {
+			if (resume(VideoID.from(entry.getKey()), entry.getValue(), now, staleBefore)) {
+				resumed++;
+			}
+		}
+
+		deleteUnreferenced(referenced, staleBefore);
+		return resumed;
+	}
+
+	public List<MediaIngestionJpaEntity> status(final VideoID id) {
+		final var medias = ingestionRepository.findAllByIdVideoIDOrderByIdMediaType(id.getValue());
+		if (medias.isEmpty()) {
+			throw NotFoundException.with(new Error("No ingestion found for video %s".formatted(id.getValue())));
+		}
+		return medias;
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdown();
+	}
+
+	private boolean resume(final VideoID id, final List<MediaIngestionJpaEntity> ingestions, final Instant now, final Instant staleBefore) {
+		final var parts = new EnumMap<VideoMediaType, SpooledPart>(VideoMediaType.class);
+
+		for (final var ingestion : ingestions) {
+			final var part = SpooledPart.of(ingestion).filter(it -> it.path().startsWith(spoolDir) && Files.exists(it.path()));
+			if (part.isPresent()) {
+				parts.put(ingestion.getId().getMediaType(), part.get());
+			} else if (claim(ingestion, now, staleBefore)) {
+				fail(id, ingestion.getId().getMediaType(), new IllegalStateException("Ingestion was interrupted"));
+			}
+		}
+
+		if (parts.isEmpty() || !admissions.tryAcquire()) {
+			return false;
+		}
+
+		final var claimed = new EnumMap<VideoMediaType, SpooledPart>(VideoMediaType.class);
+		for (final var ingestion : ingestions) {
+			final var type = ingestion.getId().getMediaType();
+			if (parts.containsKey(type) && claim(ingestion, now, staleBefore)) {
+				claimed.put(type, parts.get(type));
+			}
+		}
+
+		if (claimed.isEmpty()) {
+			admissions.release();
+			return false;
+		}
+
+		log.info("[message:media.ingestion] [status:resumed] [videoId:{}] [types:{}]", id.getValue(), claimed.keySet());
+		start(id, claimed);
+		return true;
+	}
+
+	// only one node takes over a row, and only while its owner still isn't refreshing it
+	private boolean claim(final MediaIngestionJpaEntity ingestion, final Instant now, final Instant staleBefore) {
+		return ingestionRepository.claim(ingestion.getId(), owner, UNFINISHED, now, staleBefore) > 0;
+	}
+
+	private void start(final VideoID id, final Map<VideoMediaType, SpooledPart> spooled) {
+		final var stores = new EnumMap<VideoMediaType, CompletableFuture<Object>>(VideoMediaType.class);
+		spooled.forEach((type, part) -> stores.put(type, CompletableFuture.supplyAsync(() -> store(id, type, part), executor)));
+
+		CompletableFuture.allOf(stores.values().toArray(CompletableFuture[]::new))
+		  .whenComplete((ignored, error) -> attach(id, stores, spooled));
+	}
+
+	private Map<VideoMediaType, SpooledPart> spool(final Map<VideoMediaType, MultipartFile> parts) {
+		final var spooled = new EnumMap<VideoMediaType, SpooledPart>(VideoMediaType.class);
+
+		try {
+			Files.createDirectories(spoolDir);
+			for (final var entry : parts.entrySet()) {
+				final var file = entry.getValue();
+				if (file == null) {
+					continue;
+				}
+
+				final var path = spoolDir.resolve(UUID.randomUUID() + "-" + entry.getKey());
+				final var size = file.getSize();
+				file.transferTo(path);
+				// a moved part keeps the time it was buffered at, it is only idle from now on
+				Files.setLastModifiedTime(path, FileTime.from(InstantUtils.now()));
+				spooled.put(entry.getKey(), new SpooledPart(path, size, file.getContentType(), file.getOriginalFilename()));
+			}
+		} catch (IOException e) {
+			delete(spooled.values());
+			throw new UncheckedIOException(e);
+		}
+
+		return spooled;
+	}
+
+	private Object store(final VideoID id, final VideoMediaType type, final SpooledPart part) {
+		mark(id, type, ingestion -> ingestion.with(MediaIngestionStatus.STORING, InstantUtils.now()));
+
+		final var resource = VideoResource.with(resourceOf(part), type);
+		return switch (type) {
+			case VIDEO, TRAILER -> mediaResourceGateway.storeAudioVideo(id, resource);
+			case BANNER, THUMBNAIL, THUMBNAIL_HALF -> mediaResourceGateway.storeImage(id, resource);
+		};
+	}
+
+	private void attach(
+	  final VideoID id,
+	  final Map<VideoMediaType, CompletableFuture<Object>> stores,
+	  final Map<VideoMediaType, SpooledPart> spooled
+	) {
+		try {
+			final var video = videoGateway.findById(id);
+			if (video.isEmpty()) {
+				mediaResourceGateway.clearResources(id);
+				stores.keySet().forEach(type -> fail(id, type, new IllegalStateException("Video was deleted before its medias were attached")));
+				return;
+			}
+
+			final var stored = new ArrayList<VideoMediaType>();
+			stores.forEach((type, store) -> {
+				if (!store.isCompletedExceptionally()) {
+					set(video.get(), type, store.join());
+					stored.add(type);
+				}
+			});
+
+			videoGateway.update(video.get());
+
+			final var now = InstantUtils.now();
+			stores.forEach((type, store) -> {
+				if (stored.contains(type)) {
+					mark(id, type, ingestion -> ingestion.with(MediaIngestionStatus.COMPLETED, now));
+				} else {
+					fail(id, type, causeOf(store));
+				}
+			});
+		} catch (RuntimeException e) {
+			log.error("[message:media.ingestion] [status:failed] [videoId:{}]", id.getValue(), e);
+			stores.keySet().forEach(type -> fail(id, type, e));
+		} finally {
+			delete(spooled.values());
+			admissions.release();
+		}
+	}
+
+	private void set(final Video video, final VideoMediaType type, final Object media) {
+		switch (type) {
+			case VIDEO -> video.setVideo((AudioVideoMedia) media);
+			case TRAILER -> video.setTrailer((AudioVideoMedia) media);
+			case BANNER -> video.setBanner((ImageMedia) media);
+			case THUMBNAIL -> video.setThumbnail((ImageMedia) media);
+			case THUMBNAIL_HALF -> video.setThumbnailHalf((ImageMedia) media);
+		}
+	}
+
+	private void fail(final VideoID id, final VideoMediaType type, final Throwable error) {
+		log.warn("[message:media.ingestion] [status:media_failed] [videoId:{}] [type:{}]", id.getValue(), type, error);
+		mark(id, type, ingestion -> ingestion.failed(error, InstantUtils.now()));
+	}
+
+	private void mark(final VideoID id, final VideoMediaType type, final UnaryOperator<MediaIngestionJpaEntity> change) {
+		ingestionRepository.findById(MediaIngestionID.from(id.getValue(), type))
+		  .map(change)
+		  .ifPresent(ingestionRepository::saveAndFlush);
+	}
+
+	private Throwable causeOf(final CompletableFuture<Object> store) {
+		try {
+			store.join();
+			return new IllegalStateException("Media was not stored");
+		} catch (CompletionException e) {
+			return e.getCause() != null ? e.getCause() : e;
+		}
+	}
+
+	private Resource resourceOf(final SpooledPart part) {
+		return DigestingContentSource.resourceOf(() -> Files.newInputStream(part.path()), part.size(), part.contentType(), part.name());
+	}
+
+	private void delete(final Collection<SpooledPart> parts) {
+		for (final var part : parts) {
+			try {
+				Files.deleteIfExists(part.path());
+			} catch (IOException e) {
+				log.warn("[message:media.ingestion] [status:spool_not_deleted] [path:{}]", part.path(), e);
+			}
+		}
+	}
+
+	private void deleteUnreferenced(final Set<Path> referenced, final Instant modifiedBefore) {
+		if (!Files.isDirectory(spoolDir)) {
+			return;
+		}
+
+		try (final var files = Files.list(spoolDir)) {
+			delete(files
+			  .filter(path -> !referenced.contains(path) && modifiedBefore(path, modifiedBefore))
+			  .map(path -> new SpooledPart(path, 0, null, null))
+			  .toList());
+		} catch (IOException e) {
+			log.warn("[message:media.ingestion] [status:spool_not_listed] [path:{}]", spoolDir, e);
+		}
+	}
+
+	private boolean modifiedBefore(final Path path, final Instant instant) {
+		try {
+			return Files.getLastModifiedTime(path).toInstant().isBefore(instant);
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	private record SpooledPart(Path path, long size, String contentType, String name) {
+
+		static Optional<SpooledPart> of(final MediaIngestionJpaEntity ingestion) {
+			if (ingestion.getSpoolPath() == null || ingestion.getSpoolSize() == null) {
+				return Optional.empty();
+			}
+			return Optional.of(new SpooledPart(
+			  Path.of(ingestion.getSpoolPath()),
+			  ingestion.getSpoolSize(),
+			  ingestion.getContentType(),
+			  ingestion.getFileName()
+			));
+		}
+
+		MediaIngestionJpaEntity pending(final MediaIngestionID id, final String owner, final Instant now) {
+			return MediaIngestionJpaEntity.pending(id, path.toString(), size, contentType, name, owner, now);
+		}
+	}
+}
@@ -7,5 +7,6 @@ public record AudioVideoMediaResponse(
   @JsonProperty("name") String name,
   @JsonProperty("location") String rawLocation,
   @JsonProperty("encoded_location") String encodedLocation,
-  @JsonProperty("status") String status
+  @JsonProperty("status") String status,
+  @JsonProperty("url") String url
 ) {}
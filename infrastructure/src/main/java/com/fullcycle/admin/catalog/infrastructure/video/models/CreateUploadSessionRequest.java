@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalog.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CreateUploadSessionRequest(
+  @JsonProperty("name") String name,
+  @JsonProperty("content_type") String contentType
+) {}
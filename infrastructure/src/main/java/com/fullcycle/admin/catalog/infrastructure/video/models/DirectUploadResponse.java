@@ -0,0 +1,15 @@
+package com.fullcycle.admin.catalog.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+
+public record DirectUploadResponse(
+  @JsonProperty("session_id") String sessionId,
+  @JsonProperty("video_id") String videoId,
+  @JsonProperty("media_type") String mediaType,
+  @JsonProperty("upload_url") String uploadUrl,
+  @JsonProperty("upload_method") String uploadMethod,
+  @JsonProperty("content_type") String contentType,
+  @JsonProperty("expires_at") Instant expiresAt
+) {}
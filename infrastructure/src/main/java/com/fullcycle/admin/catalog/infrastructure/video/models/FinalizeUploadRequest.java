@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalog.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record FinalizeUploadRequest(
+  @JsonProperty("size") Long size,
+  @JsonProperty("checksum") String checksum
+) {}
@@ -5,5 +5,6 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 public record ImageMediaResponse(
   @JsonProperty("checksum") String checksum,
   @JsonProperty("name") String name,
-  @JsonProperty("location") String rawLocation
+  @JsonProperty("location") String rawLocation,
+  @JsonProperty("url") String url
 ) {}
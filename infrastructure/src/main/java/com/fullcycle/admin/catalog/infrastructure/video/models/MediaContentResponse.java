@@ -0,0 +1,104 @@
+package com.fullcycle.admin.catalog.infrastructure.video.models;
+
+import com.fullcycle.admin.catalog.domain.resource.ContentSource;
+import org.springframework.core.io.AbstractResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Objects;
+
+public class MediaContentResponse extends AbstractResource {
+
+	private final String name;
+	private final long size;
+	private final ContentSource source;
+
+	private MediaContentResponse(final String name, final long size, final ContentSource source) {
+		this.name = Objects.requireNonNull(name);
+		this.size = size;
+		this.source = Objects.requireNonNull(source);
+	}
+
+	public static MediaContentResponse with(final String name, final long size, final ContentSource source) {
+		return new MediaContentResponse(name, size, source);
+	}
+
+	@Override
+	public String getDescription() {
+		return "Media content [%s]".formatted(name);
+	}
+
+	@Override
+	public String getFilename() {
+		return name;
+	}
+
+	@Override
+	public boolean exists() {
+		return true;
+	}
+
+	@Override
+	public long contentLength() {
+		return size;
+	}
+
+	@Override
+	public InputStream getInputStream() {
+		return new LazyInputStream(source);
+	}
+
+	// opened on the first read, so the skip a range write starts with becomes a seek
+	private static class LazyInputStream extends InputStream {
+
+		private final ContentSource source;
+		private InputStream delegate;
+		private long position;
+
+		private LazyInputStream(final ContentSource source) {
+			this.source = source;
+		}
+
+		@Override
+		public int read() throws IOException {
+			return delegate().read();
+		}
+
+		@Override
+		public int read(final byte[] b, final int off, final int len) throws IOException {
+			return delegate().read(b, off, len);
+		}
+
+		// MVC copies whole bodies with transferTo, the source may send them without a buffer
+		@Override
+		public long transferTo(final OutputStream out) throws IOException {
+			return delegate().transferTo(out);
+		}
+
+		@Override
+		public long skip(final long n) throws IOException {
+			if (delegate != null) {
+				return delegate.skip(n);
+			}
+
+			final var skipped = Math.max(n, 0);
+			position += skipped;
+			return skipped;
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (delegate != null) {
+				delegate.close();
+			}
+		}
+
+		private InputStream delegate() throws IOException {
+			if (delegate == null) {
+				delegate = source.openStream(position);
+			}
+			return delegate;
+		}
+	}
+}
@@ -0,0 +1,16 @@
+package com.fullcycle.admin.catalog.infrastructure.video.models;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum MediaDownloadMode {
+	STREAM,
+	REDIRECT,
+	URL;
+
+	public static Optional<MediaDownloadMode> of(final String value) {
+		return Arrays.stream(values())
+		  .filter(it -> it.name().equalsIgnoreCase(value))
+		  .findFirst();
+	}
+}
@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalog.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+
+public record MediaUrlResponse(
+  @JsonProperty("url") String url,
+  @JsonProperty("expires_at") Instant expiresAt
+) {}
@@ -0,0 +1,12 @@
+package com.fullcycle.admin.catalog.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record UploadSessionResponse(
+  @JsonProperty("session_id") String sessionId,
+  @JsonProperty("video_id") String videoId,
+  @JsonProperty("media_type") String mediaType,
+  @JsonProperty("received_chunks") List<Integer> receivedChunks
+) {}
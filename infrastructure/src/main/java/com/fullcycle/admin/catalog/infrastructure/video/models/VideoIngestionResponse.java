@@ -0,0 +1,20 @@
+package com.fullcycle.admin.catalog.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+import java.util.List;
+
+public record VideoIngestionResponse(
+  @JsonProperty("video_id") String videoId,
+  @JsonProperty("status") String status,
+  @JsonProperty("medias") List<Media> medias
+) {
+
+	public record Media(
+	  @JsonProperty("media_type") String mediaType,
+	  @JsonProperty("status") String status,
+	  @JsonProperty("error") String error,
+	  @JsonProperty("updated_at") Instant updatedAt
+	) {}
+}
@@ -0,0 +1,54 @@
+package com.fullcycle.admin.catalog.infrastructure.video.naming;
+
+import com.fullcycle.admin.catalog.domain.video.VideoID;
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+// videos created one after the other land in unrelated key ranges, so the object store spreads their load
+public class HashPrefixNamingStrategy implements MediaNamingStrategy {
+
+	private static final int MAX_SHARD_WIDTH = 8;
+
+	private final String locationPattern;
+	private final int shardWidth;
+	private final Pattern folderPattern;
+
+	public HashPrefixNamingStrategy(final String locationPattern, final int shardWidth) {
+		if (shardWidth < 1 || shardWidth > MAX_SHARD_WIDTH) {
+			throw new IllegalArgumentException("Shard width must be between 1 and %d".formatted(MAX_SHARD_WIDTH));
+		}
+
+		this.locationPattern = locationPattern;
+		this.shardWidth = shardWidth;
+		this.folderPattern = NamingPatterns.folderPattern("[0-9a-f]{%d}/".formatted(shardWidth), locationPattern);
+	}
+
+	@Override
+	public String folder(final VideoID id) {
+		final var hash = Hashing.murmur3_32_fixed().hashString(id.toString(), StandardCharsets.UTF_8).toString();
+		return hash.substring(0, shardWidth) + "/" + locationPattern.replace("{videoId}", id.toString());
+	}
+
+	@Override
+	public Optional<VideoID> videoOf(final String name) {
+		return NamingPatterns.videoOf(folderPattern, name).filter(id -> name.startsWith(folder(id) + "/"));
+	}
+
+	@Override
+	public String scanPrefix() {
+		return "";
+	}
+
+	@Override
+	public boolean equals(final Object o) {
+		return o instanceof HashPrefixNamingStrategy that && shardWidth == that.shardWidth && locationPattern.equals(that.locationPattern);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * locationPattern.hashCode() + shardWidth;
+	}
+}
@@ -0,0 +1,47 @@
+package com.fullcycle.admin.catalog.infrastructure.video.naming;
+
+import com.fullcycle.admin.catalog.domain.video.VideoID;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.StorageProperties;
+
+import java.util.Locale;
+import java.util.Optional;
+
+public interface MediaNamingStrategy {
+
+	String SEQUENTIAL = "sequential";
+	String HASH_PREFIX = "hash-prefix";
+
+	String folder(VideoID id);
+
+	// empty when the name isn't under a folder of this strategy
+	Optional<VideoID> videoOf(String name);
+
+	// the variable part following it is hex, so a scan can be split per hex digit
+	String scanPrefix();
+
+	static MediaNamingStrategy current(final StorageProperties props) {
+		return of(props.getNamingStrategy(), props.getLocationPattern(), props.getShardWidth());
+	}
+
+	// empty when nothing is being moved or it names objects the same way
+	static Optional<MediaNamingStrategy> previous(final StorageProperties props) {
+		if (props.getPreviousNamingStrategy() == null || props.getPreviousNamingStrategy().isBlank()) {
+			return Optional.empty();
+		}
+
+		final var previous = of(props.getPreviousNamingStrategy(), props.getLocationPattern(), props.getShardWidth());
+		return previous.equals(current(props)) ? Optional.empty() : Optional.of(previous);
+	}
+
+	static MediaNamingStrategy of(final String strategy, final String locationPattern, final int shardWidth) {
+		if (strategy == null || strategy.isBlank()) {
+			return new SequentialNamingStrategy(locationPattern);
+		}
+
+		return switch (strategy.toLowerCase(Locale.ROOT)) {
+			case SEQUENTIAL -> new SequentialNamingStrategy(locationPattern);
+			case HASH_PREFIX -> new HashPrefixNamingStrategy(locationPattern, shardWidth);
+			default -> throw new IllegalArgumentException("Unknown media naming strategy: " + strategy);
+		};
+	}
+}
@@ -0,0 +1,32 @@
+package com.fullcycle.admin.catalog.infrastructure.video.naming;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "videos_media_rekeys")
+@Entity(name = "MediaRekey")
+public class MediaRekeyJpaEntity {
+
+	@Id
+	@Column(name = "naming", nullable = false)
+	private String naming;
+
+	@Column(name = "locked_by", length = 36)
+	private String lockedBy;
+
+	@Column(name = "locked_until", columnDefinition = "DATETIME(6)")
+	private Instant lockedUntil;
+
+	@Column(name = "completed_at", columnDefinition = "DATETIME(6)")
+	private Instant completedAt;
+}
@@ -0,0 +1,182 @@
+package com.fullcycle.admin.catalog.infrastructure.video.naming;
+
+import com.fullcycle.admin.catalog.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalog.domain.video.VideoID;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.MediaRekeyProperties;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.StorageProperties;
+import com.fullcycle.admin.catalog.infrastructure.service.StorageService;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.AudioMediaVideoJpaEntity;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.ImageMediaJpaEntity;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoRepository;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+@Component
+public class MediaRekeyMigration {
+
+	private static final Logger log = LoggerFactory.getLogger(MediaRekeyMigration.class);
+
+	private final MediaRekeyProperties props;
+	private final String rekey;
+	private final MediaNamingStrategy naming;
+	private final Optional<MediaNamingStrategy> previousNaming;
+	private final StorageService storageService;
+	private final VideoRepository videoRepository;
+	private final MediaRekeyRepository rekeyRepository;
+
+	public MediaRekeyMigration(
+	  final MediaRekeyProperties props,
+	  final StorageProperties storageProperties,
+	  final StorageService storageService,
+	  final VideoRepository videoRepository,
+	  final MediaRekeyRepository rekeyRepository
+	) {
+		this.props = props;
+		this.rekey = "%s>%s".formatted(storageProperties.getPreviousNamingStrategy(), storageProperties.getNamingStrategy());
+		this.naming = MediaNamingStrategy.current(storageProperties);
+		this.previousNaming = MediaNamingStrategy.previous(storageProperties);
+		this.storageService = storageService;
+		this.videoRepository = videoRepository;
+		this.rekeyRepository = rekeyRepository;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		if (props.isEnabled() && previousNaming.isPresent()) {
+			final var thread = new Thread(this::run, "media-rekey");
+			thread.setDaemon(true);
+			thread.start();
+		}
+	}
+
+	public Result run() {
+		if (previousNaming.isEmpty()) {
+			return new Result(0, 0, 0);
+		}
+
+		final var owner = UUID.randomUUID().toString();
+		rekeyRepository.createIfAbsent(rekey);
+
+		if (rekeyRepository.lock(rekey, owner, InstantUtils.now(), leaseEnd()) == 0) {
+			log.info("[message:media.rekey] [status:skipped] [naming:{}] completed or running elsewhere", rekey);
+			return new Result(0, 0, 0);
+		}
+
+		final var executor = Executors.newFixedThreadPool(
+		  Math.max(1, props.getParallelism()),
+		  new ThreadFactoryBuilder().setNameFormat("media-rekey-%d").setDaemon(true).build()
+		);
+		final var videos = new AtomicInteger();
+		final var objects = new AtomicInteger();
+		final var failures = new AtomicInteger();
+		var completed = false;
+
+		log.info("[message:media.rekey] [status:started] [naming:{}]", rekey);
+
+		try {
+			var page = 0;
+			var ids = videoRepository.findAllIds(PageRequest.of(page, props.getPageSize(), Sort.by("id")));
+
+			while (!ids.isEmpty()) {
+				final var moves = new ArrayList<Future<Integer>>();
+				ids.forEach(id -> moves.add(executor.submit(() -> move(VideoID.from(id)))));
+
+				for (var i = 0; i < moves.size(); i++) {
+					try {
+						objects.addAndGet(moves.get(i).get());
+						videos.incrementAndGet();
+					} catch (ExecutionException e) {
+						failures.incrementAndGet();
+						log.error("[message:media.rekey] [status:failed] [videoId:{}]", ids.get(i), e.getCause());
+					}
+				}
+
+				// another node may have taken over an expired lease, this one stops there
+				if (rekeyRepository.extend(rekey, owner, leaseEnd()) == 0) {
+					log.warn("[message:media.rekey] [status:lease_lost] [naming:{}]", rekey);
+					failures.incrementAndGet();
+					break;
+				}
+
+				ids = videoRepository.findAllIds(PageRequest.of(++page, props.getPageSize(), Sort.by("id")));
+			}
+
+			completed = failures.get() == 0;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.warn("[message:media.rekey] [status:interrupted]");
+		} finally {
+			executor.shutdownNow();
+			rekeyRepository.release(rekey, owner, completed ? InstantUtils.now() : null);
+		}
+
+		final var result = new Result(videos.get(), objects.get(), failures.get());
+		log.info("[message:media.rekey] [status:finished] [videos:{}] [objects:{}] [failures:{}]", result.videos(), result.objects(), result.failures());
+		return result;
+	}
+
+	private int move(final VideoID id) {
+		final var from = previousNaming.get().folder(id).concat("/");
+		final var to = naming.folder(id).concat("/");
+		final var names = storageService.list(from);
+
+		if (names.isEmpty()) {
+			return 0;
+		}
+
+		// a media uploaded since the switch is already under its new name and newer than the old one
+		for (final var name : names) {
+			final var target = to + name.substring(from.length());
+			if (storageService.get(target).isEmpty()) {
+				storageService.get(name).ifPresent(resource -> storageService.store(target, resource));
+			}
+		}
+
+		// the media rows are reached by their keys, the paths only tell which ones still need moving
+		videoRepository.findById(id.getValue()).ifPresent(video -> {
+			final var audioVideos = Stream.of(video.getVideo(), video.getTrailer())
+			  .filter(Objects::nonNull)
+			  .map(AudioMediaVideoJpaEntity::getId)
+			  .toList();
+			final var images = Stream.of(video.getBanner(), video.getThumbnail(), video.getThumbnailHalf())
+			  .filter(Objects::nonNull)
+			  .map(ImageMediaJpaEntity::getId)
+			  .toList();
+
+			if (!audioVideos.isEmpty()) {
+				videoRepository.moveAudioVideoFiles(audioVideos, from, to);
+				videoRepository.moveAudioVideoEncodedFiles(audioVideos, from, to);
+			}
+			if (!images.isEmpty()) {
+				videoRepository.moveImageFiles(images, from, to);
+			}
+		});
+
+		storageService.deleteAll(names);
+		return names.size();
+	}
+
+	private Instant leaseEnd() {
+		return InstantUtils.now().plus(props.getLease());
+	}
+
+	public record Result(int videos, int objects, int failures) {
+	}
+}
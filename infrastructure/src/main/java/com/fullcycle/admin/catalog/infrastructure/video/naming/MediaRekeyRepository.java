@@ -0,0 +1,45 @@
+package com.fullcycle.admin.catalog.infrastructure.video.naming;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+public interface MediaRekeyRepository extends JpaRepository<MediaRekeyJpaEntity, String> {
+
+	@Transactional
+	@Modifying
+	@Query(value = "INSERT INTO videos_media_rekeys (naming) VALUES (:naming) ON DUPLICATE KEY UPDATE naming = naming", nativeQuery = true)
+	void createIfAbsent(@Param("naming") String naming);
+
+	@Transactional
+	@Modifying
+	@Query("""
+		UPDATE MediaRekey r
+		SET r.lockedBy = :owner, r.lockedUntil = :lockedUntil
+		WHERE r.naming = :naming AND r.completedAt IS NULL AND (r.lockedUntil IS NULL OR r.lockedUntil < :now)
+	""")
+	int lock(
+	  @Param("naming") String naming,
+	  @Param("owner") String owner,
+	  @Param("now") Instant now,
+	  @Param("lockedUntil") Instant lockedUntil
+	);
+
+	@Transactional
+	@Modifying
+	@Query("UPDATE MediaRekey r SET r.lockedUntil = :lockedUntil WHERE r.naming = :naming AND r.lockedBy = :owner")
+	int extend(@Param("naming") String naming, @Param("owner") String owner, @Param("lockedUntil") Instant lockedUntil);
+
+	@Transactional
+	@Modifying
+	@Query("""
+		UPDATE MediaRekey r
+		SET r.lockedBy = NULL, r.lockedUntil = NULL, r.completedAt = :completedAt
+		WHERE r.naming = :naming AND r.lockedBy = :owner
+	""")
+	int release(@Param("naming") String naming, @Param("owner") String owner, @Param("completedAt") Instant completedAt);
+}
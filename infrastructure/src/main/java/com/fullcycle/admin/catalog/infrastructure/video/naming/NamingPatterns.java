@@ -0,0 +1,30 @@
+package com.fullcycle.admin.catalog.infrastructure.video.naming;
+
+import com.fullcycle.admin.catalog.domain.video.VideoID;
+
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+final class NamingPatterns {
+
+	private static final String VIDEO_ID = "{videoId}";
+	private static final String UUID_PATTERN = "([0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12})";
+
+	private NamingPatterns() {}
+
+	static Pattern folderPattern(final String shardPattern, final String locationPattern) {
+		final var index = locationPattern.indexOf(VIDEO_ID);
+		final var before = locationPattern.substring(0, index);
+		final var after = locationPattern.substring(index + VIDEO_ID.length());
+		return Pattern.compile(shardPattern + Pattern.quote(before) + UUID_PATTERN + Pattern.quote(after) + "/.+");
+	}
+
+	static Optional<VideoID> videoOf(final Pattern folderPattern, final String name) {
+		final var matcher = folderPattern.matcher(name);
+		return matcher.matches() ? Optional.of(VideoID.from(matcher.group(1))) : Optional.empty();
+	}
+
+	static String fixedStart(final String locationPattern) {
+		return locationPattern.substring(0, locationPattern.indexOf(VIDEO_ID));
+	}
+}
@@ -0,0 +1,42 @@
+package com.fullcycle.admin.catalog.infrastructure.video.naming;
+
+import com.fullcycle.admin.catalog.domain.video.VideoID;
+
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+public class SequentialNamingStrategy implements MediaNamingStrategy {
+
+	private final String locationPattern;
+	private final Pattern folderPattern;
+
+	public SequentialNamingStrategy(final String locationPattern) {
+		this.locationPattern = locationPattern;
+		this.folderPattern = NamingPatterns.folderPattern("", locationPattern);
+	}
+
+	@Override
+	public String folder(final VideoID id) {
+		return locationPattern.replace("{videoId}", id.toString());
+	}
+
+	@Override
+	public Optional<VideoID> videoOf(final String name) {
+		return NamingPatterns.videoOf(folderPattern, name);
+	}
+
+	@Override
+	public String scanPrefix() {
+		return NamingPatterns.fixedStart(locationPattern);
+	}
+
+	@Override
+	public boolean equals(final Object o) {
+		return o instanceof SequentialNamingStrategy that && locationPattern.equals(that.locationPattern);
+	}
+
+	@Override
+	public int hashCode() {
+		return locationPattern.hashCode();
+	}
+}
@@ -21,6 +21,9 @@ public class AudioMediaVideoJpaEntity {
 
 	@Id
 	@JdbcTypeCode(SqlTypes.VARCHAR)
+	@Column(nullable = false)
+	private String id;
+
 	@Column(nullable = false)
 	private String checksum;
 
@@ -38,6 +41,7 @@ public class AudioMediaVideoJpaEntity {
 
 	public static AudioMediaVideoJpaEntity from(final AudioVideoMedia media) {
 		return new AudioMediaVideoJpaEntity(
+		  media.getId(),
 		  media.getChecksum(),
 		  media.getName(),
 		  media.getRawLocation(),
@@ -48,6 +52,7 @@ public class AudioMediaVideoJpaEntity {
 
 	public AudioVideoMedia toDomain() {
 		return AudioVideoMedia.with(
+		  getId(),
 		  getChecksum(),
 		  getName(),
 		  getFilePath(),
@@ -20,6 +20,9 @@ public class ImageMediaJpaEntity {
 
 	@Id
 	@JdbcTypeCode(SqlTypes.VARCHAR)
+	@Column(nullable = false)
+	private String id;
+
 	@Column(nullable = false)
 	private String checksum;
 
@@ -31,6 +34,7 @@ public class ImageMediaJpaEntity {
 
 	public static ImageMediaJpaEntity from(final ImageMedia media) {
 		return new ImageMediaJpaEntity(
+				media.getId(),
 				media.getChecksum(),
 				media.getName(),
 				media.getLocation()
@@ -39,6 +43,7 @@ public class ImageMediaJpaEntity {
 
 	public ImageMedia toDomain() {
 		return ImageMedia.with(
+			getId(),
 			getChecksum(),
 			getName(),
 			getFilePath()
@@ -5,6 +5,8 @@ import jakarta.persistence.Embeddable;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.io.Serializable;
 import java.util.Objects;
@@ -16,10 +18,12 @@ import java.util.UUID;
 @Embeddable
 public class VideoCategoryID implements Serializable {
 
-	@Column(name = "video_id", nullable = false)
+	@JdbcTypeCode(SqlTypes.BINARY)
+	@Column(name = "video_id_bin", nullable = false)
 	private UUID videoID;
 
-	@Column(name = "category_id", nullable = false)
+	@JdbcTypeCode(SqlTypes.BINARY)
+	@Column(name = "category_id_bin", nullable = false)
 	private UUID categoryID;
 
 	public static VideoCategoryID from(final UUID videoID, final UUID categoryID) {
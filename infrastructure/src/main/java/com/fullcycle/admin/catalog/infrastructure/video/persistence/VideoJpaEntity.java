@@ -29,8 +29,8 @@ import java.util.stream.Collectors;
 public class VideoJpaEntity {
 
 	@Id
-	@JdbcTypeCode(SqlTypes.VARCHAR)
-	@Column(nullable = false)
+	@JdbcTypeCode(SqlTypes.BINARY)
+	@Column(name = "id_bin", nullable = false)
 	private UUID id;
 
 	@Column(nullable = false)
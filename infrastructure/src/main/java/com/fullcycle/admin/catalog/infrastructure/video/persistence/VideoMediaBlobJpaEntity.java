@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalog.infrastructure.video.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// taken FOR UPDATE by whoever stores or deletes the content, see VideoMediaContentLocks
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "videos_media_blobs")
+@Entity(name = "VideoMediaBlob")
+public class VideoMediaBlobJpaEntity {
+
+	@Id
+	@Column(name = "content_hash", nullable = false, length = 64)
+	private String contentHash;
+}
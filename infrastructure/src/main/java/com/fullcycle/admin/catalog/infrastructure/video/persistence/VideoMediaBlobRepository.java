@@ -0,0 +1,27 @@
+package com.fullcycle.admin.catalog.infrastructure.video.persistence;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface VideoMediaBlobRepository extends JpaRepository<VideoMediaBlobJpaEntity, String> {
+
+	// a duplicate key update takes the row lock right away, where a plain insert of a missing row would race
+	@Modifying
+	@Query(value = "INSERT INTO videos_media_blobs (content_hash) VALUES (:hash) ON DUPLICATE KEY UPDATE content_hash = content_hash", nativeQuery = true)
+	void upsert(@Param("hash") String hash);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT b FROM VideoMediaBlob b WHERE b.contentHash = :hash")
+	Optional<VideoMediaBlobJpaEntity> findForUpdate(@Param("hash") String hash);
+
+	@Query("SELECT b.contentHash FROM VideoMediaBlob b WHERE NOT EXISTS (SELECT 1 FROM VideoMediaContent c WHERE c.contentHash = b.contentHash)")
+	List<String> findUnreferencedHashes(Pageable page);
+}
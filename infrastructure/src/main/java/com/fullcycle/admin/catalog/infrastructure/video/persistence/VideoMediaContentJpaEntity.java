@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalog.infrastructure.video.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// the rows sharing a content hash are the reference count of that object
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "videos_media_contents")
+@Entity(name = "VideoMediaContent")
+public class VideoMediaContentJpaEntity {
+
+	@EmbeddedId
+	private VideoMediaContentID id;
+
+	@Column(name = "content_hash", nullable = false, length = 64)
+	private String contentHash;
+}
@@ -0,0 +1,53 @@
+package com.fullcycle.admin.catalog.infrastructure.video.persistence;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+@Component
+public class VideoMediaContentLocks {
+
+	private final VideoMediaBlobRepository blobRepository;
+	private final VideoMediaContentRepository contentRepository;
+
+	public VideoMediaContentLocks(
+	  final VideoMediaBlobRepository blobRepository,
+	  final VideoMediaContentRepository contentRepository
+	) {
+		this.blobRepository = blobRepository;
+		this.contentRepository = contentRepository;
+	}
+
+	@Transactional
+	public <T> T locked(final String hash, final Supplier<T> action) {
+		lock(hash);
+		return action.get();
+	}
+
+	// the deleter runs first under the lock, so a failed delete keeps the row for the next cleanup
+	@Transactional
+	public boolean deleteIfUnreferenced(final String hash, final Consumer<String> deleter) {
+		lock(hash);
+		if (contentRepository.existsByContentHash(hash)) {
+			return false;
+		}
+
+		deleter.accept(hash);
+		blobRepository.deleteById(hash);
+		return true;
+	}
+
+	@Transactional(readOnly = true)
+	public List<String> findUnreferenced(final int limit) {
+		return blobRepository.findUnreferencedHashes(PageRequest.of(0, limit));
+	}
+
+	private void lock(final String hash) {
+		blobRepository.upsert(hash);
+		blobRepository.findForUpdate(hash);
+	}
+}
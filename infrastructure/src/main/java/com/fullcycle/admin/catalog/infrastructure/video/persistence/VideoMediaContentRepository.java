@@ -0,0 +1,20 @@
+package com.fullcycle.admin.catalog.infrastructure.video.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public interface VideoMediaContentRepository extends JpaRepository<VideoMediaContentJpaEntity, VideoMediaContentID> {
+
+	List<VideoMediaContentJpaEntity> findAllByIdVideoIDIn(Collection<UUID> videoIDs);
+
+	boolean existsByContentHash(String contentHash);
+
+	@Query("SELECT distinct c.contentHash FROM VideoMediaContent c WHERE c.contentHash IN :hashes")
+	Set<String> findReferencedHashes(@Param("hashes") Collection<String> hashes);
+}
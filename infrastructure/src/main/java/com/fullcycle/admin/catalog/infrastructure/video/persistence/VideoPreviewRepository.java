@@ -0,0 +1,25 @@
+package com.fullcycle.admin.catalog.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.pagination.TotalMode;
+import com.fullcycle.admin.catalog.domain.video.VideoPreview;
+
+import java.util.Set;
+import java.util.UUID;
+
+public interface VideoPreviewRepository {
+
+	// a null or empty filter matches every video
+	Pagination<VideoPreview> findPreviews(
+	  String terms,
+	  Set<UUID> categories,
+	  Set<UUID> genres,
+	  Set<UUID> castMembers,
+	  int page,
+	  int perPage,
+	  String sort,
+	  String direction,
+	  String cursor,
+	  TotalMode total
+	);
+}
@@ -0,0 +1,188 @@
+package com.fullcycle.admin.catalog.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.pagination.TotalMode;
+import com.fullcycle.admin.catalog.domain.video.VideoPreview;
+import com.fullcycle.admin.catalog.infrastructure.pagination.PaginationTotals;
+import com.fullcycle.admin.catalog.infrastructure.utils.KeysetUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.AbstractQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+public class VideoPreviewRepositoryImpl implements VideoPreviewRepository {
+
+	private final EntityManager entityManager;
+	private final PaginationTotals totals;
+
+	public VideoPreviewRepositoryImpl(final EntityManager entityManager, final PaginationTotals totals) {
+		this.entityManager = entityManager;
+		this.totals = totals;
+	}
+
+	@Override
+	public Pagination<VideoPreview> findPreviews(
+	  final String terms,
+	  final Set<UUID> categories,
+	  final Set<UUID> genres,
+	  final Set<UUID> castMembers,
+	  final int page,
+	  final int perPage,
+	  final String sort,
+	  final String direction,
+	  final String cursor,
+	  final TotalMode total
+	) {
+		final var after = KeysetUtils.decode(cursor, sort, direction);
+		final var cb = entityManager.getCriteriaBuilder();
+
+		final var query = cb.createTupleQuery();
+		final var video = query.from(VideoJpaEntity.class);
+		final var where = filters(cb, query, video, terms, categories, genres, castMembers);
+		if (after != null) {
+			where.add(KeysetUtils.after(cb, video, after));
+		}
+
+		query.multiselect(
+		    video.get("id"),
+		    video.get("title"),
+		    video.get("description"),
+		    video.get("createdAt"),
+		    video.get("updatedAt"),
+		    video.get(sort)
+		  )
+		  .where(where.toArray(Predicate[]::new))
+		  .orderBy(QueryUtils.toOrders(KeysetUtils.sort(sort, direction), video, cb));
+
+		final var typed = entityManager.createQuery(query).setMaxResults(perPage + 1);
+		if (after == null) {
+			typed.setFirstResult(page * perPage);
+		}
+
+		final var rows = typed.getResultList();
+		final var hasNext = rows.size() > perPage;
+		final List<Tuple> content = hasNext ? rows.subList(0, perPage) : rows;
+
+		final LongSupplier counted = () -> totals.count(total, "videos", key(terms, categories, genres, castMembers), () -> count(cb, terms, categories, genres, castMembers));
+		final var count = after == null
+		  ? PaginationTotals.ofLastPage(page, perPage, content.size(), hasNext).orElseGet(counted)
+		  : KeysetUtils.totalOf(after);
+
+		return new Pagination<>(
+		  page,
+		  perPage,
+		  count,
+		  content.stream().map(VideoPreviewRepositoryImpl::previewOf).toList(),
+		  hasNext ? KeysetUtils.encode(sort, direction, content.get(perPage - 1).get(5), content.get(perPage - 1).get(0), count) : null
+		);
+	}
+
+	private long count(
+	  final CriteriaBuilder cb,
+	  final String terms,
+	  final Set<UUID> categories,
+	  final Set<UUID> genres,
+	  final Set<UUID> castMembers
+	) {
+		final var query = cb.createQuery(Long.class);
+		final var video = query.from(VideoJpaEntity.class);
+		query.select(cb.count(video))
+		  .where(filters(cb, query, video, terms, categories, genres, castMembers).toArray(Predicate[]::new));
+		return entityManager.createQuery(query).getSingleResult();
+	}
+
+	// null when unfiltered, sorted so the same filters always give the same key
+	private static String key(
+	  final String terms,
+	  final Set<UUID> categories,
+	  final Set<UUID> genres,
+	  final Set<UUID> castMembers
+	) {
+		if (terms == null && isEmpty(categories) && isEmpty(genres) && isEmpty(castMembers)) {
+			return null;
+		}
+		return String.join(
+		  "|",
+		  Objects.toString(terms, ""),
+		  sorted(categories),
+		  sorted(genres),
+		  sorted(castMembers)
+		);
+	}
+
+	private static boolean isEmpty(final Set<UUID> ids) {
+		return ids == null || ids.isEmpty();
+	}
+
+	private static String sorted(final Set<UUID> ids) {
+		return isEmpty(ids) ? "" : new TreeSet<>(ids).toString();
+	}
+
+	// each relation is a semi-join added only when filtered, so a video is never fanned out
+	private static List<Predicate> filters(
+	  final CriteriaBuilder cb,
+	  final AbstractQuery<?> query,
+	  final Root<VideoJpaEntity> video,
+	  final String terms,
+	  final Set<UUID> categories,
+	  final Set<UUID> genres,
+	  final Set<UUID> castMembers
+	) {
+		final var filters = new ArrayList<Predicate>();
+
+		if (terms != null) {
+			filters.add(cb.like(cb.upper(video.get("title")), terms));
+		}
+		if (!isEmpty(categories)) {
+			filters.add(exists(cb, query, video, VideoCategoryJpaEntity.class, "categoryID", categories));
+		}
+		if (!isEmpty(genres)) {
+			filters.add(exists(cb, query, video, VideoGenreJpaEntity.class, "genreID", genres));
+		}
+		if (!isEmpty(castMembers)) {
+			filters.add(exists(cb, query, video, VideoCastMemberJpaEntity.class, "castMemberID", castMembers));
+		}
+
+		return filters;
+	}
+
+	// the join tables are keyed on (video_id, other_id), the subquery is one index lookup per video
+	private static <T> Predicate exists(
+	  final CriteriaBuilder cb,
+	  final AbstractQuery<?> query,
+	  final Root<VideoJpaEntity> video,
+	  final Class<T> relation,
+	  final String attribute,
+	  final Set<UUID> ids
+	) {
+		final var subquery = query.subquery(Integer.class);
+		final var related = subquery.from(relation);
+		subquery.select(cb.literal(1)).where(
+		  cb.equal(related.get("id").get("videoID"), video.get("id")),
+		  related.get("id").get(attribute).in(ids)
+		);
+		return cb.exists(subquery);
+	}
+
+	private static VideoPreview previewOf(final Tuple row) {
+		return new VideoPreview(
+		  row.get(0, UUID.class),
+		  row.get(1, String.class),
+		  row.get(2, String.class),
+		  row.get(3, Instant.class),
+		  row.get(4, Instant.class)
+		);
+	}
+}
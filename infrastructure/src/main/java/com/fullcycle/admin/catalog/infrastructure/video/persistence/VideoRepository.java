@@ -1,43 +1,101 @@
 package com.fullcycle.admin.catalog.infrastructure.video.persistence;
 
 import com.fullcycle.admin.catalog.domain.video.VideoPreview;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
-public interface VideoRepository extends JpaRepository<VideoJpaEntity, UUID> {
+public interface VideoRepository extends JpaRepository<VideoJpaEntity, UUID>, VideoPreviewRepository {
 
+	// MySQL only, the terms must be a boolean mode expression, see match_against
+	String SEARCH = """
+		FROM Video v
+		WHERE
+			match_against(v.title, v.description, :terms) > 0
+		AND
+			( :#{#castMembers} IS NULL OR EXISTS (
+				SELECT 1 FROM VideoCastMember members
+				WHERE members.id.videoID = v.id AND members.id.castMemberID in :#{#castMembers}
+			) )
+		AND
+			( :#{#genres} IS NULL OR EXISTS (
+				SELECT 1 FROM VideoGenre genres
+				WHERE genres.id.videoID = v.id AND genres.id.genreID in :#{#genres}
+			) )
+		AND
+			( :#{#categories} IS NULL OR EXISTS (
+				SELECT 1 FROM VideoCategory categories
+				WHERE categories.id.videoID = v.id AND categories.id.categoryID in :#{#categories}
+			) )
+	""";
+
+	// a slice fetches one row past the page instead of counting, see countSearch
 	@Query("""
-		SELECT distinct new com.fullcycle.admin.catalog.domain.video.VideoPreview(
+		SELECT new com.fullcycle.admin.catalog.domain.video.VideoPreview(
 			v.id as id,
 			v.title as title,
 			v.description as description,
 			v.createdAt as createdAt,
 			v.updatedAt as updatedAt
 		)
-		FROM Video v
-			LEFT JOIN v.castMembers members
-			LEFT JOIN v.categories categories
-			LEFT JOIN v.genres genres
-		WHERE
-			( :#{#terms} IS NULL OR UPPER(v.title) LIKE :#{#terms} )
-		AND
-			( :#{#castMembers} IS NULL OR members.id.castMemberID in :#{#castMembers} )
-		AND
-			( :#{#genres} IS NULL OR genres.id.genreID in :#{#genres} )
-		AND
-			( :#{#categories} IS NULL OR categories.id.categoryID in :#{#categories} )
+	""" + SEARCH + """
+		ORDER BY match_against(v.title, v.description, :terms) DESC
 	""")
-	Page<VideoPreview> findAll(
+	Slice<VideoPreview> search(
 	  @Param("terms") String terms,
-	  @Param("categories") Set<String> categories,
-	  @Param("genres") Set<String> genres,
-	  @Param("castMembers") Set<String> castMembers,
+	  @Param("categories") Set<UUID> categories,
+	  @Param("genres") Set<UUID> genres,
+	  @Param("castMembers") Set<UUID> castMembers,
 	  Pageable page
 	);
+
+	@Query("SELECT count(v) " + SEARCH)
+	long countSearch(
+	  @Param("terms") String terms,
+	  @Param("categories") Set<UUID> categories,
+	  @Param("genres") Set<UUID> genres,
+	  @Param("castMembers") Set<UUID> castMembers
+	);
+
+	@Query("SELECT v.id FROM Video v")
+	List<UUID> findAllIds(Pageable page);
+
+	@Query("SELECT v.id FROM Video v WHERE v.id IN :ids")
+	Set<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+	@Transactional
+	@Modifying
+	@Query("""
+		UPDATE AudioMediaVideo m
+		SET m.filePath = CONCAT(:to, SUBSTRING(m.filePath, LENGTH(:from) + 1))
+		WHERE m.id IN :ids AND m.filePath LIKE CONCAT(:from, '%')
+	""")
+	int moveAudioVideoFiles(@Param("ids") Collection<String> ids, @Param("from") String from, @Param("to") String to);
+
+	@Transactional
+	@Modifying
+	@Query("""
+		UPDATE AudioMediaVideo m
+		SET m.encodedPath = CONCAT(:to, SUBSTRING(m.encodedPath, LENGTH(:from) + 1))
+		WHERE m.id IN :ids AND m.encodedPath LIKE CONCAT(:from, '%')
+	""")
+	int moveAudioVideoEncodedFiles(@Param("ids") Collection<String> ids, @Param("from") String from, @Param("to") String to);
+
+	@Transactional
+	@Modifying
+	@Query("""
+		UPDATE ImageMedia m
+		SET m.filePath = CONCAT(:to, SUBSTRING(m.filePath, LENGTH(:from) + 1))
+		WHERE m.id IN :ids AND m.filePath LIKE CONCAT(:from, '%')
+	""")
+	int moveImageFiles(@Param("ids") Collection<String> ids, @Param("from") String from, @Param("to") String to);
 }
@@ -1,5 +1,7 @@
 package com.fullcycle.admin.catalog.infrastructure.video.presenters;
 
+import com.fullcycle.admin.catalog.application.video.media.get.MediaOutput;
+import com.fullcycle.admin.catalog.application.video.media.get.MediaUrlOutput;
 import com.fullcycle.admin.catalog.application.video.media.upload.UploadMediaOutput;
 import com.fullcycle.admin.catalog.application.video.retrieve.get.VideoOutput;
 import com.fullcycle.admin.catalog.application.video.retrieve.list.VideoListOutput;
@@ -7,7 +9,16 @@ import com.fullcycle.admin.catalog.application.video.update.UpdateVideoOutput;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.video.AudioVideoMedia;
 import com.fullcycle.admin.catalog.domain.video.ImageMedia;
+import com.fullcycle.admin.catalog.domain.video.VideoID;
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalog.infrastructure.video.ingestion.MediaIngestionJpaEntity;
+import com.fullcycle.admin.catalog.infrastructure.video.ingestion.MediaIngestionStatus;
 import com.fullcycle.admin.catalog.infrastructure.video.models.*;
+import com.fullcycle.admin.catalog.infrastructure.video.upload.DirectUpload;
+import com.fullcycle.admin.catalog.infrastructure.video.upload.UploadSession;
+
+import java.util.List;
+import java.util.UUID;
 
 public interface VideoApiPresenter {
 
@@ -23,23 +34,34 @@ public interface VideoApiPresenter {
 		  output.rating(),
 		  output.createdAt(),
 		  output.updatedAt(),
-		  present(output.banner()),
-		  present(output.thumbnail()),
-		  present(output.thumbnailHalf()),
-		  present(output.video()),
-		  present(output.trailer()),
+		  present(output.id(), VideoMediaType.BANNER, output.banner()),
+		  present(output.id(), VideoMediaType.THUMBNAIL, output.thumbnail()),
+		  present(output.id(), VideoMediaType.THUMBNAIL_HALF, output.thumbnailHalf()),
+		  present(output.id(), VideoMediaType.VIDEO, output.video()),
+		  present(output.id(), VideoMediaType.TRAILER, output.trailer()),
 		  output.categories(),
 		  output.genres(),
 		  output.members()
 		);
 	}
 
-	static ImageMediaResponse present(final ImageMedia output) {
-		return new ImageMediaResponse(output.getChecksum(), output.getName(), output.getLocation());
+	static ImageMediaResponse present(final UUID videoId, final VideoMediaType type, final ImageMedia output) {
+		if (output == null) {
+			return null;
+		}
+		return new ImageMediaResponse(output.getChecksum(), output.getName(), output.getLocation(), mediaUrl(videoId, type, output.getChecksum()));
+	}
+
+	static AudioVideoMediaResponse present(final UUID videoId, final VideoMediaType type, final AudioVideoMedia output) {
+		if (output == null) {
+			return null;
+		}
+		return new AudioVideoMediaResponse(output.getChecksum(), output.getName(), output.getRawLocation(), output.getEncodedLocation(), output.getStatus().name(), mediaUrl(videoId, type, output.getChecksum()));
 	}
 
-	static AudioVideoMediaResponse present(final AudioVideoMedia output) {
-		return new AudioVideoMediaResponse(output.getChecksum(), output.getName(), output.getRawLocation(), output.getEncodedLocation(), output.getStatus().name());
+	// versioned by checksum, so the URL changes whenever the media does and can be cached as immutable
+	static String mediaUrl(final UUID videoId, final VideoMediaType type, final String checksum) {
+		return "/videos/%s/medias/%s?v=%s".formatted(videoId, type.name(), checksum);
 	}
 
 	static UpdateVideoResponse present(final UpdateVideoOutput output) {
@@ -63,4 +85,36 @@ public interface VideoApiPresenter {
 	static UploadMediaResponse present(final UploadMediaOutput output) {
 		return new UploadMediaResponse(output.videoID(), output.mediaType().name());
 	}
+
+	static MediaContentResponse present(final MediaOutput output) {
+		return MediaContentResponse.with(output.name(), output.size(), output.content());
+	}
+
+	static MediaUrlResponse present(final MediaUrlOutput output) {
+		return new MediaUrlResponse(output.url(), output.expiresAt());
+	}
+
+	static DirectUploadResponse present(final DirectUpload upload) {
+		final var session = upload.session();
+		return new DirectUploadResponse(
+		  session.sessionId(),
+		  session.videoId(),
+		  session.mediaType(),
+		  upload.url().url().toString(),
+		  "PUT",
+		  session.contentType(),
+		  upload.url().expiresAt()
+		);
+	}
+
+	static UploadSessionResponse present(final UploadSession session, final List<Integer> receivedChunks) {
+		return new UploadSessionResponse(session.sessionId(), session.videoId(), session.mediaType(), receivedChunks);
+	}
+
+	static VideoIngestionResponse present(final VideoID id, final List<MediaIngestionJpaEntity> medias) {
+		final var status = MediaIngestionStatus.of(medias.stream().map(MediaIngestionJpaEntity::getStatus).toList());
+		return new VideoIngestionResponse(id.getValue().toString(), status.name(), medias.stream()
+		  .map(media -> new VideoIngestionResponse.Media(media.getId().getMediaType().name(), media.getStatus().name(), media.getError(), media.getUpdatedAt()))
+		  .toList());
+	}
 }
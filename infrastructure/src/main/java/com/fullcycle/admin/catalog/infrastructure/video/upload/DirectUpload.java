@@ -0,0 +1,5 @@
+package com.fullcycle.admin.catalog.infrastructure.video.upload;
+
+import com.fullcycle.admin.catalog.domain.resource.SignedUrl;
+
+public record DirectUpload(UploadSession session, SignedUrl url) {}
@@ -0,0 +1,20 @@
+package com.fullcycle.admin.catalog.infrastructure.video.upload;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+
+public record UploadSession(
+  @JsonProperty("session_id") String sessionId,
+  @JsonProperty("video_id") String videoId,
+  @JsonProperty("media_type") String mediaType,
+  @JsonProperty("name") String name,
+  @JsonProperty("content_type") String contentType,
+  // null in the manifests written before it was recorded
+  @JsonProperty("created_at") Instant createdAt
+) {
+
+	public UploadSession withCreatedAt(final Instant createdAt) {
+		return new UploadSession(sessionId, videoId, mediaType, name, contentType, createdAt);
+	}
+}
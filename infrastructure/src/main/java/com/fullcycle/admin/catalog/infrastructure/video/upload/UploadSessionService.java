@@ -0,0 +1,325 @@
+package com.fullcycle.admin.catalog.infrastructure.video.upload;
+
+import com.fullcycle.admin.catalog.application.video.media.upload.UploadMediaCommand;
+import com.fullcycle.admin.catalog.application.video.media.upload.UploadMediaOutput;
+import com.fullcycle.admin.catalog.application.video.media.upload.UploadMediaUseCase;
+import com.fullcycle.admin.catalog.domain.errors.DomainException;
+import com.fullcycle.admin.catalog.domain.errors.NotFoundException;
+import com.fullcycle.admin.catalog.domain.resource.ContentSource;
+import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.domain.video.VideoID;
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalog.domain.video.VideoResource;
+import com.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.StorageProperties;
+import com.fullcycle.admin.catalog.infrastructure.service.StorageService;
+import com.fullcycle.admin.catalog.infrastructure.utils.ChecksumInputStream;
+import com.fullcycle.admin.catalog.infrastructure.utils.ChecksumUtils;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Component
+public class UploadSessionService {
+
+	public static final int MAX_CHUNKS = 10_000;
+
+	private static final String MANIFEST = "session";
+	private static final String CHUNK_PREFIX = "chunk-";
+	private static final String DIRECT_CONTENT = "content";
+	private static final String CONTENT_TYPE = "application/json";
+	private static final String SESSION_ID = "{sessionId}";
+
+	private final String locationPattern;
+	private final Duration sessionTtl;
+	private final Duration signedUploadTtl;
+	private final StorageService storageService;
+	private final UploadMediaUseCase uploadMediaUseCase;
+
+	public UploadSessionService(
+	  final StorageProperties props,
+	  final StorageService storageService,
+	  final UploadMediaUseCase uploadMediaUseCase
+	) {
+		this.locationPattern = props.getUploadLocationPattern();
+		this.sessionTtl = props.getUploadSessionTtl();
+		this.signedUploadTtl = props.getSignedUploadTtl();
+		this.storageService = storageService;
+		this.uploadMediaUseCase = uploadMediaUseCase;
+	}
+
+	public UploadSession create(final VideoID videoId, final VideoMediaType type, final String name, final String contentType) {
+		final var session = new UploadSession(UUID.randomUUID().toString(), videoId.toString(), type.name(), name, contentType, InstantUtils.now());
+		save(session);
+		return session;
+	}
+
+	public DirectUpload createDirect(final VideoID videoId, final VideoMediaType type, final String name, final String contentType) {
+		final var session = new UploadSession(UUID.randomUUID().toString(), videoId.toString(), type.name(), name, contentType, InstantUtils.now());
+		final var url = storageService.signedUploadUrl(directContent(session.sessionId()), contentType, signedUploadTtl)
+		  .orElseThrow(() -> DomainException.with(new Error("Direct uploads are not supported by the media storage")));
+
+		save(session);
+		return new DirectUpload(session, url);
+	}
+
+	public UploadSession get(final String sessionId, final VideoID videoId, final VideoMediaType type) {
+		return storageService.get(manifest(sessionId))
+		  .map(UploadSessionService::read)
+		  .filter(it -> it.videoId().equals(videoId.toString()) && it.mediaType().equals(type.name()))
+		  .filter(it -> !isExpired(it, InstantUtils.now()))
+		  .orElseThrow(() -> notFound(sessionId, videoId));
+	}
+
+	public List<Integer> receivedChunks(final UploadSession session) {
+		return List.copyOf(chunks(session).keySet());
+	}
+
+	public void storeChunk(final UploadSession session, final int number, final InputStream body) {
+		if (number < 1 || number > MAX_CHUNKS) {
+			throw DomainException.with(new Error("Chunk number must be between 1 and %d".formatted(MAX_CHUNKS)));
+		}
+
+		try {
+			final var spooled = Files.createTempFile(CHUNK_PREFIX, ".part");
+
+			try {
+				final var stream = new ChecksumInputStream(body);
+				Files.copy(stream, spooled, StandardCopyOption.REPLACE_EXISTING);
+
+				final var chunk = Resource.with(stream.crc32c(), () -> Files.newInputStream(spooled), stream.count(), session.contentType(), session.name());
+				storageService.store(chunk(session.sessionId(), number), chunk);
+			} finally {
+				Files.deleteIfExists(spooled);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public UploadMediaOutput complete(final UploadSession session, final int totalChunks) {
+		final var chunks = chunks(session);
+
+		if (totalChunks < 1) {
+			throw DomainException.with(new Error("Upload session %s needs at least one chunk".formatted(session.sessionId())));
+		}
+
+		final var missing = IntStream.rangeClosed(1, totalChunks)
+		  .filter(number -> !chunks.containsKey(number))
+		  .mapToObj(String::valueOf)
+		  .collect(Collectors.joining(", "));
+
+		if (!missing.isEmpty()) {
+			throw DomainException.with(new Error("Missing chunks for upload session %s: %s".formatted(session.sessionId(), missing)));
+		}
+
+		if (chunks.size() != totalChunks) {
+			throw DomainException.with(new Error("Upload session %s has more than %d chunks".formatted(session.sessionId(), totalChunks)));
+		}
+
+		final var parts = chunks.values().stream()
+		  .map(name -> storageService.get(name).orElseThrow(() -> notFound(session.sessionId(), VideoID.from(session.videoId()))))
+		  .toList();
+
+		final var source = assembled(parts);
+		final var size = parts.stream().mapToLong(Resource::size).sum();
+		final var checksum = parts.stream()
+		  .skip(1)
+		  .reduce(parts.get(0).checksum(), (crc, part) -> ChecksumUtils.combine(crc, part.checksum(), part.size()), (a, b) -> a);
+
+		final var type = VideoMediaType.valueOf(session.mediaType());
+		final var resource = Resource.with(checksum, source, size, session.contentType(), session.name());
+		final var output = uploadMediaUseCase.execute(UploadMediaCommand.with(session.videoId(), VideoResource.with(resource, type)));
+
+		storageService.deleteAll(storageService.list(folder(session.sessionId())));
+		return output;
+	}
+
+	public UploadMediaOutput finalizeDirect(final UploadSession session, final Long size, final String checksum) {
+		if (size == null || checksum == null || checksum.isBlank()) {
+			throw DomainException.with(new Error("'size' and 'checksum' of the uploaded media are required"));
+		}
+
+		final var uploaded = storageService.get(directContent(session.sessionId()))
+		  .orElseThrow(() -> DomainException.with(new Error("Nothing was uploaded for upload session %s".formatted(session.sessionId()))));
+
+		if (uploaded.size() != size) {
+			throw DomainException.with(new Error("Uploaded media has %d bytes but %d were expected".formatted(uploaded.size(), size)));
+		}
+
+		if (!ChecksumUtils.matches(uploaded.checksum(), checksum)) {
+			throw DomainException.with(new Error("Uploaded media checksum %s doesn't match %s".formatted(uploaded.checksum(), checksum)));
+		}
+
+		// keeps the storage source, so attaching the media can copy it inside the storage
+		final var type = VideoMediaType.valueOf(session.mediaType());
+		final var resource = Resource.with(uploaded.checksum(), uploaded.source(), uploaded.size(), session.contentType(), session.name());
+		final var output = uploadMediaUseCase.execute(UploadMediaCommand.with(session.videoId(), VideoResource.with(resource, type)));
+
+		storageService.deleteAll(storageService.list(folder(session.sessionId())));
+		return output;
+	}
+
+	// also drops the sessions a partial delete left without a manifest, the throttle runs before every storage call
+	public int deleteExpired(final int pageSize, final Runnable throttle) {
+		final var now = InstantUtils.now();
+		final var prefix = locationPattern.substring(0, locationPattern.indexOf(SESSION_ID));
+		final var expired = new HashMap<String, Boolean>();
+
+		throttle.run();
+		storageService.listPages(prefix, pageSize, page -> {
+			final var names = new ArrayList<String>();
+
+			for (final var name : page) {
+				sessionOf(prefix, name).ifPresent(sessionId -> {
+					if (expired.computeIfAbsent(sessionId, it -> isExpired(it, now, throttle))) {
+						names.add(name);
+					}
+				});
+			}
+
+			if (!names.isEmpty()) {
+				throttle.run();
+				storageService.deleteAll(names);
+			}
+			throttle.run();
+		});
+
+		return (int) expired.values().stream().filter(Boolean::booleanValue).count();
+	}
+
+	private boolean isExpired(final String sessionId, final Instant now, final Runnable throttle) {
+		throttle.run();
+		final var manifest = storageService.get(manifest(sessionId));
+		if (manifest.isEmpty()) {
+			return true;
+		}
+
+		final var session = read(manifest.get());
+		if (session.createdAt() == null) {
+			throttle.run();
+			save(session.withCreatedAt(now));
+			return false;
+		}
+		return isExpired(session, now);
+	}
+
+	private boolean isExpired(final UploadSession session, final Instant now) {
+		return session.createdAt() != null && !session.createdAt().plus(sessionTtl).isAfter(now);
+	}
+
+	// session ids are random UUIDs, anything else under the prefix isn't a session
+	private Optional<String> sessionOf(final String prefix, final String name) {
+		final var end = name.indexOf('/', prefix.length());
+		if (!name.startsWith(prefix) || end < 0) {
+			return Optional.empty();
+		}
+
+		final var sessionId = name.substring(prefix.length(), end);
+		try {
+			UUID.fromString(sessionId);
+		} catch (IllegalArgumentException e) {
+			return Optional.empty();
+		}
+		return name.startsWith(folder(sessionId).concat("/")) ? Optional.of(sessionId) : Optional.empty();
+	}
+
+	private static UploadSession read(final Resource manifest) {
+		return Json.readValue(new String(manifest.content(), StandardCharsets.UTF_8), UploadSession.class);
+	}
+
+	private void save(final UploadSession session) {
+		final var content = Json.writeValueAsString(session).getBytes(StandardCharsets.UTF_8);
+
+		storageService.store(
+		  manifest(session.sessionId()),
+		  Resource.with(ChecksumUtils.generate(content), content, CONTENT_TYPE, MANIFEST)
+		);
+	}
+
+	private SortedMap<Integer, String> chunks(final UploadSession session) {
+		final var prefix = folder(session.sessionId()).concat("/").concat(CHUNK_PREFIX);
+		final var chunks = new TreeMap<Integer, String>();
+		storageService.list(prefix).forEach(name -> chunks.put(Integer.parseInt(name.substring(prefix.length())), name));
+		return chunks;
+	}
+
+	// opened at a position, seeks into the chunk holding it instead of reading the ones before
+	private static ContentSource assembled(final List<Resource> parts) {
+		return new ContentSource() {
+			@Override
+			public InputStream openStream() {
+				return concat(parts);
+			}
+
+			@Override
+			public InputStream openStream(final long position) throws IOException {
+				if (position == 0) {
+					return openStream();
+				}
+
+				var offset = position;
+				var index = 0;
+				while (index < parts.size() && offset >= parts.get(index).size()) {
+					offset -= parts.get(index).size();
+					index++;
+				}
+
+				if (index == parts.size()) {
+					return InputStream.nullInputStream();
+				}
+
+				final var first = parts.get(index).source().openStream(offset);
+				return new SequenceInputStream(first, concat(parts.subList(index + 1, parts.size())));
+			}
+		};
+	}
+
+	private static InputStream concat(final List<Resource> parts) {
+		final var iterator = parts.iterator();
+		return new SequenceInputStream(new Enumeration<>() {
+			@Override
+			public boolean hasMoreElements() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public InputStream nextElement() {
+				return iterator.next().openStream();
+			}
+		});
+	}
+
+	private NotFoundException notFound(final String sessionId, final VideoID videoId) {
+		return NotFoundException.with(new Error("Upload session %s not found for video %s".formatted(sessionId, videoId)));
+	}
+
+	private String manifest(final String sessionId) {
+		return folder(sessionId).concat("/").concat(MANIFEST);
+	}
+
+	private String directContent(final String sessionId) {
+		return folder(sessionId).concat("/").concat(DIRECT_CONTENT);
+	}
+
+	private String chunk(final String sessionId, final int number) {
+		return folder(sessionId).concat("/").concat(CHUNK_PREFIX).concat("%05d".formatted(number));
+	}
+
+	private String folder(final String sessionId) {
+		return locationPattern.replace("{sessionId}", sessionId);
+	}
+}
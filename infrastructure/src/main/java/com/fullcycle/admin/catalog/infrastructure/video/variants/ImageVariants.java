@@ -0,0 +1,223 @@
+package com.fullcycle.admin.catalog.infrastructure.video.variants;
+
+import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.ImageVariantProperties;
+import com.fullcycle.admin.catalog.infrastructure.utils.ChecksumUtils;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+@Component
+public class ImageVariants {
+
+	private static final Logger log = LoggerFactory.getLogger(ImageVariants.class);
+
+	public static final String CONTENT_TYPE = "image/jpeg";
+
+	private final boolean enabled;
+	private final List<Integer> widths;
+	private final float quality;
+	private final long maxPixels;
+	private final ExecutorService executor;
+
+	@Autowired
+	public ImageVariants(final ImageVariantProperties props) {
+		this(props, newExecutor(props));
+	}
+
+	public ImageVariants(final ImageVariantProperties props, final ExecutorService executor) {
+		this.enabled = props.isEnabled() && props.getWidths() != null && !props.getWidths().isEmpty();
+		this.widths = enabled ? props.getWidths().stream().sorted().distinct().toList() : List.of();
+		this.quality = props.getQuality();
+		this.maxPixels = props.getMaxPixels();
+		this.executor = executor;
+	}
+
+	// empty when the original is the closest
+	public Optional<Integer> widthFor(final int requested) {
+		return widths.stream().filter(width -> width >= requested).findFirst();
+	}
+
+	// stored runs once every variant is, unless the image was replaced meanwhile
+	public void generate(
+	  final String checksum,
+	  final Supplier<Optional<Resource>> original,
+	  final BiConsumer<Integer, Resource> store,
+	  final Runnable stored
+	) {
+		if (!enabled) {
+			return;
+		}
+
+		try {
+			executor.execute(() -> run(checksum, original, store, stored));
+		} catch (RejectedExecutionException e) {
+			log.warn("[message:image.variants] [status:dropped] [checksum:{}]", checksum);
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	private void run(
+	  final String checksum,
+	  final Supplier<Optional<Resource>> original,
+	  final BiConsumer<Integer, Resource> store,
+	  final Runnable stored
+	) {
+		try {
+			final var resource = current(checksum, original);
+			if (resource.isPresent() && produce(checksum, original, resource.get(), store)) {
+				stored.run();
+			}
+		} catch (RuntimeException e) {
+			log.error("[message:image.variants] [status:failed] [checksum:{}]", checksum, e);
+		}
+	}
+
+	// false when the image was replaced while its variants were produced
+	private boolean produce(
+	  final String checksum,
+	  final Supplier<Optional<Resource>> original,
+	  final Resource resource,
+	  final BiConsumer<Integer, Resource> store
+	) {
+		final var image = decode(resource);
+		if (image == null) {
+			return true;
+		}
+
+		for (final var width : widths) {
+			if (width >= image.getWidth()) {
+				break;
+			}
+
+			final var content = encode(resize(image, width));
+
+			if (current(checksum, original).isEmpty()) {
+				return false;
+			}
+
+			store.accept(width, Resource.with(ChecksumUtils.generate(content), content, CONTENT_TYPE, nameOf(resource.name(), width)));
+		}
+		return true;
+	}
+
+	private String nameOf(final String name, final int width) {
+		final var dot = name == null ? -1 : name.lastIndexOf('.');
+		return (dot > 0 ? name.substring(0, dot) : String.valueOf(name)) + "-w" + width + ".jpg";
+	}
+
+	private Optional<Resource> current(final String checksum, final Supplier<Optional<Resource>> original) {
+		return original.get().filter(resource -> ChecksumUtils.matches(checksum, resource.checksum()));
+	}
+
+	// null for a content ImageIO can't read or too large to decode, which is left without variants
+	private BufferedImage decode(final Resource resource) {
+		try (final InputStream stream = resource.openStream(); final var input = ImageIO.createImageInputStream(stream)) {
+			final var readers = input == null ? Collections.<ImageReader>emptyIterator() : ImageIO.getImageReaders(input);
+			if (!readers.hasNext()) {
+				return null;
+			}
+
+			final var reader = readers.next();
+			try {
+				reader.setInput(input, true, true);
+
+				final var pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+				if (pixels > maxPixels) {
+					log.warn("[message:image.variants] [status:too_large] [name:{}] [pixels:{}]", resource.name(), pixels);
+					return null;
+				}
+				return reader.read(0);
+			} finally {
+				reader.dispose();
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	// halves the image until it is close to the target, a single bilinear step would alias
+	private BufferedImage resize(final BufferedImage image, final int width) {
+		var current = image;
+		var currentWidth = image.getWidth();
+		var currentHeight = image.getHeight();
+		final var height = Math.max(1, Math.round((float) image.getHeight() * width / image.getWidth()));
+
+		do {
+			currentWidth = Math.max(width, currentWidth / 2);
+			currentHeight = Math.max(height, currentHeight / 2);
+
+			// JPEG has no alpha, transparent pixels become white
+			final var next = new BufferedImage(currentWidth, currentHeight, BufferedImage.TYPE_INT_RGB);
+			final var graphics = next.createGraphics();
+			try {
+				graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+				graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+				graphics.setBackground(Color.WHITE);
+				graphics.clearRect(0, 0, currentWidth, currentHeight);
+				graphics.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+			} finally {
+				graphics.dispose();
+			}
+			current = next;
+		} while (currentWidth != width);
+
+		return current;
+	}
+
+	private byte[] encode(final BufferedImage image) {
+		final var writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+		final var param = writer.getDefaultWriteParam();
+		param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+		param.setCompressionQuality(quality);
+		param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+
+		final var output = new ByteArrayOutputStream();
+		try (final var stream = ImageIO.createImageOutputStream(output)) {
+			writer.setOutput(stream);
+			writer.write(null, new IIOImage(image, null, null), param);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			writer.dispose();
+		}
+		return output.toByteArray();
+	}
+
+	private static ExecutorService newExecutor(final ImageVariantProperties props) {
+		final var threads = Math.max(1, props.getParallelism());
+		return new ThreadPoolExecutor(
+		  threads,
+		  threads,
+		  60,
+		  TimeUnit.SECONDS,
+		  new ArrayBlockingQueue<>(Math.max(1, props.getQueueCapacity())),
+		  new ThreadFactoryBuilder().setNameFormat("image-variants-%d").setDaemon(true).build(),
+		  new ThreadPoolExecutor.AbortPolicy()
+		);
+	}
+}
@@ -0,0 +1,123 @@
+-- Contract: the BINARY(16) twins added by V10 take the constraints of the CHAR(36) columns,
+-- which are dropped. Not on the Flyway locations on purpose: it ships in the release after the
+-- one mapping the twins, once no node reads or writes the CHAR(36) columns anymore, moved to
+-- db/specific/mysql under the next free version. The twins keep their names, so the release
+-- mapping them runs unchanged while it is applied.
+
+DROP TRIGGER trg_categories_id_bin;
+DROP TRIGGER trg_categories_id_bin_update;
+DROP TRIGGER trg_genres_id_bin;
+DROP TRIGGER trg_genres_id_bin_update;
+DROP TRIGGER trg_cast_members_id_bin;
+DROP TRIGGER trg_cast_members_id_bin_update;
+DROP TRIGGER trg_videos_id_bin;
+DROP TRIGGER trg_videos_id_bin_update;
+DROP TRIGGER trg_genres_categories_id_bin;
+DROP TRIGGER trg_genres_categories_id_bin_update;
+DROP TRIGGER trg_videos_categories_id_bin;
+DROP TRIGGER trg_videos_categories_id_bin_update;
+DROP TRIGGER trg_videos_genres_id_bin;
+DROP TRIGGER trg_videos_genres_id_bin_update;
+DROP TRIGGER trg_videos_cast_members_id_bin;
+DROP TRIGGER trg_videos_cast_members_id_bin_update;
+DROP TRIGGER trg_videos_media_contents_id_bin;
+DROP TRIGGER trg_videos_media_contents_id_bin_update;
+DROP TRIGGER trg_videos_media_cleanups_id_bin;
+DROP TRIGGER trg_videos_media_cleanups_id_bin_update;
+DROP TRIGGER trg_videos_media_ingestions_id_bin;
+DROP TRIGGER trg_videos_media_ingestions_id_bin_update;
+
+ALTER TABLE genres_categories DROP FOREIGN KEY fk_genre_id, DROP FOREIGN KEY fk_category_id;
+ALTER TABLE videos_categories DROP FOREIGN KEY fk_video_category_video_id, DROP FOREIGN KEY fk_video_vc_id;
+ALTER TABLE videos_genres DROP FOREIGN KEY fk_video_genre_video_id, DROP FOREIGN KEY fk_video_vg_id;
+ALTER TABLE videos_cast_members DROP FOREIGN KEY fk_video_cast_member_video_id, DROP FOREIGN KEY fk_video_vsm_id;
+
+ALTER TABLE categories
+    DROP PRIMARY KEY,
+    DROP COLUMN id,
+    MODIFY COLUMN id_bin BINARY(16) NOT NULL FIRST,
+    ADD CONSTRAINT pk_categories PRIMARY KEY (id_bin),
+    DROP INDEX idx_categories_id_bin;
+ALTER TABLE genres
+    DROP PRIMARY KEY,
+    DROP COLUMN id,
+    MODIFY COLUMN id_bin BINARY(16) NOT NULL FIRST,
+    ADD CONSTRAINT pk_genres PRIMARY KEY (id_bin),
+    DROP INDEX idx_genres_id_bin;
+ALTER TABLE cast_members
+    DROP PRIMARY KEY,
+    DROP COLUMN id,
+    MODIFY COLUMN id_bin BINARY(16) NOT NULL FIRST,
+    ADD CONSTRAINT pk_cast_members PRIMARY KEY (id_bin),
+    DROP INDEX idx_cast_members_id_bin;
+ALTER TABLE videos
+    DROP PRIMARY KEY,
+    DROP COLUMN id,
+    MODIFY COLUMN id_bin BINARY(16) NOT NULL FIRST,
+    ADD CONSTRAINT pk_video PRIMARY KEY (id_bin),
+    DROP INDEX idx_videos_id_bin;
+
+ALTER TABLE genres_categories
+    DROP INDEX idx_genre_category,
+    DROP COLUMN genre_id,
+    DROP COLUMN category_id,
+    MODIFY COLUMN genre_id_bin BINARY(16) NOT NULL FIRST,
+    MODIFY COLUMN category_id_bin BINARY(16) NOT NULL AFTER genre_id_bin,
+    ADD CONSTRAINT idx_genre_category UNIQUE (genre_id_bin, category_id_bin),
+    DROP INDEX idx_genre_category_bin;
+ALTER TABLE videos_categories
+    DROP INDEX idx_video_category,
+    DROP COLUMN video_id,
+    DROP COLUMN category_id,
+    MODIFY COLUMN video_id_bin BINARY(16) NOT NULL FIRST,
+    MODIFY COLUMN category_id_bin BINARY(16) NOT NULL AFTER video_id_bin,
+    ADD CONSTRAINT idx_video_category UNIQUE (video_id_bin, category_id_bin),
+    DROP INDEX idx_video_category_bin;
+ALTER TABLE videos_genres
+    DROP INDEX idx_video_genre,
+    DROP COLUMN video_id,
+    DROP COLUMN genre_id,
+    MODIFY COLUMN video_id_bin BINARY(16) NOT NULL FIRST,
+    MODIFY COLUMN genre_id_bin BINARY(16) NOT NULL AFTER video_id_bin,
+    ADD CONSTRAINT idx_video_genre UNIQUE (video_id_bin, genre_id_bin),
+    DROP INDEX idx_video_genre_bin;
+ALTER TABLE videos_cast_members
+    DROP INDEX idx_video_cast_member,
+    DROP COLUMN video_id,
+    DROP COLUMN cast_member_id,
+    MODIFY COLUMN video_id_bin BINARY(16) NOT NULL FIRST,
+    MODIFY COLUMN cast_member_id_bin BINARY(16) NOT NULL AFTER video_id_bin,
+    ADD CONSTRAINT idx_video_cast_member UNIQUE (video_id_bin, cast_member_id_bin),
+    DROP INDEX idx_video_cast_member_bin;
+
+ALTER TABLE videos_media_contents
+    DROP PRIMARY KEY,
+    DROP COLUMN video_id,
+    MODIFY COLUMN video_id_bin BINARY(16) NOT NULL FIRST,
+    ADD CONSTRAINT pk_video_media_content PRIMARY KEY (video_id_bin, media_type),
+    DROP INDEX idx_video_media_content_bin;
+ALTER TABLE videos_media_cleanups
+    DROP PRIMARY KEY,
+    DROP COLUMN video_id,
+    MODIFY COLUMN video_id_bin BINARY(16) NOT NULL FIRST,
+    ADD PRIMARY KEY (video_id_bin),
+    DROP INDEX idx_video_media_cleanup_bin;
+ALTER TABLE videos_media_ingestions
+    DROP PRIMARY KEY,
+    DROP COLUMN video_id,
+    MODIFY COLUMN video_id_bin BINARY(16) NOT NULL FIRST,
+    ADD CONSTRAINT pk_video_media_ingestion PRIMARY KEY (video_id_bin, media_type),
+    DROP INDEX idx_video_media_ingestion_bin;
+
+ALTER TABLE genres_categories
+    ADD CONSTRAINT fk_genre_id FOREIGN KEY (genre_id_bin) REFERENCES genres (id_bin) ON DELETE CASCADE,
+    ADD CONSTRAINT fk_category_id FOREIGN KEY (category_id_bin) REFERENCES categories (id_bin) ON DELETE CASCADE;
+ALTER TABLE videos_categories
+    ADD CONSTRAINT fk_video_category_video_id FOREIGN KEY (video_id_bin) REFERENCES videos (id_bin),
+    ADD CONSTRAINT fk_video_vc_id FOREIGN KEY (category_id_bin) REFERENCES categories (id_bin);
+ALTER TABLE videos_genres
+    ADD CONSTRAINT fk_video_genre_video_id FOREIGN KEY (video_id_bin) REFERENCES videos (id_bin),
+    ADD CONSTRAINT fk_video_vg_id FOREIGN KEY (genre_id_bin) REFERENCES genres (id_bin);
+ALTER TABLE videos_cast_members
+    ADD CONSTRAINT fk_video_cast_member_video_id FOREIGN KEY (video_id_bin) REFERENCES videos (id_bin),
+    ADD CONSTRAINT fk_video_vsm_id FOREIGN KEY (cast_member_id_bin) REFERENCES cast_members (id_bin);
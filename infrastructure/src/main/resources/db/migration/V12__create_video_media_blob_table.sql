@@ -0,0 +1,6 @@
+CREATE TABLE videos_media_blobs (
+    content_hash CHAR(64) NOT NULL PRIMARY KEY
+);
+
+INSERT INTO videos_media_blobs (content_hash)
+SELECT DISTINCT content_hash FROM videos_media_contents;
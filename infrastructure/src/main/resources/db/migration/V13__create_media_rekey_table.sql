@@ -0,0 +1,6 @@
+CREATE TABLE videos_media_rekeys (
+    naming VARCHAR(255) NOT NULL PRIMARY KEY,
+    locked_by CHAR(36) NULL,
+    locked_until DATETIME(6) NULL,
+    completed_at DATETIME(6) NULL
+);
@@ -0,0 +1,7 @@
+ALTER TABLE videos_media_ingestions ADD COLUMN spool_path VARCHAR(500) NULL;
+ALTER TABLE videos_media_ingestions ADD COLUMN spool_size BIGINT NULL;
+ALTER TABLE videos_media_ingestions ADD COLUMN spool_checksum VARCHAR(16) NULL;
+ALTER TABLE videos_media_ingestions ADD COLUMN content_type VARCHAR(255) NULL;
+ALTER TABLE videos_media_ingestions ADD COLUMN file_name VARCHAR(255) NULL;
+
+CREATE INDEX idx_video_media_ingestion_status ON videos_media_ingestions (status);
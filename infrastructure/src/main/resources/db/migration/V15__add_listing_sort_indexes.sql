@@ -0,0 +1,9 @@
+-- The keyset pages of the listings seek on their sort column with the id as tiebreaker
+CREATE INDEX idx_category_name_id ON categories (name, id_bin);
+CREATE INDEX idx_category_created_at_id ON categories (created_at, id_bin);
+CREATE INDEX idx_genre_name_id ON genres (name, id_bin);
+CREATE INDEX idx_genre_created_at_id ON genres (created_at, id_bin);
+CREATE INDEX idx_cast_member_name_id ON cast_members (name, id_bin);
+CREATE INDEX idx_cast_member_created_at_id ON cast_members (created_at, id_bin);
+CREATE INDEX idx_video_title_id ON videos (title, id_bin);
+CREATE INDEX idx_video_created_at_id ON videos (created_at, id_bin);
@@ -0,0 +1,14 @@
+CREATE TABLE videos_media_reconciliations (
+    name VARCHAR(255) NOT NULL PRIMARY KEY,
+    locked_by CHAR(36) NULL,
+    locked_until DATETIME(6) NULL,
+    finished_at DATETIME(6) NULL
+);
+
+CREATE TABLE videos_media_orphans (
+    name VARCHAR(512) NOT NULL PRIMARY KEY,
+    first_seen_at DATETIME(6) NOT NULL,
+    last_seen_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_video_media_orphan_last_seen ON videos_media_orphans (last_seen_at);
@@ -0,0 +1 @@
+ALTER TABLE videos_media_ingestions DROP COLUMN spool_checksum;
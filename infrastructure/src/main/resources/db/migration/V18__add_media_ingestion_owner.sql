@@ -0,0 +1 @@
+ALTER TABLE videos_media_ingestions ADD COLUMN owner VARCHAR(36) NULL;
@@ -0,0 +1,23 @@
+ALTER TABLE videos DROP CONSTRAINT fk_video_id;
+ALTER TABLE videos DROP CONSTRAINT fk_trailer_id;
+ALTER TABLE videos DROP CONSTRAINT fk_banner_id;
+ALTER TABLE videos DROP CONSTRAINT fk_thumbnail_id;
+ALTER TABLE videos DROP CONSTRAINT fk_thumbnail_half_id;
+
+ALTER TABLE videos_video_media ADD COLUMN id CHAR(36) NOT NULL DEFAULT '';
+UPDATE videos_video_media SET id = checksum;
+ALTER TABLE videos_video_media ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE videos_video_media DROP PRIMARY KEY;
+ALTER TABLE videos_video_media ADD CONSTRAINT pk_video_media PRIMARY KEY (id);
+
+ALTER TABLE videos_image_media ADD COLUMN id CHAR(36) NOT NULL DEFAULT '';
+UPDATE videos_image_media SET id = checksum;
+ALTER TABLE videos_image_media ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE videos_image_media DROP PRIMARY KEY;
+ALTER TABLE videos_image_media ADD CONSTRAINT pk_image_media PRIMARY KEY (id);
+
+ALTER TABLE videos ADD CONSTRAINT fk_video_id FOREIGN KEY (video_id) REFERENCES videos_video_media (id) ON DELETE CASCADE;
+ALTER TABLE videos ADD CONSTRAINT fk_trailer_id FOREIGN KEY (trailer_id) REFERENCES videos_video_media (id) ON DELETE CASCADE;
+ALTER TABLE videos ADD CONSTRAINT fk_banner_id FOREIGN KEY (banner_id) REFERENCES videos_image_media (id) ON DELETE CASCADE;
+ALTER TABLE videos ADD CONSTRAINT fk_thumbnail_id FOREIGN KEY (thumbnail_id) REFERENCES videos_image_media (id) ON DELETE CASCADE;
+ALTER TABLE videos ADD CONSTRAINT fk_thumbnail_half_id FOREIGN KEY (thumbnail_half_id) REFERENCES videos_image_media (id) ON DELETE CASCADE;
@@ -0,0 +1,9 @@
+CREATE TABLE videos_media_contents (
+    video_id CHAR(36) NOT NULL,
+    media_type VARCHAR(50) NOT NULL,
+    content_hash CHAR(64) NOT NULL,
+
+    CONSTRAINT pk_video_media_content PRIMARY KEY (video_id, media_type)
+);
+
+CREATE INDEX idx_video_media_content_hash ON videos_media_contents (content_hash);
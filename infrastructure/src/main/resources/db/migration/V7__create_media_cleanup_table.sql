@@ -0,0 +1,9 @@
+CREATE TABLE videos_media_cleanups (
+    video_id CHAR(36) NOT NULL PRIMARY KEY,
+    attempts INT NOT NULL,
+    next_attempt_at DATETIME(6) NOT NULL,
+    last_error VARCHAR(255),
+    created_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_video_media_cleanup_next_attempt ON videos_media_cleanups (next_attempt_at);
@@ -0,0 +1,9 @@
+CREATE TABLE videos_media_ingestions (
+    video_id CHAR(36) NOT NULL,
+    media_type VARCHAR(50) NOT NULL,
+    status VARCHAR(32) NOT NULL,
+    error VARCHAR(255),
+    updated_at DATETIME(6) NOT NULL,
+
+    CONSTRAINT pk_video_media_ingestion PRIMARY KEY (video_id, media_type)
+);
@@ -0,0 +1,113 @@
+-- The BINARY(16) twin of every UUID column, see the MySQL migration. A test database has no
+-- node of the previous release writing to it, so the twins take the constraints of the
+-- CHAR(36) columns right away, which is what the MySQL contract does in the release after.
+-- H2 takes one change per statement.
+
+ALTER TABLE categories ADD COLUMN id_bin BINARY(16) NULL FIRST;
+ALTER TABLE genres ADD COLUMN id_bin BINARY(16) NULL FIRST;
+ALTER TABLE cast_members ADD COLUMN id_bin BINARY(16) NULL FIRST;
+ALTER TABLE videos ADD COLUMN id_bin BINARY(16) NULL FIRST;
+ALTER TABLE genres_categories ADD COLUMN genre_id_bin BINARY(16) NULL FIRST;
+ALTER TABLE genres_categories ADD COLUMN category_id_bin BINARY(16) NULL AFTER genre_id_bin;
+ALTER TABLE videos_categories ADD COLUMN video_id_bin BINARY(16) NULL FIRST;
+ALTER TABLE videos_categories ADD COLUMN category_id_bin BINARY(16) NULL AFTER video_id_bin;
+ALTER TABLE videos_genres ADD COLUMN video_id_bin BINARY(16) NULL FIRST;
+ALTER TABLE videos_genres ADD COLUMN genre_id_bin BINARY(16) NULL AFTER video_id_bin;
+ALTER TABLE videos_cast_members ADD COLUMN video_id_bin BINARY(16) NULL FIRST;
+ALTER TABLE videos_cast_members ADD COLUMN cast_member_id_bin BINARY(16) NULL AFTER video_id_bin;
+ALTER TABLE videos_media_contents ADD COLUMN video_id_bin BINARY(16) NULL FIRST;
+ALTER TABLE videos_media_cleanups ADD COLUMN video_id_bin BINARY(16) NULL FIRST;
+ALTER TABLE videos_media_ingestions ADD COLUMN video_id_bin BINARY(16) NULL FIRST;
+
+UPDATE categories SET id_bin = CAST(CAST(id AS UUID) AS BINARY(16));
+UPDATE genres SET id_bin = CAST(CAST(id AS UUID) AS BINARY(16));
+UPDATE cast_members SET id_bin = CAST(CAST(id AS UUID) AS BINARY(16));
+UPDATE videos SET id_bin = CAST(CAST(id AS UUID) AS BINARY(16));
+UPDATE genres_categories SET genre_id_bin = CAST(CAST(genre_id AS UUID) AS BINARY(16)), category_id_bin = CAST(CAST(category_id AS UUID) AS BINARY(16));
+UPDATE videos_categories SET video_id_bin = CAST(CAST(video_id AS UUID) AS BINARY(16)), category_id_bin = CAST(CAST(category_id AS UUID) AS BINARY(16));
+UPDATE videos_genres SET video_id_bin = CAST(CAST(video_id AS UUID) AS BINARY(16)), genre_id_bin = CAST(CAST(genre_id AS UUID) AS BINARY(16));
+UPDATE videos_cast_members SET video_id_bin = CAST(CAST(video_id AS UUID) AS BINARY(16)), cast_member_id_bin = CAST(CAST(cast_member_id AS UUID) AS BINARY(16));
+UPDATE videos_media_contents SET video_id_bin = CAST(CAST(video_id AS UUID) AS BINARY(16));
+UPDATE videos_media_cleanups SET video_id_bin = CAST(CAST(video_id AS UUID) AS BINARY(16));
+UPDATE videos_media_ingestions SET video_id_bin = CAST(CAST(video_id AS UUID) AS BINARY(16));
+
+ALTER TABLE genres_categories DROP CONSTRAINT fk_genre_id;
+ALTER TABLE genres_categories DROP CONSTRAINT fk_category_id;
+ALTER TABLE videos_categories DROP CONSTRAINT fk_video_category_video_id;
+ALTER TABLE videos_categories DROP CONSTRAINT fk_video_vc_id;
+ALTER TABLE videos_genres DROP CONSTRAINT fk_video_genre_video_id;
+ALTER TABLE videos_genres DROP CONSTRAINT fk_video_vg_id;
+ALTER TABLE videos_cast_members DROP CONSTRAINT fk_video_cast_member_video_id;
+ALTER TABLE videos_cast_members DROP CONSTRAINT fk_video_vsm_id;
+
+ALTER TABLE categories DROP CONSTRAINT pk_categories;
+ALTER TABLE categories DROP COLUMN id;
+ALTER TABLE categories ALTER COLUMN id_bin SET NOT NULL;
+ALTER TABLE categories ADD CONSTRAINT pk_categories PRIMARY KEY (id_bin);
+
+ALTER TABLE genres DROP CONSTRAINT pk_genres;
+ALTER TABLE genres DROP COLUMN id;
+ALTER TABLE genres ALTER COLUMN id_bin SET NOT NULL;
+ALTER TABLE genres ADD CONSTRAINT pk_genres PRIMARY KEY (id_bin);
+
+ALTER TABLE cast_members DROP CONSTRAINT pk_cast_members;
+ALTER TABLE cast_members DROP COLUMN id;
+ALTER TABLE cast_members ALTER COLUMN id_bin SET NOT NULL;
+ALTER TABLE cast_members ADD CONSTRAINT pk_cast_members PRIMARY KEY (id_bin);
+
+ALTER TABLE videos DROP CONSTRAINT pk_video;
+ALTER TABLE videos DROP COLUMN id;
+ALTER TABLE videos ALTER COLUMN id_bin SET NOT NULL;
+ALTER TABLE videos ADD CONSTRAINT pk_video PRIMARY KEY (id_bin);
+
+ALTER TABLE genres_categories DROP CONSTRAINT idx_genre_category;
+ALTER TABLE genres_categories DROP COLUMN genre_id;
+ALTER TABLE genres_categories DROP COLUMN category_id;
+ALTER TABLE genres_categories ALTER COLUMN genre_id_bin SET NOT NULL;
+ALTER TABLE genres_categories ALTER COLUMN category_id_bin SET NOT NULL;
+ALTER TABLE genres_categories ADD CONSTRAINT idx_genre_category UNIQUE (genre_id_bin, category_id_bin);
+
+ALTER TABLE videos_categories DROP CONSTRAINT idx_video_category;
+ALTER TABLE videos_categories DROP COLUMN video_id;
+ALTER TABLE videos_categories DROP COLUMN category_id;
+ALTER TABLE videos_categories ALTER COLUMN video_id_bin SET NOT NULL;
+ALTER TABLE videos_categories ALTER COLUMN category_id_bin SET NOT NULL;
+ALTER TABLE videos_categories ADD CONSTRAINT idx_video_category UNIQUE (video_id_bin, category_id_bin);
+
+ALTER TABLE videos_genres DROP CONSTRAINT idx_video_genre;
+ALTER TABLE videos_genres DROP COLUMN video_id;
+ALTER TABLE videos_genres DROP COLUMN genre_id;
+ALTER TABLE videos_genres ALTER COLUMN video_id_bin SET NOT NULL;
+ALTER TABLE videos_genres ALTER COLUMN genre_id_bin SET NOT NULL;
+ALTER TABLE videos_genres ADD CONSTRAINT idx_video_genre UNIQUE (video_id_bin, genre_id_bin);
+
+ALTER TABLE videos_cast_members DROP CONSTRAINT idx_video_cast_member;
+ALTER TABLE videos_cast_members DROP COLUMN video_id;
+ALTER TABLE videos_cast_members DROP COLUMN cast_member_id;
+ALTER TABLE videos_cast_members ALTER COLUMN video_id_bin SET NOT NULL;
+ALTER TABLE videos_cast_members ALTER COLUMN cast_member_id_bin SET NOT NULL;
+ALTER TABLE videos_cast_members ADD CONSTRAINT idx_video_cast_member UNIQUE (video_id_bin, cast_member_id_bin);
+
+ALTER TABLE videos_media_contents DROP PRIMARY KEY;
+ALTER TABLE videos_media_contents DROP COLUMN video_id;
+ALTER TABLE videos_media_contents ALTER COLUMN video_id_bin SET NOT NULL;
+ALTER TABLE videos_media_contents ADD CONSTRAINT pk_video_media_content PRIMARY KEY (video_id_bin, media_type);
+
+ALTER TABLE videos_media_cleanups DROP PRIMARY KEY;
+ALTER TABLE videos_media_cleanups DROP COLUMN video_id;
+ALTER TABLE videos_media_cleanups ALTER COLUMN video_id_bin SET NOT NULL;
+ALTER TABLE videos_media_cleanups ADD PRIMARY KEY (video_id_bin);
+
+ALTER TABLE videos_media_ingestions DROP PRIMARY KEY;
+ALTER TABLE videos_media_ingestions DROP COLUMN video_id;
+ALTER TABLE videos_media_ingestions ALTER COLUMN video_id_bin SET NOT NULL;
+ALTER TABLE videos_media_ingestions ADD CONSTRAINT pk_video_media_ingestion PRIMARY KEY (video_id_bin, media_type);
+
+ALTER TABLE genres_categories ADD CONSTRAINT fk_genre_id FOREIGN KEY (genre_id_bin) REFERENCES genres (id_bin) ON DELETE CASCADE;
+ALTER TABLE genres_categories ADD CONSTRAINT fk_category_id FOREIGN KEY (category_id_bin) REFERENCES categories (id_bin) ON DELETE CASCADE;
+ALTER TABLE videos_categories ADD CONSTRAINT fk_video_category_video_id FOREIGN KEY (video_id_bin) REFERENCES videos (id_bin);
+ALTER TABLE videos_categories ADD CONSTRAINT fk_video_vc_id FOREIGN KEY (category_id_bin) REFERENCES categories (id_bin);
+ALTER TABLE videos_genres ADD CONSTRAINT fk_video_genre_video_id FOREIGN KEY (video_id_bin) REFERENCES videos (id_bin);
+ALTER TABLE videos_genres ADD CONSTRAINT fk_video_vg_id FOREIGN KEY (genre_id_bin) REFERENCES genres (id_bin);
+ALTER TABLE videos_cast_members ADD CONSTRAINT fk_video_cast_member_video_id FOREIGN KEY (video_id_bin) REFERENCES videos (id_bin);
+ALTER TABLE videos_cast_members ADD CONSTRAINT fk_video_vsm_id FOREIGN KEY (cast_member_id_bin) REFERENCES cast_members (id_bin);
@@ -0,0 +1,205 @@
+-- Expand: the BINARY(16) twin of every UUID column. The release mapping the twins writes them
+-- alone while nodes of the previous release still write the CHAR(36) columns alone, so the
+-- triggers fill whichever side an insert or an update left out, the CHAR(36) columns default
+-- to '' for the inserts omitting them. The existing rows are backfilled a range of keys per
+-- transaction, and the twins get the unique indexes the lookups of the new mapping use.
+-- The contract dropping the CHAR(36) columns is db/contract/mysql, for the release after.
+
+ALTER TABLE categories ADD COLUMN id_bin BINARY(16) NULL FIRST;
+ALTER TABLE genres ADD COLUMN id_bin BINARY(16) NULL FIRST;
+ALTER TABLE cast_members ADD COLUMN id_bin BINARY(16) NULL FIRST;
+ALTER TABLE videos ADD COLUMN id_bin BINARY(16) NULL FIRST;
+ALTER TABLE genres_categories
+    ADD COLUMN genre_id_bin BINARY(16) NULL FIRST,
+    ADD COLUMN category_id_bin BINARY(16) NULL AFTER genre_id_bin;
+ALTER TABLE videos_categories
+    ADD COLUMN video_id_bin BINARY(16) NULL FIRST,
+    ADD COLUMN category_id_bin BINARY(16) NULL AFTER video_id_bin;
+ALTER TABLE videos_genres
+    ADD COLUMN video_id_bin BINARY(16) NULL FIRST,
+    ADD COLUMN genre_id_bin BINARY(16) NULL AFTER video_id_bin;
+ALTER TABLE videos_cast_members
+    ADD COLUMN video_id_bin BINARY(16) NULL FIRST,
+    ADD COLUMN cast_member_id_bin BINARY(16) NULL AFTER video_id_bin;
+ALTER TABLE videos_media_contents ADD COLUMN video_id_bin BINARY(16) NULL FIRST;
+ALTER TABLE videos_media_cleanups ADD COLUMN video_id_bin BINARY(16) NULL FIRST;
+ALTER TABLE videos_media_ingestions ADD COLUMN video_id_bin BINARY(16) NULL FIRST;
+
+ALTER TABLE categories ALTER COLUMN id SET DEFAULT '';
+ALTER TABLE genres ALTER COLUMN id SET DEFAULT '';
+ALTER TABLE cast_members ALTER COLUMN id SET DEFAULT '';
+ALTER TABLE videos ALTER COLUMN id SET DEFAULT '';
+ALTER TABLE genres_categories ALTER COLUMN genre_id SET DEFAULT '', ALTER COLUMN category_id SET DEFAULT '';
+ALTER TABLE videos_categories ALTER COLUMN video_id SET DEFAULT '', ALTER COLUMN category_id SET DEFAULT '';
+ALTER TABLE videos_genres ALTER COLUMN video_id SET DEFAULT '', ALTER COLUMN genre_id SET DEFAULT '';
+ALTER TABLE videos_cast_members ALTER COLUMN video_id SET DEFAULT '', ALTER COLUMN cast_member_id SET DEFAULT '';
+ALTER TABLE videos_media_contents ALTER COLUMN video_id SET DEFAULT '';
+ALTER TABLE videos_media_cleanups ALTER COLUMN video_id SET DEFAULT '';
+ALTER TABLE videos_media_ingestions ALTER COLUMN video_id SET DEFAULT '';
+
+-- without the swap flag, so the bytes sort as the text did and match Hibernate's own order
+CREATE TRIGGER trg_categories_id_bin BEFORE INSERT ON categories
+    FOR EACH ROW SET
+        NEW.id_bin = IF(NEW.id_bin IS NULL, UUID_TO_BIN(NEW.id), NEW.id_bin),
+        NEW.id = IF(NEW.id = '', BIN_TO_UUID(NEW.id_bin), NEW.id);
+CREATE TRIGGER trg_genres_id_bin BEFORE INSERT ON genres
+    FOR EACH ROW SET
+        NEW.id_bin = IF(NEW.id_bin IS NULL, UUID_TO_BIN(NEW.id), NEW.id_bin),
+        NEW.id = IF(NEW.id = '', BIN_TO_UUID(NEW.id_bin), NEW.id);
+CREATE TRIGGER trg_cast_members_id_bin BEFORE INSERT ON cast_members
+    FOR EACH ROW SET
+        NEW.id_bin = IF(NEW.id_bin IS NULL, UUID_TO_BIN(NEW.id), NEW.id_bin),
+        NEW.id = IF(NEW.id = '', BIN_TO_UUID(NEW.id_bin), NEW.id);
+CREATE TRIGGER trg_videos_id_bin BEFORE INSERT ON videos
+    FOR EACH ROW SET
+        NEW.id_bin = IF(NEW.id_bin IS NULL, UUID_TO_BIN(NEW.id), NEW.id_bin),
+        NEW.id = IF(NEW.id = '', BIN_TO_UUID(NEW.id_bin), NEW.id);
+CREATE TRIGGER trg_genres_categories_id_bin BEFORE INSERT ON genres_categories
+    FOR EACH ROW SET
+        NEW.genre_id_bin = IF(NEW.genre_id_bin IS NULL, UUID_TO_BIN(NEW.genre_id), NEW.genre_id_bin),
+        NEW.genre_id = IF(NEW.genre_id = '', BIN_TO_UUID(NEW.genre_id_bin), NEW.genre_id),
+        NEW.category_id_bin = IF(NEW.category_id_bin IS NULL, UUID_TO_BIN(NEW.category_id), NEW.category_id_bin),
+        NEW.category_id = IF(NEW.category_id = '', BIN_TO_UUID(NEW.category_id_bin), NEW.category_id);
+CREATE TRIGGER trg_videos_categories_id_bin BEFORE INSERT ON videos_categories
+    FOR EACH ROW SET
+        NEW.video_id_bin = IF(NEW.video_id_bin IS NULL, UUID_TO_BIN(NEW.video_id), NEW.video_id_bin),
+        NEW.video_id = IF(NEW.video_id = '', BIN_TO_UUID(NEW.video_id_bin), NEW.video_id),
+        NEW.category_id_bin = IF(NEW.category_id_bin IS NULL, UUID_TO_BIN(NEW.category_id), NEW.category_id_bin),
+        NEW.category_id = IF(NEW.category_id = '', BIN_TO_UUID(NEW.category_id_bin), NEW.category_id);
+CREATE TRIGGER trg_videos_genres_id_bin BEFORE INSERT ON videos_genres
+    FOR EACH ROW SET
+        NEW.video_id_bin = IF(NEW.video_id_bin IS NULL, UUID_TO_BIN(NEW.video_id), NEW.video_id_bin),
+        NEW.video_id = IF(NEW.video_id = '', BIN_TO_UUID(NEW.video_id_bin), NEW.video_id),
+        NEW.genre_id_bin = IF(NEW.genre_id_bin IS NULL, UUID_TO_BIN(NEW.genre_id), NEW.genre_id_bin),
+        NEW.genre_id = IF(NEW.genre_id = '', BIN_TO_UUID(NEW.genre_id_bin), NEW.genre_id);
+CREATE TRIGGER trg_videos_cast_members_id_bin BEFORE INSERT ON videos_cast_members
+    FOR EACH ROW SET
+        NEW.video_id_bin = IF(NEW.video_id_bin IS NULL, UUID_TO_BIN(NEW.video_id), NEW.video_id_bin),
+        NEW.video_id = IF(NEW.video_id = '', BIN_TO_UUID(NEW.video_id_bin), NEW.video_id),
+        NEW.cast_member_id_bin = IF(NEW.cast_member_id_bin IS NULL, UUID_TO_BIN(NEW.cast_member_id), NEW.cast_member_id_bin),
+        NEW.cast_member_id = IF(NEW.cast_member_id = '', BIN_TO_UUID(NEW.cast_member_id_bin), NEW.cast_member_id);
+CREATE TRIGGER trg_videos_media_contents_id_bin BEFORE INSERT ON videos_media_contents
+    FOR EACH ROW SET
+        NEW.video_id_bin = IF(NEW.video_id_bin IS NULL, UUID_TO_BIN(NEW.video_id), NEW.video_id_bin),
+        NEW.video_id = IF(NEW.video_id = '', BIN_TO_UUID(NEW.video_id_bin), NEW.video_id);
+CREATE TRIGGER trg_videos_media_cleanups_id_bin BEFORE INSERT ON videos_media_cleanups
+    FOR EACH ROW SET
+        NEW.video_id_bin = IF(NEW.video_id_bin IS NULL, UUID_TO_BIN(NEW.video_id), NEW.video_id_bin),
+        NEW.video_id = IF(NEW.video_id = '', BIN_TO_UUID(NEW.video_id_bin), NEW.video_id);
+CREATE TRIGGER trg_videos_media_ingestions_id_bin BEFORE INSERT ON videos_media_ingestions
+    FOR EACH ROW SET
+        NEW.video_id_bin = IF(NEW.video_id_bin IS NULL, UUID_TO_BIN(NEW.video_id), NEW.video_id_bin),
+        NEW.video_id = IF(NEW.video_id = '', BIN_TO_UUID(NEW.video_id_bin), NEW.video_id);
+
+-- a side is only rewritten from the other when the other changed, the backfill keeps the text as is
+CREATE TRIGGER trg_categories_id_bin_update BEFORE UPDATE ON categories
+    FOR EACH ROW SET
+        NEW.id_bin = IF(NEW.id <=> OLD.id, NEW.id_bin, UUID_TO_BIN(NEW.id)),
+        NEW.id = IF(NEW.id_bin <=> OLD.id_bin OR NEW.id_bin <=> UUID_TO_BIN(NEW.id), NEW.id, BIN_TO_UUID(NEW.id_bin));
+CREATE TRIGGER trg_genres_id_bin_update BEFORE UPDATE ON genres
+    FOR EACH ROW SET
+        NEW.id_bin = IF(NEW.id <=> OLD.id, NEW.id_bin, UUID_TO_BIN(NEW.id)),
+        NEW.id = IF(NEW.id_bin <=> OLD.id_bin OR NEW.id_bin <=> UUID_TO_BIN(NEW.id), NEW.id, BIN_TO_UUID(NEW.id_bin));
+CREATE TRIGGER trg_cast_members_id_bin_update BEFORE UPDATE ON cast_members
+    FOR EACH ROW SET
+        NEW.id_bin = IF(NEW.id <=> OLD.id, NEW.id_bin, UUID_TO_BIN(NEW.id)),
+        NEW.id = IF(NEW.id_bin <=> OLD.id_bin OR NEW.id_bin <=> UUID_TO_BIN(NEW.id), NEW.id, BIN_TO_UUID(NEW.id_bin));
+CREATE TRIGGER trg_videos_id_bin_update BEFORE UPDATE ON videos
+    FOR EACH ROW SET
+        NEW.id_bin = IF(NEW.id <=> OLD.id, NEW.id_bin, UUID_TO_BIN(NEW.id)),
+        NEW.id = IF(NEW.id_bin <=> OLD.id_bin OR NEW.id_bin <=> UUID_TO_BIN(NEW.id), NEW.id, BIN_TO_UUID(NEW.id_bin));
+CREATE TRIGGER trg_genres_categories_id_bin_update BEFORE UPDATE ON genres_categories
+    FOR EACH ROW SET
+        NEW.genre_id_bin = IF(NEW.genre_id <=> OLD.genre_id, NEW.genre_id_bin, UUID_TO_BIN(NEW.genre_id)),
+        NEW.genre_id = IF(NEW.genre_id_bin <=> OLD.genre_id_bin OR NEW.genre_id_bin <=> UUID_TO_BIN(NEW.genre_id), NEW.genre_id, BIN_TO_UUID(NEW.genre_id_bin)),
+        NEW.category_id_bin = IF(NEW.category_id <=> OLD.category_id, NEW.category_id_bin, UUID_TO_BIN(NEW.category_id)),
+        NEW.category_id = IF(NEW.category_id_bin <=> OLD.category_id_bin OR NEW.category_id_bin <=> UUID_TO_BIN(NEW.category_id), NEW.category_id, BIN_TO_UUID(NEW.category_id_bin));
+CREATE TRIGGER trg_videos_categories_id_bin_update BEFORE UPDATE ON videos_categories
+    FOR EACH ROW SET
+        NEW.video_id_bin = IF(NEW.video_id <=> OLD.video_id, NEW.video_id_bin, UUID_TO_BIN(NEW.video_id)),
+        NEW.video_id = IF(NEW.video_id_bin <=> OLD.video_id_bin OR NEW.video_id_bin <=> UUID_TO_BIN(NEW.video_id), NEW.video_id, BIN_TO_UUID(NEW.video_id_bin)),
+        NEW.category_id_bin = IF(NEW.category_id <=> OLD.category_id, NEW.category_id_bin, UUID_TO_BIN(NEW.category_id)),
+        NEW.category_id = IF(NEW.category_id_bin <=> OLD.category_id_bin OR NEW.category_id_bin <=> UUID_TO_BIN(NEW.category_id), NEW.category_id, BIN_TO_UUID(NEW.category_id_bin));
+CREATE TRIGGER trg_videos_genres_id_bin_update BEFORE UPDATE ON videos_genres
+    FOR EACH ROW SET
+        NEW.video_id_bin = IF(NEW.video_id <=> OLD.video_id, NEW.video_id_bin, UUID_TO_BIN(NEW.video_id)),
+        NEW.video_id = IF(NEW.video_id_bin <=> OLD.video_id_bin OR NEW.video_id_bin <=> UUID_TO_BIN(NEW.video_id), NEW.video_id, BIN_TO_UUID(NEW.video_id_bin)),
+        NEW.genre_id_bin = IF(NEW.genre_id <=> OLD.genre_id, NEW.genre_id_bin, UUID_TO_BIN(NEW.genre_id)),
+        NEW.genre_id = IF(NEW.genre_id_bin <=> OLD.genre_id_bin OR NEW.genre_id_bin <=> UUID_TO_BIN(NEW.genre_id), NEW.genre_id, BIN_TO_UUID(NEW.genre_id_bin));
+CREATE TRIGGER trg_videos_cast_members_id_bin_update BEFORE UPDATE ON videos_cast_members
+    FOR EACH ROW SET
+        NEW.video_id_bin = IF(NEW.video_id <=> OLD.video_id, NEW.video_id_bin, UUID_TO_BIN(NEW.video_id)),
+        NEW.video_id = IF(NEW.video_id_bin <=> OLD.video_id_bin OR NEW.video_id_bin <=> UUID_TO_BIN(NEW.video_id), NEW.video_id, BIN_TO_UUID(NEW.video_id_bin)),
+        NEW.cast_member_id_bin = IF(NEW.cast_member_id <=> OLD.cast_member_id, NEW.cast_member_id_bin, UUID_TO_BIN(NEW.cast_member_id)),
+        NEW.cast_member_id = IF(NEW.cast_member_id_bin <=> OLD.cast_member_id_bin OR NEW.cast_member_id_bin <=> UUID_TO_BIN(NEW.cast_member_id), NEW.cast_member_id, BIN_TO_UUID(NEW.cast_member_id_bin));
+CREATE TRIGGER trg_videos_media_contents_id_bin_update BEFORE UPDATE ON videos_media_contents
+    FOR EACH ROW SET
+        NEW.video_id_bin = IF(NEW.video_id <=> OLD.video_id, NEW.video_id_bin, UUID_TO_BIN(NEW.video_id)),
+        NEW.video_id = IF(NEW.video_id_bin <=> OLD.video_id_bin OR NEW.video_id_bin <=> UUID_TO_BIN(NEW.video_id), NEW.video_id, BIN_TO_UUID(NEW.video_id_bin));
+CREATE TRIGGER trg_videos_media_cleanups_id_bin_update BEFORE UPDATE ON videos_media_cleanups
+    FOR EACH ROW SET
+        NEW.video_id_bin = IF(NEW.video_id <=> OLD.video_id, NEW.video_id_bin, UUID_TO_BIN(NEW.video_id)),
+        NEW.video_id = IF(NEW.video_id_bin <=> OLD.video_id_bin OR NEW.video_id_bin <=> UUID_TO_BIN(NEW.video_id), NEW.video_id, BIN_TO_UUID(NEW.video_id_bin));
+CREATE TRIGGER trg_videos_media_ingestions_id_bin_update BEFORE UPDATE ON videos_media_ingestions
+    FOR EACH ROW SET
+        NEW.video_id_bin = IF(NEW.video_id <=> OLD.video_id, NEW.video_id_bin, UUID_TO_BIN(NEW.video_id)),
+        NEW.video_id = IF(NEW.video_id_bin <=> OLD.video_id_bin OR NEW.video_id_bin <=> UUID_TO_BIN(NEW.video_id), NEW.video_id, BIN_TO_UUID(NEW.video_id_bin));
+
+-- the keys of the next batch rows of the range column, then their rows, one commit each
+DELIMITER //
+CREATE PROCEDURE backfill_binary_uuids(IN table_name VARCHAR(64), IN range_column VARCHAR(64), IN assignments VARCHAR(512), IN pending_column VARCHAR(64))
+BEGIN
+    SET @lower_bound = '';
+    batches: LOOP
+        SET @upper_bound = NULL;
+        SET @statement = CONCAT(
+            'SELECT MAX(', range_column, ') INTO @upper_bound FROM (SELECT ', range_column, ' FROM ', table_name,
+            ' WHERE ', range_column, ' > ? ORDER BY ', range_column, ' LIMIT 1000) batch'
+        );
+        PREPARE next_batch FROM @statement;
+        EXECUTE next_batch USING @lower_bound;
+        DEALLOCATE PREPARE next_batch;
+
+        IF @upper_bound IS NULL THEN
+            LEAVE batches;
+        END IF;
+
+        SET @statement = CONCAT(
+            'UPDATE ', table_name, ' SET ', assignments,
+            ' WHERE ', range_column, ' > ? AND ', range_column, ' <= ? AND ', pending_column, ' IS NULL'
+        );
+        PREPARE batch FROM @statement;
+        EXECUTE batch USING @lower_bound, @upper_bound;
+        DEALLOCATE PREPARE batch;
+        COMMIT;
+
+        SET @lower_bound = @upper_bound;
+    END LOOP;
+END //
+DELIMITER ;
+
+CALL backfill_binary_uuids('categories', 'id', 'id_bin = UUID_TO_BIN(id)', 'id_bin');
+CALL backfill_binary_uuids('genres', 'id', 'id_bin = UUID_TO_BIN(id)', 'id_bin');
+CALL backfill_binary_uuids('cast_members', 'id', 'id_bin = UUID_TO_BIN(id)', 'id_bin');
+CALL backfill_binary_uuids('videos', 'id', 'id_bin = UUID_TO_BIN(id)', 'id_bin');
+CALL backfill_binary_uuids('genres_categories', 'genre_id', 'genre_id_bin = UUID_TO_BIN(genre_id), category_id_bin = UUID_TO_BIN(category_id)', 'genre_id_bin');
+CALL backfill_binary_uuids('videos_categories', 'video_id', 'video_id_bin = UUID_TO_BIN(video_id), category_id_bin = UUID_TO_BIN(category_id)', 'video_id_bin');
+CALL backfill_binary_uuids('videos_genres', 'video_id', 'video_id_bin = UUID_TO_BIN(video_id), genre_id_bin = UUID_TO_BIN(genre_id)', 'video_id_bin');
+CALL backfill_binary_uuids('videos_cast_members', 'video_id', 'video_id_bin = UUID_TO_BIN(video_id), cast_member_id_bin = UUID_TO_BIN(cast_member_id)', 'video_id_bin');
+CALL backfill_binary_uuids('videos_media_contents', 'video_id', 'video_id_bin = UUID_TO_BIN(video_id)', 'video_id_bin');
+CALL backfill_binary_uuids('videos_media_cleanups', 'video_id', 'video_id_bin = UUID_TO_BIN(video_id)', 'video_id_bin');
+CALL backfill_binary_uuids('videos_media_ingestions', 'video_id', 'video_id_bin = UUID_TO_BIN(video_id)', 'video_id_bin');
+
+DROP PROCEDURE backfill_binary_uuids;
+
+CREATE UNIQUE INDEX idx_categories_id_bin ON categories (id_bin);
+CREATE UNIQUE INDEX idx_genres_id_bin ON genres (id_bin);
+CREATE UNIQUE INDEX idx_cast_members_id_bin ON cast_members (id_bin);
+CREATE UNIQUE INDEX idx_videos_id_bin ON videos (id_bin);
+CREATE UNIQUE INDEX idx_genre_category_bin ON genres_categories (genre_id_bin, category_id_bin);
+CREATE UNIQUE INDEX idx_video_category_bin ON videos_categories (video_id_bin, category_id_bin);
+CREATE UNIQUE INDEX idx_video_genre_bin ON videos_genres (video_id_bin, genre_id_bin);
+CREATE UNIQUE INDEX idx_video_cast_member_bin ON videos_cast_members (video_id_bin, cast_member_id_bin);
+CREATE UNIQUE INDEX idx_video_media_content_bin ON videos_media_contents (video_id_bin, media_type);
+CREATE UNIQUE INDEX idx_video_media_cleanup_bin ON videos_media_cleanups (video_id_bin);
+CREATE UNIQUE INDEX idx_video_media_ingestion_bin ON videos_media_ingestions (video_id_bin, media_type);
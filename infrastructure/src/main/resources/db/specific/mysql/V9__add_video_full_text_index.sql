@@ -0,0 +1 @@
+ALTER TABLE videos ADD FULLTEXT INDEX idx_video_title_description (title, description);
@@ -3,6 +3,13 @@ package com.fullcycle.admin.catalog;
 import com.fullcycle.admin.catalog.infrastructure.castmember.persistence.CastMemberRepository;
 import com.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryRepository;
 import com.fullcycle.admin.catalog.infrastructure.genre.persistence.GenreRepository;
+import com.fullcycle.admin.catalog.infrastructure.video.cleanup.MediaCleanupRepository;
+import com.fullcycle.admin.catalog.infrastructure.video.cleanup.MediaOrphanRepository;
+import com.fullcycle.admin.catalog.infrastructure.video.cleanup.MediaReconciliationRepository;
+import com.fullcycle.admin.catalog.infrastructure.video.ingestion.MediaIngestionRepository;
+import com.fullcycle.admin.catalog.infrastructure.video.naming.MediaRekeyRepository;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoMediaBlobRepository;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoMediaContentRepository;
 import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoRepository;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -21,6 +28,13 @@ public class CleanUpExtension implements BeforeEachCallback {
         cleanUp(List.of(
           ctx.getBean(GenreRepository.class),
           ctx.getBean(VideoRepository.class),
+          ctx.getBean(VideoMediaContentRepository.class),
+          ctx.getBean(VideoMediaBlobRepository.class),
+          ctx.getBean(MediaCleanupRepository.class),
+          ctx.getBean(MediaReconciliationRepository.class),
+          ctx.getBean(MediaOrphanRepository.class),
+          ctx.getBean(MediaIngestionRepository.class),
+          ctx.getBean(MediaRekeyRepository.class),
           ctx.getBean(CategoryRepository.class),
           ctx.getBean(CastMemberRepository.class)
         ));
@@ -1,10 +1,14 @@
 package com.fullcycle.admin.catalog;
 
+import com.fullcycle.admin.catalog.infrastructure.configuration.SearchConfig;
+import com.fullcycle.admin.catalog.infrastructure.pagination.PaginationTotals;
+import com.fullcycle.admin.catalog.infrastructure.service.EventService;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import java.lang.annotation.*;
 
@@ -14,11 +18,13 @@ import java.lang.annotation.*;
 @ActiveProfiles("test-integration")
 @DataJpaTest
 @ExtendWith(CleanUpExtension.class)
+@MockitoBean(types = EventService.class)
 @ComponentScan(
   basePackages = "com.fullcycle.admin.catalog",
   useDefaultFilters = false,
   includeFilters = {
-    @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".[MySQLGateway]")
+    @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*MySQLGateway"),
+    @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = {PaginationTotals.class, SearchConfig.class})
   }
 )
 public @interface MySQLGatewayTest {}
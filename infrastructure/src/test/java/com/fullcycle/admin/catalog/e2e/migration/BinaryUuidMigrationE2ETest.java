@@ -0,0 +1,123 @@
+package com.fullcycle.admin.catalog.e2e.migration;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the BINARY(16) id migrations against MySQL, whose triggers and procedures H2 can't run:
+ * the expand under rows of the previous release, both releases writing through it, and the
+ * contract of the release after.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public class BinaryUuidMigrationE2ETest {
+
+    private static final int CATEGORIES = 2500;
+
+    @Container
+    private static final MySQLContainer<?> MYSQL_CONTAINER = new MySQLContainer<>("mysql:8.0")
+      .withDatabaseName("adm_videos")
+      .withUsername("root")
+      .withPassword("admin")
+      .withEnv("MYSQL_CHARACTER_SET_SERVER", "utf8mb4")
+      .withEnv("MYSQL_COLLATION_SERVER", "utf8mb4_unicode_ci");
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private UUID genre;
+
+    @BeforeEach
+    public void seedThePreviousRelease() {
+        dataSource = new DriverManagerDataSource(MYSQL_CONTAINER.getJdbcUrl(), "root", "admin");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        flyway("9").clean();
+        flyway("9").migrate();
+
+        jdbcTemplate.batchUpdate(
+          "INSERT INTO categories (id, name, active, created_at) VALUES (?, ?, TRUE, NOW(6))",
+          IntStream.range(0, CATEGORIES).mapToObj(i -> new Object[]{UUID.randomUUID().toString(), "Category " + i}).toList()
+        );
+
+        genre = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO genres (id, name, active, created_at) VALUES (?, 'Genre', TRUE, NOW(6))", genre.toString());
+        jdbcTemplate.update("INSERT INTO genres_categories (genre_id, category_id) SELECT ?, id FROM categories", genre.toString());
+    }
+
+    @Test
+    public void givenRowsOfThePreviousRelease_whenMigrates_shouldBackfillTheirBinaryIds() {
+        flyway(null).migrate();
+
+        assertEquals(0, count("SELECT COUNT(*) FROM categories WHERE id_bin IS NULL OR id_bin <> UUID_TO_BIN(id)"));
+        assertEquals(0, count("SELECT COUNT(*) FROM genres_categories WHERE genre_id_bin <> UUID_TO_BIN(genre_id) OR category_id_bin <> UUID_TO_BIN(category_id)"));
+        assertEquals(CATEGORIES, count("SELECT COUNT(*) FROM genres_categories WHERE genre_id_bin = UUID_TO_BIN('%s')".formatted(genre)));
+    }
+
+    @Test
+    public void givenTheExpandedSchema_whenBothReleasesWrite_shouldKeepBothIdsInSync() {
+        flyway(null).migrate();
+
+        // the previous release writes the text alone
+        final var previous = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO categories (id, name, active, created_at) VALUES (?, 'Previous', TRUE, NOW(6))", previous.toString());
+        assertEquals(previous, jdbcTemplate.queryForObject("SELECT BIN_TO_UUID(id_bin) FROM categories WHERE id = ?", UUID.class, previous.toString()));
+
+        // this release writes the bytes alone, the foreign keys still check the text
+        final var current = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO categories (id_bin, name, active, created_at) VALUES (UUID_TO_BIN(?), 'Current', TRUE, NOW(6))", current.toString());
+        jdbcTemplate.update("INSERT INTO genres_categories (genre_id_bin, category_id_bin) VALUES (UUID_TO_BIN(?), UUID_TO_BIN(?))", genre.toString(), current.toString());
+        assertEquals(current.toString(), jdbcTemplate.queryForObject("SELECT id FROM categories WHERE id_bin = UUID_TO_BIN(?)", String.class, current.toString()));
+        assertEquals(1, count("SELECT COUNT(*) FROM genres_categories WHERE category_id = '%s' AND genre_id = '%s'".formatted(current, genre)));
+
+        // either side of an update carries over
+        final var renamed = UUID.randomUUID();
+        jdbcTemplate.update("UPDATE categories SET id = ? WHERE id = ?", renamed.toString(), previous.toString());
+        assertEquals(renamed, jdbcTemplate.queryForObject("SELECT BIN_TO_UUID(id_bin) FROM categories WHERE id = ?", UUID.class, renamed.toString()));
+
+        final var rekeyed = UUID.randomUUID();
+        jdbcTemplate.update("UPDATE categories SET id_bin = UUID_TO_BIN(?) WHERE id = ?", rekeyed.toString(), renamed.toString());
+        assertEquals(rekeyed.toString(), jdbcTemplate.queryForObject("SELECT id FROM categories WHERE id_bin = UUID_TO_BIN(?)", String.class, rekeyed.toString()));
+    }
+
+    @Test
+    public void givenTheExpandedSchema_whenRunsTheContract_shouldKeepTheRowsUnderTheBinaryIds() throws SQLException {
+        flyway(null).migrate();
+
+        try (final var connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/contract/mysql/drop_char_uuid_columns.sql"));
+        }
+
+        assertEquals(CATEGORIES, count("SELECT COUNT(*) FROM categories"));
+        assertEquals(CATEGORIES, count("SELECT COUNT(*) FROM genres_categories gc JOIN categories c ON c.id_bin = gc.category_id_bin"));
+        assertEquals(List.of("id_bin"), jdbcTemplate.queryForList("""
+            SELECT COLUMN_NAME FROM information_schema.KEY_COLUMN_USAGE
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'categories' AND CONSTRAINT_NAME = 'PRIMARY'
+        """, String.class));
+    }
+
+    private Flyway flyway(final String target) {
+        final var configuration = Flyway.configure()
+          .dataSource(dataSource)
+          .locations("classpath:db/migration", "classpath:db/specific/mysql")
+          .cleanDisabled(false);
+        return (target != null ? configuration.target(target) : configuration).load();
+    }
+
+    private long count(final String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
@@ -0,0 +1,158 @@
+package com.fullcycle.admin.catalog.infrastructure.api.filters;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UploadAdmissionFilterTest {
+
+	private SimpleMeterRegistry registry;
+
+	private UploadAdmissionFilter target;
+
+	@BeforeEach
+	public void setUp() {
+		registry = new SimpleMeterRegistry();
+		target = new UploadAdmissionFilter(100, Duration.ofMillis(50), Duration.ofSeconds(30), registry);
+	}
+
+	@Test
+	public void givenUploadWithinBudget_whenFiltered_shouldReserveItsLengthUntilItCompletes() throws Exception {
+		final var inFlight = new double[1];
+		final var response = new MockHttpServletResponse();
+
+		target.doFilter(upload(60), response, (req, res) -> inFlight[0] = gauge("upload.admission.in.flight"));
+
+		assertEquals(200, response.getStatus());
+		assertEquals(60.0, inFlight[0]);
+		assertEquals(0.0, gauge("upload.admission.in.flight"));
+		assertEquals(1, registry.get("upload.admission.requests").tag("result", "admitted").counter().count());
+	}
+
+	@Test
+	public void givenSpentBudget_whenFiltered_shouldRejectWithRetryAfter() throws Exception {
+		final var rejected = new MockHttpServletResponse();
+
+		target.doFilter(upload(60), new MockHttpServletResponse(), (req, res) -> target.doFilter(upload(50), rejected, new MockFilterChain()));
+
+		assertEquals(503, rejected.getStatus());
+		assertEquals("30", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+		assertEquals(1, registry.get("upload.admission.requests").tag("result", "rejected").counter().count());
+		assertEquals(0.0, gauge("upload.admission.in.flight"));
+	}
+
+	@Test
+	public void givenSpentBudget_whenReleasedWhileWaiting_shouldAdmitTheQueuedUpload() throws Exception {
+		registry = new SimpleMeterRegistry();
+		target = new UploadAdmissionFilter(100, Duration.ofSeconds(5), Duration.ofSeconds(30), registry);
+		final var started = new CountDownLatch(1);
+		final var finish = new CountDownLatch(1);
+		final FilterChain holding = (req, res) -> {
+			started.countDown();
+			await(finish);
+		};
+
+		final var first = CompletableFuture.runAsync(() -> filter(upload(60), new MockHttpServletResponse(), holding));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		final var queuedResponse = new MockHttpServletResponse();
+		final var queued = CompletableFuture.runAsync(() -> filter(upload(50), queuedResponse, new MockFilterChain()));
+
+		while (gauge("upload.admission.waiting") == 0) {
+			Thread.sleep(10);
+		}
+		finish.countDown();
+
+		first.get(5, TimeUnit.SECONDS);
+		queued.get(5, TimeUnit.SECONDS);
+		assertEquals(200, queuedResponse.getStatus());
+		assertEquals(2, registry.get("upload.admission.requests").tag("result", "admitted").counter().count());
+	}
+
+	@Test
+	public void givenUploadLargerThanTheBudget_whenFiltered_shouldReserveTheWholeBudget() throws Exception {
+		final var inFlight = new double[1];
+		final var response = new MockHttpServletResponse();
+
+		target.doFilter(upload(150), response, (req, res) -> inFlight[0] = gauge("upload.admission.in.flight"));
+
+		assertEquals(200, response.getStatus());
+		assertEquals(100.0, inFlight[0]);
+		assertEquals(0.0, gauge("upload.admission.in.flight"));
+		assertEquals(1, registry.get("upload.admission.requests").tag("result", "admitted").counter().count());
+	}
+
+	@Test
+	public void givenUploadLargerThanTheBudget_whenBudgetIsInUse_shouldRejectWithRetryAfter() throws Exception {
+		final var rejected = new MockHttpServletResponse();
+
+		target.doFilter(upload(10), new MockHttpServletResponse(), (req, res) -> target.doFilter(upload(150), rejected, new MockFilterChain()));
+
+		assertEquals(503, rejected.getStatus());
+		assertEquals("30", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+		assertEquals(0.0, gauge("upload.admission.in.flight"));
+	}
+
+	@Test
+	public void givenStreamedUpload_whenFiltered_shouldRequireItsLength() throws Exception {
+		final var streamed = new MockHttpServletResponse();
+		final var chunked = new MockHttpServletRequest("POST", "/videos");
+		chunked.setContentType("multipart/form-data; boundary=x");
+
+		target.doFilter(chunked, streamed, new MockFilterChain());
+
+		assertEquals(411, streamed.getStatus());
+	}
+
+	@Test
+	public void givenNonMultipartRequest_whenFiltered_shouldPassItThrough() throws Exception {
+		final var request = new MockHttpServletRequest("POST", "/videos");
+		request.setContentType("application/json");
+		request.setContent(new byte[200]);
+		final var response = new MockHttpServletResponse();
+
+		target.doFilter(request, response, new MockFilterChain());
+
+		assertEquals(200, response.getStatus());
+		assertEquals(0, registry.get("upload.admission.requests").tag("result", "admitted").counter().count());
+	}
+
+	private MockHttpServletRequest upload(final int length) {
+		final var request = new MockHttpServletRequest("POST", "/videos");
+		request.setContentType("multipart/form-data; boundary=x");
+		request.setContent(new byte[length]);
+		return request;
+	}
+
+	private double gauge(final String name) {
+		return registry.get(name).gauge().value();
+	}
+
+	private void filter(final MockHttpServletRequest request, final MockHttpServletResponse response, final FilterChain chain) {
+		try {
+			target.doFilter(request, response, chain);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static void await(final CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
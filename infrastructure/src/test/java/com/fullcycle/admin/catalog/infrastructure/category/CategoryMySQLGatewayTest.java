@@ -2,15 +2,23 @@ package com.fullcycle.admin.catalog.infrastructure.category;
 
 import com.fullcycle.admin.catalog.domain.category.Category;
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.errors.DomainException;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalog.domain.pagination.TotalMode;
 import com.fullcycle.admin.catalog.MySQLGatewayTest;
 import com.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryRepository;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -23,6 +31,9 @@ public class CategoryMySQLGatewayTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     public void givenValidCategory_whenCallsCreate_shouldReturnNewCategory() {
         final var expectedName = "Any name";
@@ -55,6 +66,21 @@ public class CategoryMySQLGatewayTest {
         assertNull(entity.getDeletedAt());
     }
 
+    @Test
+    public void givenValidCategory_whenCallsCreate_shouldStoreTheIdInSixteenBytes() {
+        final var category = Category.newCategory("Any name", null, true);
+
+        categoryGateway.create(category);
+        categoryRepository.flush();
+
+        final var stored = jdbcTemplate.queryForMap("SELECT OCTET_LENGTH(id_bin) AS size, CAST(id_bin AS UUID) AS id FROM categories");
+        assertEquals(16, ((Number) stored.get("size")).intValue());
+        assertEquals(category.getId().getValue(), stored.get("id"));
+
+        final var output = categoryGateway.findById(CategoryID.from(category.getId().toString())).get();
+        assertEquals(category.getId(), output.getId());
+    }
+
     @Test
     public void givenValidCategory_whenCallsUpdate_shouldReturnCategoryUpdated() {
         final var expectedName = "Any name";
@@ -161,13 +187,19 @@ public class CategoryMySQLGatewayTest {
 
         assertEquals(3, categoryRepository.count());
 
+        // the names tie, so the id breaks it
+        final var expectedId = Stream.of(category1, category2, category3)
+          .map(Category::getId)
+          .min(Comparator.comparing(CategoryID::toString))
+          .orElseThrow();
+
         final var query = new SearchQuery(0, 1, "", "name", "asc");
         final var output = categoryGateway.findAll(query);
 
         assertEquals(expectedPage, output.currentPage());
         assertEquals(expectedPerPage, output.perPage());
         assertEquals(expectedTotal, output.items().size());
-        assertEquals(category1.getId(), output.items().get(0).getId());
+        assertEquals(expectedId, output.items().get(0).getId());
     }
 
     @Test
@@ -235,6 +267,89 @@ public class CategoryMySQLGatewayTest {
         assertEquals(expectedPerPage, output.items().size());
     }
 
+    @Test
+    public void givenNoTotal_whenCallsFindAllByPage_shouldSkipTheCountAndTellWhetherThereAreMore() {
+        categoryRepository.saveAll(List.of(
+          CategoryJpaEntity.from(Category.newCategory("Documentarios", null, true)),
+          CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+          CategoryJpaEntity.from(Category.newCategory("Series", null, true))
+        ));
+
+        final var middle = categoryGateway.findAll(new SearchQuery(1, 1, "", "name", "asc", null, TotalMode.NONE));
+
+        assertEquals(Pagination.UNKNOWN_TOTAL, middle.total());
+        assertEquals("Filmes", middle.items().get(0).getName());
+        assertTrue(middle.hasMore());
+        assertNotNull(middle.nextCursor());
+
+        final var last = categoryGateway.findAll(new SearchQuery(2, 1, "", "name", "asc", null, TotalMode.NONE));
+
+        assertEquals("Series", last.items().get(0).getName());
+        assertFalse(last.hasMore());
+        assertNull(last.nextCursor());
+    }
+
+    @Test
+    public void givenTiedSortKeys_whenFollowsNextCursor_shouldReturnEveryCategoryOnce() {
+        final var expectedPerPage = 2;
+        final var expectedTotal = 5;
+
+        categoryRepository.saveAll(List.of(
+          CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+          CategoryJpaEntity.from(Category.newCategory("Filmes", "A", true)),
+          CategoryJpaEntity.from(Category.newCategory("Series", null, true)),
+          CategoryJpaEntity.from(Category.newCategory("Series", "B", true)),
+          CategoryJpaEntity.from(Category.newCategory("Documentarios", null, true))
+        ));
+
+        for (final var direction : List.of("asc", "desc")) {
+            final var seen = new ArrayList<String>();
+            String cursor = null;
+            do {
+                final var output = categoryGateway.findAll(new SearchQuery(0, expectedPerPage, "", "description", direction, cursor, TotalMode.EXACT));
+
+                assertEquals(expectedTotal, output.total());
+                output.items().forEach(category -> seen.add(category.getId().getValue().toString()));
+                cursor = output.nextCursor();
+            } while (cursor != null);
+
+            assertEquals(expectedTotal, seen.size());
+            assertEquals(expectedTotal, Set.copyOf(seen).size());
+        }
+    }
+
+    @Test
+    public void givenNextCursor_whenCallsFindAll_shouldReuseTheTotalOfTheFirstPage() {
+        categoryRepository.saveAll(List.of(
+          CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+          CategoryJpaEntity.from(Category.newCategory("Series", null, true))
+        ));
+
+        final var first = categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc", null, TotalMode.EXACT));
+        categoryRepository.save(CategoryJpaEntity.from(Category.newCategory("Documentarios", null, true)));
+
+        final var second = categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc", first.nextCursor(), TotalMode.EXACT));
+
+        assertEquals(2, first.total());
+        assertEquals(2, second.total());
+        assertEquals("Series", second.items().get(0).getName());
+    }
+
+    @Test
+    public void givenCursorOfAnotherSort_whenCallsFindAll_shouldThrowDomainException() {
+        categoryRepository.saveAll(List.of(
+          CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+          CategoryJpaEntity.from(Category.newCategory("Series", null, true))
+        ));
+
+        final var cursor = categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc")).nextCursor();
+        assertNotNull(cursor);
+
+        final var query = new SearchQuery(0, 1, "", "createdAt", "asc", cursor, TotalMode.EXACT);
+        final var error = assertThrows(DomainException.class, () -> categoryGateway.findAll(query));
+        assertEquals("Invalid cursor", error.getMessage());
+    }
+
     @Test
     public void givenPrePersistedCategoriesAndDocAsTerms_whenCallsFindAll_shouldReturnPaginated() {
         final var expectedPage = 0;
@@ -0,0 +1,99 @@
+package com.fullcycle.admin.catalog.infrastructure.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChecksumUtilsTest {
+
+	@Test
+	public void givenKnownContent_whenCallsGenerate_shouldReturnPaddedCrc32c() throws Exception {
+		final var content = "123456789".getBytes(StandardCharsets.US_ASCII);
+
+		assertEquals("e3069283", ChecksumUtils.generate(content));
+		assertEquals("e3069283", ChecksumUtils.generate(new ByteArrayInputStream(content)));
+		assertEquals("00000000", ChecksumUtils.generate(new byte[0]));
+	}
+
+	@Test
+	public void givenTwoParts_whenCallsCombine_shouldMatchChecksumOfWholeContent() {
+		final var first = "first part of the media ".getBytes();
+		final var second = "and the second one".getBytes();
+		final var whole = "first part of the media and the second one".getBytes();
+
+		final var actual = ChecksumUtils.combine(ChecksumUtils.generate(first), ChecksumUtils.generate(second), second.length);
+
+		assertEquals(ChecksumUtils.generate(whole), actual);
+		assertEquals(ChecksumUtils.generate(first), ChecksumUtils.combine(ChecksumUtils.generate(first), ChecksumUtils.generate(new byte[0]), 0));
+	}
+
+	@Test
+	public void givenStream_whenReadWithSha256_shouldComputeBothInOnePass() throws Exception {
+		final var content = "abc".getBytes();
+		final var stream = ChecksumInputStream.withSha256(new ByteArrayInputStream(content));
+
+		stream.transferTo(OutputStream.nullOutputStream());
+
+		assertEquals(ChecksumUtils.generate(content), stream.crc32c());
+		assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad", stream.sha256());
+		assertEquals(3, stream.count());
+	}
+
+	@Test
+	public void givenCorruptedContent_whenReadVerifying_shouldFailAtEndOfStream() {
+		final var stream = ChecksumInputStream.verifying(new ByteArrayInputStream("abd".getBytes()), ChecksumUtils.generate("abc".getBytes()));
+
+		assertThrows(IOException.class, stream::readAllBytes);
+	}
+
+	@Test
+	public void givenUnpaddedChecksum_whenCallsMatches_shouldMatchItsPaddedForm() {
+		assertTrue(ChecksumUtils.matches("1a2b3c", "001A2B3C"));
+		assertTrue(ChecksumUtils.matches("e3069283", "e3069283"));
+		assertFalse(ChecksumUtils.matches("1a2b3c", "001a2b3d"));
+		assertFalse(ChecksumUtils.matches("not-a-crc", "001a2b3c"));
+		assertFalse(ChecksumUtils.matches(null, "001a2b3c"));
+		assertEquals("001a2b3c", ChecksumUtils.normalize("1a2b3c"));
+	}
+
+	@Test
+	public void givenDigestingSource_whenContentIsReadThrough_shouldTakeTheChecksumOfThatRead() throws Exception {
+		final var content = "streamed content".getBytes();
+		final var opens = new AtomicInteger();
+		final var resource = DigestingContentSource.resourceOf(() -> {
+			opens.incrementAndGet();
+			return new ByteArrayInputStream(content);
+		}, content.length, "video/mp4", "video.mp4");
+
+		try (final var stream = resource.openStream()) {
+			stream.transferTo(OutputStream.nullOutputStream());
+		}
+
+		assertEquals(ChecksumUtils.generate(content), resource.checksum());
+		assertEquals(1, opens.get());
+	}
+
+	@Test
+	public void givenDigestingSourceNotReadThrough_whenCallsChecksum_shouldReadItOnce() throws Exception {
+		final var content = "streamed content".getBytes();
+		final var opens = new AtomicInteger();
+		final var resource = DigestingContentSource.resourceOf(() -> {
+			opens.incrementAndGet();
+			return new ByteArrayInputStream(content);
+		}, content.length, "video/mp4", "video.mp4");
+
+		try (final var stream = resource.source().openStream(9)) {
+			assertEquals("content", new String(stream.readAllBytes()));
+		}
+
+		assertEquals(ChecksumUtils.generate(content), resource.checksum());
+		assertEquals(ChecksumUtils.generate(content), resource.checksum());
+		assertEquals(2, opens.get());
+	}
+}
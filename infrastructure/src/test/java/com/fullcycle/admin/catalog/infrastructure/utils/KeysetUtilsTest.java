@@ -0,0 +1,39 @@
+package com.fullcycle.admin.catalog.infrastructure.utils;
+
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberType;
+import com.fullcycle.admin.catalog.domain.errors.DomainException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KeysetUtilsTest {
+
+	@Test
+	public void givenKeys_whenEncodesAndDecodes_shouldReturnTheSameKeys() {
+		final var id = UUID.randomUUID();
+
+		final var cursor = KeysetUtils.decode(KeysetUtils.encode("type", "desc", CastMemberType.ACTOR, id, 3), "type", "DESC");
+
+		assertEquals(new KeysetUtils.Cursor("type", "DESC", "ACTOR", id.toString(), 3L), cursor);
+		assertNull(KeysetUtils.decode(KeysetUtils.encode("name", "asc", null, id, 3), "name", "asc").value());
+		assertNull(KeysetUtils.decode(" ", "name", "asc"));
+	}
+
+	@Test
+	public void givenCursorNotIssuedForTheSort_whenCallsDecode_shouldThrowDomainException() {
+		final var cursor = KeysetUtils.encode("name", "asc", "Matrix", UUID.randomUUID(), 3);
+
+		assertThrows(DomainException.class, () -> KeysetUtils.decode(cursor, "name", "desc"));
+		assertThrows(DomainException.class, () -> KeysetUtils.decode(cursor, "createdAt", "asc"));
+		assertThrows(DomainException.class, () -> KeysetUtils.decode("not-a-cursor", "name", "asc"));
+	}
+
+	@Test
+	public void givenSort_whenCallsSort_shouldBreakTiesById() {
+		assertEquals(Sort.by(Sort.Direction.DESC, "name").and(Sort.by(Sort.Direction.DESC, "id")), KeysetUtils.sort("name", "desc"));
+		assertEquals(Sort.by(Sort.Direction.ASC, "id"), KeysetUtils.sort("id", "asc"));
+	}
+}
@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalog.infrastructure.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SQLUtilsTest {
+
+	@Test
+	public void givenTerms_whenCallsFullText_shouldRequireEveryWordAsPrefix() {
+		assertEquals("+Harry* +Potter*", SQLUtils.fullText("Harry Potter"));
+		assertEquals("+vingadores* +ultimato*", SQLUtils.fullText("  +vingadores -(ultimato)*  "));
+		assertEquals("+ação*", SQLUtils.fullText("ação"));
+	}
+
+	@Test
+	public void givenTermsTheIndexCantAnswer_whenCallsFullText_shouldReturnNull() {
+		assertNull(SQLUtils.fullText(null));
+		assertNull(SQLUtils.fullText(""));
+		assertNull(SQLUtils.fullText("\"*\""));
+		assertNull(SQLUtils.fullText("harry po"));
+	}
+}
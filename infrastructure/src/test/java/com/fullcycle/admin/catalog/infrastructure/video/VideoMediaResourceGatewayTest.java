@@ -2,14 +2,32 @@ package com.fullcycle.admin.catalog.infrastructure.video;
 
 import com.fullcycle.admin.catalog.Fixture;
 import com.fullcycle.admin.catalog.IntegrationTest;
+import com.fullcycle.admin.catalog.domain.resource.Resource;
 import com.fullcycle.admin.catalog.domain.video.*;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.ImageVariantProperties;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.StorageProperties;
 import com.fullcycle.admin.catalog.infrastructure.service.StorageService;
 import com.fullcycle.admin.catalog.infrastructure.service.local.InMemoryStorageService;
+import com.fullcycle.admin.catalog.infrastructure.utils.ChecksumUtils;
+import com.fullcycle.admin.catalog.infrastructure.video.cache.ImageMediaCache;
+import com.fullcycle.admin.catalog.infrastructure.video.cleanup.MediaCleanupRepository;
+import com.fullcycle.admin.catalog.infrastructure.video.cleanup.MediaCleanupWorker;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoMediaBlobRepository;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoMediaContentLocks;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoMediaContentRepository;
+import com.fullcycle.admin.catalog.infrastructure.video.variants.ImageVariants;
+import com.google.common.util.concurrent.MoreExecutors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.wildfly.common.Assert.assertNotNull;
@@ -25,6 +43,30 @@ class VideoMediaResourceGatewayTest {
 	@Autowired
 	private MediaResourceGateway mediaResourceGateway;
 
+	@Autowired
+	private StorageProperties storageProperties;
+
+	@Autowired
+	private VideoMediaContentRepository contentRepository;
+
+	@Autowired
+	private VideoMediaContentLocks contentLocks;
+
+	@Autowired
+	private VideoMediaBlobRepository blobRepository;
+
+	@Autowired
+	private ImageMediaCache imageCache;
+
+	@Autowired
+	private MediaCleanupRepository cleanupRepository;
+
+	@Autowired
+	private MediaCleanupWorker cleanupWorker;
+
+	@Autowired
+	private ImageVariants imageVariants;
+
 	@BeforeEach
 	public void setUp() {
 		storageService().reset();
@@ -89,7 +131,13 @@ class VideoMediaResourceGatewayTest {
 
 		mediaResourceGateway.clearResources(videoOne);
 
+		assertEquals(5, storageService().storage().size());
+		assertTrue(cleanupRepository.existsById(videoOne.getValue()));
+
+		cleanupWorker.drain();
+
 		assertEquals(2, storageService().storage().size());
+		assertEquals(0, cleanupRepository.count());
 		final var keys = storageService().storage().keySet();
 		assertTrue(expectedValues.size() == keys.size() && keys.containsAll(expectedValues));
 	}
@@ -131,6 +179,224 @@ class VideoMediaResourceGatewayTest {
 	}
 
 
+	@Test
+	public void givenCachedImage_whenCallsGetResource_shouldServeItWithoutStorage() {
+		final var video = VideoID.unique();
+		final var expectedType = VideoMediaType.THUMBNAIL;
+		final var expectedResource = Fixture.Videos.resource(expectedType);
+		final var expectedLocation = "videoId-%s/type-%s".formatted(video, expectedType);
+
+		mediaResourceGateway.storeImage(video, VideoResource.with(expectedResource, expectedType));
+		assertTrue(mediaResourceGateway.getResource(video, expectedType).isPresent());
+
+		storageService().storage().remove(expectedLocation);
+
+		final var cached = mediaResourceGateway.getResource(video, expectedType).get();
+		assertEquals(expectedResource.checksum(), cached.checksum());
+		assertEquals(new String(expectedResource.content()), new String(cached.content()));
+	}
+
+	@Test
+	public void givenCachedImage_whenCallsStoreImageAgain_shouldInvalidateIt() {
+		final var video = VideoID.unique();
+		final var expectedType = VideoMediaType.BANNER;
+		final var expectedContent = "new banner".getBytes();
+		final var expectedResource = Resource.with(ChecksumUtils.generate(expectedContent), expectedContent, "image/jpg", "banner");
+
+		mediaResourceGateway.storeImage(video, VideoResource.with(Fixture.Videos.resource(expectedType), expectedType));
+		mediaResourceGateway.getResource(video, expectedType);
+
+		mediaResourceGateway.storeImage(video, VideoResource.with(expectedResource, expectedType));
+
+		assertEquals(expectedResource.checksum(), mediaResourceGateway.getResource(video, expectedType).get().checksum());
+
+		mediaResourceGateway.clearResources(video);
+		cleanupWorker.drain();
+
+		assertTrue(mediaResourceGateway.getResource(video, expectedType).isEmpty());
+	}
+
+	@Test
+	public void givenSameContentForTwoVideos_whenCallsStoreContentAddressed_shouldStoreItOnce() {
+		final var gateway = contentAddressedGateway();
+		final var videoOne = VideoID.unique();
+		final var videoTwo = VideoID.unique();
+		final var expectedType = VideoMediaType.BANNER;
+		final var expectedResource = Fixture.Videos.resource(expectedType);
+
+		final var mediaOne = gateway.storeImage(videoOne, VideoResource.with(expectedResource, expectedType));
+		final var mediaTwo = gateway.storeImage(videoTwo, VideoResource.with(expectedResource, expectedType));
+
+		assertEquals(mediaOne.getLocation(), mediaTwo.getLocation());
+		assertTrue(mediaOne.getLocation().startsWith("contents/"));
+		assertEquals(1, storageService().storage().size());
+		assertEquals(2, contentRepository.count());
+		assertEquals(expectedResource.checksum(), gateway.getResource(videoTwo, expectedType).get().checksum());
+	}
+
+	@Test
+	public void givenSharedContent_whenCallsPurgeResourcesContentAddressed_shouldDeleteOnlyWhenUnreferenced() {
+		final var gateway = contentAddressedGateway();
+		final var videoOne = VideoID.unique();
+		final var videoTwo = VideoID.unique();
+		final var expectedType = VideoMediaType.TRAILER;
+		final var expectedResource = Fixture.Videos.resource(expectedType);
+
+		gateway.storeAudioVideo(videoOne, VideoResource.with(expectedResource, expectedType));
+		gateway.storeAudioVideo(videoTwo, VideoResource.with(expectedResource, expectedType));
+
+		gateway.purgeResources(List.of(videoOne), 100);
+
+		assertEquals(1, storageService().storage().size());
+		assertTrue(gateway.getResource(videoOne, expectedType).isEmpty());
+		assertTrue(gateway.getResource(videoTwo, expectedType).isPresent());
+
+		gateway.purgeResources(List.of(videoTwo), 100);
+
+		assertTrue(storageService().storage().isEmpty());
+		assertEquals(0, contentRepository.count());
+	}
+
+	@Test
+	public void givenReplacedContent_whenCallsPurgeUnreferencedContents_shouldDeletePreviousContent() {
+		final var gateway = contentAddressedGateway();
+		final var video = VideoID.unique();
+		final var expectedType = VideoMediaType.THUMBNAIL;
+		final var previous = Fixture.Videos.resource(expectedType);
+		final var expectedContent = "new thumbnail".getBytes();
+		final var expectedResource = Resource.with(ChecksumUtils.generate(expectedContent), expectedContent, "image/jpg", "thumb");
+
+		gateway.storeImage(video, VideoResource.with(previous, expectedType));
+		final var media = gateway.storeImage(video, VideoResource.with(expectedResource, expectedType));
+
+		assertEquals(2, storageService().storage().size());
+
+		assertEquals(1, gateway.purgeUnreferencedContents(100));
+
+		assertEquals(1, storageService().storage().size());
+		assertEquals(expectedResource.checksum(), storageService().get(media.getLocation()).get().checksum());
+		assertEquals(1, blobRepository.count());
+	}
+
+	@Test
+	public void givenReplacedContentTakenAgain_whenCallsPurgeUnreferencedContents_shouldKeepIt() {
+		final var gateway = contentAddressedGateway();
+		final var videoOne = VideoID.unique();
+		final var videoTwo = VideoID.unique();
+		final var expectedType = VideoMediaType.THUMBNAIL;
+		final var expectedResource = Fixture.Videos.resource(expectedType);
+		final var replacement = "new thumbnail".getBytes();
+
+		final var expectedMedia = gateway.storeImage(videoOne, VideoResource.with(expectedResource, expectedType));
+		gateway.storeImage(videoOne, VideoResource.with(Resource.with(ChecksumUtils.generate(replacement), replacement, "image/jpg", "thumb"), expectedType));
+		gateway.storeImage(videoTwo, VideoResource.with(expectedResource, expectedType));
+
+		assertEquals(0, gateway.purgeUnreferencedContents(100));
+
+		assertEquals(2, storageService().storage().size());
+		assertTrue(storageService().get(expectedMedia.getLocation()).isPresent());
+	}
+
+	@Test
+	public void givenPreviousNamingStrategy_whenCallsGetResource_shouldFallBackToThePreviousName() {
+		final var props = new StorageProperties();
+		props.setLocationPattern(storageProperties.getLocationPattern());
+		props.setFilenamePattern(storageProperties.getFilenamePattern());
+		props.setNamingStrategy("hash-prefix");
+		props.setPreviousNamingStrategy("sequential");
+		props.setShardWidth(2);
+		final var gateway = new VideoMediaResourceGateway(props, storageService, contentRepository, contentLocks, imageCache, cleanupRepository, imageVariants);
+
+		final var video = VideoID.unique();
+		final var legacyLocation = "videoId-%s/type-%s".formatted(video, VideoMediaType.VIDEO);
+		final var expectedResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+		storageService().store(legacyLocation, expectedResource);
+
+		assertEquals(expectedResource.checksum(), gateway.getResource(video, VideoMediaType.VIDEO).get().checksum());
+
+		final var media = gateway.storeImage(video, VideoResource.with(Fixture.Videos.resource(VideoMediaType.BANNER), VideoMediaType.BANNER));
+		assertTrue(media.getLocation().matches("[0-9a-f]{2}/videoId-%s/type-BANNER".formatted(video)));
+
+		gateway.purgeResources(List.of(video), 100);
+
+		assertTrue(storageService().storage().isEmpty());
+	}
+
+	@Test
+	public void givenStoredImage_whenCallsGetResourceWithWidth_shouldServeTheClosestVariant() throws IOException {
+		final var props = new ImageVariantProperties();
+		props.setEnabled(true);
+		props.setWidths(List.of(160, 320, 640));
+		props.setQuality(0.8f);
+		props.setMaxPixels(1_000_000);
+		final var variants = new ImageVariants(props, MoreExecutors.newDirectExecutorService());
+		final var gateway = new VideoMediaResourceGateway(storageProperties, storageService, contentRepository, contentLocks, imageCache, cleanupRepository, variants);
+
+		final var video = VideoID.unique();
+		final var expectedType = VideoMediaType.BANNER;
+		final var expectedResource = png(500, 250);
+		final var checksum = expectedResource.checksum();
+
+		gateway.storeImage(video, VideoResource.with(expectedResource, expectedType));
+
+		assertEquals(
+		  List.of(
+		    "videoId-%s/type-BANNER".formatted(video),
+		    "videoId-%s/type-BANNER-%s-w160".formatted(video, checksum),
+		    "videoId-%s/type-BANNER-%s-w320".formatted(video, checksum)
+		  ),
+		  storageService().list("videoId-%s/".formatted(video)).stream().sorted().toList()
+		);
+
+		final var variant = gateway.getResource(video, expectedType, checksum, 300).get();
+		assertEquals(ImageVariants.CONTENT_TYPE, variant.contentType());
+		assertEquals(320, ImageIO.read(variant.openStream()).getWidth());
+
+		// no variant is as wide as the request, the original is the closest
+		assertEquals(checksum, gateway.getResource(video, expectedType, checksum, 600).get().checksum());
+
+		// replacing the image replaces its variants, the ones of the previous image are never served
+		final var replacement = png(200, 100);
+		gateway.storeImage(video, VideoResource.with(replacement, expectedType));
+		assertEquals(
+		  List.of("videoId-%s/type-BANNER-%s-w160".formatted(video, replacement.checksum())),
+		  storageService().list("videoId-%s/type-BANNER-".formatted(video))
+		);
+		assertEquals(160, ImageIO.read(gateway.getResource(video, expectedType, replacement.checksum(), 100).get().openStream()).getWidth());
+		assertEquals(replacement.checksum(), gateway.getResource(video, expectedType, checksum, 100).get().checksum());
+	}
+
+	private Resource png(final int width, final int height) throws IOException {
+		final var output = new ByteArrayOutputStream();
+		ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", output);
+		final var content = output.toByteArray();
+		return Resource.with(ChecksumUtils.generate(content), content, "image/png", "banner.png");
+	}
+
+	private VideoMediaResourceGateway contentAddressedGateway() {
+		final var props = new StorageProperties();
+		props.setLocationPattern(storageProperties.getLocationPattern());
+		props.setFilenamePattern(storageProperties.getFilenamePattern());
+		props.setContentLocationPattern(storageProperties.getContentLocationPattern());
+		props.setContentAddressed(true);
+		return new VideoMediaResourceGateway(props, storageService, contentRepository, contentLocks, imageCache, cleanupRepository, imageVariants);
+	}
+
+	@Test
+	public void givenStoredMedia_whenCallsGetSignedUrl_shouldSignItsLocation() {
+		final var video = VideoID.unique();
+		final var expectedType = VideoMediaType.VIDEO;
+		final var expectedResource = Fixture.Videos.resource(expectedType);
+
+		mediaResourceGateway.storeAudioVideo(video, VideoResource.with(expectedResource, expectedType));
+
+		final var signed = mediaResourceGateway.getSignedUrl(video, expectedType).get();
+
+		assertTrue(signed.expiresAt().isAfter(Instant.now()));
+		assertEquals(expectedResource.checksum(), storageService().verify(signed.url()).get().checksum());
+		assertTrue(mediaResourceGateway.getSignedUrl(video, VideoMediaType.TRAILER).isEmpty());
+	}
+
 	private InMemoryStorageService storageService() {
 		return (InMemoryStorageService) storageService;
 	}
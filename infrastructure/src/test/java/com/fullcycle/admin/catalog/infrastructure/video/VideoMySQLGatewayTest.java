@@ -12,8 +12,15 @@ import com.fullcycle.admin.catalog.domain.category.CategoryID;
 import com.fullcycle.admin.catalog.domain.genre.Genre;
 import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalog.domain.genre.GenreID;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.pagination.TotalMode;
+import com.fullcycle.admin.catalog.domain.pagination.VideoSearchMode;
 import com.fullcycle.admin.catalog.domain.pagination.VideoSearchQuery;
+import com.fullcycle.admin.catalog.domain.utils.InstantUtils;
 import com.fullcycle.admin.catalog.domain.video.*;
+import com.fullcycle.admin.catalog.infrastructure.video.ingestion.MediaIngestionID;
+import com.fullcycle.admin.catalog.infrastructure.video.ingestion.MediaIngestionJpaEntity;
+import com.fullcycle.admin.catalog.infrastructure.video.ingestion.MediaIngestionRepository;
 import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -22,6 +29,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Year;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
@@ -46,6 +54,9 @@ public class VideoMySQLGatewayTest {
 	@Autowired
 	private VideoRepository videoRepository;
 
+	@Autowired
+	private MediaIngestionRepository ingestionRepository;
+
 	private static final Category CATEGORY = Fixture.Categories.category();
 	private static final Genre GENRE = Fixture.Genres.genre();
 	private static final CastMember CAST_MEMBER = Fixture.CastMembers.castMember();
@@ -311,6 +322,39 @@ public class VideoMySQLGatewayTest {
 		assertNotNull(persisted.getUpdatedAt());
 	}
 
+	@Test
+	public void givenTwoVideosWithImagesOfTheSameChecksum_whenCallsCreate_shouldKeepBoth() {
+		final var expectedChecksum = "0a1b2c3d";
+
+		final var first = videoGateway.create(Video.newVideo(
+		  Fixture.title(),
+		  Fixture.description(),
+		  Year.of(Fixture.year()),
+		  Fixture.duration(),
+		  Fixture.Videos.rating(),
+		  Fixture.bool(),
+		  Fixture.bool(),
+		  Set.of(),
+		  Set.of(),
+		  Set.of()
+		).setBanner(ImageMedia.with(expectedChecksum, "first", "/first")));
+		final var second = videoGateway.create(Video.newVideo(
+		  Fixture.title(),
+		  Fixture.description(),
+		  Year.of(Fixture.year()),
+		  Fixture.duration(),
+		  Fixture.Videos.rating(),
+		  Fixture.bool(),
+		  Fixture.bool(),
+		  Set.of(),
+		  Set.of(),
+		  Set.of()
+		).setBanner(ImageMedia.with(expectedChecksum, "second", "/second")));
+
+		assertEquals("/first", videoGateway.findById(first.getId()).get().getBanner().get().getLocation());
+		assertEquals("/second", videoGateway.findById(second.getId()).get().getBanner().get().getLocation());
+	}
+
 	@Test
 	public void givenValidVideo_whenCallsDeleteById_shouldDeleteIt() {
 		final var video = videoGateway.create(Video.newVideo(
@@ -331,6 +375,31 @@ public class VideoMySQLGatewayTest {
 		assertEquals(0, videoRepository.count());
 	}
 
+	@Test
+	public void givenVideoWithIngestions_whenCallsDeleteById_shouldDeleteThem() {
+		final var video = videoGateway.create(Video.newVideo(
+		  Fixture.title(),
+		  Fixture.description(),
+		  Year.of(Fixture.year()),
+		  Fixture.duration(),
+		  Fixture.Videos.rating(),
+		  Fixture.bool(),
+		  Fixture.bool(),
+		  Set.of(),
+		  Set.of(),
+		  Set.of()
+		));
+		ingestionRepository.saveAllAndFlush(List.of(
+		  MediaIngestionJpaEntity.pending(MediaIngestionID.from(video.getId().getValue(), VideoMediaType.VIDEO), "/spool/video", 1, "video/mp4", "video.mp4", "node-1", InstantUtils.now()),
+		  MediaIngestionJpaEntity.pending(MediaIngestionID.from(video.getId().getValue(), VideoMediaType.BANNER), "/spool/banner", 1, "image/jpg", "banner.jpg", "node-1", InstantUtils.now())
+		));
+
+		videoGateway.deleteById(video.getId());
+
+		assertEquals(0, videoRepository.count());
+		assertEquals(0, ingestionRepository.count());
+	}
+
 	@Test
 	public void givenInvalidVideo_whenCallsDeleteById_shouldDeleteIt() {
 		final var video = videoGateway.create(Video.newVideo(
@@ -628,6 +697,67 @@ public class VideoMySQLGatewayTest {
 		assertEquals(expectedTotal, output.items().size());
 	}
 
+	@Test
+	public void givenNextCursor_whenCallsFindAll_shouldReturnTheFollowingPage() {
+		mockVideos();
+
+		final var expectedPerPage = 3;
+		final var expectedTotal = 4;
+
+		final var first = videoGateway.findAll(new VideoSearchQuery(0, expectedPerPage, "", "title", "asc", Set.of(), Set.of(), Set.of(), VideoSearchMode.LIKE, null, TotalMode.EXACT));
+
+		assertEquals(expectedTotal, first.total());
+		assertEquals(List.of("Harry Potter", "Matrix", "Titanic"), first.items().stream().map(VideoPreview::title).toList());
+		assertNotNull(first.nextCursor());
+
+		final var second = videoGateway.findAll(new VideoSearchQuery(0, expectedPerPage, "", "title", "asc", Set.of(), Set.of(), Set.of(), VideoSearchMode.LIKE, first.nextCursor(), TotalMode.EXACT));
+
+		assertEquals(expectedTotal, second.total());
+		assertEquals(List.of("Vingadores"), second.items().stream().map(VideoPreview::title).toList());
+		assertNull(second.nextCursor());
+	}
+
+	@Test
+	public void givenNoTotal_whenCallsFindAll_shouldOnlyTellWhetherThereAreMore() {
+		mockVideos();
+
+		final var first = videoGateway.findAll(new VideoSearchQuery(0, 3, "", "title", "asc", Set.of(), Set.of(), Set.of(), VideoSearchMode.LIKE, null, TotalMode.NONE));
+
+		assertEquals(Pagination.UNKNOWN_TOTAL, first.total());
+		assertEquals(3, first.items().size());
+		assertTrue(first.hasMore());
+
+		final var last = videoGateway.findAll(new VideoSearchQuery(0, 3, "", "title", "asc", Set.of(), Set.of(), Set.of(), VideoSearchMode.LIKE, first.nextCursor(), TotalMode.NONE));
+
+		assertEquals(Pagination.UNKNOWN_TOTAL, last.total());
+		assertEquals(List.of("Vingadores"), last.items().stream().map(VideoPreview::title).toList());
+		assertFalse(last.hasMore());
+	}
+
+	@Test
+	public void givenEstimatedTotal_whenCallsFindAll_shouldReuseTheCachedCount() {
+		mockVideos();
+		final var query = new VideoSearchQuery(0, 1, "", "title", "asc", Set.of(), Set.of(), Set.of(), VideoSearchMode.LIKE, null, TotalMode.ESTIMATE);
+
+		assertEquals(4, videoGateway.findAll(query).total());
+
+		videoGateway.create(Video.newVideo(
+		  "Interestelar",
+		  "Viagem pelo espaço em busca de um novo lar",
+		  Year.of(Fixture.year()),
+		  Fixture.duration(),
+		  Fixture.Videos.rating(),
+		  Fixture.bool(),
+		  Fixture.bool(),
+		  Set.of(),
+		  Set.of(),
+		  Set.of()
+		));
+
+		assertEquals(4, videoGateway.findAll(query).total());
+		assertEquals(5, videoGateway.findAll(new VideoSearchQuery(0, 1, "", "title", "asc", Set.of(), Set.of(), Set.of())).total());
+	}
+
 	@ParameterizedTest
 	@CsvSource({
 	  "mat,0,10,1,1,Matrix",
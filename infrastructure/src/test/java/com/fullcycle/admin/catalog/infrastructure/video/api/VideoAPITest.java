@@ -8,8 +8,13 @@ import com.fullcycle.admin.catalog.application.video.create.CreateVideoCommand;
 import com.fullcycle.admin.catalog.application.video.create.CreateVideoOutput;
 import com.fullcycle.admin.catalog.application.video.create.CreateVideoUseCase;
 import com.fullcycle.admin.catalog.application.video.delete.DeleteVideoUseCase;
+import com.fullcycle.admin.catalog.application.video.media.get.GetMediaCommand;
+import com.fullcycle.admin.catalog.application.video.media.get.GetMediaMetadataUseCase;
+import com.fullcycle.admin.catalog.application.video.media.get.GetMediaUrlUseCase;
 import com.fullcycle.admin.catalog.application.video.media.get.GetMediaUseCase;
+import com.fullcycle.admin.catalog.application.video.media.get.MediaMetadataOutput;
 import com.fullcycle.admin.catalog.application.video.media.get.MediaOutput;
+import com.fullcycle.admin.catalog.application.video.media.get.MediaUrlOutput;
 import com.fullcycle.admin.catalog.application.video.media.upload.UploadMediaCommand;
 import com.fullcycle.admin.catalog.application.video.media.upload.UploadMediaOutput;
 import com.fullcycle.admin.catalog.application.video.media.upload.UploadMediaUseCase;
@@ -26,15 +31,29 @@ import com.fullcycle.admin.catalog.domain.category.CategoryID;
 import com.fullcycle.admin.catalog.domain.errors.NotificationException;
 import com.fullcycle.admin.catalog.domain.genre.GenreID;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.pagination.TotalMode;
+import com.fullcycle.admin.catalog.domain.pagination.VideoSearchMode;
 import com.fullcycle.admin.catalog.domain.pagination.VideoSearchQuery;
+import com.fullcycle.admin.catalog.domain.resource.ContentSource;
+import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.resource.SignedUrl;
 import com.fullcycle.admin.catalog.domain.validation.Error;
 import com.fullcycle.admin.catalog.domain.video.Video;
 import com.fullcycle.admin.catalog.domain.video.VideoID;
 import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
 import com.fullcycle.admin.catalog.domain.video.VideoPreview;
 import com.fullcycle.admin.catalog.infrastructure.api.VideoAPI;
+import com.fullcycle.admin.catalog.infrastructure.video.ingestion.MediaIngestionID;
+import com.fullcycle.admin.catalog.infrastructure.video.ingestion.MediaIngestionJpaEntity;
+import com.fullcycle.admin.catalog.infrastructure.video.ingestion.MediaIngestionStatus;
+import com.fullcycle.admin.catalog.infrastructure.video.ingestion.VideoIngestionService;
+import com.fullcycle.admin.catalog.infrastructure.video.models.CreateUploadSessionRequest;
 import com.fullcycle.admin.catalog.infrastructure.video.models.CreateVideoRequest;
+import com.fullcycle.admin.catalog.infrastructure.video.models.FinalizeUploadRequest;
 import com.fullcycle.admin.catalog.infrastructure.video.models.UpdateVideoRequest;
+import com.fullcycle.admin.catalog.infrastructure.video.upload.DirectUpload;
+import com.fullcycle.admin.catalog.infrastructure.video.upload.UploadSession;
+import com.fullcycle.admin.catalog.infrastructure.video.upload.UploadSessionService;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -42,18 +61,28 @@ import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
 import java.time.Instant;
 import java.time.Year;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -82,12 +111,24 @@ public class VideoAPITest {
 	@MockitoBean
 	private GetMediaUseCase getMediaUseCase;
 
+	@MockitoBean
+	private GetMediaMetadataUseCase getMediaMetadataUseCase;
+
+	@MockitoBean
+	private GetMediaUrlUseCase getMediaUrlUseCase;
+
 	@MockitoBean
 	private ListVideosUseCase listVideosUseCase;
 
 	@MockitoBean
 	private UploadMediaUseCase uploadMediaUseCase;
 
+	@MockitoBean
+	private UploadSessionService uploadSessionService;
+
+	@MockitoBean
+	private VideoIngestionService videoIngestionService;
+
 	@Test
 	public void givenValidCommand_whenCallsCreateFull_shouldReturnAndId() throws Exception {
 		final var video = Fixture.Videos.video();
@@ -162,6 +203,113 @@ public class VideoAPITest {
 		assertEquals(expectedThumbHalf.getOriginalFilename(), command.thumbnailHalf().name());
 	}
 
+	@Test
+	public void givenAsyncCreate_whenCallsCreateFull_shouldReturnAcceptedWithTheIngestion() throws Exception {
+		final var expectedId = VideoID.unique();
+		final var expectedVideo = new MockMultipartFile("video_file", "video.mp4", "video/mp4", "VIDEO".getBytes());
+		final var expectedBanner = new MockMultipartFile("banner_file", "banner.jpg", "image/jpg", "BANNER".getBytes());
+		final var pending = List.of(
+		  MediaIngestionJpaEntity.pending(MediaIngestionID.from(expectedId.getValue(), VideoMediaType.VIDEO), "/spool/video", 5, "video/mp4", "video.mp4", "node-1", Instant.now()),
+		  MediaIngestionJpaEntity.pending(MediaIngestionID.from(expectedId.getValue(), VideoMediaType.BANNER), "/spool/banner", 5, "image/jpg", "banner.jpg", "node-1", Instant.now())
+		);
+
+		when(videoIngestionService.create(any(), any())).thenReturn(expectedId);
+		when(videoIngestionService.status(expectedId)).thenReturn(pending);
+
+		final var request = multipart("/videos")
+		  .file(expectedVideo)
+		  .file(expectedBanner)
+		  .file(new MockMultipartFile("trailer_file", "trailer.mp4", "video/mp4", "TRAILER".getBytes()))
+		  .file(new MockMultipartFile("thumb_file", "thumb.jpg", "image/jpg", "THUMB".getBytes()))
+		  .file(new MockMultipartFile("thumb_half_file", "thumb_half.jpg", "image/jpg", "THUMB_HALF".getBytes()))
+		  .param("title", Fixture.title())
+		  .param("description", Fixture.description())
+		  .param("year_launched", Fixture.year().toString())
+		  .param("duration", Fixture.duration().toString())
+		  .param("opened", "true")
+		  .param("published", "false")
+		  .param("rating", Fixture.Videos.rating().toString())
+		  .param("categories_id", "")
+		  .param("genres_id", "")
+		  .param("cast_members_id", "")
+		  .param("async", "true")
+		  .with(ApiTest.VIDEOS_JWT)
+		  .accept(MediaType.APPLICATION_JSON)
+		  .contentType(MediaType.MULTIPART_FORM_DATA_VALUE);
+
+		mvc.perform(request)
+		  .andExpect(status().isAccepted())
+		  .andExpect(header().string("Location", "/videos/%s/ingestion".formatted(expectedId.getValue())))
+		  .andExpect(jsonPath("$.video_id", equalTo(expectedId.getValue().toString())))
+		  .andExpect(jsonPath("$.status", equalTo("PENDING")))
+		  .andExpect(jsonPath("$.medias", hasSize(2)));
+
+		@SuppressWarnings("unchecked")
+		final ArgumentCaptor<Map<VideoMediaType, MultipartFile>> captor = ArgumentCaptor.forClass(Map.class);
+		final var commandCaptor = ArgumentCaptor.forClass(CreateVideoCommand.class);
+		verify(videoIngestionService).create(commandCaptor.capture(), captor.capture());
+		verify(createVideoUseCase, never()).execute(any());
+
+		assertTrue(commandCaptor.getValue().getVideo().isEmpty());
+		assertEquals(expectedVideo.getOriginalFilename(), captor.getValue().get(VideoMediaType.VIDEO).getOriginalFilename());
+		assertEquals(expectedBanner.getOriginalFilename(), captor.getValue().get(VideoMediaType.BANNER).getOriginalFilename());
+		assertEquals(5, captor.getValue().size());
+	}
+
+	@Test
+	public void givenTooManyIngestions_whenCallsCreateFullAsync_shouldReturnServiceUnavailable() throws Exception {
+		final var expectedErrorMessage = "Too many videos being ingested, try again later";
+
+		when(videoIngestionService.create(any(), any())).thenThrow(new RejectedExecutionException(expectedErrorMessage));
+
+		final var request = multipart("/videos")
+		  .file(new MockMultipartFile("video_file", "video.mp4", "video/mp4", "VIDEO".getBytes()))
+		  .file(new MockMultipartFile("trailer_file", "trailer.mp4", "video/mp4", "TRAILER".getBytes()))
+		  .file(new MockMultipartFile("banner_file", "banner.jpg", "image/jpg", "BANNER".getBytes()))
+		  .file(new MockMultipartFile("thumb_file", "thumb.jpg", "image/jpg", "THUMB".getBytes()))
+		  .file(new MockMultipartFile("thumb_half_file", "thumb_half.jpg", "image/jpg", "THUMB_HALF".getBytes()))
+		  .param("title", Fixture.title())
+		  .param("description", Fixture.description())
+		  .param("year_launched", Fixture.year().toString())
+		  .param("duration", Fixture.duration().toString())
+		  .param("opened", "true")
+		  .param("published", "false")
+		  .param("rating", Fixture.Videos.rating().toString())
+		  .param("categories_id", "")
+		  .param("genres_id", "")
+		  .param("cast_members_id", "")
+		  .param("async", "true")
+		  .with(ApiTest.VIDEOS_JWT)
+		  .accept(MediaType.APPLICATION_JSON)
+		  .contentType(MediaType.MULTIPART_FORM_DATA_VALUE);
+
+		mvc.perform(request)
+		  .andExpect(status().isServiceUnavailable())
+		  .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+	}
+
+	@Test
+	public void givenIngestion_whenCallsGetIngestion_shouldReturnTheProgressPerMedia() throws Exception {
+		final var expectedId = VideoID.unique();
+		final var failed = MediaIngestionJpaEntity.pending(MediaIngestionID.from(expectedId.getValue(), VideoMediaType.TRAILER), "/spool/trailer", 5, "video/mp4", "trailer.mp4", "node-1", Instant.now())
+		  .failed(new IllegalStateException("storage unavailable"), Instant.now());
+		final var completed = MediaIngestionJpaEntity.pending(MediaIngestionID.from(expectedId.getValue(), VideoMediaType.VIDEO), "/spool/video", 5, "video/mp4", "video.mp4", "node-1", Instant.now())
+		  .with(MediaIngestionStatus.COMPLETED, Instant.now());
+
+		when(videoIngestionService.status(expectedId)).thenReturn(List.of(failed, completed));
+
+		final var request = get("/videos/{id}/ingestion", expectedId.getValue())
+		  .with(ApiTest.VIDEOS_JWT)
+		  .accept(MediaType.APPLICATION_JSON);
+
+		mvc.perform(request)
+		  .andExpect(status().isOk())
+		  .andExpect(jsonPath("$.status", equalTo("FAILED")))
+		  .andExpect(jsonPath("$.medias[0].media_type", equalTo("TRAILER")))
+		  .andExpect(jsonPath("$.medias[0].error", equalTo("storage unavailable")))
+		  .andExpect(jsonPath("$.medias[1].status", equalTo("COMPLETED")));
+	}
+
 	@Test
 	public void givenValidCommand_whenCallsCreatePartial_shouldReturnId() throws Exception {
 		final var video = Fixture.Videos.video();
@@ -297,6 +445,7 @@ public class VideoAPITest {
 		  .andExpect(jsonPath("$.video.checksum", equalTo(expectedVideo.getChecksum())))
 		  .andExpect(jsonPath("$.trailer.checksum", equalTo(expectedTrailer.getChecksum())))
 		  .andExpect(jsonPath("$.banner.checksum", equalTo(expectedBanner.getChecksum())))
+		  .andExpect(jsonPath("$.banner.url", equalTo("/videos/%s/medias/BANNER?v=%s".formatted(expectedId, expectedBanner.getChecksum()))))
 		  .andExpect(jsonPath("$.thumbnail.checksum", equalTo(expectedThumb.getChecksum())))
 		  .andExpect(jsonPath("$.thumbnail_half.checksum", equalTo(expectedThumbHalf.getChecksum())));
 	}
@@ -438,12 +587,7 @@ public class VideoAPITest {
 	public void givenValidVideoIdAndFileType_whenCallsGetMediaById_shouldReturnContent() throws Exception {
 		final var expectedVideo = Fixture.Videos.video();
 		final var expectedResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
-		final var expectedMediaOutput = new MediaOutput(
-		  expectedResource.name(),
-		  expectedResource.checksum(),
-		  expectedResource.contentType(),
-		  expectedResource.content()
-		);
+		final var expectedMediaOutput = MediaOutput.with(expectedResource);
 
 		when(getMediaUseCase.execute(any())).thenReturn(expectedMediaOutput);
 
@@ -454,9 +598,261 @@ public class VideoAPITest {
 		  .andExpect(header().string("Content-Type", expectedResource.contentType()))
 		  .andExpect(header().string("Content-Length", String.valueOf(expectedResource.content().length)))
 		  .andExpect(header().string("Content-Disposition", "attachment; filename=\"%s\"".formatted(expectedResource.name())))
+		  .andExpect(header().string("Accept-Ranges", "bytes"))
 		  .andExpect(content().bytes(expectedResource.content()));
 	}
 
+	@Test
+	public void givenStreamedMedia_whenCallsGetMediaById_shouldTransferTheSourceToTheResponse() throws Exception {
+		final var expectedVideo = Fixture.Videos.video();
+		final var expectedContent = "video content".getBytes();
+		final var transferred = new AtomicBoolean();
+		final ContentSource expectedSource = () -> new ByteArrayInputStream(expectedContent) {
+			@Override
+			public long transferTo(final OutputStream out) throws IOException {
+				transferred.set(true);
+				return super.transferTo(out);
+			}
+		};
+		final var expectedResource = Resource.with("checksum", expectedSource, expectedContent.length, "video/mp4", "video.mp4");
+
+		when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.with(expectedResource));
+
+		final var request = get("/videos/{id}/medias/{type}", expectedVideo.getId().toString(), VideoMediaType.VIDEO.name()).with(ApiTest.VIDEOS_JWT);
+
+		mvc.perform(request)
+		  .andExpect(status().isOk())
+		  .andExpect(content().bytes(expectedContent));
+
+		assertTrue(transferred.get());
+	}
+
+	@Test
+	public void givenValidVideoIdAndFileType_whenCallsGetMediaById_shouldReturnChecksumETag() throws Exception {
+		final var expectedVideo = Fixture.Videos.video();
+		final var expectedResource = Fixture.Videos.resource(VideoMediaType.BANNER);
+
+		when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.with(expectedResource));
+
+		final var request = get("/videos/{id}/medias/{type}", expectedVideo.getId().toString(), VideoMediaType.BANNER.name()).with(ApiTest.VIDEOS_JWT);
+
+		mvc.perform(request)
+		  .andExpect(status().isOk())
+		  .andExpect(header().string("ETag", "\"%s\"".formatted(expectedResource.checksum())))
+		  .andExpect(header().string("Cache-Control", "no-cache"))
+		  .andExpect(content().bytes(expectedResource.content()));
+
+		verify(getMediaMetadataUseCase, never()).execute(any());
+	}
+
+	@Test
+	public void givenMatchingIfNoneMatch_whenCallsGetMediaById_shouldReturnNotModifiedWithoutReadingMedia() throws Exception {
+		final var expectedVideo = Fixture.Videos.video();
+		final var expectedChecksum = "e3069283";
+		final var expectedMetadata = MediaMetadataOutput.with(expectedVideo.getId().toString(), VideoMediaType.BANNER, "banner", expectedChecksum);
+
+		when(getMediaMetadataUseCase.execute(any())).thenReturn(expectedMetadata);
+
+		final var request = get("/videos/{id}/medias/{type}", expectedVideo.getId().toString(), VideoMediaType.BANNER.name())
+		  .header("If-None-Match", "\"other\", W/\"%s\"".formatted(expectedChecksum))
+		  .with(ApiTest.VIDEOS_JWT);
+
+		mvc.perform(request)
+		  .andExpect(status().isNotModified())
+		  .andExpect(header().string("ETag", "\"%s\"".formatted(expectedChecksum)))
+		  .andExpect(content().bytes(new byte[0]));
+
+		verify(getMediaUseCase, never()).execute(any());
+	}
+
+	@Test
+	public void givenStaleIfNoneMatch_whenCallsGetMediaById_shouldReturnContent() throws Exception {
+		final var expectedVideo = Fixture.Videos.video();
+		final var expectedResource = Fixture.Videos.resource(VideoMediaType.BANNER);
+		final var expectedMetadata = MediaMetadataOutput.with(expectedVideo.getId().toString(), VideoMediaType.BANNER, "banner", expectedResource.checksum());
+
+		when(getMediaMetadataUseCase.execute(any())).thenReturn(expectedMetadata);
+		when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.with(expectedResource));
+
+		final var request = get("/videos/{id}/medias/{type}", expectedVideo.getId().toString(), VideoMediaType.BANNER.name())
+		  .header("If-None-Match", "\"stale\"")
+		  .with(ApiTest.VIDEOS_JWT);
+
+		mvc.perform(request)
+		  .andExpect(status().isOk())
+		  .andExpect(content().bytes(expectedResource.content()));
+	}
+
+	@Test
+	public void givenWidth_whenCallsGetMediaById_shouldReturnTheVariantWithoutCachingIt() throws Exception {
+		final var expectedVideo = Fixture.Videos.video();
+		final var expectedResource = Fixture.Videos.resource(VideoMediaType.BANNER);
+		final var expectedWidth = 320;
+		final var expectedChecksum = "0a1b2c3d";
+		final var expectedMetadata = MediaMetadataOutput.with(expectedVideo.getId().toString(), VideoMediaType.BANNER, "banner", expectedChecksum);
+
+		when(getMediaMetadataUseCase.execute(any())).thenReturn(expectedMetadata);
+		when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.with(expectedResource));
+
+		final var request = get("/videos/{id}/medias/{type}", expectedVideo.getId().toString(), VideoMediaType.BANNER.name())
+		  .queryParam("w", String.valueOf(expectedWidth))
+		  .queryParam("v", expectedResource.checksum())
+		  .with(ApiTest.VIDEOS_JWT);
+
+		mvc.perform(request)
+		  .andExpect(status().isOk())
+		  .andExpect(header().string("ETag", "W/\"%s-w%d\"".formatted(expectedChecksum, expectedWidth)))
+		  .andExpect(header().string("Cache-Control", "no-cache"))
+		  .andExpect(content().bytes(expectedResource.content()));
+
+		final var captor = ArgumentCaptor.forClass(GetMediaCommand.class);
+		verify(getMediaUseCase).execute(captor.capture());
+		assertEquals(expectedWidth, captor.getValue().width());
+	}
+
+	@Test
+	public void givenWidthAndMatchingIfNoneMatch_whenCallsGetMediaById_shouldReturnNotModifiedWithoutLoadingTheMedia() throws Exception {
+		final var expectedVideo = Fixture.Videos.video();
+		final var expectedWidth = 320;
+		final var expectedChecksum = "0a1b2c3d";
+		final var expectedETag = "W/\"%s-w%d\"".formatted(expectedChecksum, expectedWidth);
+		final var expectedMetadata = MediaMetadataOutput.with(expectedVideo.getId().toString(), VideoMediaType.BANNER, "banner", expectedChecksum);
+
+		when(getMediaMetadataUseCase.execute(any())).thenReturn(expectedMetadata);
+
+		final var request = get("/videos/{id}/medias/{type}", expectedVideo.getId().toString(), VideoMediaType.BANNER.name())
+		  .queryParam("w", String.valueOf(expectedWidth))
+		  .header("If-None-Match", expectedETag)
+		  .with(ApiTest.VIDEOS_JWT);
+
+		mvc.perform(request)
+		  .andExpect(status().isNotModified())
+		  .andExpect(header().string("ETag", expectedETag))
+		  .andExpect(header().string("Cache-Control", "no-cache"));
+
+		verify(getMediaUseCase, never()).execute(any());
+	}
+
+	@Test
+	public void givenVersionedUrl_whenCallsGetMediaById_shouldReturnImmutableContent() throws Exception {
+		final var expectedVideo = Fixture.Videos.video();
+		final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
+
+		when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.with(expectedResource));
+
+		final var request = get("/videos/{id}/medias/{type}", expectedVideo.getId().toString(), VideoMediaType.THUMBNAIL.name())
+		  .param("v", expectedResource.checksum())
+		  .with(ApiTest.VIDEOS_JWT);
+
+		mvc.perform(request)
+		  .andExpect(status().isOk())
+		  .andExpect(header().string("Cache-Control", "max-age=31536000, public, immutable"))
+		  .andExpect(content().bytes(expectedResource.content()));
+	}
+
+	@Test
+	public void givenOutdatedVersionedUrl_whenCallsGetMediaById_shouldRequireRevalidation() throws Exception {
+		final var expectedVideo = Fixture.Videos.video();
+		final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
+
+		when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.with(expectedResource));
+
+		final var request = get("/videos/{id}/medias/{type}", expectedVideo.getId().toString(), VideoMediaType.THUMBNAIL.name())
+		  .param("v", "outdated")
+		  .with(ApiTest.VIDEOS_JWT);
+
+		mvc.perform(request)
+		  .andExpect(status().isOk())
+		  .andExpect(header().string("Cache-Control", "no-cache"));
+	}
+
+	@Test
+	public void givenRedirectMode_whenCallsGetMediaById_shouldRedirectToSignedUrl() throws Exception {
+		final var expectedVideo = Fixture.Videos.video();
+		final var expectedUrl = new MediaUrlOutput("https://storage.test/videoId/type-VIDEO?signature=abc", Instant.now().plusSeconds(300));
+
+		when(getMediaUrlUseCase.execute(any())).thenReturn(expectedUrl);
+
+		final var request = get("/videos/{id}/medias/{type}", expectedVideo.getId().toString(), VideoMediaType.VIDEO.name())
+		  .param("mode", "redirect")
+		  .with(ApiTest.VIDEOS_JWT);
+
+		mvc.perform(request)
+		  .andExpect(status().isFound())
+		  .andExpect(header().string("Location", expectedUrl.url()))
+		  .andExpect(header().string("Cache-Control", "no-store"));
+
+		verify(getMediaUseCase, never()).execute(any());
+	}
+
+	@Test
+	public void givenUrlMode_whenCallsGetMediaById_shouldReturnSignedUrl() throws Exception {
+		final var expectedVideo = Fixture.Videos.video();
+		final var expectedUrl = new MediaUrlOutput("https://storage.test/videoId/type-VIDEO?signature=abc", Instant.now().plusSeconds(300));
+
+		when(getMediaUrlUseCase.execute(any())).thenReturn(expectedUrl);
+
+		final var request = get("/videos/{id}/medias/{type}", expectedVideo.getId().toString(), VideoMediaType.VIDEO.name())
+		  .param("mode", "url")
+		  .with(ApiTest.VIDEOS_JWT);
+
+		mvc.perform(request)
+		  .andExpect(status().isOk())
+		  .andExpect(jsonPath("$.url", equalTo(expectedUrl.url())))
+		  .andExpect(jsonPath("$.expires_at", equalTo(expectedUrl.expiresAt().toString())));
+
+		verify(getMediaUseCase, never()).execute(any());
+	}
+
+	@Test
+	public void givenInvalidMode_whenCallsGetMediaById_shouldReturnUnprocessableEntity() throws Exception {
+		final var expectedVideo = Fixture.Videos.video();
+
+		final var request = get("/videos/{id}/medias/{type}", expectedVideo.getId().toString(), VideoMediaType.VIDEO.name())
+		  .param("mode", "torrent")
+		  .with(ApiTest.VIDEOS_JWT);
+
+		mvc.perform(request)
+		  .andExpect(status().isUnprocessableEntity())
+		  .andExpect(jsonPath("$.errors[0].message", equalTo("Invalid download mode: torrent")));
+	}
+
+	@Test
+	public void givenValidVideoIdAndRange_whenCallsGetMediaById_shouldReturnPartialContent() throws Exception {
+		final var expectedVideo = Fixture.Videos.video();
+		final var expectedResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+		final var expectedContent = Arrays.copyOfRange(expectedResource.content(), 2, 5);
+		final var expectedContentRange = "bytes 2-4/%d".formatted(expectedResource.size());
+
+		when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.with(expectedResource));
+
+		final var request = get("/videos/{id}/medias/{type}", expectedVideo.getId().toString(), VideoMediaType.VIDEO.name())
+		  .header("Range", "bytes=2-4")
+		  .with(ApiTest.VIDEOS_JWT);
+
+		mvc.perform(request)
+		  .andExpect(status().isPartialContent())
+		  .andExpect(header().string("Content-Range", expectedContentRange))
+		  .andExpect(header().string("Content-Length", String.valueOf(expectedContent.length)))
+		  .andExpect(content().bytes(expectedContent));
+	}
+
+	@Test
+	public void givenUnsatisfiableRange_whenCallsGetMediaById_shouldReturnRangeNotSatisfiable() throws Exception {
+		final var expectedVideo = Fixture.Videos.video();
+		final var expectedResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+
+		when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.with(expectedResource));
+
+		final var request = get("/videos/{id}/medias/{type}", expectedVideo.getId().toString(), VideoMediaType.VIDEO.name())
+		  .header("Range", "bytes=100-200")
+		  .with(ApiTest.VIDEOS_JWT);
+
+		mvc.perform(request)
+		  .andExpect(status().isRequestedRangeNotSatisfiable())
+		  .andExpect(header().string("Content-Range", "bytes */%d".formatted(expectedResource.size())));
+	}
+
 	@Test
 	public void givenValidId_whenCallsDeleteById_shouldDeleteVideo() throws Exception {
 		final var expectedId = VideoID.unique();
@@ -526,6 +922,37 @@ public class VideoAPITest {
 		assertEquals(Set.of(CastMemberID.from(expectedCastMembers)), query.castMembers());
 		assertEquals(Set.of(CategoryID.from(expectedCategories)), query.categories());
 		assertEquals(Set.of(GenreID.from(expectedGenres)), query.genres());
+		assertEquals(VideoSearchMode.FULL_TEXT, query.mode());
+		assertEquals(TotalMode.EXACT, query.total());
+	}
+
+	@Test
+	public void givenInvalidTotal_whenCallsListVideos_shouldReturnUnprocessableEntity() throws Exception {
+		final var request = get("/videos")
+		  .param("total", "approximate")
+		  .with(ApiTest.VIDEOS_JWT)
+		  .accept(MediaType.APPLICATION_JSON);
+
+		mvc.perform(request)
+		  .andExpect(status().isUnprocessableEntity())
+		  .andExpect(jsonPath("$.errors[0].message", equalTo("Invalid total: approximate")));
+
+		verify(listVideosUseCase, never()).execute(any());
+	}
+
+	@Test
+	public void givenInvalidSearchMode_whenCallsListVideos_shouldReturnUnprocessableEntity() throws Exception {
+		final var request = get("/videos")
+		  .param("search", "any")
+		  .param("search_mode", "regex")
+		  .with(ApiTest.VIDEOS_JWT)
+		  .accept(MediaType.APPLICATION_JSON);
+
+		mvc.perform(request)
+		  .andExpect(status().isUnprocessableEntity())
+		  .andExpect(jsonPath("$.errors[0].message", equalTo("Invalid search mode: regex")));
+
+		verify(listVideosUseCase, never()).execute(any());
 	}
 
 	@Test
@@ -606,5 +1033,93 @@ public class VideoAPITest {
 		assertEquals(expectedType, input.resource().type());
 		assertEquals(expectedResource.checksum(), input.resource().resource().checksum());
 	}
-}
 
+	@Test
+	public void givenValidSession_whenCallsUploadChunk_shouldStoreIt() throws Exception {
+		final var expectedVideoId = VideoID.unique();
+		final var expectedType = VideoMediaType.VIDEO;
+		final var expectedChunk = "CHUNK".getBytes();
+		final var expectedSession = new UploadSession(UUID.randomUUID().toString(), expectedVideoId.toString(), expectedType.name(), "video.mp4", "video/mp4", Instant.now());
+
+		when(uploadSessionService.get(any(), any(), any())).thenReturn(expectedSession);
+
+		final var request = put("/videos/{id}/medias/{type}/uploads/{sessionId}/chunks/{number}", expectedVideoId.toString(), expectedType.name(), expectedSession.sessionId(), 2)
+		  .content(expectedChunk)
+		  .contentType(MediaType.APPLICATION_OCTET_STREAM)
+		  .with(ApiTest.VIDEOS_JWT);
+
+		mvc.perform(request).andExpect(status().isNoContent());
+
+		verify(uploadSessionService).get(eq(expectedSession.sessionId()), eq(expectedVideoId), eq(expectedType));
+		verify(uploadSessionService).storeChunk(eq(expectedSession), eq(2), any());
+	}
+
+	@Test
+	public void givenValidSession_whenCallsCompleteUploadSession_shouldAttachMedia() throws Exception {
+		final var expectedVideoId = VideoID.unique();
+		final var expectedType = VideoMediaType.TRAILER;
+		final var expectedSession = new UploadSession(UUID.randomUUID().toString(), expectedVideoId.toString(), expectedType.name(), "trailer.mp4", "video/mp4", Instant.now());
+
+		when(uploadSessionService.get(any(), any(), any())).thenReturn(expectedSession);
+		when(uploadSessionService.complete(any(), anyInt())).thenReturn(new UploadMediaOutput(expectedVideoId.toString(), expectedType));
+
+		final var request = post("/videos/{id}/medias/{type}/uploads/{sessionId}/complete", expectedVideoId.toString(), expectedType.name(), expectedSession.sessionId())
+		  .param("total_chunks", "3")
+		  .with(ApiTest.VIDEOS_JWT)
+		  .accept(MediaType.APPLICATION_JSON);
+
+		mvc.perform(request)
+		  .andExpect(status().isCreated())
+		  .andExpect(jsonPath("$.video_id", equalTo(expectedVideoId.toString())))
+		  .andExpect(jsonPath("$.media_type", equalTo(expectedType.name())));
+
+		verify(uploadSessionService).complete(eq(expectedSession), eq(3));
+	}
+
+	@Test
+	public void givenValidCommand_whenCallsCreateDirectUpload_shouldReturnSignedUploadUrl() throws Exception {
+		final var expectedVideoId = VideoID.unique();
+		final var expectedType = VideoMediaType.VIDEO;
+		final var expectedSession = new UploadSession(UUID.randomUUID().toString(), expectedVideoId.toString(), expectedType.name(), "video.mp4", "video/mp4", Instant.now());
+		final var expectedUrl = SignedUrl.with(URI.create("https://storage.test/uploads/content?signature=abc"), Instant.now().plusSeconds(3600));
+
+		when(uploadSessionService.createDirect(any(), any(), any(), any())).thenReturn(new DirectUpload(expectedSession, expectedUrl));
+
+		final var request = post("/videos/{id}/medias/{type}/direct-uploads", expectedVideoId.toString(), expectedType.name())
+		  .with(ApiTest.VIDEOS_JWT)
+		  .contentType(MediaType.APPLICATION_JSON)
+		  .content(mapper.writeValueAsString(new CreateUploadSessionRequest("video.mp4", "video/mp4")));
+
+		mvc.perform(request)
+		  .andExpect(status().isCreated())
+		  .andExpect(header().string("Location", "/videos/%s/medias/%s/direct-uploads/%s".formatted(expectedVideoId, expectedType.name(), expectedSession.sessionId())))
+		  .andExpect(jsonPath("$.session_id", equalTo(expectedSession.sessionId())))
+		  .andExpect(jsonPath("$.upload_url", equalTo(expectedUrl.url().toString())))
+		  .andExpect(jsonPath("$.upload_method", equalTo("PUT")))
+		  .andExpect(jsonPath("$.content_type", equalTo("video/mp4")));
+
+		verify(uploadSessionService).createDirect(eq(expectedVideoId), eq(expectedType), eq("video.mp4"), eq("video/mp4"));
+	}
+
+	@Test
+	public void givenUploadedMedia_whenCallsFinalizeDirectUpload_shouldAttachMedia() throws Exception {
+		final var expectedVideoId = VideoID.unique();
+		final var expectedType = VideoMediaType.THUMBNAIL;
+		final var expectedSession = new UploadSession(UUID.randomUUID().toString(), expectedVideoId.toString(), expectedType.name(), "thumb.jpg", "image/jpg", Instant.now());
+
+		when(uploadSessionService.get(any(), any(), any())).thenReturn(expectedSession);
+		when(uploadSessionService.finalizeDirect(any(), any(), any())).thenReturn(new UploadMediaOutput(expectedVideoId.toString(), expectedType));
+
+		final var request = post("/videos/{id}/medias/{type}/direct-uploads/{sessionId}/finalize", expectedVideoId.toString(), expectedType.name(), expectedSession.sessionId())
+		  .with(ApiTest.VIDEOS_JWT)
+		  .contentType(MediaType.APPLICATION_JSON)
+		  .content(mapper.writeValueAsString(new FinalizeUploadRequest(1024L, "e3069283")));
+
+		mvc.perform(request)
+		  .andExpect(status().isCreated())
+		  .andExpect(jsonPath("$.video_id", equalTo(expectedVideoId.toString())))
+		  .andExpect(jsonPath("$.media_type", equalTo(expectedType.name())));
+
+		verify(uploadSessionService).finalizeDirect(eq(expectedSession), eq(1024L), eq("e3069283"));
+	}
+}
@@ -0,0 +1,89 @@
+package com.fullcycle.admin.catalog.infrastructure.video.cache;
+
+import com.fullcycle.admin.catalog.Fixture;
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.ImageCacheProperties;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ImageMediaCacheTest {
+
+	@Test
+	public void givenOffHeapCache_whenCallsGetTwice_shouldLoadOnceAndRecordMetrics() {
+		final var registry = new SimpleMeterRegistry();
+		final var target = new ImageMediaCache(properties(true, 1024, true), registry);
+		final var expectedResource = Fixture.Videos.resource(VideoMediaType.BANNER);
+		final var loads = new AtomicInteger();
+
+		final var first = target.get("banner", name -> {
+			loads.incrementAndGet();
+			return Optional.of(expectedResource);
+		});
+		final var second = target.get("banner", name -> {
+			loads.incrementAndGet();
+			return Optional.of(expectedResource);
+		});
+
+		assertEquals(1, loads.get());
+		assertArrayEquals(expectedResource.content(), first.get().content());
+		assertArrayEquals(expectedResource.content(), second.get().content());
+		assertFalse(second.get().isBuffered());
+		assertEquals(1.0, registry.get("cache.gets").tag("cache", "media.images").tag("result", "hit").functionCounter().count());
+		assertEquals(1.0, registry.get("cache.gets").tag("cache", "media.images").tag("result", "miss").functionCounter().count());
+	}
+
+	@Test
+	public void givenMissingImage_whenCallsGet_shouldNotCacheAbsence() {
+		final var target = new ImageMediaCache(properties(true, 1024, false), new SimpleMeterRegistry());
+		final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
+
+		assertTrue(target.get("thumb", name -> Optional.empty()).isEmpty());
+		assertTrue(target.get("thumb", name -> Optional.of(expectedResource)).isPresent());
+	}
+
+	@Test
+	public void givenImageCachedLongerThanTheTtl_whenCallsGet_shouldLoadItAgain() {
+		final var props = properties(true, 1024, false);
+		props.setExpireAfterWrite(Duration.ofMinutes(5));
+		final var now = new AtomicLong();
+		final var target = new ImageMediaCache(props, new SimpleMeterRegistry(), (Ticker) now::get);
+		final var previous = Fixture.Videos.resource(VideoMediaType.BANNER);
+		final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
+
+		target.get("banner", name -> Optional.of(previous));
+		now.addAndGet(Duration.ofMinutes(4).toNanos());
+
+		assertEquals(previous.name(), target.get("banner", name -> Optional.of(expectedResource)).get().name());
+
+		now.addAndGet(Duration.ofMinutes(2).toNanos());
+
+		assertEquals(expectedResource.name(), target.get("banner", name -> Optional.of(expectedResource)).get().name());
+	}
+
+	@Test
+	public void givenDisabledCache_whenCallsGet_shouldAlwaysLoad() {
+		final var target = new ImageMediaCache(properties(false, 1024, false), new SimpleMeterRegistry());
+		final var loads = new AtomicInteger();
+
+		target.get("banner", name -> Optional.of(Fixture.Videos.resource(VideoMediaType.BANNER)).filter(it -> loads.incrementAndGet() > 0));
+		target.get("banner", name -> Optional.of(Fixture.Videos.resource(VideoMediaType.BANNER)).filter(it -> loads.incrementAndGet() > 0));
+
+		assertEquals(2, loads.get());
+	}
+
+	private ImageCacheProperties properties(final boolean enabled, final long maximumSize, final boolean offHeap) {
+		final var props = new ImageCacheProperties();
+		props.setEnabled(enabled);
+		props.setMaximumSize(maximumSize);
+		props.setOffHeap(offHeap);
+		return props;
+	}
+}
@@ -0,0 +1,174 @@
+package com.fullcycle.admin.catalog.infrastructure.video.cleanup;
+
+import com.fullcycle.admin.catalog.Fixture;
+import com.fullcycle.admin.catalog.IntegrationTest;
+import com.fullcycle.admin.catalog.domain.video.VideoID;
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.MediaCleanupProperties;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.StorageProperties;
+import com.fullcycle.admin.catalog.infrastructure.service.local.InMemoryStorageService;
+import com.fullcycle.admin.catalog.infrastructure.video.VideoMediaResourceGateway;
+import com.fullcycle.admin.catalog.infrastructure.video.cache.ImageMediaCache;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoMediaContentLocks;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoMediaContentRepository;
+import com.fullcycle.admin.catalog.infrastructure.video.variants.ImageVariants;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@IntegrationTest
+class MediaCleanupWorkerTest {
+
+	@Autowired
+	private StorageProperties storageProperties;
+
+	@Autowired
+	private VideoMediaContentRepository contentRepository;
+
+	@Autowired
+	private VideoMediaContentLocks contentLocks;
+
+	@Autowired
+	private MediaCleanupRepository cleanupRepository;
+
+	@Autowired
+	private ImageMediaCache imageCache;
+
+	@Autowired
+	private ImageVariants imageVariants;
+
+	@Test
+	public void givenCleanupsOfSeveralVideos_whenCallsDrain_shouldDeleteTheirMediasInSharedBatches() {
+		final var storage = new RecordingStorageService(null);
+		final var gateway = gateway(storage);
+		final var worker = new MediaCleanupWorker(props(10, 4), cleanupRepository, gateway);
+		final var videos = List.of(VideoID.unique(), VideoID.unique(), VideoID.unique());
+		final var kept = VideoID.unique();
+
+		videos.forEach(video -> storeMedias(storage, video));
+		storeMedias(storage, kept);
+		videos.forEach(gateway::clearResources);
+
+		assertEquals(12, storage.storage().size());
+		assertEquals(3, cleanupRepository.count());
+
+		assertEquals(3, worker.drain());
+
+		assertEquals(List.of(4, 4, 1), storage.batches);
+		assertEquals(3, storage.storage().size());
+		assertTrue(storage.storage().keySet().stream().allMatch(name -> name.contains(kept.toString())));
+		assertEquals(0, cleanupRepository.count());
+	}
+
+	@Test
+	public void givenMoreCleanupsThanABatch_whenCallsDrain_shouldRunSeveralBatches() {
+		final var storage = new RecordingStorageService(null);
+		final var gateway = gateway(storage);
+		final var worker = new MediaCleanupWorker(props(2, 100), cleanupRepository, gateway);
+
+		for (var i = 0; i < 5; i++) {
+			final var video = VideoID.unique();
+			storeMedias(storage, video);
+			gateway.clearResources(video);
+		}
+
+		assertEquals(5, worker.drain());
+		assertEquals(3, storage.batches.size());
+		assertTrue(storage.storage().isEmpty());
+		assertEquals(0, cleanupRepository.count());
+	}
+
+	@Test
+	public void givenAFailingVideo_whenCallsDrain_shouldPurgeTheOthersAndRescheduleIt() {
+		final var failing = VideoID.unique();
+		final var purged = VideoID.unique();
+		final var storage = new RecordingStorageService(failing.toString());
+		final var gateway = gateway(storage);
+		final var worker = new MediaCleanupWorker(props(10, 100), cleanupRepository, gateway);
+
+		storeMedias(storage, failing);
+		storeMedias(storage, purged);
+		gateway.clearResources(failing);
+		gateway.clearResources(purged);
+
+		final var before = Instant.now();
+
+		assertEquals(1, worker.drain());
+
+		assertEquals(3, storage.storage().size());
+		assertFalse(cleanupRepository.existsById(purged.getValue()));
+
+		final var rescheduled = cleanupRepository.findById(failing.getValue()).get();
+		assertEquals(1, rescheduled.getAttempts());
+		assertEquals("storage unavailable", rescheduled.getLastError());
+		assertTrue(rescheduled.getNextAttemptAt().isAfter(before.plusSeconds(29)));
+
+		assertEquals(0, worker.drain());
+		assertEquals(1, cleanupRepository.count());
+	}
+
+	@Test
+	public void givenAFailingVideoPurgedByAnotherNode_whenCallsDrain_shouldNotRescheduleIt() {
+		final var failing = VideoID.unique();
+		final var storage = new RecordingStorageService(failing.toString());
+		final var gateway = gateway(storage);
+		final var worker = new MediaCleanupWorker(props(10, 100), cleanupRepository, gateway);
+
+		storeMedias(storage, failing);
+		gateway.clearResources(failing);
+		storage.onFailure = () -> cleanupRepository.deleteById(failing.getValue());
+
+		assertEquals(0, worker.drain());
+
+		assertFalse(cleanupRepository.existsById(failing.getValue()));
+	}
+
+	private void storeMedias(final InMemoryStorageService storage, final VideoID video) {
+		List.of(VideoMediaType.VIDEO, VideoMediaType.BANNER, VideoMediaType.TRAILER).forEach(type ->
+		  storage.store("videoId-%s/type-%s".formatted(video, type), Fixture.Videos.resource(type))
+		);
+	}
+
+	private VideoMediaResourceGateway gateway(final InMemoryStorageService storage) {
+		return new VideoMediaResourceGateway(storageProperties, storage, contentRepository, contentLocks, imageCache, cleanupRepository, imageVariants);
+	}
+
+	private MediaCleanupProperties props(final int batchSize, final int deleteBatchSize) {
+		final var props = new MediaCleanupProperties();
+		props.setEnabled(true);
+		props.setInterval(Duration.ofSeconds(10));
+		props.setBatchSize(batchSize);
+		props.setDeleteBatchSize(deleteBatchSize);
+		props.setRetryDelay(Duration.ofSeconds(30));
+		props.setMaxRetryDelay(Duration.ofHours(1));
+		return props;
+	}
+
+	private static class RecordingStorageService extends InMemoryStorageService {
+
+		private final String failing;
+		private final List<Integer> batches = new ArrayList<>();
+		private Runnable onFailure = () -> {};
+
+		private RecordingStorageService(final String failing) {
+			this.failing = failing;
+		}
+
+		@Override
+		public void deleteAll(final Collection<String> names) {
+			if (failing != null && names.stream().anyMatch(name -> name.contains(failing))) {
+				onFailure.run();
+				throw new IllegalStateException("storage unavailable");
+			}
+			batches.add(names.size());
+			super.deleteAll(names);
+		}
+	}
+}
@@ -0,0 +1,191 @@
+package com.fullcycle.admin.catalog.infrastructure.video.cleanup;
+
+import com.fullcycle.admin.catalog.Fixture;
+import com.fullcycle.admin.catalog.IntegrationTest;
+import com.fullcycle.admin.catalog.application.video.media.upload.UploadMediaUseCase;
+import com.fullcycle.admin.catalog.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalog.domain.video.Video;
+import com.fullcycle.admin.catalog.domain.video.VideoID;
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.MediaReconciliationProperties;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.StorageProperties;
+import com.fullcycle.admin.catalog.infrastructure.service.local.InMemoryStorageService;
+import com.fullcycle.admin.catalog.infrastructure.video.naming.MediaNamingStrategy;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoJpaEntity;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoMediaContentID;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoMediaContentJpaEntity;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoMediaContentLocks;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoMediaContentRepository;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoRepository;
+import com.fullcycle.admin.catalog.infrastructure.video.upload.UploadSessionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.time.Year;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@IntegrationTest
+class OrphanMediaReconcilerTest {
+
+	private static final String REFERENCED_HASH = "a".repeat(64);
+	private static final String ORPHAN_HASH = "b".repeat(64);
+
+	@Autowired
+	private VideoRepository videoRepository;
+
+	@Autowired
+	private VideoMediaContentRepository contentRepository;
+
+	@Autowired
+	private VideoMediaContentLocks contentLocks;
+
+	@Autowired
+	private MediaReconciliationRepository reconciliationRepository;
+
+	@Autowired
+	private MediaOrphanRepository orphanRepository;
+
+	private InMemoryStorageService storage;
+
+	private StorageProperties storageProperties;
+
+	private UploadSessionService uploadSessionService;
+
+	@BeforeEach
+	public void setUp() {
+		storage = new InMemoryStorageService();
+		storageProperties = new StorageProperties();
+		storageProperties.setLocationPattern("videoId-{videoId}");
+		storageProperties.setContentLocationPattern("contents/{hash}");
+		storageProperties.setShardWidth(2);
+		storageProperties.setNamingStrategy("hash-prefix");
+		storageProperties.setPreviousNamingStrategy("sequential");
+		storageProperties.setUploadLocationPattern("uploads/{sessionId}");
+		storageProperties.setUploadSessionTtl(Duration.ofDays(7));
+		uploadSessionService = new UploadSessionService(storageProperties, storage, Mockito.mock(UploadMediaUseCase.class));
+	}
+
+	@Test
+	public void givenOrphanObjects_whenCallsRunTwice_shouldMarkThemFirstAndDeleteThemOnlyThen() {
+		final var target = new OrphanMediaReconciler(props(Duration.ZERO), storageProperties, storage, videoRepository, contentRepository, contentLocks, uploadSessionService, reconciliationRepository, orphanRepository);
+		final var current = MediaNamingStrategy.current(storageProperties);
+		final var previous = MediaNamingStrategy.previous(storageProperties).get();
+
+		final var existing = saveVideo();
+		final var deleted = VideoID.unique();
+		contentRepository.saveAndFlush(new VideoMediaContentJpaEntity(VideoMediaContentID.from(existing.getValue(), VideoMediaType.VIDEO), REFERENCED_HASH));
+
+		final var kept = Set.of(
+		  current.folder(existing) + "/type-VIDEO",
+		  previous.folder(existing) + "/type-BANNER",
+		  "contents/" + REFERENCED_HASH,
+		  "uploads/session-1/part-1"
+		);
+		final var orphans = Set.of(
+		  current.folder(deleted) + "/type-VIDEO",
+		  previous.folder(deleted) + "/type-BANNER",
+		  "contents/" + ORPHAN_HASH
+		);
+		kept.forEach(name -> storage.store(name, Fixture.Videos.resource(VideoMediaType.VIDEO)));
+		orphans.forEach(name -> storage.store(name, Fixture.Videos.resource(VideoMediaType.VIDEO)));
+
+		assertEquals(new OrphanMediaReconciler.Result(6, 3, 0, 0, 0), target.run());
+		assertEquals(7, storage.storage().size());
+
+		assertEquals(new OrphanMediaReconciler.Result(6, 3, 3, 0, 0), target.run());
+		assertEquals(kept, storage.storage().keySet());
+
+		assertEquals(new OrphanMediaReconciler.Result(3, 0, 0, 0, 0), target.run());
+	}
+
+	@Test
+	public void givenOrphanWithinTheGracePeriod_whenCallsRun_shouldKeepIt() {
+		final var target = new OrphanMediaReconciler(props(Duration.ofHours(1)), storageProperties, storage, videoRepository, contentRepository, contentLocks, uploadSessionService, reconciliationRepository, orphanRepository);
+		final var name = MediaNamingStrategy.current(storageProperties).folder(VideoID.unique()) + "/type-VIDEO";
+		storage.store(name, Fixture.Videos.resource(VideoMediaType.VIDEO));
+
+		target.run();
+
+		assertEquals(new OrphanMediaReconciler.Result(1, 1, 0, 0, 0), target.run());
+		assertTrue(storage.get(name).isPresent());
+	}
+
+	@Test
+	public void givenOrphanFoundBeforeARestart_whenCallsRunAfterTheGracePeriod_shouldDeleteIt() {
+		final var name = MediaNamingStrategy.current(storageProperties).folder(VideoID.unique()) + "/type-VIDEO";
+		storage.store(name, Fixture.Videos.resource(VideoMediaType.VIDEO));
+
+		newTarget(props(Duration.ZERO)).run();
+		assertTrue(orphanRepository.existsById(name));
+
+		assertEquals(new OrphanMediaReconciler.Result(1, 1, 1, 0, 0), newTarget(props(Duration.ZERO)).run());
+		assertTrue(storage.get(name).isEmpty());
+		assertFalse(orphanRepository.existsById(name));
+	}
+
+	@Test
+	public void givenContentLeftUnderItsTemporaryName_whenCallsRunAfterTheGracePeriod_shouldDeleteIt() {
+		final var name = "contents/" + UUID.randomUUID();
+		storage.store(name, Fixture.Videos.resource(VideoMediaType.VIDEO));
+
+		assertEquals(new OrphanMediaReconciler.Result(1, 1, 0, 0, 0), newTarget(props(Duration.ZERO)).run());
+		assertEquals(new OrphanMediaReconciler.Result(1, 1, 1, 0, 0), newTarget(props(Duration.ZERO)).run());
+		assertTrue(storage.get(name).isEmpty());
+	}
+
+	@Test
+	public void givenRunningOrRecentRun_whenCallsRun_shouldSkipIt() {
+		final var name = MediaNamingStrategy.current(storageProperties).folder(VideoID.unique()) + "/type-VIDEO";
+		storage.store(name, Fixture.Videos.resource(VideoMediaType.VIDEO));
+
+		final var now = InstantUtils.now();
+		reconciliationRepository.saveAndFlush(new MediaReconciliationJpaEntity("orphans", "other-node", now.plus(Duration.ofMinutes(5)), null));
+		assertEquals(new OrphanMediaReconciler.Result(0, 0, 0, 0, 0), newTarget(props(Duration.ZERO)).run());
+
+		final var recent = props(Duration.ZERO);
+		recent.setInterval(Duration.ofHours(6));
+		reconciliationRepository.saveAndFlush(new MediaReconciliationJpaEntity("orphans", null, null, now));
+		assertEquals(new OrphanMediaReconciler.Result(0, 0, 0, 0, 0), newTarget(recent).run());
+
+		assertEquals(0, orphanRepository.count());
+	}
+
+	private OrphanMediaReconciler newTarget(final MediaReconciliationProperties props) {
+		return new OrphanMediaReconciler(props, storageProperties, storage, videoRepository, contentRepository, contentLocks, uploadSessionService, reconciliationRepository, orphanRepository);
+	}
+
+	private VideoID saveVideo() {
+		final var video = Video.newVideo(
+		  Fixture.title(),
+		  Fixture.description(),
+		  Year.of(Fixture.year()),
+		  Fixture.duration(),
+		  Fixture.Videos.rating(),
+		  Fixture.bool(),
+		  Fixture.bool(),
+		  Set.of(),
+		  Set.of(),
+		  Set.of()
+		);
+		videoRepository.saveAndFlush(VideoJpaEntity.from(video));
+		return video.getId();
+	}
+
+	private MediaReconciliationProperties props(final Duration grace) {
+		final var props = new MediaReconciliationProperties();
+		props.setEnabled(true);
+		props.setInterval(Duration.ZERO);
+		props.setLease(Duration.ofMinutes(30));
+		props.setGrace(grace);
+		props.setParallelism(4);
+		props.setPageSize(2);
+		props.setRequestsPerSecond(1000);
+		return props;
+	}
+}
@@ -0,0 +1,314 @@
+package com.fullcycle.admin.catalog.infrastructure.video.ingestion;
+
+import com.fullcycle.admin.catalog.Fixture;
+import com.fullcycle.admin.catalog.IntegrationTest;
+import com.fullcycle.admin.catalog.application.video.create.CreateVideoCommand;
+import com.fullcycle.admin.catalog.application.video.create.CreateVideoUseCase;
+import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.resource.SignedUrl;
+import com.fullcycle.admin.catalog.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalog.domain.video.*;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.MediaIngestionProperties;
+import com.fullcycle.admin.catalog.infrastructure.service.EventService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@IntegrationTest
+class VideoIngestionServiceTest {
+
+	@TempDir
+	private Path spoolDir;
+
+	@Autowired
+	private CreateVideoUseCase createVideoUseCase;
+
+	@Autowired
+	private VideoGateway videoGateway;
+
+	@Autowired
+	private MediaResourceGateway mediaResourceGateway;
+
+	@Autowired
+	private MediaIngestionRepository ingestionRepository;
+
+	// the media created events would otherwise reach the listeners of other tests
+	@MockitoBean
+	private EventService eventService;
+
+	@Test
+	public void givenParts_whenCallsCreate_shouldCreateTheVideoAndAttachItsMediasInTheBackground() throws Exception {
+		final var target = service(mediaResourceGateway);
+
+		final var id = target.create(command(), Map.of(
+		  VideoMediaType.VIDEO, part("video_file", "video.mp4", "video/mp4"),
+		  VideoMediaType.BANNER, part("banner_file", "banner.jpg", "image/jpg")
+		));
+
+		assertTrue(videoGateway.findById(id).isPresent());
+
+		final var medias = awaitDone(target, id);
+
+		assertEquals(MediaIngestionStatus.COMPLETED, MediaIngestionStatus.of(medias.stream().map(MediaIngestionJpaEntity::getStatus).toList()));
+		final var video = videoGateway.findById(id).get();
+		assertEquals("video.mp4", video.getVideo().get().getName());
+		assertEquals("banner.jpg", video.getBanner().get().getName());
+		assertTrue(video.getTrailer().isEmpty());
+		assertTrue(mediaResourceGateway.getResource(id, VideoMediaType.VIDEO).isPresent());
+		assertSpoolIsEmpty();
+	}
+
+	@Test
+	public void givenAFailingMedia_whenCallsCreate_shouldAttachTheOthersAndReportIt() throws Exception {
+		final var target = service(new FailingImages(mediaResourceGateway));
+
+		final var id = target.create(command(), Map.of(
+		  VideoMediaType.VIDEO, part("video_file", "video.mp4", "video/mp4"),
+		  VideoMediaType.BANNER, part("banner_file", "banner.jpg", "image/jpg")
+		));
+
+		final var medias = awaitDone(target, id);
+
+		assertEquals(MediaIngestionStatus.COMPLETED, medias.get(1).getStatus());
+		assertEquals(VideoMediaType.BANNER, medias.get(0).getId().getMediaType());
+		assertEquals(MediaIngestionStatus.FAILED, medias.get(0).getStatus());
+		assertEquals("storage unavailable", medias.get(0).getError());
+
+		final var video = videoGateway.findById(id).get();
+		assertTrue(video.getVideo().isPresent());
+		assertTrue(video.getBanner().isEmpty());
+		assertSpoolIsEmpty();
+	}
+
+	@Test
+	public void givenTooManyVideosBeingIngested_whenCallsCreate_shouldRejectIt() throws Exception {
+		final var stored = new CountDownLatch(1);
+		final var target = service(new BlockingImages(mediaResourceGateway, stored), 1);
+
+		final var id = target.create(command(), Map.of(VideoMediaType.BANNER, part("banner_file", "banner.jpg", "image/jpg")));
+
+		assertThrows(RejectedExecutionException.class, () -> target.create(command(), Map.of(
+		  VideoMediaType.BANNER, part("banner_file", "banner.jpg", "image/jpg")
+		)));
+
+		stored.countDown();
+		awaitDone(target, id);
+	}
+
+	@Test
+	public void givenAnUnfinishedIngestionWithItsSpool_whenCallsRecover_shouldStoreAndAttachIt() throws Exception {
+		final var target = service(mediaResourceGateway);
+		final var id = VideoID.from(createVideoUseCase.execute(command()).id());
+		final var content = "video.mp4 content".getBytes();
+		final var spool = Files.write(spoolDir.resolve("video"), content);
+		final var lastHeartbeat = InstantUtils.now().minus(Duration.ofHours(2));
+
+		ingestionRepository.saveAndFlush(MediaIngestionJpaEntity.pending(
+		  MediaIngestionID.from(id.getValue(), VideoMediaType.VIDEO),
+		  spool.toString(),
+		  content.length,
+		  "video/mp4",
+		  "video.mp4",
+		  "gone",
+		  lastHeartbeat
+		).with(MediaIngestionStatus.STORING, lastHeartbeat));
+
+		assertEquals(1, target.recover());
+
+		final var medias = awaitDone(target, id);
+
+		assertEquals(MediaIngestionStatus.COMPLETED, medias.get(0).getStatus());
+		assertEquals("video.mp4", videoGateway.findById(id).get().getVideo().get().getName());
+		assertSpoolIsEmpty();
+	}
+
+	@Test
+	public void givenAStaleIngestionWithoutItsSpool_whenCallsRecover_shouldFailIt() {
+		final var target = service(mediaResourceGateway);
+		final var id = VideoID.from(createVideoUseCase.execute(command()).id());
+
+		ingestionRepository.saveAndFlush(MediaIngestionJpaEntity.pending(
+		  MediaIngestionID.from(id.getValue(), VideoMediaType.VIDEO),
+		  spoolDir.resolve("lost").toString(),
+		  1,
+		  "video/mp4",
+		  "video.mp4",
+		  "gone",
+		  InstantUtils.now().minus(Duration.ofHours(2))
+		));
+
+		assertEquals(0, target.recover());
+
+		final var medias = target.status(id);
+		assertEquals(MediaIngestionStatus.FAILED, medias.get(0).getStatus());
+		assertEquals("Ingestion was interrupted", medias.get(0).getError());
+	}
+
+	@Test
+	public void givenAnIngestionOfAnotherLiveNode_whenCallsRecover_shouldLeaveIt() {
+		final var target = service(mediaResourceGateway);
+		final var id = VideoID.from(createVideoUseCase.execute(command()).id());
+
+		ingestionRepository.saveAndFlush(MediaIngestionJpaEntity.pending(
+		  MediaIngestionID.from(id.getValue(), VideoMediaType.VIDEO),
+		  "/elsewhere/video",
+		  1,
+		  "video/mp4",
+		  "video.mp4",
+		  "alive",
+		  InstantUtils.now()
+		).with(MediaIngestionStatus.STORING, InstantUtils.now()));
+
+		assertEquals(0, target.recover());
+
+		final var medias = target.status(id);
+		assertEquals(MediaIngestionStatus.STORING, medias.get(0).getStatus());
+		assertEquals("alive", medias.get(0).getOwner());
+	}
+
+	@Test
+	public void givenSpoolsNoIngestionRefersTo_whenCallsRecover_shouldDeleteTheIdleOnes() throws Exception {
+		final var target = service(mediaResourceGateway);
+		final var idle = Files.write(spoolDir.resolve("idle"), "idle".getBytes());
+		final var fresh = Files.write(spoolDir.resolve("fresh"), "fresh".getBytes());
+		Files.setLastModifiedTime(idle, FileTime.from(InstantUtils.now().minus(Duration.ofHours(2))));
+
+		assertEquals(0, target.recover());
+
+		assertFalse(Files.exists(idle));
+		assertTrue(Files.exists(fresh));
+	}
+
+	private List<MediaIngestionJpaEntity> awaitDone(final VideoIngestionService target, final VideoID id) throws InterruptedException {
+		for (var i = 0; i < 100; i++) {
+			final var medias = target.status(id);
+			if (medias.stream().allMatch(media -> media.getStatus().isDone())) {
+				return medias;
+			}
+			Thread.sleep(50);
+		}
+		return fail("Ingestion of %s didn't finish".formatted(id.getValue()));
+	}
+
+	private void assertSpoolIsEmpty() throws IOException {
+		try (final var files = Files.list(spoolDir)) {
+			assertEquals(0, files.count());
+		}
+	}
+
+	private VideoIngestionService service(final MediaResourceGateway gateway) {
+		return service(gateway, 10);
+	}
+
+	private VideoIngestionService service(final MediaResourceGateway gateway, final int maxPending) {
+		final var props = new MediaIngestionProperties();
+		props.setSpoolDir(spoolDir.toString());
+		props.setParallelism(2);
+		props.setMaxPending(maxPending);
+		props.setHeartbeat(Duration.ofSeconds(30));
+		props.setStaleAfter(Duration.ofHours(1));
+		return new VideoIngestionService(props, createVideoUseCase, videoGateway, gateway, ingestionRepository);
+	}
+
+	private MultipartFile part(final String field, final String name, final String contentType) {
+		return new MockMultipartFile(field, name, contentType, (name + " content").getBytes());
+	}
+
+	private CreateVideoCommand command() {
+		return new CreateVideoCommand(
+		  Fixture.title(),
+		  Fixture.description(),
+		  Fixture.year(),
+		  Fixture.duration(),
+		  Fixture.bool(),
+		  Fixture.bool(),
+		  Fixture.Videos.rating().getName(),
+		  Set.of(),
+		  Set.of(),
+		  Set.of(),
+		  null,
+		  null,
+		  null,
+		  null,
+		  null
+		);
+	}
+
+	private record BlockingImages(MediaResourceGateway delegate, CountDownLatch released) implements MediaResourceGateway {
+
+		@Override
+		public AudioVideoMedia storeAudioVideo(final VideoID id, final VideoResource resource) {
+			return delegate.storeAudioVideo(id, resource);
+		}
+
+		@Override
+		public ImageMedia storeImage(final VideoID id, final VideoResource resource) {
+			try {
+				released.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return delegate.storeImage(id, resource);
+		}
+
+		@Override
+		public Optional<Resource> getResource(final VideoID id, final VideoMediaType type) {
+			return delegate.getResource(id, type);
+		}
+
+		@Override
+		public Optional<SignedUrl> getSignedUrl(final VideoID id, final VideoMediaType type) {
+			return delegate.getSignedUrl(id, type);
+		}
+
+		@Override
+		public void clearResources(final VideoID id) {
+			delegate.clearResources(id);
+		}
+	}
+
+	private record FailingImages(MediaResourceGateway delegate) implements MediaResourceGateway {
+
+		@Override
+		public AudioVideoMedia storeAudioVideo(final VideoID id, final VideoResource resource) {
+			return delegate.storeAudioVideo(id, resource);
+		}
+
+		@Override
+		public ImageMedia storeImage(final VideoID id, final VideoResource resource) {
+			throw new IllegalStateException("storage unavailable");
+		}
+
+		@Override
+		public Optional<Resource> getResource(final VideoID id, final VideoMediaType type) {
+			return delegate.getResource(id, type);
+		}
+
+		@Override
+		public Optional<SignedUrl> getSignedUrl(final VideoID id, final VideoMediaType type) {
+			return delegate.getSignedUrl(id, type);
+		}
+
+		@Override
+		public void clearResources(final VideoID id) {
+			delegate.clearResources(id);
+		}
+	}
+}
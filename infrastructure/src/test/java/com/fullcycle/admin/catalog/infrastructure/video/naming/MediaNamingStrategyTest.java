@@ -0,0 +1,84 @@
+package com.fullcycle.admin.catalog.infrastructure.video.naming;
+
+import com.fullcycle.admin.catalog.domain.video.VideoID;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.StorageProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MediaNamingStrategyTest {
+
+	@Test
+	public void givenSequentialStrategy_whenCallsFolder_shouldUseTheLocationPattern() {
+		final var id = VideoID.unique();
+		final var target = MediaNamingStrategy.of("sequential", "videoId-{videoId}", 2);
+
+		assertEquals("videoId-%s".formatted(id), target.folder(id));
+		assertEquals(target, MediaNamingStrategy.of(null, "videoId-{videoId}", 2));
+	}
+
+	@Test
+	public void givenHashPrefixStrategy_whenCallsFolder_shouldPrefixAStableShard() {
+		final var id = VideoID.unique();
+		final var target = MediaNamingStrategy.of("hash-prefix", "videoId-{videoId}", 2);
+
+		final var folder = target.folder(id);
+
+		assertTrue(folder.matches("[0-9a-f]{2}/videoId-%s".formatted(id)));
+		assertEquals(folder, target.folder(VideoID.from(id.toString())));
+	}
+
+	@Test
+	public void givenManyVideos_whenCallsHashPrefixFolder_shouldSpreadThemOverTheShards() {
+		final var target = MediaNamingStrategy.of("hash-prefix", "videoId-{videoId}", 1);
+		final var shards = new HashSet<String>();
+
+		IntStream.range(0, 1000).forEach(i -> shards.add(target.folder(VideoID.unique()).substring(0, 1)));
+
+		assertEquals(16, shards.size());
+	}
+
+	@Test
+	public void givenInvalidStrategy_whenCallsOf_shouldFail() {
+		assertThrows(IllegalArgumentException.class, () -> MediaNamingStrategy.of("random", "videoId-{videoId}", 2));
+		assertThrows(IllegalArgumentException.class, () -> MediaNamingStrategy.of("hash-prefix", "videoId-{videoId}", 0));
+	}
+
+	@Test
+	public void givenPreviousStrategy_whenCallsPrevious_shouldBeEmptyUnlessItDiffers() {
+		final var props = new StorageProperties();
+		props.setLocationPattern("videoId-{videoId}");
+		props.setShardWidth(2);
+		props.setNamingStrategy("hash-prefix");
+
+		assertTrue(MediaNamingStrategy.previous(props).isEmpty());
+
+		props.setPreviousNamingStrategy("hash-prefix");
+		assertTrue(MediaNamingStrategy.previous(props).isEmpty());
+
+		props.setPreviousNamingStrategy("sequential");
+		assertEquals(new SequentialNamingStrategy("videoId-{videoId}"), MediaNamingStrategy.previous(props).get());
+	}
+
+	@Test
+	public void givenObjectNames_whenCallsVideoOf_shouldOnlyMatchFoldersOfTheStrategy() {
+		final var id = VideoID.unique();
+		final var sequential = MediaNamingStrategy.of("sequential", "videoId-{videoId}", 2);
+		final var hashPrefix = MediaNamingStrategy.of("hash-prefix", "videoId-{videoId}", 2);
+
+		assertEquals(id, sequential.videoOf(sequential.folder(id) + "/type-VIDEO").get());
+		assertEquals(id, hashPrefix.videoOf(hashPrefix.folder(id) + "/type-VIDEO").get());
+
+		assertTrue(sequential.videoOf(hashPrefix.folder(id) + "/type-VIDEO").isEmpty());
+		assertTrue(hashPrefix.videoOf(sequential.folder(id) + "/type-VIDEO").isEmpty());
+		assertTrue(hashPrefix.videoOf("zz/videoId-%s/type-VIDEO".formatted(id)).isEmpty());
+		assertTrue(sequential.videoOf(sequential.folder(id)).isEmpty());
+		assertTrue(sequential.videoOf("uploads/session/part-1").isEmpty());
+
+		assertEquals("videoId-", sequential.scanPrefix());
+		assertEquals("", hashPrefix.scanPrefix());
+	}
+}
@@ -0,0 +1,170 @@
+package com.fullcycle.admin.catalog.infrastructure.video.naming;
+
+import com.fullcycle.admin.catalog.Fixture;
+import com.fullcycle.admin.catalog.IntegrationTest;
+import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.video.*;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.MediaRekeyProperties;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.StorageProperties;
+import com.fullcycle.admin.catalog.infrastructure.service.StorageService;
+import com.fullcycle.admin.catalog.infrastructure.service.local.InMemoryStorageService;
+import com.fullcycle.admin.catalog.infrastructure.utils.ChecksumUtils;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoJpaEntity;
+import com.fullcycle.admin.catalog.infrastructure.video.persistence.VideoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.Year;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@IntegrationTest
+class MediaRekeyMigrationTest {
+
+	@Autowired
+	private StorageService storageService;
+
+	@Autowired
+	private VideoRepository videoRepository;
+
+	@Autowired
+	private MediaRekeyRepository rekeyRepository;
+
+	private MediaRekeyMigration target;
+
+	private MediaNamingStrategy from;
+
+	private MediaNamingStrategy to;
+
+	@BeforeEach
+	public void setUp() {
+		storageService().reset();
+
+		final var storageProperties = new StorageProperties();
+		storageProperties.setLocationPattern("videoId-{videoId}");
+		storageProperties.setShardWidth(2);
+		storageProperties.setNamingStrategy("hash-prefix");
+		storageProperties.setPreviousNamingStrategy("sequential");
+
+		final var props = new MediaRekeyProperties();
+		props.setParallelism(4);
+		props.setPageSize(2);
+		props.setLease(Duration.ofMinutes(10));
+
+		target = new MediaRekeyMigration(props, storageProperties, storageService, videoRepository, rekeyRepository);
+		from = MediaNamingStrategy.previous(storageProperties).get();
+		to = MediaNamingStrategy.current(storageProperties);
+	}
+
+	@Test
+	public void givenVideosUnderThePreviousNames_whenCallsRun_shouldMoveObjectsAndMediaPaths() {
+		final var first = saveVideoWithMedias();
+		final var second = saveVideoWithMedias();
+		final var empty = saveVideo();
+
+		final var result = target.run();
+
+		assertEquals(new MediaRekeyMigration.Result(3, 4, 0), result);
+		assertEquals(4, storageService().storage().size());
+
+		for (final var video : new VideoID[]{first, second}) {
+			final var folder = to.folder(video);
+			assertTrue(storageService.get(folder + "/type-VIDEO").isPresent());
+			assertTrue(storageService.get(folder + "/type-BANNER").isPresent());
+			assertTrue(storageService.list(from.folder(video) + "/").isEmpty());
+
+			final var persisted = videoRepository.findById(video.getValue()).get();
+			assertEquals(folder + "/type-VIDEO", persisted.getVideo().getFilePath());
+			assertEquals(folder + "/type-BANNER", persisted.getBanner().getFilePath());
+		}
+
+		assertTrue(videoRepository.existsById(empty.getValue()));
+		assertNotNull(rekeyRepository.findById("sequential>hash-prefix").get().getCompletedAt());
+		assertEquals(new MediaRekeyMigration.Result(0, 0, 0), target.run());
+	}
+
+	@Test
+	public void givenMoveRunningOnAnotherNode_whenCallsRun_shouldSkipIt() {
+		final var video = saveVideoWithMedias();
+		rekeyRepository.createIfAbsent("sequential>hash-prefix");
+		rekeyRepository.lock("sequential>hash-prefix", UUID.randomUUID().toString(), Instant.now(), Instant.now().plus(Duration.ofMinutes(10)));
+
+		assertEquals(new MediaRekeyMigration.Result(0, 0, 0), target.run());
+
+		assertEquals(2, storageService.list(from.folder(video) + "/").size());
+		assertNull(rekeyRepository.findById("sequential>hash-prefix").get().getCompletedAt());
+	}
+
+	@Test
+	public void givenExpiredLeaseOfAnotherNode_whenCallsRun_shouldTakeTheMoveOver() {
+		final var video = saveVideoWithMedias();
+		rekeyRepository.createIfAbsent("sequential>hash-prefix");
+		rekeyRepository.lock("sequential>hash-prefix", UUID.randomUUID().toString(), Instant.now(), Instant.now().minusSeconds(1));
+
+		assertEquals(new MediaRekeyMigration.Result(1, 2, 0), target.run());
+
+		assertTrue(storageService.list(from.folder(video) + "/").isEmpty());
+	}
+
+	@Test
+	public void givenMediaUploadedUnderTheNewName_whenCallsRun_shouldKeepTheNewerObject() {
+		final var video = saveVideoWithMedias();
+		final var newerResource = resource("newer banner", "image/jpg");
+		storageService.store(to.folder(video) + "/type-BANNER", newerResource);
+
+		target.run();
+
+		assertEquals(newerResource.checksum(), storageService.get(to.folder(video) + "/type-BANNER").get().checksum());
+		assertEquals(2, storageService().storage().size());
+	}
+
+	private VideoID saveVideoWithMedias() {
+		final var video = newVideo();
+		final var folder = from.folder(video.getId());
+		final var videoResource = resource("video " + UUID.randomUUID(), "video/mp4");
+		final var bannerResource = resource("banner " + UUID.randomUUID(), "image/jpg");
+
+		storageService.store(folder + "/type-VIDEO", videoResource);
+		storageService.store(folder + "/type-BANNER", bannerResource);
+
+		video.setVideo(AudioVideoMedia.with(videoResource.checksum(), videoResource.name(), folder + "/type-VIDEO"));
+		video.setBanner(ImageMedia.with(bannerResource.checksum(), bannerResource.name(), folder + "/type-BANNER"));
+		videoRepository.saveAndFlush(VideoJpaEntity.from(video));
+		return video.getId();
+	}
+
+	private Resource resource(final String content, final String contentType) {
+		final var bytes = content.getBytes();
+		return Resource.with(ChecksumUtils.generate(bytes), bytes, contentType, content);
+	}
+
+	private VideoID saveVideo() {
+		final var video = newVideo();
+		videoRepository.saveAndFlush(VideoJpaEntity.from(video));
+		return video.getId();
+	}
+
+	private Video newVideo() {
+		return Video.newVideo(
+		  Fixture.title(),
+		  Fixture.description(),
+		  Year.of(Fixture.year()),
+		  Fixture.duration(),
+		  Fixture.Videos.rating(),
+		  Fixture.bool(),
+		  Fixture.bool(),
+		  Set.of(),
+		  Set.of(),
+		  Set.of()
+		);
+	}
+
+	private InMemoryStorageService storageService() {
+		return (InMemoryStorageService) storageService;
+	}
+}
@@ -0,0 +1,136 @@
+package com.fullcycle.admin.catalog.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalog.MySQLGatewayTest;
+import com.fullcycle.admin.catalog.domain.pagination.TotalMode;
+import com.fullcycle.admin.catalog.domain.video.VideoPreview;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.transaction.AfterTransaction;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Seeds videos related to many cast members and genres, where joining the relations would
+ * fan each video out into hundreds of rows, and checks the plans H2 picks for the statements
+ * the listing runs.
+ */
+@MySQLGatewayTest
+public class VideoPreviewRepositoryTest {
+
+	private static final int VIDEOS = 2000;
+	private static final int CAST_MEMBERS = 20;
+	private static final int GENRES = 5;
+
+	private static final List<String> RELATIONS = List.of("videos_categories", "videos_genres", "videos_cast_members");
+
+	@Autowired
+	private VideoRepository repository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private UUID category;
+	private UUID genre;
+	private UUID castMember;
+
+	// a SET commits on H2, so it runs before the seed to let the test transaction roll it back
+	@BeforeEach
+	public void seed() {
+		jdbcTemplate.execute("SET QUERY_STATISTICS TRUE");
+
+		jdbcTemplate.update("""
+			INSERT INTO categories (id_bin, name, active, created_at)
+			SELECT RANDOM_UUID(), 'Category ' || X, TRUE, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, 2)
+		""");
+		jdbcTemplate.update("""
+			INSERT INTO genres (id_bin, name, active, created_at)
+			SELECT RANDOM_UUID(), 'Genre ' || X, TRUE, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, ?)
+		""", GENRES);
+		jdbcTemplate.update("""
+			INSERT INTO cast_members (id_bin, name, type, created_at)
+			SELECT RANDOM_UUID(), 'Cast Member ' || X, 'ACTOR', CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, ?)
+		""", CAST_MEMBERS);
+		jdbcTemplate.update("""
+			INSERT INTO videos (id_bin, title, description, year_launched, opened, published, rating, duration, created_at)
+			SELECT RANDOM_UUID(), 'Video ' || X, 'Description', 2024, FALSE, FALSE, 'L', 1.5, CURRENT_TIMESTAMP
+			FROM SYSTEM_RANGE(1, ?)
+		""", VIDEOS);
+
+		jdbcTemplate.update("INSERT INTO videos_categories (video_id_bin, category_id_bin) SELECT v.id_bin, c.id_bin FROM videos v CROSS JOIN categories c");
+		jdbcTemplate.update("INSERT INTO videos_genres (video_id_bin, genre_id_bin) SELECT v.id_bin, g.id_bin FROM videos v CROSS JOIN genres g");
+		jdbcTemplate.update("INSERT INTO videos_cast_members (video_id_bin, cast_member_id_bin) SELECT v.id_bin, c.id_bin FROM videos v CROSS JOIN cast_members c");
+
+		category = jdbcTemplate.queryForObject("SELECT CAST(MIN(id_bin) AS UUID) FROM categories", UUID.class);
+		genre = jdbcTemplate.queryForObject("SELECT CAST(MIN(id_bin) AS UUID) FROM genres", UUID.class);
+		castMember = jdbcTemplate.queryForObject("SELECT CAST(MIN(id_bin) AS UUID) FROM cast_members", UUID.class);
+	}
+
+	@AfterTransaction
+	public void tearDown() {
+		jdbcTemplate.execute("SET QUERY_STATISTICS FALSE");
+	}
+
+	@Test
+	public void givenEveryFilter_whenCallsFindPreviews_shouldCountEachVideoOnce() {
+		final var output = repository.findPreviews(null, Set.of(category), Set.of(genre), Set.of(castMember), 1, 25, "title", "asc", null, TotalMode.EXACT);
+
+		assertEquals(VIDEOS, output.total());
+		assertEquals(25, output.items().size());
+		assertEquals(25, output.items().stream().map(VideoPreview::id).distinct().count());
+		assertTrue(output.hasMore());
+	}
+
+	@Test
+	public void givenEveryFilter_whenCallsFindPreviews_shouldProbeTheRelationsWithoutJoiningThem() {
+		repository.findPreviews(null, Set.of(category), Set.of(genre), Set.of(castMember), 1, 25, "title", "asc", null, TotalMode.EXACT);
+
+		final var statements = statementsOn("videos_cast_members");
+		assertEquals(2, statements.size(), "the page and its count");
+
+		for (final var statement : statements) {
+			final var plan = explain(statement);
+			final var from = plan.substring(0, plan.indexOf("where"));
+
+			assertFalse(plan.contains("distinct"), plan);
+			for (final var relation : RELATIONS) {
+				assertFalse(from.contains(relation), plan);
+				assertTrue(plan.contains("exists(") && plan.contains("from \"public\".\"" + relation + "\""), plan);
+				assertFalse(plan.contains(relation + ".tablescan"), plan);
+			}
+		}
+	}
+
+	@Test
+	public void givenNoFilter_whenCallsFindPreviews_shouldNotTouchTheRelations() {
+		final var output = repository.findPreviews(null, Set.of(), null, Set.of(), 0, 25, "title", "asc", null, TotalMode.EXACT);
+
+		assertEquals(VIDEOS, output.total());
+		assertEquals(2, statementsOn("from videos ").size(), "the page and its count");
+		for (final var relation : RELATIONS) {
+			assertEquals(List.of(), statementsOn(relation));
+		}
+	}
+
+	private List<String> statementsOn(final String table) {
+		return jdbcTemplate.queryForList("SELECT SQL_STATEMENT FROM INFORMATION_SCHEMA.QUERY_STATISTICS", String.class).stream()
+		  .filter(sql -> sql.toLowerCase(Locale.ROOT).startsWith("select") && sql.contains(table))
+		  .collect(Collectors.toList());
+	}
+
+	// H2 explains a statement without values for its parameters
+	private String explain(final String sql) {
+		final var lines = jdbcTemplate.query(
+		  connection -> connection.prepareStatement("EXPLAIN " + sql),
+		  (row, number) -> row.getString(1)
+		);
+		return String.join("\n", lines).toLowerCase(Locale.ROOT);
+	}
+}
@@ -0,0 +1,221 @@
+package com.fullcycle.admin.catalog.infrastructure.video.upload;
+
+import com.fullcycle.admin.catalog.application.video.media.upload.UploadMediaCommand;
+import com.fullcycle.admin.catalog.application.video.media.upload.UploadMediaOutput;
+import com.fullcycle.admin.catalog.application.video.media.upload.UploadMediaUseCase;
+import com.fullcycle.admin.catalog.domain.errors.DomainException;
+import com.fullcycle.admin.catalog.domain.errors.NotFoundException;
+import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.video.VideoID;
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.StorageProperties;
+import com.fullcycle.admin.catalog.infrastructure.service.local.InMemoryStorageService;
+import com.fullcycle.admin.catalog.infrastructure.utils.ChecksumUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class UploadSessionServiceTest {
+
+	private InMemoryStorageService storageService;
+
+	private UploadMediaUseCase uploadMediaUseCase;
+
+	private UploadSessionService target;
+
+	@BeforeEach
+	public void setUp() {
+		final var props = new StorageProperties();
+		props.setUploadLocationPattern("uploads/{sessionId}");
+		props.setSignedUploadTtl(Duration.ofHours(1));
+		props.setUploadSessionTtl(Duration.ofDays(7));
+
+		storageService = new InMemoryStorageService();
+		uploadMediaUseCase = Mockito.mock(UploadMediaUseCase.class);
+		target = new UploadSessionService(props, storageService, uploadMediaUseCase);
+	}
+
+	@Test
+	public void givenChunksOutOfOrder_whenCallsComplete_shouldUploadAssembledMediaAndCleanUp() throws Exception {
+		final var expectedVideoId = VideoID.unique();
+		final var expectedType = VideoMediaType.TRAILER;
+		final var expectedContent = "first-second-third".getBytes();
+
+		when(uploadMediaUseCase.execute(any())).thenReturn(new UploadMediaOutput(expectedVideoId.toString(), expectedType));
+
+		final var session = target.create(expectedVideoId, expectedType, "trailer.mp4", "video/mp4");
+
+		target.storeChunk(session, 3, new ByteArrayInputStream("third".getBytes()));
+		target.storeChunk(session, 1, new ByteArrayInputStream("first-".getBytes()));
+		target.storeChunk(session, 2, new ByteArrayInputStream("second-".getBytes()));
+
+		assertEquals(List.of(1, 2, 3), target.receivedChunks(target.get(session.sessionId(), expectedVideoId, expectedType)));
+
+		target.complete(session, 3);
+
+		final var captor = ArgumentCaptor.forClass(UploadMediaCommand.class);
+		verify(uploadMediaUseCase).execute(captor.capture());
+
+		final var resource = captor.getValue().resource();
+		assertEquals(expectedVideoId.toString(), captor.getValue().videoId());
+		assertEquals(expectedType, resource.type());
+		assertEquals(expectedContent.length, resource.resource().size());
+		assertEquals(ChecksumUtils.generate(expectedContent), resource.resource().checksum());
+		assertTrue(storageService.storage().isEmpty());
+	}
+
+	@Test
+	public void givenAssembledMedia_whenOpenedAtPosition_shouldSeekIntoTheChunkHoldingIt() throws Exception {
+		final var expectedVideoId = VideoID.unique();
+		final var expectedType = VideoMediaType.VIDEO;
+		final var reads = new ArrayList<String>();
+
+		when(uploadMediaUseCase.execute(any())).thenAnswer(invocation -> {
+			final var source = invocation.<UploadMediaCommand>getArgument(0).resource().resource().source();
+			for (final var position : List.of(0L, 6L, 9L, 13L, 18L)) {
+				try (final var stream = source.openStream(position)) {
+					reads.add(new String(stream.readAllBytes()));
+				}
+			}
+			return new UploadMediaOutput(expectedVideoId.toString(), expectedType);
+		});
+
+		final var session = target.create(expectedVideoId, expectedType, "video.mp4", "video/mp4");
+		target.storeChunk(session, 1, new ByteArrayInputStream("first-".getBytes()));
+		target.storeChunk(session, 2, new ByteArrayInputStream("second-".getBytes()));
+		target.storeChunk(session, 3, new ByteArrayInputStream("third".getBytes()));
+
+		target.complete(session, 3);
+
+		assertEquals(List.of("first-second-third", "second-third", "ond-third", "third", ""), reads);
+	}
+
+	@Test
+	public void givenExpiredAndAbandonedSessions_whenCallsDeleteExpired_shouldDeleteOnlyTheirFolders() {
+		final var expectedVideoId = VideoID.unique();
+		final var live = target.create(expectedVideoId, VideoMediaType.VIDEO, "video.mp4", "video/mp4");
+		target.storeChunk(live, 1, new ByteArrayInputStream("first".getBytes()));
+
+		final var expired = new UploadSession(UUID.randomUUID().toString(), expectedVideoId.toString(), VideoMediaType.TRAILER.name(), "trailer.mp4", "video/mp4", Instant.now().minus(Duration.ofDays(8)));
+		storeManifest(expired);
+		storageService.store("uploads/%s/content".formatted(expired.sessionId()), Resource.with("checksum", "content".getBytes(), "video/mp4", "trailer.mp4"));
+
+		final var legacy = new UploadSession(UUID.randomUUID().toString(), expectedVideoId.toString(), VideoMediaType.BANNER.name(), "banner.jpg", "image/jpg", null);
+		storeManifest(legacy);
+
+		final var leftover = "uploads/%s/chunk-00001".formatted(UUID.randomUUID());
+		storageService.store(leftover, Resource.with("checksum", "chunk".getBytes(), "video/mp4", "video.mp4"));
+
+		final var throttled = new int[1];
+		assertEquals(2, target.deleteExpired(2, () -> throttled[0]++));
+
+		assertTrue(throttled[0] > 0);
+		assertTrue(storageService.list("uploads/" + expired.sessionId()).isEmpty());
+		assertTrue(storageService.get(leftover).isEmpty());
+		assertEquals(List.of(1), target.receivedChunks(target.get(live.sessionId(), expectedVideoId, VideoMediaType.VIDEO)));
+		assertNotNull(target.get(legacy.sessionId(), expectedVideoId, VideoMediaType.BANNER).createdAt());
+
+		assertThrows(NotFoundException.class, () -> target.get(expired.sessionId(), expectedVideoId, VideoMediaType.TRAILER));
+	}
+
+	@Test
+	public void givenMissingChunks_whenCallsComplete_shouldReturnDomainException() {
+		final var expectedVideoId = VideoID.unique();
+		final var expectedType = VideoMediaType.VIDEO;
+		final var expectedErrorMessage = "Missing chunks for upload session %s: 2, 4";
+
+		final var session = target.create(expectedVideoId, expectedType, "video.mp4", "video/mp4");
+		target.storeChunk(session, 1, new ByteArrayInputStream("one".getBytes()));
+		target.storeChunk(session, 3, new ByteArrayInputStream("three".getBytes()));
+
+		final var exception = assertThrows(DomainException.class, () -> target.complete(session, 4));
+
+		assertEquals(expectedErrorMessage.formatted(session.sessionId()), exception.getMessage());
+		verify(uploadMediaUseCase, never()).execute(any());
+	}
+
+	@Test
+	public void givenSessionOfAnotherVideo_whenCallsGet_shouldReturnNotFound() {
+		final var session = target.create(VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4");
+
+		assertThrows(NotFoundException.class, () -> target.get(session.sessionId(), VideoID.unique(), VideoMediaType.VIDEO));
+	}
+
+	@Test
+	public void givenMediaUploadedToSignedUrl_whenCallsFinalizeDirect_shouldAttachItAndCleanUp() {
+		final var expectedVideoId = VideoID.unique();
+		final var expectedType = VideoMediaType.VIDEO;
+		final var expectedContent = "direct-content".getBytes();
+		final var expectedChecksum = ChecksumUtils.generate(expectedContent);
+
+		when(uploadMediaUseCase.execute(any())).thenReturn(new UploadMediaOutput(expectedVideoId.toString(), expectedType));
+
+		final var upload = target.createDirect(expectedVideoId, expectedType, "video.mp4", "video/mp4");
+		assertTrue(upload.url().expiresAt().isAfter(Instant.now()));
+		assertTrue(storageService.upload(upload.url().url(), Resource.with(expectedChecksum, expectedContent, "video/mp4", "upload")));
+
+		target.finalizeDirect(target.get(upload.session().sessionId(), expectedVideoId, expectedType), (long) expectedContent.length, expectedChecksum.toUpperCase());
+
+		final var captor = ArgumentCaptor.forClass(UploadMediaCommand.class);
+		verify(uploadMediaUseCase).execute(captor.capture());
+
+		final var resource = captor.getValue().resource();
+		assertEquals(expectedType, resource.type());
+		assertEquals("video.mp4", resource.resource().name());
+		assertEquals("video/mp4", resource.resource().contentType());
+		assertEquals(expectedChecksum, resource.resource().checksum());
+		assertArrayEquals(expectedContent, resource.resource().content());
+		assertTrue(storageService.storage().isEmpty());
+	}
+
+	@Test
+	public void givenUnexpectedSizeOrChecksum_whenCallsFinalizeDirect_shouldReturnDomainException() {
+		final var expectedVideoId = VideoID.unique();
+		final var expectedType = VideoMediaType.BANNER;
+		final var expectedContent = "banner".getBytes();
+		final var expectedChecksum = ChecksumUtils.generate(expectedContent);
+
+		final var upload = target.createDirect(expectedVideoId, expectedType, "banner.jpg", "image/jpg");
+		final var session = upload.session();
+
+		final var nothingUploaded = assertThrows(DomainException.class, () -> target.finalizeDirect(session, 6L, expectedChecksum));
+		assertEquals("Nothing was uploaded for upload session %s".formatted(session.sessionId()), nothingUploaded.getMessage());
+
+		storageService.upload(upload.url().url(), Resource.with(expectedChecksum, expectedContent, "image/jpg", "upload"));
+
+		final var wrongSize = assertThrows(DomainException.class, () -> target.finalizeDirect(session, 7L, expectedChecksum));
+		assertEquals("Uploaded media has 6 bytes but 7 were expected", wrongSize.getMessage());
+
+		final var wrongChecksum = assertThrows(DomainException.class, () -> target.finalizeDirect(session, 6L, "00000000"));
+		assertEquals("Uploaded media checksum %s doesn't match 00000000".formatted(expectedChecksum), wrongChecksum.getMessage());
+
+		verify(uploadMediaUseCase, never()).execute(any());
+	}
+
+	@Test
+	public void givenTamperedSignedUrl_whenUploading_shouldBeRejected() {
+		final var upload = target.createDirect(VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4");
+		final var tampered = URI.create(upload.url().url().toString().replace("/content?", "/other?"));
+
+		assertFalse(storageService.upload(tampered, Resource.with("00000000", new byte[0], "video/mp4", "upload")));
+	}
+
+	private void storeManifest(final UploadSession session) {
+		final var content = Json.writeValueAsString(session).getBytes();
+		storageService.store("uploads/%s/session".formatted(session.sessionId()), Resource.with(ChecksumUtils.generate(content), content, "application/json", "session"));
+	}
+}
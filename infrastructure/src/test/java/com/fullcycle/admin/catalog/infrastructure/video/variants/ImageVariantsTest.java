@@ -0,0 +1,112 @@
+package com.fullcycle.admin.catalog.infrastructure.video.variants;
+
+import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.ImageVariantProperties;
+import com.fullcycle.admin.catalog.infrastructure.utils.ChecksumUtils;
+import com.google.common.util.concurrent.MoreExecutors;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ImageVariantsTest {
+
+	private final ImageVariants target = new ImageVariants(props(), MoreExecutors.newDirectExecutorService());
+
+	@Test
+	public void givenImage_whenCallsGenerate_shouldStoreTheNarrowerWidthsAsJpeg() throws IOException {
+		final var original = png(700, 350);
+		final var stored = new LinkedHashMap<Integer, Resource>();
+		final var done = new AtomicBoolean();
+
+		target.generate(original.checksum(), () -> Optional.of(original), stored::put, () -> done.set(true));
+
+		assertEquals(List.of(160, 320, 640), List.copyOf(stored.keySet()));
+		assertTrue(done.get());
+
+		final var variant = stored.get(320);
+		final var image = ImageIO.read(variant.openStream());
+		assertEquals(320, image.getWidth());
+		assertEquals(160, image.getHeight());
+		assertEquals(ImageVariants.CONTENT_TYPE, variant.contentType());
+		assertEquals("banner-w320.jpg", variant.name());
+		assertEquals(ChecksumUtils.generate(variant.content()), variant.checksum());
+	}
+
+	@Test
+	public void givenReplacedImage_whenCallsGenerate_shouldStoreNothing() throws IOException {
+		final var original = png(700, 350);
+		final var current = new AtomicReference<>(original);
+		final var stored = new LinkedHashMap<Integer, Resource>();
+		final var done = new AtomicBoolean();
+
+		target.generate(original.checksum(), () -> Optional.of(current.get()), (width, variant) -> {
+			stored.put(width, variant);
+			current.set(bytes("replaced"));
+		}, () -> done.set(true));
+
+		assertEquals(List.of(160), List.copyOf(stored.keySet()));
+		assertFalse(done.get());
+	}
+
+	@Test
+	public void givenContentThatIsNotAnImage_whenCallsGenerate_shouldStoreNothing() {
+		final var original = bytes("not an image");
+		final var stored = new LinkedHashMap<Integer, Resource>();
+
+		target.generate(original.checksum(), () -> Optional.of(original), stored::put, () -> {});
+
+		assertTrue(stored.isEmpty());
+	}
+
+	@Test
+	public void givenImageAboveTheMaxPixels_whenCallsGenerate_shouldStoreNothing() throws IOException {
+		final var props = props();
+		props.setMaxPixels(700 * 350 - 1);
+		final var target = new ImageVariants(props, MoreExecutors.newDirectExecutorService());
+		final var original = png(700, 350);
+		final var stored = new LinkedHashMap<Integer, Resource>();
+
+		target.generate(original.checksum(), () -> Optional.of(original), stored::put, () -> {});
+
+		assertTrue(stored.isEmpty());
+	}
+
+	@Test
+	public void givenWidths_whenCallsWidthFor_shouldPickTheNarrowestThatIsWideEnough() {
+		assertEquals(Optional.of(160), target.widthFor(1));
+		assertEquals(Optional.of(320), target.widthFor(161));
+		assertEquals(Optional.of(640), target.widthFor(640));
+		assertEquals(Optional.empty(), target.widthFor(641));
+	}
+
+	private static ImageVariantProperties props() {
+		final var props = new ImageVariantProperties();
+		props.setEnabled(true);
+		props.setWidths(List.of(640, 160, 320));
+		props.setQuality(0.8f);
+		props.setMaxPixels(1_000_000);
+		return props;
+	}
+
+	private static Resource png(final int width, final int height) throws IOException {
+		final var output = new ByteArrayOutputStream();
+		ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", output);
+		final var content = output.toByteArray();
+		return Resource.with(ChecksumUtils.generate(content), content, "image/png", "banner.png");
+	}
+
+	private static Resource bytes(final String content) {
+		final var bytes = content.getBytes();
+		return Resource.with(ChecksumUtils.generate(bytes), bytes, "image/png", "banner.png");
+	}
+}
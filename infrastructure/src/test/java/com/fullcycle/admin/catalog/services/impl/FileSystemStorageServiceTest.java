@@ -0,0 +1,179 @@
+package com.fullcycle.admin.catalog.services.impl;
+
+import com.fullcycle.admin.catalog.Fixture;
+import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalog.infrastructure.service.impl.FileSystemStorageService;
+import com.fullcycle.admin.catalog.infrastructure.utils.ChecksumUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FileSystemStorageServiceTest {
+
+	@TempDir
+	private Path root;
+
+	private FileSystemStorageService target;
+
+	@BeforeEach
+	public void setUp() {
+		target = new FileSystemStorageService(root, 4);
+	}
+
+	@Test
+	public void givenValidResource_whenCallsStore_shouldStoreIt() {
+		final var expectedName = "videoId-123/type-VIDEO";
+		final var expectedResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+
+		target.store(expectedName, expectedResource);
+
+		final var actual = target.get(expectedName).get();
+
+		assertEquals(expectedName, actual.name());
+		assertEquals(expectedResource.checksum(), actual.checksum());
+		assertEquals(expectedResource.contentType(), actual.contentType());
+		assertEquals(expectedResource.size(), actual.size());
+		assertArrayEquals(expectedResource.content(), actual.content());
+		assertTrue(Files.isRegularFile(root.resolve("data").resolve(expectedName)));
+	}
+
+	@Test
+	public void givenStreamedResource_whenCallsStore_shouldStoreIt() throws Exception {
+		final var expectedName = "videoId-123/type-TRAILER";
+		final var expectedContent = "streamed trailer content".getBytes();
+		final var streamed = Resource.with(ChecksumUtils.generate(expectedContent), () -> new ByteArrayInputStream(expectedContent), expectedContent.length, "video/mp4", "trailer");
+
+		target.store(expectedName, streamed);
+
+		final var actual = target.get(expectedName).get();
+		assertArrayEquals(expectedContent, actual.content());
+
+		try (final var stream = actual.source().openStream(9)) {
+			final var out = new ByteArrayOutputStream();
+			stream.transferTo(out);
+			assertEquals("trailer content", out.toString());
+		}
+	}
+
+	@Test
+	public void givenFileTruncatedWhileCopying_whenCallsTransferTo_shouldStopAtItsEnd() throws Exception {
+		final var expectedName = "videoId-123/type-VIDEO";
+		final var content = new byte[64 * 1024];
+		new Random(1).nextBytes(content);
+
+		target.store(expectedName, Resource.with(ChecksumUtils.generate(content), () -> new ByteArrayInputStream(content), content.length, "video/mp4", "video"));
+
+		final var file = root.resolve("data").resolve(expectedName);
+		final var out = new ByteArrayOutputStream() {
+			@Override
+			public synchronized void write(final byte[] b, final int off, final int len) {
+				super.write(b, off, len);
+				try (final var channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+					channel.truncate(0);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+		};
+
+		try (final var stream = target.get(expectedName).get().source().openStream(0)) {
+			final var copied = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> stream.transferTo(out));
+			assertEquals(out.size(), copied);
+			assertTrue(copied < content.length);
+		}
+	}
+
+	@Test
+	public void givenSmallResource_whenCallsGet_shouldReadMappedContent() throws Exception {
+		final var expectedName = "videoId-123/type-THUMBNAIL";
+		final var expectedContent = "abc".getBytes();
+
+		target.store(expectedName, Resource.with(ChecksumUtils.generate(expectedContent), expectedContent, "image/jpg", "thumb"));
+
+		final var actual = target.get(expectedName).get();
+		assertArrayEquals(expectedContent, actual.content());
+
+		try (final var stream = actual.source().openStream(1)) {
+			assertArrayEquals("bc".getBytes(), stream.readAllBytes());
+		}
+	}
+
+	@Test
+	public void givenUnknownName_whenCallsGet_shouldBeEmpty() {
+		assertTrue(target.get("videoId-123/type-VIDEO").isEmpty());
+	}
+
+	@Test
+	public void givenValidPrefix_whenList_shouldRetrieveAll() {
+		final var expectedNames = List.of("videoId-123/type-VIDEO", "videoId-123/type-TRAILER");
+
+		expectedNames.forEach(name -> target.store(name, Fixture.Videos.resource(VideoMediaType.VIDEO)));
+		target.store("videoId-456/type-VIDEO", Fixture.Videos.resource(VideoMediaType.VIDEO));
+
+		final var actual = target.list("videoId-123");
+
+		assertEquals(expectedNames.size(), actual.size());
+		assertTrue(actual.containsAll(expectedNames));
+		assertEquals(List.of("videoId-123/type-VIDEO"), target.list("videoId-123/type-V"));
+	}
+
+	@Test
+	public void givenValidNames_whenCallsDelete_shouldDeleteAll() {
+		final var expectedNamesToDelete = List.of("videoId-123/type-VIDEO", "videoId-123/type-TRAILER");
+
+		expectedNamesToDelete.forEach(name -> target.store(name, Fixture.Videos.resource(VideoMediaType.VIDEO)));
+		target.store("videoId-456/type-VIDEO", Fixture.Videos.resource(VideoMediaType.VIDEO));
+
+		target.deleteAll(expectedNamesToDelete);
+
+		assertEquals(List.of("videoId-456/type-VIDEO"), target.list(""));
+		assertFalse(Files.exists(root.resolve("data").resolve("videoId-123")));
+	}
+
+	@Test
+	public void givenNameOutsideRoot_whenCallsStore_shouldThrow() {
+		final var resource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+
+		assertThrows(IllegalArgumentException.class, () -> target.store("../outside", resource));
+	}
+
+	@Test
+	public void givenResourceWithWrongChecksum_whenCallsStore_shouldRejectIt() {
+		final var expectedName = "videoId-123/type-VIDEO";
+		final var content = "content".getBytes();
+		final var resource = Resource.with(ChecksumUtils.generate("other".getBytes()), () -> new ByteArrayInputStream(content), content.length, "video/mp4", "video");
+
+		assertThrows(UncheckedIOException.class, () -> target.store(expectedName, resource));
+
+		assertTrue(target.get(expectedName).isEmpty());
+		assertTrue(target.list("").isEmpty());
+	}
+
+	@Test
+	public void givenCorruptedSmallFile_whenReadsIt_shouldFailVerification() throws Exception {
+		final var expectedName = "videoId-123/type-BANNER";
+		final var content = "abc".getBytes();
+
+		target.store(expectedName, Resource.with(ChecksumUtils.generate(content), content, "image/jpg", "banner"));
+		Files.write(root.resolve("data").resolve(expectedName), "abd".getBytes());
+
+		final var actual = target.get(expectedName).get();
+
+		assertThrows(UncheckedIOException.class, actual::content);
+	}
+}
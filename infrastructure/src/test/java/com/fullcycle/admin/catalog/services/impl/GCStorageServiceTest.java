@@ -1,24 +1,41 @@
 package com.fullcycle.admin.catalog.services.impl;
 
 import com.fullcycle.admin.catalog.Fixture;
+import com.fullcycle.admin.catalog.domain.resource.ContentSource;
 import com.fullcycle.admin.catalog.domain.resource.Resource;
 import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
 import com.fullcycle.admin.catalog.infrastructure.service.impl.GCStorageService;
+import com.fullcycle.admin.catalog.infrastructure.utils.ChecksumUtils;
+import com.fullcycle.admin.catalog.infrastructure.utils.DigestingContentSource;
 import com.google.api.gax.paging.Page;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.CopyWriter;
 import com.google.cloud.storage.Storage;
-import org.junit.Before;
-import org.junit.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 import static com.google.cloud.storage.Storage.BlobListOption.prefix;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -31,24 +48,24 @@ public class GCStorageServiceTest {
 
 	private final String bucket = "test-bucket";
 
-	@Before
+	@BeforeEach
 	public void setUp() {
 		storage = Mockito.mock(Storage.class);
 		target = new GCStorageService(bucket, storage);
 	}
 
 	@Test
-	public void givenValidResource_whenCallsStore_shouldStoreIt() {
+	public void givenValidResource_whenCallsStore_shouldStoreIt() throws Exception {
 		final var expectedName = Fixture.name();
 		final var expectedSource = Fixture.Videos.resource(VideoMediaType.VIDEO);
 
 		final var blob = mockBlob(expectedName, expectedSource);
-		doReturn(blob).when(storage).create(any(BlobInfo.class), any());
+		doReturn(blob).when(storage).createFrom(any(BlobInfo.class), any(InputStream.class), anyInt(), any(Storage.BlobWriteOption[].class));
 
 		target.store(expectedName, expectedSource);
 
 		final var captor = ArgumentCaptor.forClass(BlobInfo.class);
-		verify(storage, times(1)).create(captor.capture(), eq(expectedSource.content()));
+		verify(storage, times(1)).createFrom(captor.capture(), any(InputStream.class), anyInt(), eq(Storage.BlobWriteOption.crc32cMatch()));
 
 		final var actualBlob = captor.getValue();
 		assertEquals(bucket, actualBlob.getBlobId().getBucket());
@@ -58,6 +75,61 @@ public class GCStorageServiceTest {
 		assertEquals(expectedSource.contentType(), actualBlob.getContentType());
 	}
 
+	@Test
+	public void givenResourceWithoutChecksum_whenCallsStore_shouldHashTheUploadAndCheckItAgainstTheStoredOne() throws Exception {
+		final var expectedName = Fixture.name();
+		final var content = "streamed video".getBytes();
+		final var resource = DigestingContentSource.resourceOf(() -> new ByteArrayInputStream(content), content.length, "video/mp4", "video.mp4");
+
+		final var blob = Mockito.mock(Blob.class);
+		when(blob.getCrc32cToHexString()).thenReturn(ChecksumUtils.generate(content));
+		final var captor = ArgumentCaptor.forClass(BlobInfo.class);
+		when(storage.createFrom(captor.capture(), any(InputStream.class), anyInt(), any(Storage.BlobWriteOption[].class))).thenAnswer(invocation -> {
+			((InputStream) invocation.getArgument(1)).transferTo(OutputStream.nullOutputStream());
+			return blob;
+		});
+
+		target.store(expectedName, resource);
+
+		assertNull(captor.getValue().getCrc32c());
+		assertEquals(ChecksumUtils.generate(content), resource.checksum());
+		verify(storage, never()).delete(any(BlobId.class));
+	}
+
+	@Test
+	public void givenResourceWithoutChecksumCorruptedInTransit_whenCallsStore_shouldDeleteTheObject() throws Exception {
+		final var expectedName = Fixture.name();
+		final var content = "streamed video".getBytes();
+		final var resource = DigestingContentSource.resourceOf(() -> new ByteArrayInputStream(content), content.length, "video/mp4", "video.mp4");
+
+		final var blob = Mockito.mock(Blob.class);
+		when(blob.getBlobId()).thenReturn(BlobId.of(bucket, expectedName));
+		when(blob.getCrc32cToHexString()).thenReturn("00000000");
+		when(storage.createFrom(any(BlobInfo.class), any(InputStream.class), anyInt(), any(Storage.BlobWriteOption[].class))).thenAnswer(invocation -> {
+			((InputStream) invocation.getArgument(1)).transferTo(OutputStream.nullOutputStream());
+			return blob;
+		});
+
+		assertThrows(IllegalStateException.class, () -> target.store(expectedName, resource));
+
+		verify(storage).delete(eq(BlobId.of(bucket, expectedName)));
+	}
+
+	@Test
+	public void givenResourceCorruptedInTransit_whenCallsStore_shouldDeleteTheObject() throws Exception {
+		final var expectedName = Fixture.name();
+		final var expectedSource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+
+		final var blob = Mockito.mock(Blob.class);
+		when(blob.getBlobId()).thenReturn(BlobId.of(bucket, expectedName));
+		when(blob.getCrc32cToHexString()).thenReturn("00000000");
+		doReturn(blob).when(storage).createFrom(any(BlobInfo.class), any(InputStream.class), anyInt(), any(Storage.BlobWriteOption[].class));
+
+		assertThrows(IllegalStateException.class, () -> target.store(expectedName, expectedSource));
+
+		verify(storage).delete(eq(BlobId.of(bucket, expectedName)));
+	}
+
 	@Test
 	public void givenValidResource_whenCallsGet_shouldRetrieveIt() {
 		final var expectedName = Fixture.name();
@@ -121,6 +193,29 @@ public class GCStorageServiceTest {
 		assertEquals(expectedResources.size(), resources.size());
 	}
 
+	@Test
+	public void givenSeveralPages_whenCallsListPages_shouldHandEachPageInOrder() {
+		final var expectedPrefix = "videos_";
+		final var blob1 = mockBlob(expectedPrefix + "1", Fixture.Videos.resource(VideoMediaType.VIDEO));
+		final var blob2 = mockBlob(expectedPrefix + "2", Fixture.Videos.resource(VideoMediaType.VIDEO));
+		final var blob3 = mockBlob(expectedPrefix + "3", Fixture.Videos.resource(VideoMediaType.VIDEO));
+		final var firstPage = Mockito.mock(Page.class);
+		final var lastPage = Mockito.mock(Page.class);
+
+		doReturn(List.of(blob1, blob2)).when(firstPage).getValues();
+		doReturn(true).when(firstPage).hasNextPage();
+		doReturn(lastPage).when(firstPage).getNextPage();
+		doReturn(List.of(blob3)).when(lastPage).getValues();
+		doReturn(false).when(lastPage).hasNextPage();
+		doReturn(firstPage).when(storage).list(anyString(), any(), any());
+
+		final var pages = new ArrayList<List<String>>();
+		target.listPages(expectedPrefix, 2, pages::add);
+
+		verify(storage, times(1)).list(eq(bucket), eq(prefix(expectedPrefix)), eq(Storage.BlobListOption.pageSize(2)));
+		assertEquals(List.of(List.of(expectedPrefix + "1", expectedPrefix + "2"), List.of(expectedPrefix + "3")), pages);
+	}
+
 	@Test
 	public void givenValidNames_whenCallsDelete_shouldDeleteAll() {
 		final var expectedPrefix = "videos_";
@@ -141,12 +236,184 @@ public class GCStorageServiceTest {
 		assertEquals(expectedResources.size(), resources.size());
 	}
 
+	@Test
+	public void givenResourceReadFromBucket_whenCallsStore_shouldCopyItInsideTheBucket() throws Exception {
+		final var expectedSourceName = Fixture.name();
+		final var expectedTargetName = Fixture.name();
+		final var expectedSource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+
+		final var blob = mockBlob(expectedSourceName, expectedSource);
+		final var copyWriter = Mockito.mock(CopyWriter.class);
+		doReturn(blob).when(storage).get(anyString(), anyString());
+		doReturn(copyWriter).when(storage).copy(any(Storage.CopyRequest.class));
+
+		target.store(expectedTargetName, target.get(expectedSourceName).get());
+
+		final var captor = ArgumentCaptor.forClass(Storage.CopyRequest.class);
+		verify(storage, times(1)).copy(captor.capture());
+		verify(storage, never()).createFrom(any(BlobInfo.class), any(InputStream.class), anyInt(), any(Storage.BlobWriteOption[].class));
+		assertEquals(expectedSourceName, captor.getValue().getSource().getName());
+		assertEquals(expectedTargetName, captor.getValue().getTarget().getName());
+	}
+
+	@Test
+	public void givenValidResource_whenCallsSignedUrl_shouldSignIt() throws Exception {
+		final var expectedName = Fixture.name();
+		final var expectedSource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+		final var expectedUrl = new URL("https://storage.googleapis.com/test-bucket/video?X-Goog-Signature=abc");
+
+		final var blob = mockBlob(expectedName, expectedSource);
+		doReturn(blob).when(storage).get(anyString(), anyString());
+		doReturn(expectedUrl).when(storage).signUrl(any(BlobInfo.class), anyLong(), any(TimeUnit.class), any(Storage.SignUrlOption[].class));
+
+		final var signed = target.signedUrl(expectedName, Duration.ofMinutes(5)).get();
+
+		verify(storage, times(1)).signUrl(any(BlobInfo.class), eq(300L), eq(TimeUnit.SECONDS), any(Storage.SignUrlOption[].class));
+		assertEquals(expectedUrl.toString(), signed.url().toString());
+	}
+
+	@Test
+	public void givenInvalidResource_whenCallsSignedUrl_shouldBeEmpty() {
+		doReturn(null).when(storage).get(anyString(), anyString());
+
+		assertTrue(target.signedUrl(Fixture.name(), Duration.ofMinutes(5)).isEmpty());
+		verify(storage, never()).signUrl(any(BlobInfo.class), anyLong(), any(TimeUnit.class), any(Storage.SignUrlOption[].class));
+	}
+
+	@Test
+	public void givenResourceAboveCompositeThreshold_whenCallsStore_shouldUploadPartsInParallelAndCompose() throws Exception {
+		final var expectedName = Fixture.name();
+		final var expectedContent = "0123456789abcdef01".getBytes();
+		final var expectedResource = Resource.with(ChecksumUtils.generate(expectedContent), expectedContent, "video/mp4", "video.mp4");
+		final var uploaded = mockPartUploads();
+
+		target = new GCStorageService(bucket, storage, 8, 4, 2);
+		mockCompose(expectedName, expectedResource.checksum());
+
+		target.store(expectedName, expectedResource);
+
+		final var captor = ArgumentCaptor.forClass(Storage.ComposeRequest.class);
+		verify(storage, times(1)).compose(captor.capture());
+		verify(storage, never()).createFrom(any(BlobInfo.class), any(InputStream.class), anyInt(), eq(Storage.BlobWriteOption.crc32cMatch()));
+
+		final var compose = captor.getValue();
+		final var assembled = compose.getSourceBlobs().stream()
+		  .map(source -> new String(uploaded.get(source.getName())))
+		  .collect(Collectors.joining());
+
+		assertEquals(5, uploaded.size());
+		assertEquals(new String(expectedContent), assembled);
+		assertEquals(expectedName, compose.getTarget().getName());
+		assertEquals("video/mp4", compose.getTarget().getContentType());
+		verify(storage).delete(argThat((Iterable<BlobId> ids) -> StreamSupport.stream(ids.spliterator(), false).count() == 5));
+	}
+
+	@Test
+	public void givenResourceWithoutChecksumAboveCompositeThreshold_whenCallsStore_shouldStreamEachPartFromItsOffset() {
+		final var expectedName = Fixture.name();
+		final var expectedContent = "0123456789abcdef01".getBytes();
+		final var expectedChecksum = ChecksumUtils.generate(expectedContent);
+		final var positions = new ArrayList<Long>();
+		final var resource = DigestingContentSource.resourceOf(new ContentSource() {
+			@Override
+			public InputStream openStream() {
+				return openStream(0);
+			}
+
+			@Override
+			public synchronized InputStream openStream(final long position) {
+				positions.add(position);
+				return new ByteArrayInputStream(expectedContent, (int) position, expectedContent.length - (int) position);
+			}
+		}, expectedContent.length, "video/mp4", "video.mp4");
+		final var uploaded = mockPartUploads();
+
+		target = new GCStorageService(bucket, storage, 8, 4, 2);
+		mockCompose(expectedName, expectedChecksum);
+
+		target.store(expectedName, resource);
+
+		assertEquals(List.of(0L, 4L, 8L, 12L, 16L), positions.stream().sorted().toList());
+		assertEquals(List.of(4, 4, 4, 4, 2), uploaded.entrySet().stream().sorted(Map.Entry.comparingByKey()).map(it -> it.getValue().length).toList());
+		assertTrue(((DigestingContentSource) resource.source()).isDigested());
+		assertEquals(expectedChecksum, resource.checksum());
+	}
+
+	@Test
+	public void givenMorePartsThanAComposeAccepts_whenCallsStore_shouldComposeInRounds() {
+		final var expectedName = Fixture.name();
+		final var expectedContent = "x".repeat(40).getBytes();
+		final var expectedResource = Resource.with(ChecksumUtils.generate(expectedContent), expectedContent, "video/mp4", "video.mp4");
+		final var uploaded = mockPartUploads();
+
+		target = new GCStorageService(bucket, storage, 1, 1, 4);
+		mockCompose(expectedName, expectedResource.checksum());
+
+		target.store(expectedName, expectedResource);
+
+		final var captor = ArgumentCaptor.forClass(Storage.ComposeRequest.class);
+		verify(storage, times(3)).compose(captor.capture());
+
+		final var requests = captor.getAllValues();
+		assertEquals(40, uploaded.size());
+		assertEquals(32, requests.get(0).getSourceBlobs().size());
+		assertEquals(8, requests.get(1).getSourceBlobs().size());
+		assertEquals(2, requests.get(2).getSourceBlobs().size());
+		assertEquals(expectedName, requests.get(2).getTarget().getName());
+	}
+
+	@Test
+	public void givenComposedChecksumMismatch_whenCallsStore_shouldDeleteTargetAndParts() {
+		final var expectedName = Fixture.name();
+		final var expectedContent = "0123456789".getBytes();
+		final var expectedResource = Resource.with(ChecksumUtils.generate(expectedContent), expectedContent, "video/mp4", "video.mp4");
+
+		mockPartUploads();
+		target = new GCStorageService(bucket, storage, 8, 4, 2);
+		mockCompose(expectedName, "00000000");
+
+		assertThrows(IllegalStateException.class, () -> target.store(expectedName, expectedResource));
+
+		verify(storage).delete(eq(BlobId.of(bucket, expectedName)));
+		verify(storage).delete(argThat((Iterable<BlobId> ids) -> StreamSupport.stream(ids.spliterator(), false).count() == 3));
+	}
+
+	private Map<String, byte[]> mockPartUploads() {
+		final var uploaded = new ConcurrentHashMap<String, byte[]>();
+		try {
+			when(storage.createFrom(any(BlobInfo.class), any(InputStream.class), anyInt(), any(Storage.BlobWriteOption[].class))).thenAnswer(invocation -> {
+				final BlobInfo info = invocation.getArgument(0);
+				final InputStream content = invocation.getArgument(1);
+				final var part = content.readAllBytes();
+				uploaded.put(info.getName(), part);
+
+				final var blob = Mockito.mock(Blob.class);
+				when(blob.getCrc32cToHexString()).thenReturn(ChecksumUtils.generate(part));
+				return blob;
+			});
+		} catch (Exception e) {
+			throw new RuntimeException(e);
+		}
+		return uploaded;
+	}
+
+	private void mockCompose(final String name, final String checksum) {
+		final var composed = Mockito.mock(Blob.class);
+		when(composed.getBlobId()).thenReturn(BlobId.of(bucket, name));
+		when(composed.getCrc32cToHexString()).thenReturn(checksum);
+		when(storage.compose(any(Storage.ComposeRequest.class))).thenAnswer(invocation -> {
+			final Storage.ComposeRequest request = invocation.getArgument(0);
+			return request.getTarget().getName().equals(name) ? composed : null;
+		});
+	}
+
 	private Blob mockBlob(final String name, final Resource resource) {
 		final var blob = Mockito.mock(Blob.class);
 		when(blob.getBlobId()).thenReturn(BlobId.of(bucket, name));
 		when(blob.getCrc32cToHexString()).thenReturn(resource.checksum());
 		when(blob.getContentType()).thenReturn(resource.contentType());
 		when(blob.getContent()).thenReturn(resource.content());
+		when(blob.getSize()).thenReturn(resource.size());
 		when(blob.getName()).thenReturn(resource.name());
 		return blob;
 	}
@@ -0,0 +1,181 @@
+package com.fullcycle.admin.catalog.services.impl;
+
+import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.infrastructure.service.impl.FileSystemStorageService;
+import com.fullcycle.admin.catalog.infrastructure.service.impl.TieredStorageService;
+import com.fullcycle.admin.catalog.infrastructure.service.local.InMemoryStorageService;
+import com.fullcycle.admin.catalog.infrastructure.utils.ChecksumUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TieredStorageServiceTest {
+
+	@TempDir
+	private Path root;
+
+	private InMemoryStorageService remote;
+
+	private FileSystemStorageService local;
+
+	private SimpleMeterRegistry registry;
+
+	private TieredStorageService target;
+
+	@BeforeEach
+	public void setUp() {
+		remote = new InMemoryStorageService();
+		local = new FileSystemStorageService(root, 1024);
+		registry = new SimpleMeterRegistry();
+		target = new TieredStorageService(remote, local, 100, 50, false, registry);
+	}
+
+	@AfterEach
+	public void tearDown() throws Exception {
+		target.close();
+	}
+
+	@Test
+	public void givenRemoteResource_whenCallsGetTwice_shouldFillTheLocalTierOnce() {
+		final var expectedName = "videoId-123/type-BANNER";
+		final var expectedResource = resource("banner content");
+		remote.store(expectedName, expectedResource);
+
+		final var first = target.get(expectedName).get();
+		remote.reset();
+		final var second = target.get(expectedName).get();
+
+		assertArrayEquals(expectedResource.content(), first.content());
+		assertArrayEquals(expectedResource.content(), second.content());
+		assertEquals(expectedResource.checksum(), second.checksum());
+		assertTrue(local.get(expectedName).isPresent());
+		assertEquals(1, registry.get("storage.tier.requests").tag("result", "hit").counter().count());
+		assertEquals(1, registry.get("storage.tier.requests").tag("result", "miss").counter().count());
+		assertEquals(0.5, registry.get("storage.tier.hit.ratio").gauge().value());
+		assertEquals(expectedResource.size(), registry.get("storage.tier.size").gauge().value());
+		assertEquals(1, registry.get("storage.tier.latency").tag("tier", "remote").timer().count());
+	}
+
+	@Test
+	public void givenFullLocalTier_whenCallsGet_shouldEvictTheLeastRecentlyUsed() {
+		final var content = "x".repeat(40);
+		List.of("a", "b", "c").forEach(name -> remote.store(name, resource(content)));
+
+		target.get("a");
+		target.get("b");
+		target.get("a");
+		target.get("c");
+
+		assertTrue(local.get("a").isPresent());
+		assertTrue(local.get("b").isEmpty());
+		assertTrue(local.get("c").isPresent());
+		assertEquals(80.0, registry.get("storage.tier.size").gauge().value());
+	}
+
+	@Test
+	public void givenLargeObject_whenCallsGet_shouldServeItFromTheRemoteTier() {
+		final var expectedName = "videoId-123/type-VIDEO";
+		remote.store(expectedName, resource("y".repeat(60)));
+
+		final var actual = target.get(expectedName).get();
+
+		assertEquals(60, actual.size());
+		assertTrue(local.get(expectedName).isEmpty());
+	}
+
+	@Test
+	public void givenCorruptLocalCopy_whenReadingIt_shouldFailAndEvictIt() throws Exception {
+		final var expectedName = "videoId-123/type-THUMBNAIL";
+		final var expectedResource = resource("thumbnail content");
+		remote.store(expectedName, expectedResource);
+		target.get(expectedName);
+
+		Files.writeString(root.resolve("data").resolve(expectedName), "thumbnail c0ntent");
+
+		final var corrupt = target.get(expectedName).get();
+		assertThrows(UncheckedIOException.class, corrupt::content);
+		assertTrue(local.get(expectedName).isEmpty());
+
+		assertArrayEquals(expectedResource.content(), target.get(expectedName).get().content());
+	}
+
+	@Test
+	public void givenWriteThrough_whenCallsStore_shouldStoreRemotelyAndDropTheLocalCopy() {
+		final var expectedName = "videoId-123/type-BANNER";
+		remote.store(expectedName, resource("old banner"));
+		target.get(expectedName);
+
+		final var expectedResource = resource("new banner");
+		target.store(expectedName, expectedResource);
+
+		assertEquals(expectedResource.checksum(), remote.get(expectedName).get().checksum());
+		assertTrue(local.get(expectedName).isEmpty());
+		assertArrayEquals(expectedResource.content(), target.get(expectedName).get().content());
+	}
+
+	@Test
+	public void givenWriteBack_whenCallsStore_shouldAcknowledgeLocallyAndUploadInBackground() throws Exception {
+		final var available = new AtomicBoolean(false);
+		final var flaky = new InMemoryStorageService() {
+			@Override
+			public void store(final String name, final Resource resource) {
+				if (!available.get()) {
+					throw new IllegalStateException("remote unavailable");
+				}
+				super.store(name, resource);
+			}
+		};
+		final var expectedName = "videoId-123/type-TRAILER";
+		final var expectedResource = resource("trailer content");
+
+		target.close();
+		target = new TieredStorageService(flaky, local, 100, 50, true, registry);
+		target.store(expectedName, expectedResource);
+
+		assertTrue(local.get(expectedName).isPresent());
+		assertEquals(List.of(expectedName), target.list("videoId-123/"));
+		assertArrayEquals(expectedResource.content(), target.get(expectedName).get().content());
+
+		// a restart resumes the upload the previous run couldn't finish
+		target.close();
+		available.set(true);
+		target = new TieredStorageService(flaky, local, 100, 50, true, new SimpleMeterRegistry());
+
+		for (var i = 0; i < 50 && !local.list(".write-back/").isEmpty(); i++) {
+			Thread.sleep(100);
+		}
+
+		assertEquals(expectedResource.checksum(), flaky.get(expectedName).get().checksum());
+		assertEquals(List.of(expectedName), local.list("videoId-123/"));
+		assertTrue(local.list(".write-back/").isEmpty());
+	}
+
+	@Test
+	public void givenLocalCopy_whenCallsDeleteAll_shouldDeleteItFromBothTiers() {
+		final var expectedName = "videoId-123/type-BANNER";
+		remote.store(expectedName, resource("banner"));
+		target.get(expectedName);
+
+		target.deleteAll(List.of(expectedName));
+
+		assertTrue(remote.get(expectedName).isEmpty());
+		assertTrue(local.get(expectedName).isEmpty());
+		assertTrue(target.get(expectedName).isEmpty());
+		assertEquals(0.0, registry.get("storage.tier.size").gauge().value());
+	}
+
+	private Resource resource(final String content) {
+		final var bytes = content.getBytes();
+		return Resource.with(ChecksumUtils.generate(bytes), bytes, "application/octet-stream", "resource");
+	}
+}
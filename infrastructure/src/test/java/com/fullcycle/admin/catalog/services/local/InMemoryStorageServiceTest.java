@@ -1,16 +1,24 @@
 package com.fullcycle.admin.catalog.services.local;
 
 import com.fullcycle.admin.catalog.Fixture;
+import com.fullcycle.admin.catalog.domain.resource.Resource;
 import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
 import com.fullcycle.admin.catalog.infrastructure.service.local.InMemoryStorageService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class InMemoryStorageServiceTest {
@@ -32,6 +40,26 @@ public class InMemoryStorageServiceTest {
 		assertEquals(expectedSource, target.storage().get(expectedName));
 	}
 
+	@Test
+	public void givenStreamedResource_whenCallsStore_shouldBufferIt() {
+		final var expectedName = Fixture.name();
+		final var expectedSource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+		final var streamed = Resource.with(
+		  expectedSource.checksum(),
+		  expectedSource::openStream,
+		  expectedSource.size(),
+		  expectedSource.contentType(),
+		  expectedSource.name()
+		);
+
+		target.store(expectedName, streamed);
+
+		final var actual = target.storage().get(expectedName);
+		assertTrue(actual.isBuffered());
+		assertEquals(expectedSource.checksum(), actual.checksum());
+		assertArrayEquals(expectedSource.content(), actual.content());
+	}
+
 	@Test
 	public void givenValidResource_whenCallsGet_shouldRetrieveIt() {
 		final var expectedName = Fixture.name();
@@ -72,6 +100,50 @@ public class InMemoryStorageServiceTest {
 		assertEquals(expectedNames.size(), resources.size());
 	}
 
+	@Test
+	public void givenNeighbourPrefixes_whenList_shouldRetrieveOnlyMatchingNamesInOrder() {
+		List.of("videoId-1/type-VIDEO", "videoId-10/type-VIDEO", "videoId-1/type-BANNER", "videoId-0/type-VIDEO", "videoId-2/type-VIDEO")
+		  .forEach(name -> target.storage().put(name, Fixture.Videos.resource(VideoMediaType.VIDEO)));
+
+		assertEquals(List.of("videoId-1/type-BANNER", "videoId-1/type-VIDEO"), target.list("videoId-1/"));
+		assertEquals(List.of("videoId-1/type-BANNER", "videoId-1/type-VIDEO", "videoId-10/type-VIDEO"), target.list("videoId-1"));
+		assertEquals(5, target.list("").size());
+		assertTrue(target.list("videoId-3").isEmpty());
+	}
+
+	@Test
+	public void givenOffHeapStorage_whenCallsStore_shouldKeepContentOutOfTheHeap() {
+		final var offHeap = new InMemoryStorageService(true);
+		final var expectedName = Fixture.name();
+		final var expectedSource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+		final var streamed = Resource.with(
+		  expectedSource.checksum(),
+		  expectedSource::openStream,
+		  expectedSource.size(),
+		  expectedSource.contentType(),
+		  expectedSource.name()
+		);
+
+		offHeap.store(expectedName, streamed);
+
+		final var actual = offHeap.get(expectedName).get();
+		assertFalse(actual.isBuffered());
+		assertEquals(expectedSource.checksum(), actual.checksum());
+		assertEquals(expectedSource.size(), actual.size());
+		assertArrayEquals(expectedSource.content(), actual.content());
+		assertArrayEquals(expectedSource.content(), actual.content());
+	}
+
+	@Test
+	public void givenResourceShorterThanDeclared_whenCallsStoreOffHeap_shouldFail() {
+		final var offHeap = new InMemoryStorageService(true);
+		final var content = "content".getBytes();
+		final var resource = Resource.with("checksum", () -> new ByteArrayInputStream(content), content.length + 1, "text/plain", "name");
+
+		assertThrows(IllegalArgumentException.class, () -> offHeap.store(Fixture.name(), resource));
+		assertTrue(offHeap.storage().isEmpty());
+	}
+
 	@Test
 	public void givenValidNames_whenCallsDelete_shouldDeleteAll() {
 		final var expectedNamesToDelete = List.of(
@@ -95,4 +167,26 @@ public class InMemoryStorageServiceTest {
 
 		assertEquals(expectedNames.size(), target.storage().size());
 	}
+
+	@Test
+	public void givenStoredResource_whenCallsSignedUrl_shouldBeVerifiableUntilItExpires() {
+		final var expectedName = Fixture.name();
+		final var expectedSource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+
+		target.store(expectedName, expectedSource);
+
+		final var signed = target.signedUrl(expectedName, Duration.ofMinutes(5)).get();
+		final var expired = target.signedUrl(expectedName, Duration.ofSeconds(-1)).get();
+		final var tampered = URI.create(signed.url().toString().replaceAll("signature=.", "signature=x"));
+
+		assertTrue(signed.expiresAt().isAfter(Instant.now()));
+		assertEquals(expectedSource.checksum(), target.verify(signed.url()).get().checksum());
+		assertTrue(target.verify(expired.url()).isEmpty());
+		assertTrue(target.verify(tampered).isEmpty());
+	}
+
+	@Test
+	public void givenMissingResource_whenCallsSignedUrl_shouldBeEmpty() {
+		assertTrue(target.signedUrl(Fixture.name(), Duration.ofMinutes(5)).isEmpty());
+	}
 }